@@ -0,0 +1,50 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.justice.laa.dstew.payments.claimsdata.aop.AuditStateMapper.AuditState;
+import uk.gov.justice.laa.dstew.payments.claimsdata.controller.AbstractIntegrationTest;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Claim;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AuditStateMapperIntegrationTest extends AbstractIntegrationTest {
+
+  @Autowired private AuditStateMapper stateMapper;
+  @Autowired private TransactionTemplate transactionTemplate;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setup() {
+    seedClaimsData();
+  }
+
+  @Test
+  void restoresClaimAsSavedAfterLaterChange() {
+    Claim saved =
+        transactionTemplate.execute(
+            status -> claimRepository.findById(claim1.getId()).orElseThrow());
+    AuditState state = stateMapper.capture(saved);
+    jdbcTemplate.update(
+        "UPDATE claims.claim SET fee_code = 'CHANGED' WHERE id = ?", claim1.getId());
+
+    AuditState read =
+        stateMapper.fromJson(
+            Claim.class.getName(), claim1.getId().toString(), stateMapper.toJson(state));
+    Claim restored = transactionTemplate.execute(status -> (Claim) stateMapper.restore(read));
+
+    assertThat(read).isEqualTo(state);
+    assertThat(restored).isNotSameAs(saved);
+    assertThat(restored.getId()).isEqualTo(saved.getId());
+    assertThat(restored.getFeeCode()).isEqualTo(saved.getFeeCode()).isNotEqualTo("CHANGED");
+    assertThat(restored.getStatus()).isEqualTo(saved.getStatus());
+    assertThat(restored.getCaseStartDate()).isEqualTo(saved.getCaseStartDate());
+    assertThat(restored.getCreatedOn()).isEqualTo(saved.getCreatedOn());
+    assertThat(restored.getSubmission().getId()).isEqualTo(submission1.getId());
+  }
+}
@@ -11,6 +11,7 @@ import org.testcontainers.utility.DockerImageName;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
 import software.amazon.awssdk.services.sns.SnsClient;
 import software.amazon.awssdk.services.sqs.SqsClient;
 
@@ -38,6 +39,17 @@ public class AwsTestConfig {
         .build();
   }
 
+  @Bean
+  public SnsAsyncClient snsAsyncClient(@Autowired LocalStackContainer localStack) {
+    return SnsAsyncClient.builder()
+        .endpointOverride(localStack.getEndpointOverride(SNS))
+        .region(Region.of(localStack.getRegion()))
+        .credentialsProvider(
+            StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(localStack.getAccessKey(), localStack.getSecretKey())))
+        .build();
+  }
+
   @Bean
   public SnsClient snsClient(@Autowired LocalStackContainer localStack) {
 
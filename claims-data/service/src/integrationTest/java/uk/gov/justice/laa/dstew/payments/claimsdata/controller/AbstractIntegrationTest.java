@@ -78,6 +78,7 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClaimRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClaimSummaryFeeRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClientRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.MatterStartRepository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionEventOutboxRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ValidationMessageLogRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
@@ -126,6 +127,7 @@ public abstract class AbstractIntegrationTest {
   @Autowired protected ClaimCaseRepository claimCaseRepository;
   @Autowired protected AssessmentRepository assessmentRepository;
   @Autowired protected ClaimAmendmentRepository claimAmendmentRepository;
+  @Autowired protected SubmissionEventOutboxRepository submissionEventOutboxRepository;
   @Autowired protected MockMvc mockMvc;
 
   // Caching is active in the full application context, so cached snapshots (e.g. the amendment
@@ -191,6 +193,7 @@ public abstract class AbstractIntegrationTest {
     claimRepository.deleteAll();
     submissionRepository.deleteAll();
     bulkSubmissionRepository.deleteAll();
+    submissionEventOutboxRepository.deleteAll();
   }
 
   void createBulkSubmission() {
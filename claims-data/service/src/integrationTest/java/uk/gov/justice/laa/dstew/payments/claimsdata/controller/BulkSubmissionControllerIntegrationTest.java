@@ -47,7 +47,6 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.CategoryCode;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.GetBulkSubmission200Response;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.GetBulkSubmission200ResponseDetails;
-import uk.gov.justice.laa.dstew.payments.claimsdata.model.GetBulkSubmissionStatusById200Response;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.MediationType;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimsDataTestUtil;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
@@ -815,18 +814,84 @@ public class BulkSubmissionControllerIntegrationTest extends AbstractIntegration
             .andExpect(status().isOk())
             .andReturn();
 
-    // then: response body contains status only
+    // then: response body contains the header read from the stored document
     String responseBody = result.getResponse().getContentAsString();
 
-    var getBulkSubmissionSummaryResponse =
-        OBJECT_MAPPER.readValue(responseBody, GetBulkSubmissionStatusById200Response.class);
-    assertThat(getBulkSubmissionSummaryResponse.getStatus())
-        .isEqualTo(BulkSubmissionStatus.READY_FOR_PARSING);
+    var json = OBJECT_MAPPER.readTree(responseBody);
+    assertThat(json.get("status").asText())
+        .isEqualTo(BulkSubmissionStatus.READY_FOR_PARSING.getValue());
+    assertThat(json.get("office_account").asText()).isEqualTo("account");
+    assertThat(json.get("submission_period").asText()).isEqualTo("submissionPeriod");
+    assertThat(json.get("schedule_num").asText()).isEqualTo("scheduleNum");
+    assertThat(json.get("outcome_count").asInt()).isEqualTo(1);
+    assertThat(json.get("matter_start_count").asInt()).isEqualTo(1);
+
+    // clean up the test-data
+    bulkSubmissionRepository.delete(bulkSubmission);
+  }
+
+  @Test
+  void shouldGetBulkSubmissionOutcomesOnePageAtATime() throws Exception {
+    // given: a bulk submission with three outcomes is saved to the database
+    var bulkSubmission200ResponseDetails =
+        new GetBulkSubmission200ResponseDetails()
+            .office(ClaimsDataTestUtil.getBulkSubmissionOffice())
+            .schedule(ClaimsDataTestUtil.getBulkSubmissionSchedule());
+    for (String feeCode : List.of("FEE1", "FEE2", "FEE3")) {
+      bulkSubmission200ResponseDetails.addOutcomesItem(
+          ClaimsDataTestUtil.getBulkSubmissionOutcome(Boolean.TRUE).feeCode(feeCode));
+    }
+    var bulkSubmission =
+        BulkSubmission.builder()
+            .id(Uuid7.timeBasedUuid())
+            .data(bulkSubmission200ResponseDetails)
+            .status(BulkSubmissionStatus.READY_FOR_PARSING)
+            .createdByUserId(BULK_SUBMISSION_CREATED_BY_USER_ID)
+            .createdOn(Instant.now())
+            .build();
+    BulkSubmission savedBulkSubmission = bulkSubmissionRepository.save(bulkSubmission);
+
+    // when: calling the GET outcomes endpoint for the second page of two
+    MvcResult result =
+        mockMvc
+            .perform(
+                get(BULK_SUBMISSION_ENDPOINT + "/outcomes", savedBulkSubmission.getId().toString())
+                    .param("page", "1")
+                    .param("size", "2")
+                    .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN))
+            .andExpect(status().isOk())
+            .andReturn();
+
+    // then: the page holds only the last outcome, with the totals of the whole file
+    var json = OBJECT_MAPPER.readTree(result.getResponse().getContentAsString());
+    assertThat(json.get("total_elements").asInt()).isEqualTo(3);
+    assertThat(json.get("total_pages").asInt()).isEqualTo(2);
+    assertThat(json.get("number").asInt()).isEqualTo(1);
+    assertThat(json.get("size").asInt()).isEqualTo(2);
+    assertThat(json.get("content")).hasSize(1);
+    assertThat(json.get("content").get(0).get("fee_code").asText()).isEqualTo("FEE3");
 
     // clean up the test-data
     bulkSubmissionRepository.delete(bulkSubmission);
   }
 
+  @Test
+  void shouldReturnNotFoundForGetBulkSubmissionOutcomesWhenItDoesNotExist() throws Exception {
+    // when: calling the GET outcomes endpoint with a random id, it should return not found.
+    MvcResult result =
+        mockMvc
+            .perform(
+                get(BULK_SUBMISSION_ENDPOINT + "/outcomes", BULK_SUBMISSION_ID)
+                    .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN))
+            .andExpect(status().isNotFound())
+            .andReturn();
+
+    var json = OBJECT_MAPPER.readTree(result.getResponse().getContentAsString());
+    assertThat(json.get(ERROR_DETAIL).asText())
+        .isEqualTo(String.format("No entity found with id: %s", BULK_SUBMISSION_ID));
+    assertThat(json.get(ERROR_STATUS).asInt()).isEqualTo(404);
+  }
+
   @Test
   void shouldReturnNotFoundForGetBulkSubmissionSummaryWhenItDoesNotExist() throws Exception {
     // when: calling the GET summary endpoint with a random id, it should return not found.
@@ -25,6 +25,7 @@ import ch.qos.logback.core.read.ListAppender;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
@@ -48,6 +49,7 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.entity.ClaimSummaryFee;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Submission;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.AreaOfLaw;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.AssessmentType;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimBatchPost;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimPatch;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimPost;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimResponse;
@@ -56,6 +58,7 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimResultSet;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimResultSetV2;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.CreateClaim201Response;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.CreateClaims201Response;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.DerivedClaimStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.SubmissionStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ValidationMessagePatch;
@@ -77,6 +80,9 @@ public class ClaimControllerIntegrationTest extends AbstractIntegrationTest {
   private static final String POST_A_CLAIM_ENDPOINT =
       ClaimsDataTestUtil.API_URI_PREFIX + "/submissions/{submissionId}/claims";
 
+  private static final String POST_CLAIMS_BATCH_ENDPOINT =
+      ClaimsDataTestUtil.API_URI_PREFIX + "/submissions/{submissionId}/claims:batch";
+
   private static final String PATCH_A_CLAIM_ENDPOINT =
       ClaimsDataTestUtil.API_URI_PREFIX + "/submissions/{submissionId}/claims/{claimId}";
 
@@ -231,6 +237,81 @@ public class ClaimControllerIntegrationTest extends AbstractIntegrationTest {
     assertThat(claimRepository.findBySubmissionId(SUBMISSION_ID)).hasSize(1);
   }
 
+  @Test
+  @DisplayName("POST submissions/{id}/claims:batch - saves every claim and its child records")
+  void shouldSaveABatchOfClaimsToDatabase() throws Exception {
+    // given: submission test data exists in the database
+    createSubmissionTestData(AreaOfLaw.LEGAL_HELP);
+    final ClaimPost first = getClaimPost("CASE-BATCH-1").lineNumber(1);
+    final ClaimPost second = getClaimPost("CASE-BATCH-2").lineNumber(2);
+
+    // when: calling the batch POST endpoint with both claims
+    MvcResult result =
+        mockMvc
+            .perform(
+                post(POST_CLAIMS_BATCH_ENDPOINT, SUBMISSION_ID)
+                    .content(
+                        OBJECT_MAPPER.writeValueAsString(
+                            new ClaimBatchPost().claims(List.of(first, second))))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN))
+            .andExpect(status().isCreated())
+            .andReturn();
+
+    // then: the ids are returned in request order and every row is saved
+    var response =
+        OBJECT_MAPPER.readValue(
+            result.getResponse().getContentAsString(), CreateClaims201Response.class);
+    assertThat(response.getIds()).hasSize(2);
+    assertThat(claimRepository.findById(response.getIds().get(0)))
+        .get()
+        .extracting(Claim::getCaseReferenceNumber, Claim::getLineNumber)
+        .containsExactly("CASE-BATCH-1", 1);
+    assertThat(claimRepository.findById(response.getIds().get(1)))
+        .get()
+        .extracting(Claim::getCaseReferenceNumber, Claim::getLineNumber)
+        .containsExactly("CASE-BATCH-2", 2);
+    for (UUID claimId : response.getIds()) {
+      assertThat(claimSummaryFeeRepository.findByClaimId(claimId)).isPresent();
+      assertThat(claimCaseRepository.findByClaimId(claimId)).isPresent();
+    }
+  }
+
+  @Test
+  @DisplayName(
+      "POST submissions/{id}/claims:batch - returns 409 and saves nothing when a line number "
+          + "already exists in the submission")
+  void shouldRejectWholeBatchWhenALineNumberAlreadyExists() throws Exception {
+    // given: a submission with a claim already persisted on line 2
+    createSubmissionTestData(AreaOfLaw.LEGAL_HELP);
+    final ClaimPost existing = getClaimPost(CASE_REFERENCE).lineNumber(2);
+    mockMvc
+        .perform(
+            post(POST_A_CLAIM_ENDPOINT, SUBMISSION_ID)
+                .content(OBJECT_MAPPER.writeValueAsString(existing))
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN))
+        .andExpect(status().isCreated());
+
+    // when: posting a batch that reuses line 2
+    ClaimBatchPost batch =
+        new ClaimBatchPost()
+            .claims(
+                List.of(
+                    getClaimPost("CASE-BATCH-1").lineNumber(1),
+                    getClaimPost("CASE-BATCH-2").lineNumber(2)));
+    mockMvc
+        .perform(
+            post(POST_CLAIMS_BATCH_ENDPOINT, SUBMISSION_ID)
+                .content(OBJECT_MAPPER.writeValueAsString(batch))
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN))
+        .andExpect(status().isConflict());
+
+    // then: only the original claim exists for the submission
+    assertThat(claimRepository.findBySubmissionId(SUBMISSION_ID)).hasSize(1);
+  }
+
   @Test
   @DisplayName(
       "POST submissions/{id}/claims - logs warning for suspicious SQL-like patterns but creates claim")
@@ -574,6 +655,71 @@ public class ClaimControllerIntegrationTest extends AbstractIntegrationTest {
             CLAIM_5_ID.toString());
   }
 
+  @Test
+  @DisplayName("GET /api/v2/claims - pages through all claims with a cursor (v2)")
+  void shouldPageThroughAllClaimsWithACursorV2() throws Exception {
+    // given: required claims exist in the database
+    List<String> claimIds = new ArrayList<>();
+    String cursor = null;
+    int pages = 0;
+
+    // when: following next_cursor until the last page, sorting by line number descending
+    do {
+      var request =
+          get(GET_CLAIMS_ENDPOINT_V2)
+              .param("office_code", OFFICE_ACCOUNT_NUMBER_1)
+              .param("pagination_mode", "CURSOR")
+              .param("size", "3")
+              .param("sort", "line_number,desc")
+              .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN);
+      if (cursor != null) {
+        request.param("cursor", cursor);
+      }
+      MvcResult result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+      var claimResultSet =
+          OBJECT_MAPPER.readValue(
+              result.getResponse().getContentAsString(), ClaimResultSetV2.class);
+      assertThat(claimResultSet.getTotalElements()).isNull();
+      claimResultSet.getContent().forEach(claim -> claimIds.add(claim.getId()));
+      cursor = claimResultSet.getNextCursor();
+      pages++;
+    } while (cursor != null);
+
+    // then: every claim is returned exactly once
+    assertThat(pages).isEqualTo(2);
+    assertThat(claimIds)
+        .containsExactlyInAnyOrder(
+            CLAIM_1_ID.toString(),
+            CLAIM_2_ID.toString(),
+            CLAIM_4_ID.toString(),
+            CLAIM_5_ID.toString());
+  }
+
+  @Test
+  @DisplayName("GET /api/v2/claims - returns a page without totals when include_total is false")
+  void shouldReturnAPageWithoutTotalsV2() throws Exception {
+    // given: required claims exist in the database
+    // when: requesting the first page of 3 without the count
+    MvcResult result =
+        mockMvc
+            .perform(
+                get(GET_CLAIMS_ENDPOINT_V2)
+                    .param("office_code", OFFICE_ACCOUNT_NUMBER_1)
+                    .param("include_total", "false")
+                    .param("size", "3")
+                    .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN))
+            .andExpect(status().isOk())
+            .andReturn();
+
+    // then: the page is returned with has_next instead of the totals
+    var claimResultSet =
+        OBJECT_MAPPER.readValue(result.getResponse().getContentAsString(), ClaimResultSetV2.class);
+    assertThat(claimResultSet.getContent()).hasSize(3);
+    assertThat(claimResultSet.getHasNext()).isTrue();
+    assertThat(claimResultSet.getTotalElements()).isNull();
+    assertThat(claimResultSet.getTotalPages()).isNull();
+  }
+
   @Test
   @DisplayName("GET /api/v2/claims - returns claims for office code and unique file reference (v2)")
   void shouldReturnAllClaimsForAGivenOfficeCodeAndUniqueFileReferenceV2() throws Exception {
@@ -609,6 +755,39 @@ public class ClaimControllerIntegrationTest extends AbstractIntegrationTest {
     assertThat(claimResponse.getIsAmended()).isTrue();
   }
 
+  @Test
+  @DisplayName("GET /api/v2/claims - partial, case-insensitive match on client surname and UCN")
+  void shouldReturnClaimsMatchingPartialClientSurnameAndUniqueClientNumberV2() throws Exception {
+    MvcResult result =
+        mockMvc
+            .perform(
+                get(GET_CLAIMS_ENDPOINT_V2)
+                    .param("office_code", OFFICE_ACCOUNT_NUMBER_1)
+                    .param("client_surname", "MIT")
+                    .param("unique_client_number", SEEDED_UNIQUE_CLIENT_NUMBER.substring(2, 8))
+                    .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN))
+            .andExpect(status().isOk())
+            .andReturn();
+
+    var claimResultSet =
+        OBJECT_MAPPER.readValue(result.getResponse().getContentAsString(), ClaimResultSetV2.class);
+    assertThat(claimResultSet.getContent())
+        .extracting(ClaimResponseV2::getId)
+        .containsExactly(CLAIM_1_ID.toString());
+  }
+
+  @Test
+  @DisplayName("GET /api/v2/claims - bad request for a partial search term under 3 characters")
+  void shouldReturnBadRequestForShortPartialSearchTermV2() throws Exception {
+    mockMvc
+        .perform(
+            get(GET_CLAIMS_ENDPOINT_V2)
+                .param("office_code", OFFICE_ACCOUNT_NUMBER_1)
+                .param("client_surname", "Sm")
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_TOKEN))
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   @DisplayName("GET /api/v2/claims - bad request for unknown parameters (v2)")
   void shouldReturnBadRequestWhenUnknownParametersAreSuppliedV2() throws Exception {
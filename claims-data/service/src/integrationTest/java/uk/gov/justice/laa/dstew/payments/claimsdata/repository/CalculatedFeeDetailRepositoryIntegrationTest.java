@@ -6,11 +6,14 @@ import static uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimsDataTestUt
 import static uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimsDataTestUtil.USER_ID;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import uk.gov.justice.laa.dstew.payments.claimsdata.controller.AbstractIntegrationTest;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.CalculatedFeeDetail;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Claim;
@@ -24,6 +27,8 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class CalculatedFeeDetailRepositoryIntegrationTest extends AbstractIntegrationTest {
 
+  @Autowired private JdbcTemplate jdbcTemplate;
+
   @BeforeEach
   void setup() {
     seedClaimsData();
@@ -42,6 +47,17 @@ class CalculatedFeeDetailRepositoryIntegrationTest extends AbstractIntegrationTe
     assertThat(feeDetail.getBoltOnCmrhTelephoneCount()).isEqualTo(2);
   }
 
+  @Test
+  void seededClaim_pointsAtLatestCalculatedFeeDetail() {
+    UUID latestId =
+        calculatedFeeDetailRepository
+            .findFirstByClaimIdOrderByCreatedOnDescIdDesc(CLAIM_1_ID)
+            .orElseThrow()
+            .getId();
+
+    assertThat(latestCalculatedFeeDetailId(CLAIM_1_ID)).isEqualTo(latestId);
+  }
+
   @Test
   void findByClaimId_whenUnknown_returnsEmpty() {
     UUID unknownClaimId = Uuid7.timeBasedUuid();
@@ -51,6 +67,17 @@ class CalculatedFeeDetailRepositoryIntegrationTest extends AbstractIntegrationTe
     assertThat(result).isEmpty();
   }
 
+  @Test
+  void findLatestByClaimIdIn_returnsLatestFeeDetailOfKnownClaims() {
+    var result =
+        calculatedFeeDetailRepository.findLatestByClaimIdIn(
+            List.of(CLAIM_1_ID, Uuid7.timeBasedUuid()));
+
+    assertThat(result).hasSize(1);
+    assertThat(result.getFirst().getClaim().getId()).isEqualTo(CLAIM_1_ID);
+    assertThat(result.getFirst().getFeeCode()).isEqualTo("CALC-FEE-1");
+  }
+
   @Test
   @DisplayName("findFirstByClaimId prefers higher id when createdOn are equal")
   void findFirstByClaimIdPrefersHigherIdWhenCreatedOnEqual() {
@@ -125,5 +152,20 @@ class CalculatedFeeDetailRepositoryIntegrationTest extends AbstractIntegrationTe
 
     assertThat(result).isPresent();
     assertThat(result.get().getId()).isEqualTo(secondId);
+    assertThat(calculatedFeeDetailRepository.findLatestByClaimIdIn(List.of(testClaim.getId())))
+        .extracting(CalculatedFeeDetail::getId)
+        .containsExactly(secondId);
+    assertThat(latestCalculatedFeeDetailId(testClaim.getId())).isEqualTo(secondId);
+
+    // removing the latest row moves the claim's pointer back to the remaining one
+    calculatedFeeDetailRepository.deleteById(secondId);
+    assertThat(latestCalculatedFeeDetailId(testClaim.getId())).isEqualTo(firstId);
+  }
+
+  private UUID latestCalculatedFeeDetailId(UUID claimId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT latest_calculated_fee_detail_id FROM claims.claim WHERE id = ?",
+        UUID.class,
+        claimId);
   }
 }
@@ -1,6 +1,7 @@
 package uk.gov.justice.laa.dstew.payments.claimsdata.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimsDataTestUtil.API_USER_ID;
 import static uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimsDataTestUtil.CASE_REFERENCE;
 import static uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimsDataTestUtil.FEE_CODE;
 import static uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimsDataTestUtil.SCHEDULE_REFERENCE;
@@ -16,14 +17,18 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.justice.laa.dstew.payments.claimsdata.controller.AbstractIntegrationTest;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Claim;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Submission;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.SubmissionStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.specification.ClaimSpecification;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.DerivedClaimStatusResolver;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
 
 /**
@@ -43,6 +48,8 @@ public class ClaimRepositoryIntegrationTest extends AbstractIntegrationTest {
   private static final String IGNORE_FIELD_CREATED_ON = "createdOn";
   private static final String IGNORE_FIELD_UPDATED_ON = "updatedOn";
 
+  @Autowired private JdbcTemplate jdbcTemplate;
+
   /**
    * This is to set the testing data such as the bulk submission, submissions, claims and clients
    * which will be saved in the shared test container's database for the execution of the
@@ -240,6 +247,53 @@ public class ClaimRepositoryIntegrationTest extends AbstractIntegrationTest {
             });
   }
 
+  @Test
+  @DisplayName("Should store the resolver's derived status for every derivation combination")
+  void shouldStoreResolverDerivedStatusForEveryCombination() {
+    Submission submission = createIsolatedSubmission();
+    int lineNumber = 0;
+    for (ClaimStatus status : ClaimStatus.values()) {
+      for (boolean hasAssessment : new boolean[] {false, true}) {
+        for (boolean isAmended : new boolean[] {false, true}) {
+          Claim claim =
+              claimRepository.saveAndFlush(
+                  Claim.builder()
+                      .id(Uuid7.timeBasedUuid())
+                      .submission(submission)
+                      .status(status)
+                      .hasAssessment(hasAssessment)
+                      .isAmended(isAmended)
+                      .lineNumber(++lineNumber)
+                      .matterTypeCode("TEST-MTC")
+                      .createdByUserId(API_USER_ID)
+                      .build());
+
+          assertThat(storedDerivedStatus(claim))
+              .as("%s, hasAssessment=%s, isAmended=%s", status, hasAssessment, isAmended)
+              .isEqualTo(
+                  DerivedClaimStatusResolver.resolve(status, hasAssessment, isAmended).ordinal());
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should recompute the stored derived status when the claim changes")
+  void shouldRecomputeStoredDerivedStatusWhenClaimChanges() {
+    claim1.setHasAssessment(true);
+    claimRepository.saveAndFlush(claim1);
+
+    assertThat(storedDerivedStatus(claim1))
+        .isEqualTo(
+            DerivedClaimStatusResolver.resolve(claim1.getStatus(), true, claim1.isAmended())
+                .ordinal());
+  }
+
+  private int storedDerivedStatus(Claim claim) {
+    return jdbcTemplate.queryForObject(
+        "SELECT derived_status FROM claims.claim WHERE id = ?", Integer.class, claim.getId());
+  }
+
   /**
    * This is a util method to provide arguments to test the {@link ClaimSpecification} filter based
    * on different query params.
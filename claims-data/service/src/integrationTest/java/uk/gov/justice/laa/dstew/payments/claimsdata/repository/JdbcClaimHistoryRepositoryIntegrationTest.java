@@ -13,6 +13,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
@@ -642,6 +643,44 @@ class JdbcClaimHistoryRepositoryIntegrationTest extends AbstractIntegrationTest
         .containsExactly(laterAmendmentId, CLAIM_1_ID, earlierAssessmentId);
   }
 
+  @Test
+  @DisplayName("Pages through every source with a keyset cursor, including same-timestamp events")
+  void pagesThroughTimelineAfterCursor() {
+    Instant submissionTimestamp = findHistory().getFirst().eventTimestamp();
+    Instant laterTimestamp = submissionTimestamp.plusSeconds(60);
+
+    UUID earlierAssessmentId = Uuid7.timeBasedUuid();
+    UUID laterVoidId = Uuid7.timeBasedUuid();
+    UUID laterAmendmentId = Uuid7.timeBasedUuid();
+    persistAssessment(
+        earlierAssessmentId,
+        AssessmentType.ESCAPE_CASE_ASSESSMENT,
+        AssessmentOutcome.PAID_IN_FULL,
+        "Before submission");
+    persistAssessment(laterVoidId, AssessmentType.VOID, null, "After submission");
+    forceCreatedOn(earlierAssessmentId, submissionTimestamp.minusSeconds(60));
+    forceCreatedOn(laterVoidId, laterTimestamp);
+    // Same timestamp as the void, so the page boundary falls between two sources on a tie.
+    persistAmendment(
+        laterAmendmentId,
+        diff(change("client_surname", "\"Smyth\"", "\"Smith\"", SOURCE_REQUESTED)),
+        laterTimestamp);
+
+    List<ClaimHistoryEventRow> page = claimHistoryRepository.findHistory(CLAIM_1_ID, 1);
+    List<ClaimHistoryEventRow> paged = new ArrayList<>();
+    while (!page.isEmpty()) {
+      paged.addAll(page);
+      ClaimHistoryEventRow last = page.getLast();
+      page =
+          claimHistoryRepository.findHistory(
+              CLAIM_1_ID, 1, last.eventTimestamp(), last.sourceId());
+    }
+
+    assertThat(paged).hasSize(4);
+    assertThat(paged).containsExactlyElementsOf(findHistory());
+    assertThat(paged.getLast().sourceId()).isEqualTo(earlierAssessmentId);
+  }
+
   @Test
   @DisplayName("Returns no AMENDMENT event when the claim has no claim_amendment row")
   void returnsNoAmendmentEventWhenClaimHasNoAmendment() {
@@ -0,0 +1,145 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimsDataTestUtil.CLAIM_1_ID;
+import static uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimsDataTestUtil.CLAIM_1_SUMMARY_FEE_ID;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.justice.laa.dstew.payments.claimsdata.controller.AbstractIntegrationTest;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.SubmissionTotals;
+import uk.gov.justice.laa.dstew.payments.claimsdata.service.SubmissionTotalsReconciliationService;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SubmissionTotalsRepositoryIntegrationTest extends AbstractIntegrationTest {
+
+  @Autowired private SubmissionTotalsRepository submissionTotalsRepository;
+  @Autowired private SubmissionTotalsReconciliationService reconciliationService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setup() {
+    seedClaimsData();
+  }
+
+  @Test
+  void totalsFollowSeededWrites() {
+    SubmissionTotals totals =
+        submissionTotalsRepository.findById(submission1.getId()).orElseThrow();
+
+    assertTotal(
+        totals.getCalculatedTotalAmount(),
+        submissionRepository.getCalculatedTotalAmount(submission1.getId()));
+    assertTotal(
+        totals.getAssessedTotalAmount(),
+        assessmentRepository.getAssessedTotalAmount(submission1.getId()));
+    assertThat(
+            totals.getReadyToProcessClaimCount()
+                + totals.getValidClaimCount()
+                + totals.getInvalidClaimCount()
+                + totals.getVoidClaimCount())
+        .isEqualTo(count("SELECT count(*) FROM claims.claim WHERE submission_id = ?"));
+    assertThat(totals.getWarningCount())
+        .isEqualTo(
+            count(
+                "SELECT count(*) FROM claims.validation_message_log"
+                    + " WHERE submission_id = ? AND type = 'WARNING'"));
+    assertThat(reconciliationService.reconcileAll()).isZero();
+  }
+
+  @Test
+  void totalsFollowStatementsTouchingSeveralRowsOfOneClaim() {
+    createAssessmentDataForClaimAndSummaryFeeId(CLAIM_1_ID, CLAIM_1_SUMMARY_FEE_ID, false);
+
+    jdbcTemplate.update(
+        "UPDATE claims.calculated_fee_detail SET total_amount = total_amount + 1"
+            + " WHERE claim_id IN (SELECT id FROM claims.claim WHERE submission_id = ?)",
+        submission1.getId());
+    jdbcTemplate.update(
+        "DELETE FROM claims.assessment WHERE claim_id = ?"
+            + " AND assessment_reason IN ('Mid generic assessment', 'Latest generic assessment')",
+        CLAIM_1_ID);
+
+    assertThat(submissionTotalsRepository.reconcile(submission1.getId())).isFalse();
+  }
+
+  @Test
+  void assessedTotalBreaksTiesOnCreatedOnByHighestId() {
+    createAssessmentDataForClaimAndSummaryFeeId(CLAIM_1_ID, CLAIM_1_SUMMARY_FEE_ID, false);
+    BigDecimal totalBeforeTie = assessmentRepository.getAssessedTotalAmount(submission1.getId());
+    BigDecimal latestBeforeTie = assessedAmount("ORDER BY created_on DESC, id DESC", CLAIM_1_ID);
+
+    jdbcTemplate.update(
+        "UPDATE claims.assessment SET created_on ="
+            + " (SELECT max(created_on) FROM claims.assessment WHERE claim_id = ?)"
+            + " WHERE claim_id = ?",
+        CLAIM_1_ID,
+        CLAIM_1_ID);
+
+    BigDecimal latestAfterTie = assessedAmount("ORDER BY id DESC", CLAIM_1_ID);
+    BigDecimal expected = totalBeforeTie.subtract(latestBeforeTie).add(latestAfterTie);
+    assertTotal(assessmentRepository.getAssessedTotalAmount(submission1.getId()), expected);
+    assertTotal(
+        assessmentRepository
+            .getAssessedTotalAmounts(List.of(submission1.getId()))
+            .getFirst()
+            .getTotal(),
+        expected);
+    assertTotal(
+        submissionTotalsRepository
+            .findById(submission1.getId())
+            .orElseThrow()
+            .getAssessedTotalAmount(),
+        expected);
+    assertThat(submissionTotalsRepository.reconcile(submission1.getId())).isFalse();
+  }
+
+  @Test
+  void reconcile_repairsDriftedTotals() {
+    jdbcTemplate.update(
+        "UPDATE claims.submission_totals SET warning_count = warning_count + 5,"
+            + " calculated_total_amount = 0.01 WHERE submission_id = ?",
+        submission1.getId());
+
+    assertThat(submissionTotalsRepository.reconcile(submission1.getId())).isTrue();
+    assertThat(submissionTotalsRepository.reconcile(submission1.getId())).isFalse();
+
+    SubmissionTotals totals =
+        submissionTotalsRepository.findById(submission1.getId()).orElseThrow();
+    assertTotal(
+        totals.getCalculatedTotalAmount(),
+        submissionRepository.getCalculatedTotalAmount(submission1.getId()));
+    assertThat(totals.getWarningCount())
+        .isEqualTo(
+            count(
+                "SELECT count(*) FROM claims.validation_message_log"
+                    + " WHERE submission_id = ? AND type = 'WARNING'"));
+  }
+
+  private BigDecimal assessedAmount(String orderBy, UUID claimId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT assessed_total_incl_vat FROM claims.assessment WHERE claim_id = ? "
+            + orderBy
+            + " LIMIT 1",
+        BigDecimal.class,
+        claimId);
+  }
+
+  private int count(String sql) {
+    return jdbcTemplate.queryForObject(sql, Integer.class, submission1.getId());
+  }
+
+  private static void assertTotal(BigDecimal actual, BigDecimal expected) {
+    if (expected == null) {
+      assertThat(actual).isNull();
+    } else {
+      assertThat(actual).isEqualByComparingTo(expected);
+    }
+  }
+}
@@ -88,6 +88,47 @@ public class ValidationMessageLogRepositoryIntegrationTest extends AbstractInteg
     assertThat(result).isEqualTo(1);
   }
 
+  @Test
+  @DisplayName("Should keep the claim warning count in step with its warning messages")
+  void shouldKeepClaimWarningCountInStepWithWarningMessages() {
+    assertThat(claimWarningCount(CLAIM_1_ID)).isZero();
+    assertThat(claimWarningCount(CLAIM_2_ID)).isEqualTo(1);
+
+    ValidationMessageLog warning = new ValidationMessageLog();
+    warning.setId(UUID.randomUUID());
+    warning.setSubmissionId(SUBMISSION_1_ID);
+    warning.setClaimId(CLAIM_1_ID);
+    warning.setType(ValidationMessageType.WARNING);
+    warning.setSource("SYSTEM");
+    warning.setDisplayMessage("Check the fee code");
+    ValidationMessageLog error = new ValidationMessageLog();
+    error.setId(UUID.randomUUID());
+    error.setSubmissionId(SUBMISSION_1_ID);
+    error.setClaimId(CLAIM_1_ID);
+    error.setType(ValidationMessageType.ERROR);
+    error.setSource("SYSTEM");
+    error.setDisplayMessage("Enter a valid Fee Code.");
+    validationMessageLogRepository.saveAll(List.of(warning, error));
+
+    assertThat(claimWarningCount(CLAIM_1_ID)).isEqualTo(1);
+
+    warning.setType(ValidationMessageType.ERROR);
+    validationMessageLogRepository.save(warning);
+
+    assertThat(claimWarningCount(CLAIM_1_ID)).isZero();
+
+    validationMessageLogRepository.deleteAll(
+        validationMessageLogRepository.findAll().stream()
+            .filter(message -> CLAIM_2_ID.equals(message.getClaimId()))
+            .toList());
+
+    assertThat(claimWarningCount(CLAIM_2_ID)).isZero();
+  }
+
+  private int claimWarningCount(UUID claimId) {
+    return claimRepository.findById(claimId).orElseThrow().getWarningCount();
+  }
+
   private static Stream<Arguments> validationTypeProvider() {
     return Stream.of(
         Arguments.of(ValidationMessageType.ERROR, CLAIM_1_ID, "Missing case reference"),
@@ -0,0 +1,113 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockMultipartFile;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvMatterStarts;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvOffice;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvOutcome;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvSchedule;
+
+/**
+ * Compares the accumulating {@link BulkSubmissionCsvConverter#convert(
+ * org.springframework.web.multipart.MultipartFile)} path with the chunked streaming path.
+ *
+ * <p>Run with {@code ./gradlew :claims-data:service:jmh} and add {@code -prof gc} (via the jmh
+ * extension) to compare allocation rates as well as throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BulkSubmissionCsvConverterBenchmark {
+
+  private static final String OUTCOME_ROW =
+      "OUTCOME,matterType=IALB:IFRA,CASE_REF_NUMBER=TestCaseRef,CASE_START_DATE=07/07/2022,"
+          + "CASE_ID=%03d,UFN=070722/001,PROCUREMENT_AREA=PA00136,ACCESS_POINT=AP00137,"
+          + "CLIENT_FORENAME=Test,CLIENT_SURNAME=Person,CLIENT_DATE_OF_BIRTH=14/09/1962,"
+          + "UCN=14091962/T/PERS,GENDER=M,ETHNICITY=99,DISABILITY=UKN,"
+          + "CLIENT_POST_CODE=SW1H 9EA,WORK_CONCLUDED_DATE=21/10/2022,ADVICE_TIME=0,"
+          + "TRAVEL_TIME=0,WAITING_TIME=0,PROFIT_COST=228.00,DISBURSEMENTS_AMOUNT=0.00,"
+          + "COUNSEL_COST=0.00,DISBURSEMENTS_VAT=0.00,TRAVEL_WAITING_COSTS=0.00,"
+          + "VAT_INDICATOR=N,LEGACY_CASE=N,OUTCOME_CODE=IX,SCHEDULE_REF=0U990L/2013/20.4\n";
+
+  @Param({"1000", "10000"})
+  private int outcomeCount;
+
+  @Param({"500"})
+  private int chunkSize;
+
+  private BulkSubmissionCsvConverter converter;
+  private MockMultipartFile file;
+
+  /** Builds a synthetic TXT bulk submission with {@link #outcomeCount} outcome rows. */
+  @Setup
+  public void setUp() {
+    converter = new BulkSubmissionCsvConverter(new ObjectMapper(), new CsvMapper());
+    StringBuilder content =
+        new StringBuilder("OFFICE,account=0U099L\n")
+            .append("SCHEDULE,submissionPeriod=APR-2021,areaOfLaw=LEGAL HELP,")
+            .append("scheduleNum=0U099L/LEGAL_HELP\n");
+    for (int i = 0; i < outcomeCount; i++) {
+      content.append(OUTCOME_ROW.formatted(i % 1000));
+    }
+    byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+    file = new MockMultipartFile("file", "outcomes.txt", "text/plain", bytes);
+  }
+
+  /**
+   * Accumulates every row into a single {@code CsvSubmission}.
+   *
+   * @param blackhole sink for the result
+   */
+  @Benchmark
+  public void convertAccumulating(Blackhole blackhole) {
+    blackhole.consume(converter.convert(file));
+  }
+
+  /**
+   * Streams rows to a sink that discards each chunk once consumed.
+   *
+   * @param blackhole sink for the emitted chunks
+   */
+  @Benchmark
+  public void convertStreaming(Blackhole blackhole) {
+    converter.convert(file, chunkSize, new BlackholeSink(blackhole));
+  }
+
+  private record BlackholeSink(Blackhole blackhole) implements CsvSubmissionSink {
+
+    @Override
+    public void onHeader(CsvOffice office, CsvSchedule schedule) {
+      blackhole.consume(office);
+      blackhole.consume(schedule);
+    }
+
+    @Override
+    public void onOutcomes(List<CsvOutcome> outcomes) {
+      blackhole.consume(outcomes);
+    }
+
+    @Override
+    public void onMatterStarts(List<CsvMatterStarts> matterStarts) {
+      blackhole.consume(matterStarts);
+    }
+
+    @Override
+    public void onImmigrationClr(List<Map<String, String>> immigrationClr) {
+      blackhole.consume(immigrationClr);
+    }
+  }
+}
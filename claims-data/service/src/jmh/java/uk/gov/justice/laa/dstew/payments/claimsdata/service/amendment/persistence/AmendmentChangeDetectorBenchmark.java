@@ -0,0 +1,152 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.CalculatedFeeDetailSnapshot;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentState;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimStateSnapshot;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.AreaOfLaw;
+
+/**
+ * Measures the diff reads made while one amendment is validated and saved, with each section
+ * compared once and memoised on the {@link ClaimAmendmentState} against every read comparing it
+ * afresh.
+ *
+ * <p>The reads follow the pipeline: the no-change, assessed-pricing and field-amendability steps
+ * read the full diff, the PDA step the requested changes, the FSP step the full diff before setting
+ * the fee snapshots, and persistence the full diff with the fee deltas.
+ *
+ * <p>Run with {@code ./gradlew :claims-data:service:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AmendmentChangeDetectorBenchmark {
+
+  private final AmendmentChangeDetector detector = new AmendmentChangeDetector();
+
+  private ClaimStateSnapshot beforeState;
+  private ClaimStateSnapshot postAmendmentState;
+  private CalculatedFeeDetailSnapshot beforeFee;
+  private CalculatedFeeDetailSnapshot afterFee;
+
+  /** Builds a fully populated legal help claim with three fields amended, and its fees. */
+  @Setup
+  public void setUp() {
+    beforeState =
+        ClaimStateSnapshot.builder()
+            .claimId(UUID.randomUUID())
+            .submissionId(UUID.randomUUID())
+            .version(3L)
+            .areaOfLaw(AreaOfLaw.LEGAL_HELP)
+            .officeAccountNumber("0U099L")
+            .submissionPeriod("APR-2025")
+            .scheduleReference("0U099L/2025/01")
+            .lineNumber(12)
+            .caseReferenceNumber("CASE-0001")
+            .uniqueFileNumber("070725/001")
+            .caseStartDate(LocalDate.of(2025, 3, 1))
+            .caseConcludedDate(LocalDate.of(2025, 4, 10))
+            .matterTypeCode("IALB:IFRA")
+            .feeCode("IMCA")
+            .procurementAreaCode("PA00136")
+            .accessPointCode("AP00137")
+            .deliveryLocation("LONDON")
+            .clientForename("Test")
+            .clientSurname("Person")
+            .clientDateOfBirth(LocalDate.of(1962, 9, 14))
+            .uniqueClientNumber("14091962/T/PERS")
+            .clientPostcode("SW1H 9EA")
+            .genderCode("M")
+            .ethnicityCode("99")
+            .disabilityCode("UKN")
+            .isLegallyAided(true)
+            .caseId("001")
+            .outcomeCode("IX")
+            .isLegacyCase(false)
+            .adviceTime(60)
+            .travelTime(30)
+            .waitingTime(15)
+            .netProfitCostsAmount(new BigDecimal("228.00"))
+            .netDisbursementAmount(new BigDecimal("45.50"))
+            .netCounselCostsAmount(BigDecimal.ZERO)
+            .disbursementsVatAmount(new BigDecimal("9.10"))
+            .travelWaitingCostsAmount(BigDecimal.ZERO)
+            .isVatApplicable(true)
+            .isToleranceApplicable(false)
+            .build();
+    postAmendmentState =
+        beforeState.toBuilder()
+            .clientPostcode("SW1A 1AA")
+            .outcomeCode("IY")
+            .netProfitCostsAmount(new BigDecimal("250.00"))
+            .build();
+    beforeFee = fee(new BigDecimal("228.00"), new BigDecimal("282.60"));
+    afterFee = fee(new BigDecimal("250.00"), new BigDecimal("304.60"));
+  }
+
+  private static CalculatedFeeDetailSnapshot fee(BigDecimal profitCosts, BigDecimal total) {
+    return CalculatedFeeDetailSnapshot.builder()
+        .feeCode("IMCA")
+        .categoryOfLaw("IMMIGRATION")
+        .totalAmount(total)
+        .vatIndicator(true)
+        .vatRateApplied(new BigDecimal("20.00"))
+        .calculatedVatAmount(new BigDecimal("9.10"))
+        .disbursementAmount(new BigDecimal("45.50"))
+        .netProfitCostsAmount(profitCosts)
+        .requestedNetProfitCostsAmount(profitCosts)
+        .build();
+  }
+
+  private ClaimAmendmentState newState() {
+    return ClaimAmendmentState.builder()
+        .beforeState(beforeState)
+        .postAmendmentState(postAmendmentState)
+        .build();
+  }
+
+  /**
+   * Makes every read against one state, so each section is compared once.
+   *
+   * @param blackhole sink for the diffs read
+   */
+  @Benchmark
+  public void memoised(Blackhole blackhole) {
+    ClaimAmendmentState state = newState();
+    readDiffs(state, state, blackhole);
+  }
+
+  /**
+   * Makes each read against a fresh state, so every read compares every section.
+   *
+   * @param blackhole sink for the diffs read
+   */
+  @Benchmark
+  public void comparedPerRead(Blackhole blackhole) {
+    readDiffs(newState(), null, blackhole);
+  }
+
+  /** Reads the diffs in pipeline order; a {@code null} shared state means a fresh one per read. */
+  private void readDiffs(ClaimAmendmentState first, ClaimAmendmentState shared, Blackhole bh) {
+    bh.consume(detector.detectChanges(first));
+    bh.consume(detector.detectChanges(shared != null ? shared : newState()));
+    bh.consume(detector.detectChanges(shared != null ? shared : newState()));
+    bh.consume(detector.detectRequestedChanges(shared != null ? shared : newState()));
+    bh.consume(detector.detectChanges(shared != null ? shared : newState()));
+    ClaimAmendmentState priced = shared != null ? shared : newState();
+    priced.setBeforeFee(beforeFee);
+    priced.setAfterFee(afterFee);
+    bh.consume(detector.detectChanges(priced));
+  }
+}
@@ -0,0 +1,74 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.util;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link LocalDateUtils#parseBulkSubmissionDate(String)} with the formatter-based check
+ * it replaced in bulk submission validation, over the eight date fields of a typical outcome.
+ *
+ * <p>Run with {@code ./gradlew :claims-data:service:jmh} and add {@code -prof gc} (via the jmh
+ * extension) to compare allocation rates as well as throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LocalDateUtilsBenchmark {
+
+  private final String[] outcomeDates = {
+    "07/07/2022", "14/09/1962", "21/10/2022", "1/3/2022", "", null, "5/11/1990", "31/12/2022"
+  };
+
+  /**
+   * Validates every date with the single-pass scanner.
+   *
+   * @param blackhole sink for the parsed dates
+   */
+  @Benchmark
+  public void scanner(Blackhole blackhole) {
+    for (String date : outcomeDates) {
+      blackhole.consume(LocalDateUtils.parseBulkSubmissionDate(date));
+    }
+  }
+
+  /**
+   * Validates every date the way {@code BulkSubmissionService} did before the scanner: a fresh
+   * optional-pattern formatter per field, then two re-formats to detect silent corrections.
+   *
+   * @param blackhole sink for the parsed dates
+   */
+  @Benchmark
+  public void formatter(Blackhole blackhole) {
+    for (String date : outcomeDates) {
+      blackhole.consume(parseWithFormatter(date));
+    }
+  }
+
+  private static LocalDate parseWithFormatter(String dateStr) {
+    if (dateStr == null || dateStr.isBlank()) {
+      return null;
+    }
+    try {
+      DateTimeFormatter formatter = DateTimeFormatter.ofPattern("[d/M/yyyy][dd/MM/yyyy]");
+      String normalizedDate = dateStr.trim();
+      LocalDate date = LocalDate.parse(normalizedDate, formatter);
+      String singleDigit = date.format(DateTimeFormatter.ofPattern("d/M/yyyy"));
+      String doubleDigit = date.format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+      if (!normalizedDate.equals(singleDigit) && !normalizedDate.equals(doubleDigit)) {
+        return null;
+      }
+      return date;
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,259 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.aop;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.metamodel.Attribute;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Captures the state of a saved entity for the audit, and rebuilds the entity from it when the
+ * audit is written, so a deferred audit records the entity as it was saved rather than as it is by
+ * the time the audit is written.
+ *
+ * <p>The state captured is the entity's own columns: its basic values and the ids of the entities
+ * it references. The collections of child entities and the inverse side of one-to-one associations
+ * are not columns of the entity, and are read from the stored entity when the audit is written.
+ * The rebuilt entity is a new, unmanaged instance, so writing its audit never changes the stored
+ * entity.
+ */
+@Component
+public class AuditStateMapper {
+
+  /** The state of an entity captured when it was saved. */
+  public record AuditState(Class<?> entityType, Object id, Map<String, Object> values) {}
+
+  /** How the value of an entity attribute is captured. */
+  private enum Capture {
+    /** The value itself: a basic or embedded value. */
+    VALUE,
+    /** The id of the referenced entity, for an association held in the entity's own columns. */
+    REFERENCE,
+    /** Nothing: the value is read from the stored entity when the audit is written. */
+    STORED
+  }
+
+  private record AuditedAttribute(Field field, Capture capture) {}
+
+  private static final TypeReference<Map<String, String>> ENCODED_STATE = new TypeReference<>() {};
+
+  private final EntityManager entityManager;
+  private final ObjectMapper objectMapper;
+  private final Map<Class<?>, List<AuditedAttribute>> attributes = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the mapper.
+   *
+   * @param entityManager the entity manager providing the entity metamodel and the stored entities
+   * @param objectMapper the mapper the state is written to and read from JSON with
+   */
+  public AuditStateMapper(EntityManager entityManager, ObjectMapper objectMapper) {
+    this.entityManager = entityManager;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Captures the state of a saved entity.
+   *
+   * @param entity the saved entity
+   * @return the entity's state
+   */
+  public AuditState capture(Object entity) {
+    Object saved = Hibernate.unproxy(entity);
+    Class<?> entityType = saved.getClass();
+    PersistenceUnitUtil persistenceUnitUtil =
+        entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+    Map<String, Object> values = new HashMap<>();
+    for (AuditedAttribute attribute : attributesOf(entityType)) {
+      Field field = attribute.field();
+      switch (attribute.capture()) {
+        case VALUE -> values.put(field.getName(), read(field, saved));
+        case REFERENCE -> {
+          Object reference = read(field, saved);
+          values.put(
+              field.getName(),
+              reference == null ? null : persistenceUnitUtil.getIdentifier(reference));
+        }
+        case STORED -> {
+          // Read when the audit is written.
+        }
+      }
+    }
+    return new AuditState(
+        entityType, persistenceUnitUtil.getIdentifier(saved), Collections.unmodifiableMap(values));
+  }
+
+  /**
+   * Rebuilds a saved entity from its captured state, taking the attributes that were not captured
+   * from the stored entity. Must be called in a transaction, in which the audit is then written.
+   *
+   * @param state the captured state
+   * @return the entity as it was saved, or {@code null} if it has since been deleted
+   */
+  public Object restore(AuditState state) {
+    Object stored = entityManager.find(state.entityType(), state.id());
+    if (stored == null) {
+      return null;
+    }
+    stored = Hibernate.unproxy(stored);
+    Object audited = instantiate(state.entityType());
+    for (AuditedAttribute attribute : attributesOf(state.entityType())) {
+      Field field = attribute.field();
+      // An attribute missing from the state was added to the entity after the state was captured.
+      Capture capture =
+          state.values().containsKey(field.getName()) ? attribute.capture() : Capture.STORED;
+      Object value =
+          switch (capture) {
+            case VALUE -> state.values().get(field.getName());
+            case REFERENCE -> {
+              Object id = state.values().get(field.getName());
+              yield id == null ? null : entityManager.getReference(field.getType(), id);
+            }
+            case STORED -> read(field, stored);
+          };
+      write(field, audited, value);
+    }
+    return audited;
+  }
+
+  /**
+   * Writes a captured state's values as JSON. Each value is written as its own JSON document, so
+   * that it is read back as exactly the same value, such as a decimal with its scale.
+   *
+   * @param state the captured state
+   * @return the JSON of the state's values
+   */
+  public String toJson(AuditState state) {
+    try {
+      Map<String, String> encoded = new LinkedHashMap<>();
+      for (Map.Entry<String, Object> value : state.values().entrySet()) {
+        encoded.put(value.getKey(), objectMapper.writeValueAsString(value.getValue()));
+      }
+      return objectMapper.writeValueAsString(encoded);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(
+          "Failed to write the audit state of " + state.entityType().getSimpleName(), e);
+    }
+  }
+
+  /**
+   * Reads a captured state back from the JSON written by {@link #toJson}.
+   *
+   * @param entityTypeName the fully qualified class name of the entity
+   * @param id the entity id, as text
+   * @param json the JSON of the state's values
+   * @return the captured state
+   */
+  public AuditState fromJson(String entityTypeName, String id, String json) {
+    Class<?> entityType = entityType(entityTypeName);
+    try {
+      Map<String, String> encoded = objectMapper.readValue(json, ENCODED_STATE);
+      Map<String, Object> values = new HashMap<>();
+      for (AuditedAttribute attribute : attributesOf(entityType)) {
+        Field field = attribute.field();
+        String value = encoded.get(field.getName());
+        if (value == null) {
+          continue;
+        }
+        switch (attribute.capture()) {
+          case VALUE -> {
+            JavaType valueType = objectMapper.constructType(field.getGenericType());
+            values.put(field.getName(), objectMapper.readValue(value, valueType));
+          }
+          case REFERENCE ->
+              values.put(field.getName(), objectMapper.readValue(value, idType(field.getType())));
+          case STORED -> {
+            // Read when the audit is written.
+          }
+        }
+      }
+      return new AuditState(
+          entityType,
+          objectMapper.convertValue(id, idType(entityType)),
+          Collections.unmodifiableMap(values));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(
+          "Failed to read the audit state of " + entityType.getSimpleName() + " " + id, e);
+    }
+  }
+
+  private List<AuditedAttribute> attributesOf(Class<?> entityType) {
+    return attributes.computeIfAbsent(
+        entityType,
+        type ->
+            entityManager.getMetamodel().entity(type).getAttributes().stream()
+                .filter(attribute -> attribute.getJavaMember() instanceof Field)
+                .map(AuditStateMapper::audited)
+                .toList());
+  }
+
+  private static AuditedAttribute audited(Attribute<?, ?> attribute) {
+    Field field = (Field) attribute.getJavaMember();
+    field.setAccessible(true);
+    Capture capture =
+        switch (attribute.getPersistentAttributeType()) {
+          case BASIC, EMBEDDED -> Capture.VALUE;
+          case MANY_TO_ONE -> Capture.REFERENCE;
+          case ONE_TO_ONE -> {
+            OneToOne oneToOne = field.getAnnotation(OneToOne.class);
+            yield oneToOne == null || oneToOne.mappedBy().isEmpty()
+                ? Capture.REFERENCE
+                : Capture.STORED;
+          }
+          default -> Capture.STORED;
+        };
+    return new AuditedAttribute(field, capture);
+  }
+
+  private Class<?> entityType(String entityTypeName) {
+    return entityManager.getMetamodel().getEntities().stream()
+        .map(entity -> (Class<?>) entity.getJavaType())
+        .filter(javaType -> javaType.getName().equals(entityTypeName))
+        .findFirst()
+        .orElseThrow(
+            () -> new IllegalStateException("Not a known entity type: " + entityTypeName));
+  }
+
+  private Class<?> idType(Class<?> entityType) {
+    return entityManager.getMetamodel().entity(entityType).getIdType().getJavaType();
+  }
+
+  private static Object instantiate(Class<?> entityType) {
+    try {
+      Constructor<?> constructor = entityType.getDeclaredConstructor();
+      constructor.setAccessible(true);
+      return constructor.newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to create " + entityType.getSimpleName(), e);
+    }
+  }
+
+  private static Object read(Field field, Object entity) {
+    try {
+      return field.get(entity);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Failed to read " + field, e);
+    }
+  }
+
+  private static void write(Field field, Object entity, Object value) {
+    try {
+      field.set(entity, value);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Failed to write " + field, e);
+    }
+  }
+}
@@ -0,0 +1,414 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.aop;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.javers.core.Javers;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.justice.laa.dstew.payments.claimsdata.aop.AuditStateMapper.AuditState;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.ClaimsApiProperties;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.AuditOutbox;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.AuditOutboxRepository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
+
+/**
+ * Writes the Javers audit of the entities saved through the repositories, in the mode configured
+ * at {@code laa.claims.api.audit.mode}.
+ *
+ * <p>In {@code SYNC} mode each entity is committed to Javers straight away, inside the saving
+ * transaction. In the deferred modes the state of the entity is captured when it is saved ({@link
+ * AuditStateMapper}), and a background writer commits it to Javers later, in batches of one
+ * transaction each. Every save is audited with the state it saved and credited to its own author,
+ * as in {@code SYNC} mode, and a save that is rolled back is never audited.
+ *
+ * <ul>
+ *   <li>In {@code ASYNC} mode the captured state is queued in memory once the saving transaction
+ *       has committed. The queue is bounded ({@code laa.claims.api.audit.queue-capacity}): when it
+ *       is full, the saving thread audits its own entity, which slows writers to the pace of the
+ *       audit rather than dropping it. On shutdown the writer drains the queue for up to {@code
+ *       laa.claims.api.audit.shutdown-timeout}; the saves still queued when an instance dies are
+ *       not audited.
+ *   <li>In {@code DURABLE} mode the captured state is written to the audit outbox table in the
+ *       saving transaction, so it is audited once the save commits even if the instance stops
+ *       straight after. The writer locks the oldest rows with {@code FOR UPDATE SKIP LOCKED}, so
+ *       every instance drains the outbox, and deletes each row in the transaction that writes its
+ *       audit, so no save is audited twice. A row that keeps failing is dead-lettered after {@code
+ *       laa.claims.api.audit.max-attempts} attempts.
+ * </ul>
+ *
+ * <p>A batch that fails is retried one save at a time.
+ *
+ * <p>Published as metrics: the time from a save committing to its audit being written ({@value
+ * #LAG_METRIC}), the saves waiting in the in-memory queue ({@value #QUEUED_METRIC}), the saves
+ * audited by the saving thread because the queue was full ({@value #BACKPRESSURE_METRIC}), and the
+ * saves that could not be audited ({@value #FAILURE_METRIC}).
+ */
+@Component
+@Slf4j
+public class JaversAuditWriter implements SmartLifecycle {
+
+  static final String LAG_METRIC = "claims.audit.lag";
+  static final String QUEUED_METRIC = "claims.audit.queued";
+  static final String BACKPRESSURE_METRIC = "claims.audit.backpressure";
+  static final String FAILURE_METRIC = "claims.audit.failures";
+
+  /** A saved entity waiting to be audited, with its state when saved. */
+  private record QueuedAudit(String author, AuditState state, Instant committedAt) {}
+
+  private final Javers javers;
+  private final AuditStateMapper stateMapper;
+  private final AuditOutboxRepository outboxRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ClaimsApiProperties.Audit settings;
+  /** The saves waiting to be audited in {@code ASYNC} mode, oldest first; guarded by itself. */
+  private final Deque<QueuedAudit> queue = new ArrayDeque<>();
+
+  private final Timer lag;
+  private final Counter backpressure;
+  private final Counter failures;
+
+  private volatile boolean running;
+  private Thread writer;
+
+  /**
+   * Creates the audit writer and registers its metrics.
+   *
+   * @param javers the Javers instance the audit is committed to
+   * @param stateMapper the mapper capturing the saved state of the entities and rebuilding them
+   * @param outboxRepository the audit outbox used in {@code DURABLE} mode
+   * @param transactionManager the transaction manager each batch is written in
+   * @param claimsApiProperties the Claims API configuration providing the audit settings
+   * @param meterRegistry the registry the audit metrics are published to
+   */
+  public JaversAuditWriter(
+      Javers javers,
+      AuditStateMapper stateMapper,
+      AuditOutboxRepository outboxRepository,
+      PlatformTransactionManager transactionManager,
+      ClaimsApiProperties claimsApiProperties,
+      MeterRegistry meterRegistry) {
+    this.javers = javers;
+    this.stateMapper = stateMapper;
+    this.outboxRepository = outboxRepository;
+    // A new transaction, as the saving thread may write an audit from its afterCommit callback.
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.settings = claimsApiProperties.getAudit();
+    this.lag =
+        Timer.builder(LAG_METRIC)
+            .description("Time from a saved entity being committed to its audit being written")
+            .register(meterRegistry);
+    this.backpressure =
+        Counter.builder(BACKPRESSURE_METRIC)
+            .description("Saves audited by the saving thread because the audit queue was full")
+            .register(meterRegistry);
+    this.failures =
+        Counter.builder(FAILURE_METRIC)
+            .description("Saved entities that could not be audited")
+            .register(meterRegistry);
+    Gauge.builder(QUEUED_METRIC, this, JaversAuditWriter::queued)
+        .description("Saved entities waiting to be audited in the in-memory queue")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Audits a saved entity: straight away in {@code SYNC} mode, through the in-memory queue once the
+   * saving transaction commits in {@code ASYNC} mode, or through the audit outbox in {@code
+   * DURABLE} mode.
+   *
+   * @param author the user the change is attributed to
+   * @param entity the saved entity
+   */
+  public void audit(String author, Object entity) {
+    switch (settings.getMode()) {
+      case SYNC -> javers.commit(author, entity);
+      case ASYNC -> {
+        AuditState state = stateMapper.capture(entity);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+          TransactionSynchronizationManager.registerSynchronization(
+              new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                  enqueue(new QueuedAudit(author, state, Instant.now()));
+                }
+              });
+        } else {
+          enqueue(new QueuedAudit(author, state, Instant.now()));
+        }
+      }
+      case DURABLE -> {
+        AuditState state = stateMapper.capture(entity);
+        outboxRepository.save(
+            AuditOutbox.builder()
+                .id(Uuid7.timeBasedUuid())
+                .entityType(state.entityType().getName())
+                .entityId(String.valueOf(state.id()))
+                .author(author)
+                .state(stateMapper.toJson(state))
+                .createdOn(Instant.now())
+                .build());
+      }
+    }
+  }
+
+  private void enqueue(QueuedAudit audit) {
+    if (running && offer(audit)) {
+      return;
+    }
+    if (running) {
+      backpressure.increment();
+    }
+    write(List.of(audit));
+  }
+
+  /**
+   * Queues a save.
+   *
+   * @return whether the save was queued; {@code false} if the queue is full
+   */
+  private boolean offer(QueuedAudit audit) {
+    synchronized (queue) {
+      if (queue.size() >= settings.getQueueCapacity()) {
+        return false;
+      }
+      queue.addLast(audit);
+      queue.notifyAll();
+      return true;
+    }
+  }
+
+  /**
+   * Takes up to a batch of the oldest saves off the queue, waiting up to the flush interval for one
+   * if the queue is empty.
+   */
+  private List<QueuedAudit> take() throws InterruptedException {
+    synchronized (queue) {
+      if (queue.isEmpty()) {
+        queue.wait(settings.getFlushInterval().toMillis());
+      }
+      List<QueuedAudit> batch = new ArrayList<>(Math.min(queue.size(), settings.getBatchSize()));
+      while (!queue.isEmpty() && batch.size() < settings.getBatchSize()) {
+        batch.add(queue.removeFirst());
+      }
+      return batch;
+    }
+  }
+
+  private int queued() {
+    synchronized (queue) {
+      return queue.size();
+    }
+  }
+
+  /** Takes batches off the queue and writes them until stopped and the queue is empty. */
+  private void drainQueue() {
+    while (running || queued() > 0) {
+      try {
+        List<QueuedAudit> batch = take();
+        if (!batch.isEmpty()) {
+          write(batch);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        log.error("Unexpected failure in the audit writer", e);
+      }
+    }
+  }
+
+  /** Writes a batch in one transaction, falling back to one transaction per save on failure. */
+  private void write(List<QueuedAudit> batch) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> batch.forEach(this::commit));
+    } catch (RuntimeException e) {
+      if (batch.size() == 1) {
+        AuditState state = batch.getFirst().state();
+        failures.increment();
+        log.error("Failed to audit {} {}", state.entityType().getSimpleName(), state.id(), e);
+        return;
+      }
+      log.warn("Failed to audit a batch of {} saves; auditing them one at a time", batch.size());
+      batch.forEach(audit -> write(List.of(audit)));
+    }
+  }
+
+  private void commit(QueuedAudit audit) {
+    Object entity = stateMapper.restore(audit.state());
+    if (entity == null) {
+      log.debug(
+          "Not auditing {} {}: deleted before it was audited",
+          audit.state().entityType().getSimpleName(),
+          audit.state().id());
+    } else {
+      javers.commit(audit.author(), entity);
+    }
+    lag.record(Duration.between(audit.committedAt(), Instant.now()));
+  }
+
+  /** Audits the saves in the outbox, a batch at a time, until stopped. */
+  private void drainOutbox() {
+    while (running) {
+      int written = 0;
+      try {
+        written = writeOutboxBatch();
+      } catch (RuntimeException e) {
+        log.error("Unexpected failure in the audit writer", e);
+      }
+      if (written > 0) {
+        continue;
+      }
+      try {
+        Thread.sleep(settings.getFlushInterval());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Audits the oldest saves in the outbox and deletes them in one transaction, falling back to one
+   * transaction per save on failure.
+   *
+   * @return the number of saves taken from the outbox
+   */
+  private int writeOutboxBatch() {
+    List<UUID> claimed = new ArrayList<>();
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            List<AuditOutbox> rows = outboxRepository.lockPending(settings.getBatchSize());
+            rows.forEach(row -> claimed.add(row.getId()));
+            rows.forEach(row -> commit(queuedAudit(row)));
+            outboxRepository.deleteAllInBatch(rows);
+          });
+    } catch (RuntimeException e) {
+      if (claimed.isEmpty()) {
+        throw e;
+      }
+      log.warn("Failed to audit a batch of {} saves; auditing them one at a time", claimed.size());
+      claimed.forEach(this::writeOutboxRow);
+    }
+    return claimed.size();
+  }
+
+  private void writeOutboxRow(UUID id) {
+    try {
+      transactionTemplate.executeWithoutResult(
+          status ->
+              outboxRepository
+                  .lockPendingById(id)
+                  .ifPresent(
+                      row -> {
+                        commit(queuedAudit(row));
+                        outboxRepository.delete(row);
+                      }));
+    } catch (RuntimeException e) {
+      recordOutboxFailure(id, e);
+    }
+  }
+
+  /** Counts a failed attempt at a save in the outbox, dead-lettering it after the last attempt. */
+  private void recordOutboxFailure(UUID id, RuntimeException failure) {
+    transactionTemplate.executeWithoutResult(
+        status ->
+            outboxRepository
+                .findById(id)
+                .ifPresent(
+                    row -> {
+                      int attempts = row.getAttempts() + 1;
+                      row.setAttempts(attempts);
+                      row.setLastError(String.valueOf(failure));
+                      if (attempts < settings.getMaxAttempts()) {
+                        log.warn(
+                            "Failed to audit {} {} (attempt {})",
+                            row.getEntityType(),
+                            row.getEntityId(),
+                            attempts,
+                            failure);
+                        return;
+                      }
+                      row.setDeadLetteredOn(Instant.now());
+                      failures.increment();
+                      log.error(
+                          "Failed to audit {} {} after {} attempts, dead-lettering it",
+                          row.getEntityType(),
+                          row.getEntityId(),
+                          attempts,
+                          failure);
+                    }));
+  }
+
+  private QueuedAudit queuedAudit(AuditOutbox row) {
+    return new QueuedAudit(
+        row.getAuthor(),
+        stateMapper.fromJson(row.getEntityType(), row.getEntityId(), row.getState()),
+        row.getCreatedOn());
+  }
+
+  @Override
+  public void start() {
+    Runnable drain =
+        switch (settings.getMode()) {
+          case SYNC -> null;
+          case ASYNC -> this::drainQueue;
+          case DURABLE -> this::drainOutbox;
+        };
+    if (drain != null) {
+      running = true;
+      writer = Thread.ofPlatform().name("javers-audit-writer").daemon().start(drain);
+    }
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (writer == null) {
+      return;
+    }
+    try {
+      writer.join(settings.getShutdownTimeout());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (writer.isAlive()) {
+      writer.interrupt();
+    }
+    int lost = queued();
+    if (lost > 0) {
+      log.error("Shut down with {} saved entities not audited", lost);
+      failures.increment(lost);
+    }
+    writer = null;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return writer != null;
+  }
+
+  /**
+   * Stops after the web server, whose graceful shutdown runs in phase {@code DEFAULT_PHASE - 2048},
+   * so the saves of requests finishing during shutdown are still audited.
+   */
+  @Override
+  public int getPhase() {
+    return SmartLifecycle.DEFAULT_PHASE - 4096;
+  }
+}
@@ -1,5 +1,6 @@
 package uk.gov.justice.laa.dstew.payments.claimsdata.aop;
 
+import java.util.List;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
@@ -9,6 +10,7 @@ import org.aspectj.lang.annotation.Before;
 import org.javers.core.Javers;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Component;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.AuditOutbox;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.BulkSubmission;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.CalculatedFeeDetail;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Claim;
@@ -17,6 +19,7 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.entity.ClaimSummaryFee;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Client;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.MatterStart;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Submission;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.SubmissionEventOutbox;
 
 /**
  * An aspect responsible for auditing changes to entities using Javers. This aspect intercepts save
@@ -28,9 +31,11 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Submission;
 @Component
 public class JaversAuditingAspect {
   private final Javers javers;
+  private final JaversAuditWriter auditWriter;
 
-  public JaversAuditingAspect(Javers javers) {
+  public JaversAuditingAspect(Javers javers, JaversAuditWriter auditWriter) {
     this.javers = javers;
+    this.auditWriter = auditWriter;
   }
 
   private static final String API_USER = "api-user";
@@ -38,7 +43,10 @@ public class JaversAuditingAspect {
   /**
    * Audits the save operation performed on an entity within the specified repository package. This
    * is run after the successful execution of the save method in any of the classes in the specified
-   * repository package. It uses Javers to save it in the audit log table (jv_snapshot)
+   * repository package. It uses Javers to save it in the audit log table (jv_snapshot), through
+   * the {@link JaversAuditWriter} in the configured audit mode. The rows written to the {@link
+   * SubmissionEventOutbox} and the {@link AuditOutbox} are not audited: they are transient, and
+   * deleted once processed.
    *
    * @param joinPoint the join point providing reflective access to the intercepted method
    * @param result the result of the save operation, representing the saved entity
@@ -47,10 +55,33 @@ public class JaversAuditingAspect {
       pointcut = "execution(* uk.gov.justice.laa.dstew.payments.claimsdata.repository.*.save(..))",
       returning = "result")
   public void auditSave(JoinPoint joinPoint, Object result) {
-    if (result != null) {
+    if (result != null
+        && !(result instanceof SubmissionEventOutbox)
+        && !(result instanceof AuditOutbox)) {
       String apiUser = getApiUser(joinPoint.getArgs()[0]);
       log.debug("Auditing save operation for entity {}, by user: {}", result, apiUser);
-      javers.commit(apiUser, result);
+      auditWriter.audit(apiUser, result);
+    }
+  }
+
+  /**
+   * Audits the entities inserted by a batch insert within the specified repository package. Each
+   * entity is committed to Javers individually, attributed to its own creating user, exactly as if
+   * it had been saved on its own, through the {@link JaversAuditWriter}.
+   *
+   * @param result the entities that were inserted
+   */
+  @AfterReturning(
+      pointcut =
+          "execution(* uk.gov.justice.laa.dstew.payments.claimsdata.repository.*.insertAll(..))",
+      returning = "result")
+  public void auditInsertAll(List<?> result) {
+    if (result != null) {
+      for (Object entity : result) {
+        String apiUser = getApiUser(entity);
+        log.debug("Auditing batch insert for entity {}, by user: {}", entity, apiUser);
+        auditWriter.audit(apiUser, entity);
+      }
     }
   }
 
@@ -0,0 +1,93 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ExternalDependencyTimeoutException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ExternalDependencyUnavailableException;
+
+/**
+ * Guards outbound calls to the external dependencies with a Resilience4j bulkhead, time limiter
+ * and circuit breaker per dependency.
+ *
+ * <p>Each dependency is configured under its name in the {@code resilience4j.bulkhead}, {@code
+ * resilience4j.timelimiter} and {@code resilience4j.circuitbreaker} instances, and their state and
+ * call counts are published as {@code resilience4j_*} metrics. A call is refused straight away with
+ * an {@link ExternalDependencyUnavailableException} while the dependency's circuit breaker is open
+ * or its bulkhead is full, so a failing dependency does not hold up request threads. A call that
+ * runs past its time limit fails with an {@link ExternalDependencyTimeoutException}; any other
+ * failure is rethrown unchanged.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExternalCallGuard {
+
+  /** Name of the Fee Scheme Platform API resilience instances. */
+  public static final String FEE_SCHEME_PLATFORM = "feeSchemePlatform";
+
+  /** Name of the Provider Details API resilience instances. */
+  public static final String PROVIDER_DATA_API = "providerDataApi";
+
+  private static final Executor CALL_THREADS =
+      task -> Thread.ofVirtual().name("external-call").start(task);
+
+  private final CircuitBreakerRegistry circuitBreakerRegistry;
+  private final BulkheadRegistry bulkheadRegistry;
+  private final TimeLimiterRegistry timeLimiterRegistry;
+
+  /**
+   * Makes the given call to the named dependency through its bulkhead, time limiter and circuit
+   * breaker.
+   *
+   * @param dependency the name of the dependency's resilience instances
+   * @param call the call to make
+   * @param <T> the call's result type
+   * @return the call's result
+   * @throws ExternalDependencyUnavailableException if the circuit breaker is open or the bulkhead
+   *     is full
+   * @throws ExternalDependencyTimeoutException if the call does not complete within its time limit
+   */
+  public <T> T call(String dependency, Supplier<T> call) {
+    Supplier<T> bulkheaded =
+        Bulkhead.decorateSupplier(bulkheadRegistry.bulkhead(dependency), call);
+    Callable<T> timeLimited =
+        TimeLimiter.decorateFutureSupplier(
+            timeLimiterRegistry.timeLimiter(dependency),
+            () -> CompletableFuture.supplyAsync(bulkheaded, CALL_THREADS));
+    Callable<T> guarded =
+        CircuitBreaker.decorateCallable(
+            circuitBreakerRegistry.circuitBreaker(dependency), timeLimited);
+    try {
+      return guarded.call();
+    } catch (CallNotPermittedException | BulkheadFullException ex) {
+      log.warn("Call to {} refused: {}", dependency, ex.getMessage());
+      throw new ExternalDependencyUnavailableException(dependency, ex);
+    } catch (TimeoutException ex) {
+      log.warn("Call to {} timed out: {}", dependency, ex.getMessage());
+      throw new ExternalDependencyTimeoutException(dependency, ex);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new ExternalDependencyUnavailableException(dependency, ex);
+    } catch (RuntimeException | Error ex) {
+      throw ex;
+    } catch (Exception ex) {
+      // A Supplier cannot throw any other checked exception; kept for the Callable contract.
+      throw new UndeclaredThrowableException(ex);
+    }
+  }
+}
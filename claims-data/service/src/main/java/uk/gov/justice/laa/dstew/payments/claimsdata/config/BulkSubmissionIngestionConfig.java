@@ -0,0 +1,48 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Provides the bounded worker pool used for asynchronous bulk submission ingestion.
+ *
+ * <p>Workers run on virtual threads, but the pool still caps how many uploads are parsed and
+ * validated at once ({@code laa.claims.api.bulk-submissions.ingestion.concurrency}) and how many
+ * spooled uploads may wait for a worker ({@code
+ * laa.claims.api.bulk-submissions.ingestion.queue-capacity}). Once both are exhausted further
+ * uploads are rejected rather than queued, so memory and spool disk usage stay bounded.
+ */
+@Configuration
+@EnableConfigurationProperties(ClaimsApiProperties.class)
+public class BulkSubmissionIngestionConfig {
+
+  /** Bean name of the ingestion worker pool. */
+  public static final String INGESTION_EXECUTOR = "bulkSubmissionIngestionExecutor";
+
+  /**
+   * Builds the ingestion worker pool. Idle workers are released after a minute.
+   *
+   * @param properties the Claims API configuration providing the pool bounds
+   * @return the worker pool, shut down with the application context
+   */
+  @Bean(name = INGESTION_EXECUTOR, destroyMethod = "shutdown")
+  public ThreadPoolExecutor bulkSubmissionIngestionExecutor(ClaimsApiProperties properties) {
+    ClaimsApiProperties.BulkSubmissions.Ingestion ingestion =
+        properties.getBulkSubmissions().getIngestion();
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            ingestion.getConcurrency(),
+            ingestion.getConcurrency(),
+            1,
+            TimeUnit.MINUTES,
+            new ArrayBlockingQueue<>(ingestion.getQueueCapacity()),
+            Thread.ofVirtual().name("bulk-submission-ingestion-", 0).factory(),
+            new ThreadPoolExecutor.AbortPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+}
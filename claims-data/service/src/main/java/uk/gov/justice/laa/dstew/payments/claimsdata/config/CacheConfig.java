@@ -9,14 +9,20 @@ import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import uk.gov.justice.laa.dstew.payments.claimsdata.provider.AmendmentReferenceDataProvider;
+import uk.gov.justice.laa.dstew.payments.claimsdata.provider.FeeCalculationProvider;
 
 /**
- * Enables Spring's caching abstraction and configures a Caffeine-backed cache for the governed
- * amendment reference data.
+ * Enables Spring's caching abstraction and configures the Caffeine-backed caches for the governed
+ * amendment reference data and the fee calculation results.
  *
- * <p>The cache uses a time-to-live (write) expiry, so entries are evicted after {@code
- * laa.claims.api.amendments.cache.refresh} (see {@link ClaimsApiProperties}) and lazily reloaded on
- * the next access. This suits reference data that changes rarely.
+ * <p>Both caches use a time-to-live (write) expiry, so entries are evicted after the configured
+ * period (see {@link ClaimsApiProperties}) and lazily reloaded on the next access. This suits
+ * reference data that changes rarely. The fee calculation cache is also bounded in size, as it
+ * holds one entry per request, and records its hit and miss counts for the cache metrics. Fee
+ * calculation results are kept only briefly, to cover a retried amendment.
+ *
+ * <p>Fee Scheme Platform fee details are not cached, as nothing in this service looks them up. The
+ * claims validation library that does reads them through its own Fee Scheme client.
  */
 @Configuration
 @EnableCaching
@@ -24,9 +30,9 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.provider.AmendmentReferenceD
 public class CacheConfig {
 
   /**
-   * Builds the cache manager for the amendment reference data cache.
+   * Builds the cache manager for the amendment reference data and fee calculation caches.
    *
-   * @param properties the Claims API configuration providing the cache time-to-live
+   * @param properties the Claims API configuration providing the cache settings
    * @return the configured cache manager
    */
   @Bean
@@ -35,6 +41,16 @@ public class CacheConfig {
     CaffeineCacheManager cacheManager =
         new CaffeineCacheManager(AmendmentReferenceDataProvider.CACHE_NAME);
     cacheManager.setCaffeine(Caffeine.newBuilder().expireAfterWrite(refresh));
+
+    ClaimsApiProperties.Amendments.FeeCalculationCache feeCalculationCache =
+        properties.getAmendments().getFeeCalculationCache();
+    cacheManager.registerCustomCache(
+        FeeCalculationProvider.CACHE_NAME,
+        Caffeine.newBuilder()
+            .expireAfterWrite(feeCalculationCache.getTtl())
+            .maximumSize(feeCalculationCache.getMaxSize())
+            .recordStats()
+            .build());
     return cacheManager;
   }
 }
@@ -1,5 +1,6 @@
 package uk.gov.justice.laa.dstew.payments.claimsdata.config;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
@@ -20,6 +21,212 @@ public class ClaimsApiProperties {
   /** Settings for the amendments feature ({@code laa.claims.api.amendments.*}). */
   private final Amendments amendments = new Amendments();
 
+  /** Settings for bulk submission ingestion ({@code laa.claims.api.bulk-submissions.*}). */
+  private final BulkSubmissions bulkSubmissions = new BulkSubmissions();
+
+  /** Settings for the per-submission totals ({@code laa.claims.api.submission-totals.*}). */
+  private final SubmissionTotals submissionTotals = new SubmissionTotals();
+
+  /** Settings for the submission event outbox ({@code laa.claims.api.event-outbox.*}). */
+  private final EventOutbox eventOutbox = new EventOutbox();
+
+  /** Settings for the Javers audit of saved entities ({@code laa.claims.api.audit.*}). */
+  private final Audit audit = new Audit();
+
+  /** How the Javers audit of saved entities is written. */
+  public enum AuditMode {
+    /** Each save is audited inside its own transaction, before the save returns. */
+    SYNC,
+    /**
+     * Saves are queued in memory once their transaction commits, and audited in batches on a
+     * background writer.
+     */
+    ASYNC,
+    /**
+     * Saves are written to the audit outbox table in the transaction that saves them, and audited
+     * in batches on a background writer.
+     */
+    DURABLE
+  }
+
+  /** Settings for the Javers audit of saved entities. */
+  @Getter
+  @Setter
+  public static class Audit {
+
+    /**
+     * How saves are audited ({@code laa.claims.api.audit.mode}). {@code SYNC} by default, so an
+     * entity and its audit are committed together. {@code ASYNC} and {@code DURABLE} take the audit
+     * off the write path: the state of the entity is captured when it is saved and audited later,
+     * so the audit records the same state, credited to the same author. {@code ASYNC} queues the
+     * state in memory, so the audits still queued are lost if the instance dies without shutting
+     * down. {@code DURABLE} writes it to the audit outbox table in the saving transaction instead,
+     * so no audit is lost.
+     */
+    private AuditMode mode = AuditMode.SYNC;
+
+    /**
+     * Maximum number of saves waiting to be audited in {@code ASYNC} mode ({@code
+     * laa.claims.api.audit.queue-capacity}). When it is full, the saving thread writes its own
+     * audit, so writers are slowed to the audit's pace rather than audits being dropped.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of saves audited per transaction in {@code ASYNC} and {@code DURABLE} mode
+     * ({@code laa.claims.api.audit.batch-size}).
+     */
+    private int batchSize = 100;
+
+    /**
+     * Longest time the background writer waits for a save to audit before checking for shutdown
+     * ({@code laa.claims.api.audit.flush-interval}).
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * Longest time shutdown waits for the queued saves to be audited ({@code
+     * laa.claims.api.audit.shutdown-timeout}). Saves still queued in memory after it are logged as
+     * lost; those in the audit outbox are audited by another instance, or after a restart.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Number of failed attempts after which a save in the audit outbox is dead-lettered instead of
+     * retried in {@code DURABLE} mode ({@code laa.claims.api.audit.max-attempts}). A dead-lettered
+     * save stays in the outbox with its last error and is no longer audited.
+     */
+    private int maxAttempts = 10;
+  }
+
+  /** Settings for publishing the submission events written to the outbox. */
+  @Getter
+  @Setter
+  public static class EventOutbox {
+
+    /**
+     * Delay between the end of one outbox poll and the start of the next ({@code
+     * laa.claims.api.event-outbox.poll-interval}). Accepts a duration such as {@code 500ms}.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Maximum number of events claimed per poll ({@code laa.claims.api.event-outbox.batch-size}).
+     * They are published ten to a call, the most SNS accepts in one batch.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Delay before the first retry of an event that failed to publish ({@code
+     * laa.claims.api.event-outbox.initial-backoff}); doubled on each further failure.
+     */
+    private Duration initialBackoff = Duration.ofSeconds(5);
+
+    /**
+     * Longest delay between retries of an event that keeps failing to publish ({@code
+     * laa.claims.api.event-outbox.max-backoff}).
+     */
+    private Duration maxBackoff = Duration.ofMinutes(10);
+
+    /**
+     * Number of failed attempts after which an event is dead-lettered instead of retried ({@code
+     * laa.claims.api.event-outbox.max-attempts}). A dead-lettered event stays in the outbox with
+     * its last error and is no longer published.
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * How long events claimed by a poll are hidden from the other instances while they are
+     * published ({@code laa.claims.api.event-outbox.lease}). If the instance stops before recording
+     * the outcome, the events are claimed again once the lease ends.
+     */
+    private Duration lease = Duration.ofMinutes(1);
+  }
+
+  /** Settings for the per-submission totals. */
+  @Getter
+  public static class SubmissionTotals {
+
+    /** Settings for the job that repairs drifted submission totals. */
+    private final Reconciliation reconciliation = new Reconciliation();
+
+    /** Settings for the job that repairs drifted submission totals. */
+    @Getter
+    @Setter
+    public static class Reconciliation {
+
+      /**
+       * When the job runs ({@code laa.claims.api.submission-totals.reconciliation.cron}), as a
+       * Spring cron expression; {@code -} disables it. Defaults to nightly.
+       */
+      private String cron = "0 30 2 * * *";
+
+      /**
+       * Number of submission ids read at a time while the job walks every submission ({@code
+       * laa.claims.api.submission-totals.reconciliation.batch-size}). Each submission is still
+       * recounted in a transaction of its own.
+       */
+      private int batchSize = 500;
+    }
+  }
+
+  /** Settings for bulk submission ingestion. */
+  @Getter
+  @Setter
+  public static class BulkSubmissions {
+
+    /**
+     * Maximum number of rows buffered before they are handed on when a bulk submission file is
+     * parsed in streaming mode ({@code laa.claims.api.bulk-submissions.chunk-size}). Bounds the
+     * parser's working memory by this value rather than by the size of the uploaded file.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Whether the row-level outcome checks report every problem in the file rather than stopping
+     * at the first ({@code laa.claims.api.bulk-submissions.collect-all-validation-errors}). Off by
+     * default so that existing consumers keep receiving a single error description.
+     */
+    private boolean collectAllValidationErrors = false;
+
+    /**
+     * Maximum number of row-level errors listed individually in collect-all mode ({@code
+     * laa.claims.api.bulk-submissions.max-reported-validation-errors}); further errors are only
+     * counted.
+     */
+    private int maxReportedValidationErrors = 100;
+
+    /** Settings for asynchronous ingestion of uploaded bulk submission files. */
+    private final Ingestion ingestion = new Ingestion();
+
+    /** Settings for asynchronous ingestion of uploaded bulk submission files. */
+    @Getter
+    @Setter
+    public static class Ingestion {
+
+      /**
+       * Directory uploads are spooled to before a worker picks them up ({@code
+       * laa.claims.api.bulk-submissions.ingestion.spool-directory}). Defaults to a folder under
+       * the JVM temporary directory.
+       */
+      private Path spoolDirectory =
+          Path.of(System.getProperty("java.io.tmpdir"), "bulk-submissions");
+
+      /**
+       * Maximum number of uploads parsed and validated at the same time ({@code
+       * laa.claims.api.bulk-submissions.ingestion.concurrency}).
+       */
+      private int concurrency = 4;
+
+      /**
+       * Maximum number of spooled uploads waiting for a worker ({@code
+       * laa.claims.api.bulk-submissions.ingestion.queue-capacity}). Uploads beyond this are
+       * rejected so that spooled files cannot accumulate without bound.
+       */
+      private int queueCapacity = 50;
+    }
+  }
+
   /** Settings for the amendments feature. */
   @Getter
   @Setter
@@ -36,9 +243,22 @@ public class ClaimsApiProperties {
      */
     private String enabled;
 
+    /**
+     * Whether adjacent independent validation steps, such as the external PDA and FSP steps, run
+     * concurrently ({@code laa.claims.api.amendments.parallel-validation}). When off, every step
+     * runs in sequence.
+     */
+    private boolean parallelValidation = true;
+
     /** Caching settings for the governed amendment reference data. */
     private final Cache cache = new Cache();
 
+    /** Caching settings for the Fee Scheme Platform fee calculation results. */
+    private final FeeCalculationCache feeCalculationCache = new FeeCalculationCache();
+
+    /** Settings for applying one amendment to a batch of claims. */
+    private final Batch batch = new Batch();
+
     /**
      * Whether the amendments capability is enabled, resolving the raw {@link #enabled} value
      * fail-safe to off.
@@ -65,5 +285,43 @@ public class ClaimsApiProperties {
        */
       private Duration refresh = Duration.ofMinutes(30);
     }
+
+    /** Caching settings for the Fee Scheme Platform fee calculation results. */
+    @Getter
+    @Setter
+    public static class FeeCalculationCache {
+
+      /**
+       * Time-to-live of a cached fee calculation result ({@code
+       * laa.claims.api.amendments.fee-calculation-cache.ttl}). Kept short: it only needs to cover
+       * a user retrying the same amendment.
+       */
+      private Duration ttl = Duration.ofMinutes(5);
+
+      /**
+       * Maximum number of fee calculation results held in the cache ({@code
+       * laa.claims.api.amendments.fee-calculation-cache.max-size}).
+       */
+      private long maxSize = 500;
+    }
+
+    /** Settings for applying one amendment to a batch of claims. */
+    @Getter
+    @Setter
+    public static class Batch {
+
+      /**
+       * Maximum number of the batch's claims validated at the same time ({@code
+       * laa.claims.api.amendments.batch.max-concurrency}), which bounds the concurrent PDA and FSP
+       * calls a single batch can make.
+       */
+      private int maxConcurrency = 8;
+
+      /**
+       * Number of validated amendments saved in each write transaction ({@code
+       * laa.claims.api.amendments.batch.commit-group-size}).
+       */
+      private int commitGroupSize = 20;
+    }
   }
 }
@@ -12,32 +12,33 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.sns.SnsClient;
-import software.amazon.awssdk.services.sns.SnsClientBuilder;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sns.SnsAsyncClientBuilder;
 
 /**
  * Configuration class for creating and configuring an Amazon SNS client. This class is annotated
  * with @Configuration, indicating that it is a source for bean definitions. It provides a
- * Spring-managed bean for the SNS client. The client is configured for the configured AWS region.
+ * Spring-managed bean for the asynchronous SNS client, which publishes the submission events
+ * written to the outbox. The client is configured for the configured AWS region.
  */
 @Configuration
 @Profile("!test")
 public class SnsConfig {
 
   /**
-   * Configures and provides a Spring-managed {@link SnsClient} bean for interacting with Amazon
-   * SNS. The client is configured using the specified AWS region
+   * Configures and provides a Spring-managed {@link SnsAsyncClient} bean for interacting with
+   * Amazon SNS. The client is configured using the specified AWS region
    *
    * @param region the AWS region to configure the SNS client for (e.g., "us-east-1").
-   * @return a configured {@link SnsClient} instance.
+   * @return a configured {@link SnsAsyncClient} instance.
    */
   @Bean
-  public SnsClient snsClient(
+  public SnsAsyncClient snsAsyncClient(
       @Value("${aws.region}") String region,
       @Value("${aws.sns.endpoint:}") Optional<String> endpoint,
       Environment environment) {
 
-    SnsClientBuilder builder = SnsClient.builder().region(Region.of(region));
+    SnsAsyncClientBuilder builder = SnsAsyncClient.builder().region(Region.of(region));
 
     if (environment.acceptsProfiles(Profiles.of("default"))) {
       // Local dev: LocalStack endpoint + dummy creds
@@ -0,0 +1,35 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import uk.gov.justice.laa.dstew.payments.claimsdata.service.SubmissionEventOutboxDispatcher;
+
+/**
+ * Schedules the publishing of the submission event outbox, with the delay configured at {@code
+ * laa.claims.api.event-outbox.poll-interval} between the end of one poll and the start of the
+ * next.
+ *
+ * <p>Each instance of the service drains the outbox. That is safe, as an event being published is
+ * leased to the instance that claimed it until it has been deleted or rescheduled, and the other
+ * instances skip it.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ClaimsApiProperties.class)
+@RequiredArgsConstructor
+public class SubmissionEventOutboxConfig implements SchedulingConfigurer {
+
+  private final ClaimsApiProperties claimsApiProperties;
+  private final SubmissionEventOutboxDispatcher submissionEventOutboxDispatcher;
+
+  @Override
+  public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+    taskRegistrar.addFixedDelayTask(
+        submissionEventOutboxDispatcher::dispatch,
+        claimsApiProperties.getEventOutbox().getPollInterval());
+  }
+}
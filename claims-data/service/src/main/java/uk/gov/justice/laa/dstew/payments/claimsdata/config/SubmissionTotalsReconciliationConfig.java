@@ -0,0 +1,33 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import uk.gov.justice.laa.dstew.payments.claimsdata.service.SubmissionTotalsReconciliationService;
+
+/**
+ * Schedules the submission totals reconciliation on the cron expression configured at {@code
+ * laa.claims.api.submission-totals.reconciliation.cron}; {@code -} leaves it unscheduled.
+ *
+ * <p>Each instance of the service runs the job. That is safe, as a submission being recounted is
+ * locked for the duration, but the cron expression should keep the job away from busy periods.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ClaimsApiProperties.class)
+@RequiredArgsConstructor
+public class SubmissionTotalsReconciliationConfig implements SchedulingConfigurer {
+
+  private final ClaimsApiProperties claimsApiProperties;
+  private final SubmissionTotalsReconciliationService reconciliationService;
+
+  @Override
+  public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+    taskRegistrar.addCronTask(
+        reconciliationService::reconcileAll,
+        claimsApiProperties.getSubmissionTotals().getReconciliation().getCron());
+  }
+}
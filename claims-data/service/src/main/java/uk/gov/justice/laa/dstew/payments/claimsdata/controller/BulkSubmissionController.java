@@ -11,15 +11,19 @@ import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import uk.gov.justice.laa.dstew.payments.claimsdata.api.BulkSubmissionsApi;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionOutcomeResultSet;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionPatch;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.CreateBulkSubmission201Response;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.CreateBulkSubmissionAsync202Response;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.GetBulkSubmission200Response;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.GetBulkSubmissionStatusById200Response;
+import uk.gov.justice.laa.dstew.payments.claimsdata.service.BulkSubmissionIngestionService;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.BulkSubmissionService;
 import uk.gov.justice.laa.dstew.payments.claimsdata.validator.BulkSubmissionFileValidator;
 import uk.gov.laa.springboot.sqlscanner.ScanForSql;
@@ -35,6 +39,7 @@ import uk.gov.laa.springboot.sqlscanner.ScanForSql;
 public class BulkSubmissionController implements BulkSubmissionsApi {
 
   private final BulkSubmissionService bulkSubmissionService;
+  private final BulkSubmissionIngestionService bulkSubmissionIngestionService;
   private final BulkSubmissionFileValidator bulkSubmissionFileValidator;
 
   @Override
@@ -59,6 +64,24 @@ public class BulkSubmissionController implements BulkSubmissionsApi {
     return ResponseEntity.created(location).body(bulkSubmissionResponse);
   }
 
+  @Override
+  @RateLimiter(name = "bulkSubmissionRateLimiter", fallbackMethod = "genericFallback")
+  public ResponseEntity<CreateBulkSubmissionAsync202Response> createBulkSubmissionAsync(
+      String userId, MultipartFile file, List<String> offices) {
+    bulkSubmissionFileValidator.validate(file);
+
+    CreateBulkSubmissionAsync202Response bulkSubmissionResponse =
+        bulkSubmissionIngestionService.acceptBulkSubmissionFile(
+            userId, file, Optional.ofNullable(offices).orElse(Collections.emptyList()));
+    URI location =
+        ServletUriComponentsBuilder.fromCurrentContextPath()
+            .path("/api/v1/bulk-submissions/{id}/summary")
+            .buildAndExpand(bulkSubmissionResponse.getBulkSubmissionId())
+            .toUri();
+
+    return ResponseEntity.accepted().location(location).body(bulkSubmissionResponse);
+  }
+
   @Override
   @RateLimiter(name = "bulkSubmissionRateLimiter", fallbackMethod = "genericFallback")
   public ResponseEntity<GetBulkSubmission200Response> getBulkSubmission(UUID id) {
@@ -66,6 +89,13 @@ public class BulkSubmissionController implements BulkSubmissionsApi {
     return ResponseEntity.ok(response);
   }
 
+  @Override
+  @RateLimiter(name = "bulkSubmissionRateLimiter", fallbackMethod = "genericFallback")
+  public ResponseEntity<BulkSubmissionOutcomeResultSet> getBulkSubmissionOutcomes(
+      UUID id, Pageable pageable) {
+    return ResponseEntity.ok(bulkSubmissionService.getBulkSubmissionOutcomes(id, pageable));
+  }
+
   @Override
   @RateLimiter(name = "bulkSubmissionRateLimiter", fallbackMethod = "genericFallback")
   public ResponseEntity<GetBulkSubmissionStatusById200Response> getBulkSubmissionStatusById(
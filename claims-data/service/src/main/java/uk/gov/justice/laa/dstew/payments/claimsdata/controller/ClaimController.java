@@ -11,12 +11,16 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import uk.gov.justice.laa.dstew.payments.claimsdata.api.ClaimsApi;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.ClaimSearchRequest;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.AreaOfLaw;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimBatchAmendment;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimBatchAmendmentResult;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimBatchPost;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimPatch;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimPost;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimResponse;
@@ -25,6 +29,8 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimResultSet;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimResultSetV2;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.CreateClaim201Response;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.CreateClaims201Response;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.PaginationMode;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.SubmissionStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ValidationMessagePatch;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.VoidClaim201Response;
@@ -55,6 +61,15 @@ public class ClaimController implements ClaimsApi {
     return ResponseEntity.created(location).body(new CreateClaim201Response().id(claimId));
   }
 
+  @Override
+  @RateLimiter(name = "claimRateLimiter", fallbackMethod = "genericFallback")
+  public ResponseEntity<CreateClaims201Response> createClaims(
+      UUID submissionId, @ScanForSql ClaimBatchPost claimBatchPost) {
+    List<UUID> claimIds = claimService.createClaims(submissionId, claimBatchPost.getClaims());
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .body(new CreateClaims201Response().ids(claimIds));
+  }
+
   @Override
   @RateLimiter(name = "claimRateLimiter", fallbackMethod = "genericFallback")
   public ResponseEntity<ClaimResponse> getClaim(UUID submissionId, UUID claimId) {
@@ -109,30 +124,40 @@ public class ClaimController implements ClaimsApi {
       String feeCode,
       String uniqueFileNumber,
       String uniqueClientNumber,
+      String clientSurname,
       String uniqueCaseId,
       List<ClaimStatus> claimStatuses,
       String submissionPeriod,
       String caseReferenceNumber,
       Boolean escapedCaseFlag,
+      PaginationMode paginationMode,
+      String cursor,
+      Boolean includeTotal,
       Pageable pageable) {
 
+    ClaimSearchRequest request =
+        ClaimSearchRequest.builder()
+            .officeCode(officeCode)
+            .submissionId(submissionId)
+            .submissionStatuses(submissionStatuses)
+            .areaOfLaw(areaOfLaw)
+            .feeCode(feeCode)
+            .uniqueFileNumber(uniqueFileNumber)
+            .uniqueClientNumber(uniqueClientNumber)
+            .clientSurname(clientSurname)
+            .uniqueCaseId(uniqueCaseId)
+            .claimStatuses(claimStatuses)
+            .submissionPeriod(submissionPeriod)
+            .caseReferenceNumber(caseReferenceNumber)
+            .escapedCaseFlag(escapedCaseFlag)
+            .build();
+
+    if (paginationMode == PaginationMode.CURSOR || cursor != null) {
+      return ResponseEntity.ok(
+          claimService.getClaimResultSetV2AfterCursor(request, pageable, cursor));
+    }
     return ResponseEntity.ok(
-        claimService.getClaimResultSetV2(
-            ClaimSearchRequest.builder()
-                .officeCode(officeCode)
-                .submissionId(submissionId)
-                .submissionStatuses(submissionStatuses)
-                .areaOfLaw(areaOfLaw)
-                .feeCode(feeCode)
-                .uniqueFileNumber(uniqueFileNumber)
-                .uniqueClientNumber(uniqueClientNumber)
-                .uniqueCaseId(uniqueCaseId)
-                .claimStatuses(claimStatuses)
-                .submissionPeriod(submissionPeriod)
-                .caseReferenceNumber(caseReferenceNumber)
-                .escapedCaseFlag(escapedCaseFlag)
-                .build(),
-            pageable));
+        claimService.getClaimResultSetV2(request, pageable, !Boolean.FALSE.equals(includeTotal)));
   }
 
   @Override
@@ -145,6 +170,15 @@ public class ClaimController implements ClaimsApi {
     return ResponseEntity.noContent().build();
   }
 
+  @Override
+  @RateLimiter(name = "claimRateLimiter", fallbackMethod = "genericFallback")
+  public ResponseEntity<ClaimBatchAmendmentResult> amendClaims(
+      UUID submissionId,
+      @ScanForSql(ignoreClasses = ValidationMessagePatch.class)
+          ClaimBatchAmendment claimBatchAmendment) {
+    return ResponseEntity.ok(claimService.amendClaims(submissionId, claimBatchAmendment));
+  }
+
   @Override
   @RateLimiter(name = "claimRateLimiter", fallbackMethod = "genericFallback")
   public ResponseEntity<VoidClaim201Response> voidClaim(UUID claimId, VoidClaimRequest request) {
@@ -17,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.justice.laa.dstew.payments.claimsdata.api.ClaimHistoryApi;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.ClaimHistoryPage;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimHistoryEvent;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimHistoryEventType;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimHistoryResultSet;
@@ -36,16 +37,18 @@ public class ClaimHistoryController implements ClaimHistoryApi {
 
   @Override
   @RateLimiter(name = "claimRateLimiter", fallbackMethod = "genericFallback")
-  public ResponseEntity<ClaimHistoryResultSet> getClaimHistory(UUID claimId, Integer limit) {
-    List<ClaimHistoryEventRow> rows =
-        limit == null
-            ? claimHistoryService.getTimeline(claimId)
-            : claimHistoryService.getTimeline(claimId, limit);
+  public ResponseEntity<ClaimHistoryResultSet> getClaimHistory(
+      UUID claimId, Integer limit, String cursor) {
+    ClaimHistoryPage page = claimHistoryService.getTimelinePage(claimId, limit, cursor);
 
-    List<ClaimHistoryEvent> events = rows.stream().map(this::toModel).toList();
+    List<ClaimHistoryEvent> events = page.events().stream().map(this::toModel).toList();
 
     ClaimHistoryResultSet result =
-        ClaimHistoryResultSet.builder().claimId(claimId).events(events).build();
+        ClaimHistoryResultSet.builder()
+            .claimId(claimId)
+            .events(events)
+            .nextCursor(page.nextCursor())
+            .build();
 
     return ResponseEntity.ok(result);
   }
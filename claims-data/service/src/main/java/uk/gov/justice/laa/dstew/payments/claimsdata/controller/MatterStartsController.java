@@ -5,14 +5,18 @@ import static uk.gov.justice.laa.dstew.payments.claimsdata.util.RateLimitUtils.g
 import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import java.net.URI;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import uk.gov.justice.laa.dstew.payments.claimsdata.api.MatterStartsApi;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.CreateMatterStart201Response;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.CreateMatterStarts201Response;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.MatterStartBatchPost;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.MatterStartGet;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.MatterStartPost;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.MatterStartResultSet;
@@ -41,6 +45,16 @@ public class MatterStartsController implements MatterStartsApi {
         .body(new CreateMatterStart201Response().id(matterStartId));
   }
 
+  @Override
+  @RateLimiter(name = "matterStartRateLimiter", fallbackMethod = "genericFallback")
+  public ResponseEntity<CreateMatterStarts201Response> createMatterStarts(
+      UUID id, @ScanForSql MatterStartBatchPost matterStartBatchPost) {
+    List<UUID> matterStartIds =
+        matterStartService.createMatterStarts(id, matterStartBatchPost.getMatterStarts());
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .body(new CreateMatterStarts201Response().ids(matterStartIds));
+  }
+
   @Override
   @RateLimiter(name = "matterStartRateLimiter", fallbackMethod = "genericFallback")
   public ResponseEntity<MatterStartGet> getMatterStart(UUID submissionId, UUID matterStartId) {
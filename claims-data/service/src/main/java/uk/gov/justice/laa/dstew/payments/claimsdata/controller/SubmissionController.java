@@ -70,6 +70,7 @@ public class SubmissionController implements SubmissionsApi {
       AreaOfLaw areaOfLaw,
       String submissionPeriod,
       List<SubmissionStatus> submissionStatuses,
+      Boolean includeTotal,
       Pageable pageable) {
     return ResponseEntity.ok(
         submissionService.getSubmissionsResultSet(
@@ -80,7 +81,8 @@ public class SubmissionController implements SubmissionsApi {
             areaOfLaw,
             submissionPeriod,
             submissionStatuses,
-            pageable));
+            pageable,
+            !Boolean.FALSE.equals(includeTotal)));
   }
 
   private ResponseEntity<String> genericFallback(RequestNotPermitted e) {
@@ -13,6 +13,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -47,12 +48,35 @@ public class BulkSubmissionCsvConverter implements BulkSubmissionConverter {
    */
   @Override
   public CsvSubmission convert(MultipartFile file) {
-    CsvOffice csvOffice = null;
-    CsvSchedule csvSchedule = null;
-    List<CsvOutcome> csvOutcomes = new ArrayList<>();
-    List<CsvMatterStarts> csvMatterStarts = new ArrayList<>();
-    List<Map<String, String>> csvImmigrationClr = new ArrayList<>();
+    CollectingRowHandler handler = new CollectingRowHandler();
+    readRows(file, handler::accept);
+    return handler.toSubmission();
+  }
 
+  /**
+   * Parses the given file row by row, handing body rows to the {@code sink} in chunks of at most
+   * {@code chunkSize} instead of accumulating the whole file in memory.
+   *
+   * <p>The OFFICE and SCHEDULE rows must precede every body row; they are delivered to {@link
+   * CsvSubmissionSink#onHeader} before the first chunk. A body row seen before both header rows
+   * fails the conversion with the same error as a file that is missing them altogether. Rows are
+   * validated exactly as in {@link #convert(MultipartFile)}, so a file that fails part way through
+   * may already have delivered earlier chunks to the sink.
+   *
+   * @param file the input file
+   * @param chunkSize the maximum number of rows buffered per chunk; must be positive
+   * @param sink the receiver of the parsed rows
+   */
+  public void convert(MultipartFile file, int chunkSize, CsvSubmissionSink sink) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+    }
+    StreamingRowHandler handler = new StreamingRowHandler(chunkSize, sink);
+    readRows(file, handler::accept);
+    handler.complete();
+  }
+
+  private void readRows(MultipartFile file, Consumer<CsvBulkSubmissionRow> rowHandler) {
     try (InputStream fileReader = file.getInputStream()) {
       MappingIterator<List<String>> rowIterator =
           csvMapper
@@ -61,7 +85,6 @@ public class BulkSubmissionCsvConverter implements BulkSubmissionConverter {
               .readValues(fileReader);
 
       while (rowIterator.hasNextValue()) {
-        CsvBulkSubmissionRow csvBulkSubmissionRow;
         List<String> row = rowIterator.nextValue();
         String rawHeader = BulkSubmissionTextSanitiser.sanitise(row.getFirst()).trim();
         Map<String, String> values = getValues(row, rawHeader);
@@ -74,34 +97,7 @@ public class BulkSubmissionCsvConverter implements BulkSubmissionConverter {
             continue;
           }
         }
-        CsvHeader header = getHeader(rawHeader);
-        csvBulkSubmissionRow = new CsvBulkSubmissionRow(header, values);
-
-        switch (csvBulkSubmissionRow.header()) {
-          case CsvHeader.OFFICE -> {
-            if (csvOffice != null) {
-              throw new BulkSubmissionFileReadException(
-                  MAP_PROPERTY_TO_ERROR_MESSAGE.get("office"));
-            }
-            csvOffice = objectMapper.convertValue(csvBulkSubmissionRow.values(), CsvOffice.class);
-          }
-          case CsvHeader.SCHEDULE -> {
-            if (csvSchedule != null) {
-              throw new BulkSubmissionFileReadException(
-                  MAP_PROPERTY_TO_ERROR_MESSAGE.get("schedule"));
-            }
-            csvSchedule =
-                objectMapper.convertValue(csvBulkSubmissionRow.values(), CsvSchedule.class);
-          }
-          case CsvHeader.OUTCOME ->
-              csvOutcomes.add(
-                  objectMapper.convertValue(csvBulkSubmissionRow.values(), CsvOutcome.class));
-          case CsvHeader.MATTERSTARTS ->
-              csvMatterStarts.addAll(toMatterStartRows(csvBulkSubmissionRow.values()));
-          case CsvHeader.IMMIGRATIONCLR -> csvImmigrationClr.add(Map.copyOf(values));
-
-          default -> log.debug("Unsupported header '{}'", csvBulkSubmissionRow.header());
-        }
+        rowHandler.accept(new CsvBulkSubmissionRow(getHeader(rawHeader), values));
       }
     } catch (IllegalArgumentException e) {
       throw new BulkSubmissionFileReadException(
@@ -109,7 +105,23 @@ public class BulkSubmissionCsvConverter implements BulkSubmissionConverter {
     } catch (IOException e) {
       throw new BulkSubmissionFileReadException("Failed to read bulk submission file", e);
     }
+  }
+
+  private CsvOffice toOffice(CsvOffice existing, CsvBulkSubmissionRow row) {
+    if (existing != null) {
+      throw new BulkSubmissionFileReadException(MAP_PROPERTY_TO_ERROR_MESSAGE.get("office"));
+    }
+    return objectMapper.convertValue(row.values(), CsvOffice.class);
+  }
+
+  private CsvSchedule toSchedule(CsvSchedule existing, CsvBulkSubmissionRow row) {
+    if (existing != null) {
+      throw new BulkSubmissionFileReadException(MAP_PROPERTY_TO_ERROR_MESSAGE.get("schedule"));
+    }
+    return objectMapper.convertValue(row.values(), CsvSchedule.class);
+  }
 
+  private static void requireHeaderRows(CsvOffice csvOffice, CsvSchedule csvSchedule) {
     if (csvOffice == null) {
       throw new BulkSubmissionFileReadException("Enter the office account row in the file");
     }
@@ -117,10 +129,6 @@ public class BulkSubmissionCsvConverter implements BulkSubmissionConverter {
     if (csvSchedule == null) {
       throw new BulkSubmissionFileReadException("Enter the schedule row in the file");
     }
-
-    // parent submission object
-    return new CsvSubmission(
-        csvOffice, csvSchedule, csvOutcomes, csvMatterStarts, csvImmigrationClr);
   }
 
   private static String extractReadableMessage(Exception e) {
@@ -237,4 +245,126 @@ public class BulkSubmissionCsvConverter implements BulkSubmissionConverter {
         .filter(type -> type.name().startsWith(value + "_"))
         .findFirst();
   }
+
+  /** Accumulates every row of the file into a single {@link CsvSubmission}. */
+  private final class CollectingRowHandler {
+    private final List<CsvOutcome> outcomes = new ArrayList<>();
+    private final List<CsvMatterStarts> matterStarts = new ArrayList<>();
+    private final List<Map<String, String>> immigrationClr = new ArrayList<>();
+    private CsvOffice csvOffice;
+    private CsvSchedule csvSchedule;
+
+    private void accept(CsvBulkSubmissionRow row) {
+      switch (row.header()) {
+        case CsvHeader.OFFICE -> csvOffice = toOffice(csvOffice, row);
+        case CsvHeader.SCHEDULE -> csvSchedule = toSchedule(csvSchedule, row);
+        case CsvHeader.OUTCOME ->
+            outcomes.add(objectMapper.convertValue(row.values(), CsvOutcome.class));
+        case CsvHeader.MATTERSTARTS -> matterStarts.addAll(toMatterStartRows(row.values()));
+        case CsvHeader.IMMIGRATIONCLR -> immigrationClr.add(Map.copyOf(row.values()));
+
+        default -> log.debug("Unsupported header '{}'", row.header());
+      }
+    }
+
+    private CsvSubmission toSubmission() {
+      requireHeaderRows(csvOffice, csvSchedule);
+
+      // parent submission object
+      return new CsvSubmission(csvOffice, csvSchedule, outcomes, matterStarts, immigrationClr);
+    }
+  }
+
+  /** Buffers body rows into bounded chunks and hands them to a {@link CsvSubmissionSink}. */
+  private final class StreamingRowHandler {
+    private final int chunkSize;
+    private final CsvSubmissionSink sink;
+    private CsvOffice csvOffice;
+    private CsvSchedule csvSchedule;
+    private boolean headerEmitted;
+    private List<CsvOutcome> outcomes;
+    private List<CsvMatterStarts> matterStarts;
+    private List<Map<String, String>> immigrationClr;
+
+    private StreamingRowHandler(int chunkSize, CsvSubmissionSink sink) {
+      this.chunkSize = chunkSize;
+      this.sink = sink;
+      this.outcomes = new ArrayList<>(chunkSize);
+      this.matterStarts = new ArrayList<>(chunkSize);
+      this.immigrationClr = new ArrayList<>(chunkSize);
+    }
+
+    private void accept(CsvBulkSubmissionRow row) {
+      switch (row.header()) {
+        case CsvHeader.OFFICE -> csvOffice = toOffice(csvOffice, row);
+        case CsvHeader.SCHEDULE -> csvSchedule = toSchedule(csvSchedule, row);
+        case CsvHeader.OUTCOME -> {
+          emitHeader();
+          outcomes.add(objectMapper.convertValue(row.values(), CsvOutcome.class));
+          if (outcomes.size() >= chunkSize) {
+            flushOutcomes();
+          }
+        }
+        case CsvHeader.MATTERSTARTS -> {
+          emitHeader();
+          // One row can expand into several matter starts, so each is counted towards the chunk.
+          for (CsvMatterStarts matterStart : toMatterStartRows(row.values())) {
+            matterStarts.add(matterStart);
+            if (matterStarts.size() >= chunkSize) {
+              flushMatterStarts();
+            }
+          }
+        }
+        case CsvHeader.IMMIGRATIONCLR -> {
+          emitHeader();
+          immigrationClr.add(Map.copyOf(row.values()));
+          if (immigrationClr.size() >= chunkSize) {
+            flushImmigrationClr();
+          }
+        }
+
+        default -> log.debug("Unsupported header '{}'", row.header());
+      }
+    }
+
+    private void complete() {
+      emitHeader();
+      flushOutcomes();
+      flushMatterStarts();
+      flushImmigrationClr();
+      sink.onComplete();
+    }
+
+    private void emitHeader() {
+      if (!headerEmitted) {
+        requireHeaderRows(csvOffice, csvSchedule);
+        sink.onHeader(csvOffice, csvSchedule);
+        headerEmitted = true;
+      }
+    }
+
+    private void flushOutcomes() {
+      if (!outcomes.isEmpty()) {
+        List<CsvOutcome> chunk = outcomes;
+        outcomes = new ArrayList<>(chunkSize);
+        sink.onOutcomes(chunk);
+      }
+    }
+
+    private void flushMatterStarts() {
+      if (!matterStarts.isEmpty()) {
+        List<CsvMatterStarts> chunk = matterStarts;
+        matterStarts = new ArrayList<>(chunkSize);
+        sink.onMatterStarts(chunk);
+      }
+    }
+
+    private void flushImmigrationClr() {
+      if (!immigrationClr.isEmpty()) {
+        List<Map<String, String>> chunk = immigrationClr;
+        immigrationClr = new ArrayList<>(chunkSize);
+        sink.onImmigrationClr(chunk);
+      }
+    }
+  }
 }
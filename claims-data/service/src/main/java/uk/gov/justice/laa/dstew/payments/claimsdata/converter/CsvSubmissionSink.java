@@ -0,0 +1,53 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.converter;
+
+import java.util.List;
+import java.util.Map;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvMatterStarts;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvOffice;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvOutcome;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvSchedule;
+
+/**
+ * Receiver for the rows of a TXT/CSV bulk submission file emitted by {@link
+ * BulkSubmissionCsvConverter#convert(org.springframework.web.multipart.MultipartFile, int,
+ * CsvSubmissionSink)} as the file is parsed.
+ *
+ * <p>{@link #onHeader(CsvOffice, CsvSchedule)} is always called exactly once, before any body rows
+ * are delivered. Body rows are then delivered in file order in chunks no larger than the requested
+ * chunk size. Each chunk list is owned by the sink and is not reused by the converter.
+ */
+public interface CsvSubmissionSink {
+
+  /**
+   * Receives the OFFICE and SCHEDULE rows of the file.
+   *
+   * @param office the office submitting the file
+   * @param schedule the schedule the file is submitted against
+   */
+  void onHeader(CsvOffice office, CsvSchedule schedule);
+
+  /**
+   * Receives the next chunk of OUTCOME rows.
+   *
+   * @param outcomes the parsed outcomes, in file order
+   */
+  void onOutcomes(List<CsvOutcome> outcomes);
+
+  /**
+   * Receives the next chunk of matter starts. A single MATTERSTARTS row expands into one matter
+   * start per category code or mediation type.
+   *
+   * @param matterStarts the parsed matter starts, in file order
+   */
+  void onMatterStarts(List<CsvMatterStarts> matterStarts);
+
+  /**
+   * Receives the next chunk of IMMIGRATIONCLR rows captured as key/value pairs.
+   *
+   * @param immigrationClr the immigration CLR rows, in file order
+   */
+  void onImmigrationClr(List<Map<String, String>> immigrationClr);
+
+  /** Called once after the final chunk has been delivered. */
+  default void onComplete() {}
+}
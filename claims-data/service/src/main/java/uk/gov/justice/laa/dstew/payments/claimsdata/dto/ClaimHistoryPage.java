@@ -0,0 +1,12 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.dto;
+
+import java.util.List;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.projection.ClaimHistoryEventRow;
+
+/**
+ * A page of a claim's history timeline.
+ *
+ * @param events the events of the page, newest first
+ * @param nextCursor the cursor for the next, older page, or {@code null} if this is the last page
+ */
+public record ClaimHistoryPage(List<ClaimHistoryEventRow> events, String nextCursor) {}
@@ -24,6 +24,7 @@ public class ClaimSearchRequest {
   private String feeCode;
   private String uniqueFileNumber;
   private String uniqueClientNumber;
+  private String clientSurname;
   private String uniqueCaseId;
   private List<ClaimStatus> claimStatuses;
   private String submissionPeriod;
@@ -0,0 +1,43 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Memoises the changed fields of each diff section of a {@link ClaimAmendmentState}, so the
+ * validation steps and persistence share one comparison per section instead of each repeating it.
+ *
+ * <p>Each entry is versioned by the before and after objects it was compared from. The snapshots
+ * are immutable, so an entry stays valid until the state is given a different one - a new
+ * post-amendment state, or the fee snapshots set by the FSP step - and only the section whose
+ * inputs changed is compared again; the others are reused as they are. Access is synchronised, as
+ * the PDA and FSP steps read the diff concurrently.
+ */
+public final class AmendmentDiffCache {
+
+  private record Entry(Object before, Object after, List<DiffEntry> changes) {}
+
+  private final Map<ChangeSource, Entry> sections = new EnumMap<>(ChangeSource.class);
+
+  /**
+   * Returns the changed fields of a section, comparing them only if the section has not yet been
+   * compared for these before and after objects.
+   *
+   * @param section the change source of the diff section
+   * @param before the section's before object
+   * @param after the section's after object
+   * @param compare compares the before and after objects
+   * @return the section's changed fields; unmodifiable
+   */
+  public synchronized List<DiffEntry> changes(
+      ChangeSource section, Object before, Object after, Supplier<List<DiffEntry>> compare) {
+    Entry entry = sections.get(section);
+    if (entry == null || entry.before() != before || entry.after() != after) {
+      entry = new Entry(before, after, List.copyOf(compare.get()));
+      sections.put(section, entry);
+    }
+    return entry.changes();
+  }
+}
@@ -0,0 +1,11 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one claim of a batch amendment.
+ *
+ * @param claimId the claim the amendment was applied to
+ * @param result the claim's outcome, as it would have been had the claim been amended on its own
+ */
+public record ClaimAmendmentBatchResult(UUID claimId, ClaimAmendmentResult result) {}
@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.List;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import uk.gov.justice.laa.fee.scheme.model.FeeCalculationResponse;
 
 /**
@@ -27,6 +29,9 @@ import uk.gov.justice.laa.fee.scheme.model.FeeCalculationResponse;
  * <p>It also carries the running {@link #errors} collected as the validation steps run, so the
  * accumulating result travels with the state rather than being threaded separately through the
  * orchestrator.
+ *
+ * <p>The changed fields derived from the snapshots are memoised in its {@link #diffCache}, so each
+ * diff section is compared once per amendment however many steps read the diff.
  */
 @Data
 @Builder
@@ -57,6 +62,13 @@ public class ClaimAmendmentState {
   /** The validation errors collected so far as the amendment validation steps run. */
   @Builder.Default private final List<ClaimAmendmentValidationError> errors = new ArrayList<>();
 
+  /**
+   * The changed fields of each diff section, as last compared. An entry is replaced when its
+   * section's snapshots are.
+   */
+  @Builder.Default @EqualsAndHashCode.Exclude @ToString.Exclude
+  private final AmendmentDiffCache diffCache = new AmendmentDiffCache();
+
   /**
    * Adds the errors a validation step found to the running collection.
    *
@@ -43,6 +43,13 @@ public enum ClaimAmendmentValidationCode {
       "No changes were submitted; there is nothing to amend.",
       "Amendment payload produced no provider-requested field changes (no-op); nothing to persist"),
 
+  /** A claim listed in a batch amendment does not exist in the submission. */
+  INVALID_CLAIM_NOT_FOUND(
+      ValidationSeverity.FATAL,
+      HttpStatus.NOT_FOUND,
+      "Claim %s was not found in this submission.",
+      null),
+
   /** The claim has a null version number so cannot be amended. */
   INVALID_NULL_VERSION(
       ValidationSeverity.FATAL, HttpStatus.BAD_REQUEST, "Claim Version is null", null),
@@ -58,6 +65,27 @@ public enum ClaimAmendmentValidationCode {
       "The claim has changed since it was loaded. Review the latest claim details and try again.",
       null),
 
+  /**
+   * A batch amendment could not be saved for a reason other than a version conflict. The claim's
+   * group of amendments was rolled back, and the other groups of the batch are unaffected.
+   */
+  CLAIM_AMENDMENT_COMMIT_FAILED(
+      ValidationSeverity.FATAL,
+      HttpStatus.INTERNAL_SERVER_ERROR,
+      "The amendment could not be saved. Try again later.",
+      null),
+
+  /**
+   * A batch amendment could not be validated because a validation step failed unexpectedly, for
+   * example because a downstream service refused the call. The other claims of the batch are
+   * unaffected.
+   */
+  CLAIM_AMENDMENT_VALIDATION_FAILED(
+      ValidationSeverity.FATAL,
+      HttpStatus.SERVICE_UNAVAILABLE,
+      "A technical error occurred, please try again after some time",
+      "A validation step of a batch amendment threw instead of returning its errors"),
+
   /** The claim is voided and therefore cannot be amended. */
   INVALID_VOIDED_CLAIM_NOT_AMENDABLE(
       ValidationSeverity.FATAL, HttpStatus.BAD_REQUEST, "A voided claim cannot be amended.", null),
@@ -230,7 +258,23 @@ public enum ClaimAmendmentValidationCode {
       ValidationSeverity.FATAL,
       HttpStatus.SERVICE_UNAVAILABLE,
       "A technical error occurred while recalculating the fee. Please try again later.",
-      "Failed to communicate with the Fee Scheme Platform API due to a network timeout, connection drop, or server-side failure");
+      "Failed to communicate with the Fee Scheme Platform API due to a network timeout, connection drop, or server-side failure"),
+
+  /** The Fee Scheme Platform call was refused because its circuit breaker is open. */
+  TECHNICAL_ERROR_FSP_UNAVAILABLE(
+      ValidationSeverity.FATAL,
+      HttpStatus.SERVICE_UNAVAILABLE,
+      "The fee calculation service is temporarily unavailable. Please try again later.",
+      "Fee Scheme Platform API call refused without being made: circuit breaker open or bulkhead full"),
+
+  // ----- Provider Data API (PDA) Integration -----
+
+  /** The Provider Data API is failing, slow, or its circuit breaker is open. */
+  TECHNICAL_ERROR_PDA_UNAVAILABLE(
+      ValidationSeverity.FATAL,
+      HttpStatus.SERVICE_UNAVAILABLE,
+      "The provider details service is temporarily unavailable. Please try again later.",
+      "Provider Data API validation refused or timed out: circuit breaker open, bulkhead full, or time limit exceeded");
 
   /** The severity of this error, which determines whether it is fatal. */
   private final ValidationSeverity severity;
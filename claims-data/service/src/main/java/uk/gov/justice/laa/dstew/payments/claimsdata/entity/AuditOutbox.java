@@ -0,0 +1,63 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A save waiting in the outbox to be audited in {@code DURABLE} audit mode, with the state of the
+ * entity as it was saved. The row is deleted once the audit has been written, or dead-lettered once
+ * it has failed to be written too many times.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "audit_outbox")
+public class AuditOutbox {
+
+  @Id private UUID id;
+
+  /** The fully qualified class name of the saved entity. */
+  @NotNull
+  @Column(name = "entity_type", nullable = false)
+  private String entityType;
+
+  @NotNull
+  @Column(name = "entity_id", nullable = false)
+  private String entityId;
+
+  @NotNull
+  @Column(nullable = false)
+  private String author;
+
+  /** The saved state of the entity, as written by the audit state mapper. */
+  @NotNull
+  @Column(nullable = false)
+  private String state;
+
+  @NotNull
+  @Column(name = "created_on", nullable = false, updatable = false)
+  private Instant createdOn;
+
+  @Column(nullable = false)
+  private int attempts;
+
+  @Column(name = "last_error")
+  private String lastError;
+
+  /** When the audit was given up on; {@code null} while it is still being retried. */
+  @Column(name = "dead_lettered_on")
+  private Instant deadLetteredOn;
+}
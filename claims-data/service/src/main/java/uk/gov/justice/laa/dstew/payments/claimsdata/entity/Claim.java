@@ -28,7 +28,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.javers.core.metamodel.annotation.DiffIgnore;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimStatus;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.DerivedClaimStatus;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.DerivedClaimStatusResolver;
 
 /** Entity representing a claim linked to a submission. */
 @Getter
@@ -60,6 +63,16 @@ public class Claim {
   @OrderBy("createdOn DESC, id DESC") // Matches the DB index for latest selection
   private List<CalculatedFeeDetail> calculatedFeeDetails = new ArrayList<>();
 
+  /**
+   * The latest of {@link #calculatedFeeDetails}, kept up to date by a database trigger so that
+   * queries can join to it directly. Read-only here, and left out of the audit, where it would be
+   * stale after a save.
+   */
+  @DiffIgnore
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "latest_calculated_fee_detail_id", insertable = false, updatable = false)
+  private CalculatedFeeDetail latestCalculatedFeeDetail;
+
   @NotNull
   @Column(nullable = false)
   @Enumerated(EnumType.STRING)
@@ -147,6 +160,27 @@ public class Claim {
 
   private boolean hasAssessment;
 
+  /**
+   * Derived business status, computed by the database from {@link #status}, {@link
+   * #hasAssessment} and {@link #isAmended} with the precedence of {@link
+   * DerivedClaimStatusResolver}. Stored as the enum ordinal so that it sorts in business order;
+   * read-only here, and only refreshed when the claim is reloaded. Left out of the audit, where it
+   * would be stale after a save; the audited fields it is derived from record the change.
+   */
+  @DiffIgnore
+  @Enumerated(EnumType.ORDINAL)
+  @Column(insertable = false, updatable = false)
+  private DerivedClaimStatus derivedStatus;
+
+  /**
+   * Number of WARNING validation messages logged against the claim, maintained by the database as
+   * messages are written. Read-only here, and only refreshed when the claim is reloaded, so it is
+   * left out of the audit.
+   */
+  @DiffIgnore
+  @Column(insertable = false, updatable = false)
+  private int warningCount;
+
   @Version
   @Column(nullable = false)
   private Long version;
@@ -0,0 +1,60 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import uk.gov.justice.laa.dstew.payments.claimsevent.model.SubmissionEventType;
+
+/**
+ * A submission event waiting in the outbox to be published to the SNS topic. The row is deleted
+ * once the event has been published, or dead-lettered once it has failed to publish too many times.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "submission_event_outbox")
+public class SubmissionEventOutbox {
+
+  @Id private UUID id;
+
+  @NotNull
+  @Column(name = "event_type", nullable = false, length = 50)
+  @Enumerated(EnumType.STRING)
+  private SubmissionEventType eventType;
+
+  @NotNull
+  @Column(name = "message_body", nullable = false)
+  private String messageBody;
+
+  @NotNull
+  @Column(name = "created_on", nullable = false, updatable = false)
+  private Instant createdOn;
+
+  @Column(nullable = false)
+  private int attempts;
+
+  @NotNull
+  @Column(name = "next_attempt_on", nullable = false)
+  private Instant nextAttemptOn;
+
+  @Column(name = "last_error")
+  private String lastError;
+
+  /** When the event was given up on; {@code null} while it is still being retried. */
+  @Column(name = "dead_lettered_on")
+  private Instant deadLetteredOn;
+}
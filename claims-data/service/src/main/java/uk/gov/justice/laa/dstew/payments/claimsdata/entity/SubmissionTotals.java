@@ -0,0 +1,55 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Aggregates of a submission's claims, kept up to date by database triggers as claims, calculated
+ * fees, assessments and validation messages are written. Read-only here.
+ *
+ * <p>The calculated and assessed totals sum the latest calculated fee and latest assessment of
+ * each claim, and are {@code null} while no claim contributes to them.
+ */
+@Getter
+@Entity
+@Immutable
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "submission_totals", schema = "claims")
+public class SubmissionTotals {
+
+  @Id
+  @Column(name = "submission_id", nullable = false)
+  private UUID submissionId;
+
+  private int readyToProcessClaimCount;
+
+  private int validClaimCount;
+
+  private int invalidClaimCount;
+
+  private int voidClaimCount;
+
+  private BigDecimal calculatedTotalAmount;
+
+  private int calculatedClaimCount;
+
+  private BigDecimal assessedTotalAmount;
+
+  private int assessedClaimCount;
+
+  private int warningCount;
+
+  private Instant updatedOn;
+}
@@ -0,0 +1,24 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception raised when an upload cannot be accepted for asynchronous ingestion because every
+ * ingestion worker is busy and the backlog of spooled uploads is full.
+ *
+ * <p>Extending {@link ClaimsDataException} allows the framework to use the supplied {@link
+ * org.springframework.http.HttpStatus#SERVICE_UNAVAILABLE} to construct a 503 response
+ * automatically, signalling that the client may retry later.
+ */
+public class BulkSubmissionIngestionRejectedException extends ClaimsDataException {
+
+  /**
+   * Construct a new exception with the specified detail message and cause.
+   *
+   * @param message the detail message
+   * @param cause the cause of the exception
+   */
+  public BulkSubmissionIngestionRejectedException(String message, Throwable cause) {
+    super(message, HttpStatus.SERVICE_UNAVAILABLE, cause);
+  }
+}
@@ -0,0 +1,26 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a call to an external dependency does not complete within its time
+ * limit.
+ *
+ * <p>It extends {@link ClaimsDataException} and will automatically result in a {@link
+ * org.springframework.http.HttpStatus#GATEWAY_TIMEOUT 504} response being returned to the client.
+ */
+public class ExternalDependencyTimeoutException extends ClaimsDataException {
+
+  /**
+   * Construct a new exception for the given dependency.
+   *
+   * @param dependency the name of the external dependency
+   * @param cause the cause of the exception
+   */
+  public ExternalDependencyTimeoutException(String dependency, Throwable cause) {
+    super(
+        String.format("External dependency %s did not respond in time", dependency),
+        HttpStatus.GATEWAY_TIMEOUT,
+        cause);
+  }
+}
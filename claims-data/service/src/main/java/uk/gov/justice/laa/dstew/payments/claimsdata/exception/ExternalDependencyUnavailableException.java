@@ -0,0 +1,27 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a call to an external dependency is refused without being made, because
+ * its circuit breaker is open or its bulkhead is full.
+ *
+ * <p>It extends {@link ClaimsDataException} and will automatically result in a {@link
+ * org.springframework.http.HttpStatus#SERVICE_UNAVAILABLE 503} response being returned to the
+ * client.
+ */
+public class ExternalDependencyUnavailableException extends ClaimsDataException {
+
+  /**
+   * Construct a new exception for the given dependency.
+   *
+   * @param dependency the name of the external dependency
+   * @param cause the cause of the exception
+   */
+  public ExternalDependencyUnavailableException(String dependency, Throwable cause) {
+    super(
+        String.format("External dependency %s is currently unavailable", dependency),
+        HttpStatus.SERVICE_UNAVAILABLE,
+        cause);
+  }
+}
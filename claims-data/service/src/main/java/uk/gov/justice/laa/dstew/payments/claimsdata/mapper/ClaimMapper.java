@@ -54,6 +54,7 @@ public interface ClaimMapper {
   @Mapping(target = "isAmended", source = "amended")
   @Mapping(target = "submissionId", source = "submission.id")
   @Mapping(target = "submissionPeriod", source = "submission.submissionPeriod")
+  @Mapping(target = "totalWarnings", source = "warningCount")
   ClaimResponse toClaimResponse(Claim entity);
 
   @Mapping(target = "isDutySolicitor", source = "dutySolicitor")
@@ -66,6 +67,7 @@ public interface ClaimMapper {
   @Mapping(target = "officeCode", source = "submission.officeAccountNumber")
   @Mapping(target = "id", source = "id")
   @Mapping(target = "createdByUserId", source = "createdByUserId")
+  @Mapping(target = "totalWarnings", source = "warningCount")
   // Derived business status - single source of truth is DerivedClaimStatusResolver. This does not
   // replace the raw "status" field, which is mapped automatically and left unchanged.
   @Mapping(
@@ -190,13 +192,6 @@ public interface ClaimMapper {
   @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
   void updateClaimResponseFromClaimCase(ClaimCase entity, @MappingTarget ClaimResponse claim);
 
-  @Mapping(target = "totalWarnings", source = "totalWarningMessages")
-  void updateTotalWarningMessages(Long totalWarningMessages, @MappingTarget ClaimResponse claim);
-
-  @Mapping(target = "totalWarnings", source = "totalWarningMessages")
-  void updateTotalWarningMessagesV2(
-      Long totalWarningMessages, @MappingTarget ClaimResponseV2 claim);
-
   /**
    * Map a {@link CalculatedFeeDetail} entity to {@link
    * uk.gov.justice.laa.dstew.payments.claimsdata.model.FeeCalculationPatch}.
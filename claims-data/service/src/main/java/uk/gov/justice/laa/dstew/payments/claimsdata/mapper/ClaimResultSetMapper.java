@@ -1,8 +1,12 @@
 package uk.gov.justice.laa.dstew.payments.claimsdata.mapper;
 
+import java.util.List;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Claim;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimResponseV2;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimResultSet;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimResultSetV2;
 
@@ -17,5 +21,19 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimResultSetV2;
 public interface ClaimResultSetMapper {
   ClaimResultSet toClaimResultSet(Page<Claim> claims);
 
+  @Mapping(target = "hasNext", expression = "java(claims.hasNext())")
   ClaimResultSetV2 toClaimResultSetV2(Page<Claim> claims);
+
+  /**
+   * Maps a page of claims read without a count query, so the totals are left unset.
+   *
+   * @param claims the page of claims
+   * @return the result set, without {@code totalElements} and {@code totalPages}
+   */
+  @Mapping(target = "hasNext", expression = "java(claims.hasNext())")
+  @Mapping(target = "totalElements", ignore = true)
+  @Mapping(target = "totalPages", ignore = true)
+  ClaimResultSetV2 toClaimResultSetV2(Slice<Claim> claims);
+
+  List<ClaimResponseV2> toClaimResponsesV2(List<Claim> claims);
 }
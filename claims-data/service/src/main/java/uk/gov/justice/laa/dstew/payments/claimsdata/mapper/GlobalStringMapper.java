@@ -2,12 +2,10 @@ package uk.gov.justice.laa.dstew.payments.claimsdata.mapper;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
 import org.mapstruct.Mapper;
 import org.springframework.util.StringUtils;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ClaimBadRequestException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.LocalDateUtils;
 
 /**
  * Global type conversion mapper for use with MapStruct. This mapper provides safe conversions from
@@ -17,9 +15,6 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ClaimBadRequestExc
 @Mapper(componentModel = "spring")
 public interface GlobalStringMapper {
 
-  DateTimeFormatter FORMATTER =
-      DateTimeFormatter.ofPattern("d/M/uuuu").withResolverStyle(ResolverStyle.STRICT);
-
   /**
    * Normalises {@link String} values by converting {@code null} or blank ("") strings to {@code
    * null}.
@@ -81,11 +76,11 @@ public interface GlobalStringMapper {
       return null;
     }
 
-    try {
-      return LocalDate.parse(value, FORMATTER);
-    } catch (DateTimeParseException ex) {
+    LocalDate date = LocalDateUtils.parseDayMonthYear(value);
+    if (date == null) {
       throw new ClaimBadRequestException(
           String.format("Invalid date value '%s'. Expected format: d/M/yyyy", value));
     }
+    return date;
   }
 }
@@ -1,7 +1,9 @@
 package uk.gov.justice.laa.dstew.payments.claimsdata.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Submission;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.SubmissionBase;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.SubmissionsResultSet;
@@ -17,5 +19,17 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.model.SubmissionsResultSet;
 @Mapper(componentModel = "spring", uses = SubmissionMapper.class)
 public interface SubmissionsResultSetMapper {
 
+  @Mapping(target = "hasNext", expression = "java(submissions.hasNext())")
   SubmissionsResultSet toSubmissionsResultSet(Page<Submission> submissions);
+
+  /**
+   * Maps a page of submissions read without a count query, so the totals are left unset.
+   *
+   * @param submissions the page of submissions
+   * @return the result set, without {@code totalElements} and {@code totalPages}
+   */
+  @Mapping(target = "hasNext", expression = "java(submissions.hasNext())")
+  @Mapping(target = "totalElements", ignore = true)
+  @Mapping(target = "totalPages", ignore = true)
+  SubmissionsResultSet toSubmissionsResultSet(Slice<Submission> submissions);
 }
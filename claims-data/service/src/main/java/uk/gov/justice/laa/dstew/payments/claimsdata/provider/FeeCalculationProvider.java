@@ -0,0 +1,98 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.provider;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import uk.gov.justice.laa.dstew.payments.claimsdata.client.ExternalCallGuard;
+import uk.gov.justice.laa.dstew.payments.claimsdata.client.FeeSchemePlatformRestClient;
+import uk.gov.justice.laa.fee.scheme.model.FeeCalculationRequest;
+import uk.gov.justice.laa.fee.scheme.model.FeeCalculationResponse;
+
+/**
+ * Single, cached access point for Fee Scheme Platform fee calculations.
+ *
+ * <p>Users often retry an amendment after fixing an unrelated validation error, which sends the
+ * same fee calculation request again. Results are therefore cached under {@link #CACHE_NAME} for a
+ * short time-to-live (see the cache configuration), keyed by the canonical hash of the request
+ * built by {@link FeeCalculationRequestKeyGenerator}, so a repeated request is not priced again.
+ *
+ * <p>Failed calculations (rejections, timeouts, connection errors) propagate to the caller and are
+ * not cached, and neither is an empty response, so the next request retries the call. Calls that
+ * miss the cache go through the {@link ExternalCallGuard#FEE_SCHEME_PLATFORM} bulkhead, time
+ * limiter and circuit breaker.
+ *
+ * <p>Identical requests that miss the cache at the same time, such as the claims of a batch
+ * amendment that need the same calculation, share a single call: the first makes it and the
+ * others wait for its result or failure.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FeeCalculationProvider {
+
+  /** Name of the cache holding the fee calculation results. */
+  public static final String CACHE_NAME = "feeCalculations";
+
+  private final FeeSchemePlatformRestClient feeSchemePlatformRestClient;
+  private final ExternalCallGuard externalCallGuard;
+  private final FeeCalculationRequestKeyGenerator keyGenerator;
+
+  /** The calls being made, keyed by the canonical hash of their request. */
+  private final ConcurrentMap<String, CompletableFuture<FeeCalculationResponse>> inFlight =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Returns the fee calculation for the given request, served from cache when available.
+   *
+   * @param request the fee calculation request
+   * @return the fee calculation, or {@code null} if the Fee Scheme Platform returned no body
+   */
+  @Cacheable(
+      cacheNames = CACHE_NAME,
+      keyGenerator = FeeCalculationRequestKeyGenerator.BEAN_NAME,
+      unless = "#result == null")
+  public FeeCalculationResponse calculateFee(FeeCalculationRequest request) {
+    String key = keyGenerator.keyOf(request);
+    CompletableFuture<FeeCalculationResponse> call = new CompletableFuture<>();
+    CompletableFuture<FeeCalculationResponse> identicalCall = inFlight.putIfAbsent(key, call);
+    if (identicalCall != null) {
+      log.debug("Waiting for an identical fee calculation already in progress");
+      return join(identicalCall);
+    }
+
+    try {
+      log.debug("Requesting a fee calculation from the Fee Scheme Platform");
+      FeeCalculationResponse response =
+          externalCallGuard.call(
+              ExternalCallGuard.FEE_SCHEME_PLATFORM,
+              () -> feeSchemePlatformRestClient.calculateFee(request).getBody());
+      call.complete(response);
+      return response;
+    } catch (RuntimeException | Error ex) {
+      call.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlight.remove(key, call);
+    }
+  }
+
+  /** Waits for another caller's call, rethrowing its failure unchanged. */
+  private static FeeCalculationResponse join(CompletableFuture<FeeCalculationResponse> call) {
+    try {
+      return call.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (ex.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw ex;
+    }
+  }
+}
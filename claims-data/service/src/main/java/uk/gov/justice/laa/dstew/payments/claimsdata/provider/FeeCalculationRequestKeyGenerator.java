@@ -0,0 +1,62 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.provider;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+import uk.gov.justice.laa.fee.scheme.model.FeeCalculationRequest;
+
+/**
+ * Builds the {@link FeeCalculationProvider} cache key of a {@link FeeCalculationRequest}: the
+ * SHA-256 hash of the request's canonical JSON form.
+ *
+ * <p>The canonical form is the request as the Fee Scheme Platform is sent it, with any map entries
+ * written in key order, so two requests carrying the same values always get the same key. Every
+ * property of the request is part of the key, not only the {@code FeeSchemeRequestField} inputs, so
+ * requests that differ in anything the Fee Scheme Platform is sent never share a result.
+ */
+@Component(FeeCalculationRequestKeyGenerator.BEAN_NAME)
+public class FeeCalculationRequestKeyGenerator implements KeyGenerator {
+
+  /** Bean name referenced by the {@link FeeCalculationProvider} cache. */
+  public static final String BEAN_NAME = "feeCalculationRequestKeyGenerator";
+
+  private final ObjectMapper canonicalMapper;
+
+  /**
+   * Builds the canonical mapper from the application {@link ObjectMapper}.
+   *
+   * @param objectMapper the application mapper, whose modules (dates, nullable fields) are kept
+   */
+  public FeeCalculationRequestKeyGenerator(ObjectMapper objectMapper) {
+    this.canonicalMapper =
+        objectMapper.copy().enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+  }
+
+  @Override
+  public Object generate(Object target, Method method, Object... params) {
+    return keyOf((FeeCalculationRequest) params[0]);
+  }
+
+  /**
+   * Returns the cache key of the given request.
+   *
+   * @param request the fee calculation request
+   * @return the hex-encoded SHA-256 hash of the request's canonical JSON form
+   */
+  public String keyOf(FeeCalculationRequest request) {
+    try {
+      byte[] canonicalJson =
+          canonicalMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(canonicalJson));
+    } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("Failed to build the fee calculation cache key", ex);
+    }
+  }
+}
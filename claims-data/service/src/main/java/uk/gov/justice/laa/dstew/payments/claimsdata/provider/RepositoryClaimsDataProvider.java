@@ -126,8 +126,9 @@ public class RepositoryClaimsDataProvider implements ClaimsDataProvider {
    * entity, so {@code uniqueClientNumber} is otherwise {@code null}. The claims-validation-core
    * duplicate validators (notably the same-submission Legal Help strategy) compare this value
    * <em>in memory</em>, so it must be present on the claims returned to the validation library or
-   * within-submission duplicates are silently missed. The entity graph is available here because
-   * this call runs inside a read-only transaction.
+   * within-submission duplicates are silently missed. The client is fetched together with the
+   * page of claims (see {@link ClaimRepository#findAll(Specification, Pageable)}), so this is done
+   * in memory rather than with a query per claim.
    */
   private void enrichWithClientFields(Page<Claim> resultPage, ClaimResultSet resultSet) {
     List<Claim> entities = resultPage.getContent();
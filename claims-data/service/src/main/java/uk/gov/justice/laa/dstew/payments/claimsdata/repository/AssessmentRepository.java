@@ -71,32 +71,36 @@ public interface AssessmentRepository extends JpaRepository<Assessment, UUID> {
    * Returns the assessed total amount for the given submission.
    *
    * <p>This is calculated as the sum of {@code assessedTotalInclVat} from the latest assessment for
-   * each claim belonging to the submission. If no assessments exist for any claim in the
-   * submission, this method returns {@code null}.
+   * each claim belonging to the submission, the latest being the one created last, with ties on
+   * {@code createdOn} broken by the highest id, as in the maintained submission totals. If no
+   * assessments exist for any claim in the submission, this method returns {@code null}.
    *
    * @param submissionId the unique identifier of the submission
    * @return the summed assessed total amount for the submission, or {@code null} if no assessments
    *     exist
    */
   @Query(
-      """
-          SELECT SUM(a.assessedTotalInclVat)
-          FROM Assessment a
-          WHERE a.claim.submission.id = :submissionId
-            AND a.createdOn = (
-                SELECT MAX(a2.createdOn)
-                FROM Assessment a2
-                WHERE a2.claim = a.claim
-            )
-          """)
+      value =
+          """
+          SELECT SUM(latest.assessed_total_incl_vat)
+          FROM claims.claim c
+          CROSS JOIN LATERAL (
+              SELECT a.assessed_total_incl_vat
+              FROM claims.assessment a
+              WHERE a.claim_id = c.id
+              ORDER BY a.created_on DESC, a.id DESC
+              LIMIT 1) latest
+          WHERE c.submission_id = :submissionId
+          """,
+      nativeQuery = true)
   BigDecimal getAssessedTotalAmount(@Param("submissionId") UUID submissionId);
 
   /**
    * Returns assessed total amounts for the given submissions.
    *
    * <p>For each submission ID provided, this query returns the sum of {@code assessedTotalInclVat}
-   * from the latest assessment for each claim belonging to that submission. Results are grouped by
-   * submission ID.
+   * from the latest assessment for each claim belonging to that submission, chosen as in {@link
+   * #getAssessedTotalAmount(UUID)}. Results are grouped by submission ID.
    *
    * <p>Submissions with no assessments are not included in the returned list.
    *
@@ -104,17 +108,21 @@ public interface AssessmentRepository extends JpaRepository<Assessment, UUID> {
    * @return a list of projections containing submission IDs and their assessed total amounts
    */
   @Query(
-      """
-          SELECT a.claim.submission.id AS submissionId, SUM(a.assessedTotalInclVat) AS total
-          FROM Assessment a
-          WHERE a.claim.submission.id IN :submissionIds
-            AND a.createdOn = (
-                SELECT MAX(a2.createdOn)
-                FROM Assessment a2
-                WHERE a2.claim = a.claim
-            )
-          GROUP BY a.claim.submission.id
-          """)
+      value =
+          """
+          SELECT c.submission_id AS submissionId,
+                 SUM(latest.assessed_total_incl_vat) AS total
+          FROM claims.claim c
+          CROSS JOIN LATERAL (
+              SELECT a.assessed_total_incl_vat
+              FROM claims.assessment a
+              WHERE a.claim_id = c.id
+              ORDER BY a.created_on DESC, a.id DESC
+              LIMIT 1) latest
+          WHERE c.submission_id IN (:submissionIds)
+          GROUP BY c.submission_id
+          """,
+      nativeQuery = true)
   List<AssessedTotalAmountProjection> getAssessedTotalAmounts(
       @Param("submissionIds") List<UUID> submissionIds);
 }
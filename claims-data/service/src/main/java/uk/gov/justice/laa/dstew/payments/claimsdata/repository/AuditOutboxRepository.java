@@ -0,0 +1,55 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.AuditOutbox;
+
+/** Repository for the {@link AuditOutbox} rows waiting to be audited. */
+@Repository
+public interface AuditOutboxRepository extends JpaRepository<AuditOutbox, UUID> {
+
+  /**
+   * Locks and returns the oldest saves waiting to be audited, skipping any already locked by
+   * another instance and any dead-lettered. Must be called in a transaction, which holds the locks
+   * until it ends.
+   *
+   * @param limit the maximum number of saves to return
+   * @return the waiting saves, oldest first
+   */
+  @Query(
+      value =
+          """
+          SELECT *
+          FROM claims.audit_outbox o
+          WHERE o.dead_lettered_on IS NULL
+          ORDER BY o.id
+          LIMIT :limit
+          FOR UPDATE SKIP LOCKED
+          """,
+      nativeQuery = true)
+  List<AuditOutbox> lockPending(@Param("limit") int limit);
+
+  /**
+   * Locks and returns a save waiting to be audited, unless it is locked by another instance or
+   * dead-lettered. Must be called in a transaction, which holds the lock until it ends.
+   *
+   * @param id the outbox row id
+   * @return the waiting save, or empty if it is locked, dead-lettered or already audited
+   */
+  @Query(
+      value =
+          """
+          SELECT *
+          FROM claims.audit_outbox o
+          WHERE o.id = :id
+            AND o.dead_lettered_on IS NULL
+          FOR UPDATE SKIP LOCKED
+          """,
+      nativeQuery = true)
+  Optional<AuditOutbox> lockPendingById(@Param("id") UUID id);
+}
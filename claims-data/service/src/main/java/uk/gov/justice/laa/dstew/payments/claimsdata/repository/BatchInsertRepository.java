@@ -0,0 +1,38 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.repository;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Inserts batches of new entities that have application-assigned ids.
+ *
+ * <p>{@code JpaRepository.save} cannot tell a new entity with an assigned id from a detached one,
+ * so for entities without a {@code @Version} attribute it issues a {@code merge} and a {@code
+ * SELECT} per row before the insert. Entities passed to {@link #insertAll(List)} are known to be
+ * new and are handed straight to {@link EntityManager#persist(Object)}; the resulting inserts are
+ * sent to the database in JDBC batches when the persistence context is flushed (see {@code
+ * spring.jpa.properties.hibernate.jdbc.batch_size} and {@code order_inserts}).
+ *
+ * <p>Saved entities are audited by {@code JaversAuditingAspect} in the same way as {@code save}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BatchInsertRepository {
+
+  private final EntityManager entityManager;
+
+  /**
+   * Persists every entity in the list. Must be called inside a transaction; the inserts are
+   * executed when that transaction flushes.
+   *
+   * @param entities new entities with their ids already assigned
+   * @param <T> the entity type
+   * @return the same entities, now managed by the persistence context
+   */
+  public <T> List<T> insertAll(List<T> entities) {
+    entities.forEach(entityManager::persist);
+    return entities;
+  }
+}
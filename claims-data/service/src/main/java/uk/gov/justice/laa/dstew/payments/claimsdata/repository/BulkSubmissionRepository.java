@@ -1,13 +1,15 @@
 package uk.gov.justice.laa.dstew.payments.claimsdata.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.BulkSubmission;
-import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionStatus;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.projection.BulkSubmissionHeaderProjection;
 
 /** Repository for accessing {@link BulkSubmission} entities. */
 @Repository
@@ -25,6 +27,80 @@ public interface BulkSubmissionRepository extends JpaRepository<BulkSubmission,
   int updateBulkSubmission(
       UUID id, String status, String errorCode, String errorDescription, String updatedByUserId);
 
-  @Query("SELECT b.status FROM BulkSubmission b WHERE b.id = :id")
-  Optional<BulkSubmissionStatus> findStatusById(UUID id);
+  /**
+   * Returns the header of a bulk submission, reading only the office, schedule and array lengths
+   * out of its stored document.
+   *
+   * @param id the bulk submission id
+   * @return the header, or empty if the bulk submission does not exist
+   */
+  @Query(
+      value =
+          """
+          SELECT b.status AS status,
+            b.error_code AS "errorCode",
+            b.error_description AS "errorDescription",
+            b.data -> 'office' ->> 'account' AS "officeAccount",
+            b.data -> 'schedule' ->> 'submission_period' AS "submissionPeriod",
+            b.data -> 'schedule' ->> 'area_of_law' AS "areaOfLaw",
+            b.data -> 'schedule' ->> 'schedule_num' AS "scheduleNum",
+            CASE WHEN jsonb_typeof(b.data -> 'outcomes') = 'array'
+              THEN jsonb_array_length(b.data -> 'outcomes') ELSE 0 END AS "outcomeCount",
+            CASE WHEN jsonb_typeof(b.data -> 'matter_starts') = 'array'
+              THEN jsonb_array_length(b.data -> 'matter_starts') ELSE 0 END AS "matterStartCount"
+          FROM claims.bulk_submission b
+          WHERE b.id = :id
+          """,
+      nativeQuery = true)
+  Optional<BulkSubmissionHeaderProjection> findHeaderById(@Param("id") UUID id);
+
+  /**
+   * Returns a page of the outcomes stored in a bulk submission's document, in file order, as the
+   * JSON of each outcome. The outcomes array is extracted from the stored document once, in a
+   * materialised CTE, and only the elements on the page are then read from it by their index, so
+   * the cost of a page does not grow with its offset and the document is decompressed only once.
+   *
+   * @param id the bulk submission id
+   * @param limit the maximum number of outcomes to return
+   * @param offset the number of outcomes to skip
+   * @return the JSON of each outcome on the page; empty if the bulk submission does not exist
+   */
+  @Query(
+      value =
+          """
+          WITH document AS MATERIALIZED (
+            SELECT b.data -> 'outcomes' AS outcomes
+            FROM claims.bulk_submission b
+            WHERE b.id = :id
+          )
+          SELECT CAST(d.outcomes -> CAST(i AS integer) AS text)
+          FROM document d
+          CROSS JOIN LATERAL generate_series(
+              CAST(:offset AS bigint),
+              LEAST(
+                  CAST(:offset AS bigint) + :limit,
+                  CASE WHEN jsonb_typeof(d.outcomes) = 'array'
+                    THEN jsonb_array_length(d.outcomes) ELSE 0 END) - 1) AS i
+          ORDER BY i
+          """,
+      nativeQuery = true)
+  List<String> findOutcomesById(
+      @Param("id") UUID id, @Param("limit") int limit, @Param("offset") long offset);
+
+  /**
+   * Counts the outcomes stored in a bulk submission's document without extracting them.
+   *
+   * @param id the bulk submission id
+   * @return the number of outcomes, or empty if the bulk submission does not exist
+   */
+  @Query(
+      value =
+          """
+          SELECT CASE WHEN jsonb_typeof(b.data -> 'outcomes') = 'array'
+            THEN jsonb_array_length(b.data -> 'outcomes') ELSE 0 END
+          FROM claims.bulk_submission b
+          WHERE b.id = :id
+          """,
+      nativeQuery = true)
+  Optional<Integer> countOutcomesById(@Param("id") UUID id);
 }
@@ -1,8 +1,12 @@
 package uk.gov.justice.laa.dstew.payments.claimsdata.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.CalculatedFeeDetail;
 
@@ -12,4 +16,23 @@ public interface CalculatedFeeDetailRepository extends JpaRepository<CalculatedF
 
   // Safely gets only the single latest calculation, matching the DB index strategy
   Optional<CalculatedFeeDetail> findFirstByClaimIdOrderByCreatedOnDescIdDesc(UUID claimId);
+
+  /**
+   * Returns the latest calculated fee detail of each of the given claims in a single query. The
+   * set-based counterpart of {@link #findFirstByClaimIdOrderByCreatedOnDescIdDesc(UUID)}: it joins
+   * through the trigger-maintained {@code claim.latest_calculated_fee_detail_id} pointer, which
+   * follows the same ordering, so each claim costs one primary-key lookup instead of a scan of its
+   * fee details.
+   *
+   * @param claimIds the claims to look up
+   * @return at most one fee detail per claim; claims without a calculation are absent
+   */
+  @Query(
+      """
+           SELECT d
+           FROM Claim c
+           JOIN c.latestCalculatedFeeDetail d
+           WHERE c.id IN :claimIds
+           """)
+  List<CalculatedFeeDetail> findLatestByClaimIdIn(@Param("claimIds") Collection<UUID> claimIds);
 }
@@ -1,5 +1,6 @@
 package uk.gov.justice.laa.dstew.payments.claimsdata.repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.projection.ClaimHistoryEventRow;
@@ -11,7 +12,8 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.repository.projection.ClaimH
  * <p>Implementations must satisfy the query with a <strong>single</strong> SQL statement (no
  * per-source queries merged in Java, no entity loading and no lazy initialisation), returning
  * events ordered by {@code event_timestamp DESC, source_id DESC}. The UUIDv7 {@code source_id}
- * provides a deterministic tie-breaker and the seed for future keyset (cursor) pagination.
+ * provides a deterministic tie-breaker, so that the {@code (event_timestamp, source_id)} of the
+ * last event of a page is a unique keyset (cursor) position from which to read the next page.
  */
 public interface ClaimHistoryRepository {
 
@@ -23,4 +25,18 @@ public interface ClaimHistoryRepository {
    * @return events ordered newest-first by {@code event_timestamp DESC, source_id DESC}
    */
   List<ClaimHistoryEventRow> findHistory(UUID claimId, int limit);
+
+  /**
+   * Retrieves the slice of a claim's history timeline that follows a keyset position, i.e. the
+   * events older than the last event of the previous slice.
+   *
+   * @param claimId the claim whose history should be retrieved
+   * @param limit the maximum number of events to return (page size)
+   * @param cursorTimestamp the {@code event_timestamp} of the last event of the previous slice
+   * @param cursorSourceId the {@code source_id} of the last event of the previous slice
+   * @return events strictly after the position, ordered newest-first by {@code event_timestamp
+   *     DESC, source_id DESC}
+   */
+  List<ClaimHistoryEventRow> findHistory(
+      UUID claimId, int limit, Instant cursorTimestamp, UUID cursorSourceId);
 }
@@ -1,8 +1,13 @@
 package uk.gov.justice.laa.dstew.payments.claimsdata.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -17,8 +22,32 @@ public interface ClaimRepository
     extends JpaRepository<Claim, UUID>, JpaSpecificationExecutor<Claim> {
   List<Claim> findBySubmissionId(UUID submissionId);
 
+  /**
+   * Returns a page of claims matching the specification, with the client and claim case of each
+   * claim fetched in the same query.
+   *
+   * <p>Both associations are the inverse side of a one-to-one and so cannot be loaded lazily;
+   * without the entity graph Hibernate issues two further selects per claim on the page.
+   *
+   * @param spec the filtering (and ordering) specification
+   * @param pageable the page to return
+   * @return the matching page of claims
+   */
+  @Override
+  @EntityGraph(attributePaths = {"client", "claimCase"})
+  Page<Claim> findAll(Specification<Claim> spec, Pageable pageable);
+
   Optional<Claim> findByIdAndSubmissionId(UUID id, UUID submissionId);
 
+  /**
+   * Returns the claims of the submission that have one of the given ids.
+   *
+   * @param submissionId the submission the claims belong to
+   * @param ids the claim ids
+   * @return the matching claims, in no particular order
+   */
+  List<Claim> findBySubmissionIdAndIdIn(UUID submissionId, Collection<UUID> ids);
+
   /**
    * Returns whether a claim already exists for the given submission and line number. Used by the
    * application-level duplicate guard in {@code ClaimService.createClaim}. This checks all rows
@@ -31,6 +60,20 @@ public interface ClaimRepository
    */
   boolean existsBySubmissionIdAndLineNumber(UUID submissionId, Integer lineNumber);
 
+  /**
+   * Returns which of the given line numbers are already used by claims in the submission, in a
+   * single query. The set-based counterpart of {@link #existsBySubmissionIdAndLineNumber(UUID,
+   * Integer)}, used by {@code ClaimService.createClaims}; it likewise checks all rows.
+   *
+   * @param submissionId the owning submission id
+   * @param lineNumbers the claim line numbers to check
+   * @return the subset of {@code lineNumbers} that already exist for the submission
+   */
+  @Query(
+      "SELECT DISTINCT c.lineNumber FROM Claim c "
+          + "WHERE c.submission.id = :submissionId AND c.lineNumber IN :lineNumbers")
+  List<Integer> findExistingLineNumbers(UUID submissionId, Collection<Integer> lineNumbers);
+
   @Modifying
   @Query("UPDATE Claim c SET c.status = :status WHERE c.submission.id = :submissionId")
   int updateStatusBySubmissionId(UUID submissionId, ClaimStatus status);
@@ -1,5 +1,7 @@
 package uk.gov.justice.laa.dstew.payments.claimsdata.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,4 +15,6 @@ public interface ClaimSummaryFeeRepository extends JpaRepository<ClaimSummaryFee
   Optional<ClaimSummaryFee> findByClaimId(UUID claimId);
 
   Optional<ClaimSummaryFee> findByClaim(Claim claim);
+
+  List<ClaimSummaryFee> findByClaimIdIn(Collection<UUID> claimIds);
 }
@@ -1,5 +1,8 @@
 package uk.gov.justice.laa.dstew.payments.claimsdata.repository;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.jdbc.core.simple.JdbcClient;
@@ -18,21 +21,23 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.repository.projection.ClaimH
  * <p><b>Ordering</b> is purely chronological — {@code event_timestamp DESC} — with the UUIDv7
  * {@code source_id DESC} as a deterministic tie-breaker. Event type never influences ordering.
  *
- * <p><b>Pagination:</b> only a {@code LIMIT} is applied (no {@code OFFSET}). The {@code
- * (event_timestamp, source_id)} ordering key is exactly the seed required for keyset/cursor
- * pagination: a future overload only has to add {@code AND (created_on, id) < (:cursorTimestamp,
- * :cursorSourceId)} to each branch (see {@link #CURSOR_PREDICATE}) without any structural redesign.
+ * <p><b>Pagination:</b> keyset only, never {@code OFFSET}. The first page applies just a {@code
+ * LIMIT}; later pages also add {@code AND (created_on, id) < (:cursorTimestamp, :cursorSourceId)}
+ * to the {@code WHERE} clause of each branch (see {@link #CURSOR_PREDICATE}), so that every source
+ * reads only the rows older than the last event of the previous page.
  */
 @Repository
 public class JdbcClaimHistoryRepository implements ClaimHistoryRepository {
 
   /**
-   * Keyset predicate to append to each branch's {@code WHERE} clause for cursor pagination.
-   * Applying it per-branch (rather than to the merged result) lets each source use its composite
-   * {@code (claim_id, created_on DESC, id DESC)} index.
+   * Keyset predicate to append to each branch's {@code WHERE} clause for cursor pagination, with
+   * {@code %1$s} standing for the alias of the branch's source table (the submission branch joins
+   * {@code submission}, so the columns must be qualified). Applying it per-branch (rather than to
+   * the merged result) lets each source use its composite {@code (claim_id, created_on DESC, id
+   * DESC)} index.
    */
   static final String CURSOR_PREDICATE =
-      " AND (created_on, id) < (:cursorTimestamp, :cursorSourceId)";
+      " AND (%1$s.created_on, %1$s.id) < (:cursorTimestamp, :cursorSourceId)";
 
   /**
    * Single unified timeline query.
@@ -60,8 +65,12 @@ public class JdbcClaimHistoryRepository implements ClaimHistoryRepository {
    * prior fee snapshot (no {@code FSP} diff entries at all) the transition cannot be proven from
    * the diff and this resolves to {@code false}; a valid claim always carries a summary fee record,
    * so the persisted data remains the source of truth for later audit.
+   *
+   * <p>The {@code %1$s}, {@code %2$s} and {@code %3$s} placeholders at the end of each branch's
+   * {@code WHERE} clause receive the {@link #CURSOR_PREDICATE} of that branch, or nothing for the
+   * first page.
    */
-  private static final String HISTORY_SQL =
+  private static final String HISTORY_SQL_TEMPLATE =
       """
       SELECT event_type, event_timestamp, actor_id, source_id, metadata
       FROM (
@@ -78,7 +87,7 @@ public class JdbcClaimHistoryRepository implements ClaimHistoryRepository {
               )                                  AS metadata
           FROM claims.claim c
           JOIN claims.submission s ON s.id = c.submission_id
-          WHERE c.id = :claimId
+          WHERE c.id = :claimId%1$s
 
           UNION ALL
 
@@ -104,7 +113,7 @@ public class JdbcClaimHistoryRepository implements ClaimHistoryRepository {
               )                                  AS metadata
           FROM claims.claim_amendment am
           LEFT JOIN claims.calculated_fee_detail cfd ON cfd.claim_amendment_id = am.id
-          WHERE am.claim_id = :claimId
+          WHERE am.claim_id = :claimId%2$s
 
           UNION ALL
 
@@ -129,12 +138,20 @@ public class JdbcClaimHistoryRepository implements ClaimHistoryRepository {
                       )
               END                                AS metadata
           FROM claims.assessment asmt
-          WHERE asmt.claim_id = :claimId
+          WHERE asmt.claim_id = :claimId%3$s
       ) AS claim_history
       ORDER BY event_timestamp DESC, source_id DESC
       LIMIT :limit
       """;
 
+  private static final String HISTORY_SQL = HISTORY_SQL_TEMPLATE.formatted("", "", "");
+
+  private static final String HISTORY_AFTER_CURSOR_SQL =
+      HISTORY_SQL_TEMPLATE.formatted(
+          CURSOR_PREDICATE.formatted("c"),
+          CURSOR_PREDICATE.formatted("am"),
+          CURSOR_PREDICATE.formatted("asmt"));
+
   private final JdbcClient jdbcClient;
   private final ClaimHistoryEventRowMapper rowMapper;
 
@@ -152,4 +169,17 @@ public class JdbcClaimHistoryRepository implements ClaimHistoryRepository {
         .query(rowMapper)
         .list();
   }
+
+  @Override
+  public List<ClaimHistoryEventRow> findHistory(
+      UUID claimId, int limit, Instant cursorTimestamp, UUID cursorSourceId) {
+    return jdbcClient
+        .sql(HISTORY_AFTER_CURSOR_SQL)
+        .param("claimId", claimId)
+        .param("cursorTimestamp", OffsetDateTime.ofInstant(cursorTimestamp, ZoneOffset.UTC))
+        .param("cursorSourceId", cursorSourceId)
+        .param("limit", limit)
+        .query(rowMapper)
+        .list();
+  }
 }
@@ -0,0 +1,74 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.SubmissionEventOutbox;
+
+/** Repository for the {@link SubmissionEventOutbox} rows waiting to be published. */
+@Repository
+public interface SubmissionEventOutboxRepository
+    extends JpaRepository<SubmissionEventOutbox, UUID> {
+
+  /**
+   * Locks and returns the oldest events due for publishing, skipping any already locked by another
+   * instance and any dead-lettered. Must be called in a transaction, which holds the locks until it
+   * ends.
+   *
+   * @param limit the maximum number of events to return
+   * @return the due events, oldest first
+   */
+  @Query(
+      value =
+          """
+          SELECT *
+          FROM claims.submission_event_outbox o
+          WHERE o.next_attempt_on <= now()
+            AND o.dead_lettered_on IS NULL
+          ORDER BY o.id
+          LIMIT :limit
+          FOR UPDATE SKIP LOCKED
+          """,
+      nativeQuery = true)
+  List<SubmissionEventOutbox> lockDue(@Param("limit") int limit);
+
+  /**
+   * Moves the next attempt of the given events to the given time, so that no instance claims them
+   * again before then.
+   *
+   * @param ids the events to lease
+   * @param until the end of the lease
+   * @return the number of events leased
+   */
+  @Modifying
+  @Query("UPDATE SubmissionEventOutbox o SET o.nextAttemptOn = :until WHERE o.id IN :ids")
+  int leaseUntil(@Param("ids") Collection<UUID> ids, @Param("until") Instant until);
+
+  /**
+   * Returns when the oldest event still waiting in the outbox was written.
+   *
+   * @return the creation time of the oldest event, or {@code null} if no event is waiting
+   */
+  @Query("SELECT min(o.createdOn) FROM SubmissionEventOutbox o WHERE o.deadLetteredOn IS NULL")
+  Instant findOldestCreatedOn();
+
+  /**
+   * Counts the events still waiting to be published.
+   *
+   * @return the number of events that are not dead-lettered
+   */
+  long countByDeadLetteredOnIsNull();
+
+  /**
+   * Counts the events given up on after failing to publish too many times.
+   *
+   * @return the number of dead-lettered events
+   */
+  long countByDeadLetteredOnIsNotNull();
+}
@@ -75,15 +75,10 @@ public interface SubmissionRepository
   @Query(
       value =
           """
-          SELECT SUM(latest_fees.total_amount)
-          FROM (
-            SELECT cfd.total_amount,
-                   ROW_NUMBER() OVER (PARTITION BY cfd.claim_id ORDER BY cfd.created_on DESC, cfd.id DESC) as rn
-            FROM claims.calculated_fee_detail cfd
-            INNER JOIN claims.claim c ON c.id = cfd.claim_id
-            WHERE c.submission_id = :submissionId
-          ) latest_fees
-          WHERE latest_fees.rn = 1
+          SELECT SUM(cfd.total_amount)
+          FROM claims.claim c
+          INNER JOIN claims.calculated_fee_detail cfd ON cfd.id = c.latest_calculated_fee_detail_id
+          WHERE c.submission_id = :submissionId
           """,
       nativeQuery = true)
   BigDecimal getCalculatedTotalAmount(@Param("submissionId") UUID submissionId);
@@ -103,18 +98,12 @@ public interface SubmissionRepository
   @Query(
       value =
           """
-          SELECT latest_fees.submission_id AS submissionId,
-                 SUM(latest_fees.total_amount) AS total
-          FROM (
-            SELECT c.submission_id,
-                   cfd.total_amount,
-                   ROW_NUMBER() OVER (PARTITION BY cfd.claim_id ORDER BY cfd.created_on DESC, cfd.id DESC) as rn
-            FROM claims.calculated_fee_detail cfd
-            INNER JOIN claims.claim c ON c.id = cfd.claim_id
-            WHERE c.submission_id IN (:submissionIds)
-          ) latest_fees
-          WHERE latest_fees.rn = 1
-          GROUP BY latest_fees.submission_id
+          SELECT c.submission_id AS submissionId,
+                 SUM(cfd.total_amount) AS total
+          FROM claims.claim c
+          INNER JOIN claims.calculated_fee_detail cfd ON cfd.id = c.latest_calculated_fee_detail_id
+          WHERE c.submission_id IN (:submissionIds)
+          GROUP BY c.submission_id
           """,
       nativeQuery = true)
   List<CalculatedTotalAmountProjection> getCalculatedTotalAmounts(
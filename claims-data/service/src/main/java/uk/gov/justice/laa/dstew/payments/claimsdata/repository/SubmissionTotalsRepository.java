@@ -0,0 +1,46 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.repository;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.SubmissionTotals;
+
+/** Repository for reading and reconciling {@link SubmissionTotals}. */
+@Repository
+public interface SubmissionTotalsRepository extends JpaRepository<SubmissionTotals, UUID> {
+
+  /**
+   * Returns the ids of the submissions following the given one in id order, for walking every
+   * submission in batches.
+   *
+   * @param afterId the last id of the previous batch
+   * @param limit the maximum number of ids to return
+   * @return the next submission ids, in ascending order
+   */
+  @Query(
+      value =
+          """
+          SELECT s.id
+          FROM claims.submission s
+          WHERE s.id > :afterId
+          ORDER BY s.id
+          LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<UUID> findSubmissionIdsAfter(@Param("afterId") UUID afterId, @Param("limit") int limit);
+
+  /**
+   * Recounts the totals of a submission from its claims, fees, assessments and validation messages
+   * and overwrites its row if it had drifted, in a transaction of its own.
+   *
+   * @param submissionId the submission to reconcile
+   * @return {@code true} if the row had drifted and was corrected
+   */
+  @Transactional
+  @Query(value = "SELECT claims.reconcile_submission_totals(:submissionId)", nativeQuery = true)
+  boolean reconcile(@Param("submissionId") UUID submissionId);
+}
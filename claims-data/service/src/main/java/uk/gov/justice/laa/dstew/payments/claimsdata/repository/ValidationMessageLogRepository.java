@@ -1,6 +1,5 @@
 package uk.gov.justice.laa.dstew.payments.claimsdata.repository;
 
-import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -10,7 +9,6 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.ValidationMessageLog;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ValidationMessageType;
-import uk.gov.justice.laa.dstew.payments.claimsdata.repository.projection.ClaimWarningCountProjection;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.projection.ValidationMessageWithClaimDetailsProjection;
 
 /** Repository for persisting {@link ValidationMessageLog} entries. */
@@ -28,18 +26,6 @@ public interface ValidationMessageLogRepository extends JpaRepository<Validation
 
   long countAllByClaimIdAndType(UUID claimId, ValidationMessageType type);
 
-  @Query(
-      """
-           SELECT v.claimId AS claimId,
-                  COUNT(v)   AS warningCount
-           FROM ValidationMessageLog v
-           WHERE v.claimId IN :claimIds
-             AND v.type = :type
-           GROUP BY v.claimId
-           """)
-  List<ClaimWarningCountProjection> countWarningsByClaimIdsAndType(
-      @Param("claimIds") Collection<UUID> claimIds, @Param("type") ValidationMessageType type);
-
   @Query(
       """
            SELECT v.id              AS id,
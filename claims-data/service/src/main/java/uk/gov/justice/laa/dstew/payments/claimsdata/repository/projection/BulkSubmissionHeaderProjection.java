@@ -0,0 +1,32 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.repository.projection;
+
+/**
+ * Projection carrying the header of a bulk submission: its status, error, office and schedule, and
+ * the number of outcomes and matter starts in its file.
+ *
+ * <p>The office, schedule and counts are extracted from the stored document by PostgreSQL, so the
+ * document itself is never returned or deserialised. The status and error code are the stored
+ * enum names.
+ */
+public interface BulkSubmissionHeaderProjection {
+
+  String getStatus();
+
+  String getErrorCode();
+
+  String getErrorDescription();
+
+  // Office and schedule fields
+  String getOfficeAccount();
+
+  String getSubmissionPeriod();
+
+  String getAreaOfLaw();
+
+  String getScheduleNum();
+
+  // Counts of the file's rows
+  Integer getOutcomeCount();
+
+  Integer getMatterStartCount();
+}
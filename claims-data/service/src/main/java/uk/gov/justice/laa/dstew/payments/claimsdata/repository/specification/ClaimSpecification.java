@@ -4,6 +4,8 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
@@ -23,11 +25,10 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Claim;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.ClaimCase;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Client;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Submission;
-import uk.gov.justice.laa.dstew.payments.claimsdata.entity.ValidationMessageLog;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.DerivedClaimStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.SubmissionStatus;
-import uk.gov.justice.laa.dstew.payments.claimsdata.model.ValidationMessageType;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimSearchCursor;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.DerivedClaimStatusResolver;
 
 /**
@@ -40,6 +41,7 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.util.DerivedClaimStatusResol
 public final class ClaimSpecification {
 
   private static final String NOT_NULL_QUERY_MESSAGE = "Query must not be null";
+  private static final String LIKE_ESCAPE = "\\";
   public static final String OFFICE_ACCOUNT_NUMBER = "officeAccountNumber";
   public static final String ID = "id";
   public static final String STATUS = "status";
@@ -54,12 +56,16 @@ public final class ClaimSpecification {
   public static final String CLAIM_CASE_ENTITY = "claimCase";
   public static final String SUBMISSION_ENTITY = "submission";
   public static final String UNIQUE_CLIENT_NUMBER = "uniqueClientNumber";
+  public static final String CLIENT_SURNAME = "clientSurname";
   public static final String CLAIM_ENTITY = "claim";
   public static final String CREATED_ON = "createdOn";
   public static final String HAS_ASSESSMENT = "hasAssessment";
   public static final String IS_AMENDED = "isAmended";
   public static final String DERIVED_CLAIM_STATUS_SORT_KEY = "derivedClaimStatus";
+  public static final String DERIVED_STATUS = "derivedStatus";
+  public static final String WARNING_COUNT = "warningCount";
   public static final String CALCULATED_FEE_DETAILS = "calculatedFeeDetails";
+  public static final String LATEST_CALCULATED_FEE_DETAIL_ENTITY = "latestCalculatedFeeDetail";
 
   /**
    * Constructs a JPA {@link Specification} for filtering {@link Claim} records based on various
@@ -190,35 +196,11 @@ public final class ClaimSpecification {
       }
 
       if (Optional.ofNullable(request.getEscapedCaseFlag()).isPresent()) {
-        Subquery<UUID> latestFeeSubquery = query.subquery(UUID.class);
-        Root<CalculatedFeeDetail> feeRoot = latestFeeSubquery.from(CalculatedFeeDetail.class);
-
-        // Correlation: Look for a "newer" record than the current one we are inspecting
-        Subquery<Integer> newerRecordSubquery = query.subquery(Integer.class);
-        Root<CalculatedFeeDetail> newerFeeRoot =
-            newerRecordSubquery.from(CalculatedFeeDetail.class);
-
-        newerRecordSubquery
-            .select(cb.literal(1))
-            .where(
-                cb.equal(newerFeeRoot.get(CLAIM_ENTITY), feeRoot.get(CLAIM_ENTITY)), // Same claim
-                cb.or(
-                    // Strategy: Either createdOn is strictly newer...
-                    cb.greaterThan(newerFeeRoot.get(CREATED_ON), feeRoot.get(CREATED_ON)),
-                    // ...or createdOn matches exactly, but the UUIDv7 string/value breaks the tie
-                    cb.and(
-                        cb.equal(newerFeeRoot.get(CREATED_ON), feeRoot.get(CREATED_ON)),
-                        cb.greaterThan(newerFeeRoot.get(ID), feeRoot.get(ID)))));
-
-        // Now assemble the main filter matching the original query block
-        latestFeeSubquery
-            .select(feeRoot.get(ID))
-            .where(
-                cb.equal(feeRoot.get(CLAIM_ENTITY), root), // Tied to parent claim
-                cb.not(cb.exists(newerRecordSubquery)), // Guarantees feeRoot IS the latest record
-                cb.equal(feeRoot.get(ESCAPE_CASE_FLAG), request.getEscapedCaseFlag()));
-
-        predicates.add(cb.exists(latestFeeSubquery));
+        // The claim's latest fee is kept as a pointer on the claim, so this is a plain join.
+        Join<Claim, CalculatedFeeDetail> latestFeeJoin =
+            root.join(LATEST_CALCULATED_FEE_DETAIL_ENTITY);
+        predicates.add(
+            cb.equal(latestFeeJoin.get(ESCAPE_CASE_FLAG), request.getEscapedCaseFlag()));
       }
 
       // Filter on Claim fields
@@ -232,7 +214,7 @@ public final class ClaimSpecification {
 
       if (StringUtils.hasText(request.getUniqueFileNumber())) {
         predicates.add(
-            cb.and(cb.equal(root.get(UNIQUE_FILE_NUMBER), request.getUniqueFileNumber())));
+            containsIgnoreCase(cb, root.get(UNIQUE_FILE_NUMBER), request.getUniqueFileNumber()));
       }
 
       if (StringUtils.hasText(request.getCaseReferenceNumber())) {
@@ -243,11 +225,18 @@ public final class ClaimSpecification {
         predicates.add(cb.and(cb.like(cb.lower(root.get(CASE_REFERENCE_NUMBER)), pattern)));
       }
 
-      if (StringUtils.hasText(request.getUniqueClientNumber())) {
+      if (StringUtils.hasText(request.getUniqueClientNumber())
+          || StringUtils.hasText(request.getClientSurname())) {
         Join<Claim, Client> clientJoin = root.join(CLIENT_ENTITY);
-        predicates.add(
-            cb.and(
-                cb.equal(clientJoin.get(UNIQUE_CLIENT_NUMBER), request.getUniqueClientNumber())));
+        if (StringUtils.hasText(request.getUniqueClientNumber())) {
+          predicates.add(
+              containsIgnoreCase(
+                  cb, clientJoin.get(UNIQUE_CLIENT_NUMBER), request.getUniqueClientNumber()));
+        }
+        if (StringUtils.hasText(request.getClientSurname())) {
+          predicates.add(
+              containsIgnoreCase(cb, clientJoin.get(CLIENT_SURNAME), request.getClientSurname()));
+        }
       }
 
       if (StringUtils.hasText(request.getUniqueCaseId())) {
@@ -260,6 +249,21 @@ public final class ClaimSpecification {
     };
   }
 
+  /**
+   * Builds a case-insensitive 'contains' predicate on a text column. LIKE wildcards in the search
+   * term are escaped so they match literally. The column is lower-cased in the same way as its
+   * trigram index, so partial searches can use the index rather than scan every row.
+   */
+  private static Predicate containsIgnoreCase(
+      CriteriaBuilder cb, Expression<String> field, String term) {
+    String escaped =
+        term.toLowerCase()
+            .replace(LIKE_ESCAPE, LIKE_ESCAPE + LIKE_ESCAPE)
+            .replace("%", LIKE_ESCAPE + "%")
+            .replace("_", LIKE_ESCAPE + "_");
+    return cb.like(cb.lower(field), "%" + escaped + "%", LIKE_ESCAPE.charAt(0));
+  }
+
   private static Subquery<Client> getClientSubquery(
       String uniqueClientNumber, Root<Claim> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
     Subquery<Client> clientSubquery = query.subquery(Client.class);
@@ -329,6 +333,9 @@ public final class ClaimSpecification {
    * Constructs a JPA {@link Specification} for ordering {@link Claim} records by the count of total
    * warning validation messages.
    *
+   * <p>Ordering uses the {@code claim.warning_count} column, which the database keeps in step with
+   * the claim's WARNING rows in {@code validation_message_log}, so no count is evaluated per claim.
+   *
    * @param pageable includes pagination info
    * @return a JPA {@code Specification} of {@code Submission} containing the constructed filtering
    *     predicates
@@ -343,17 +350,10 @@ public final class ClaimSpecification {
         if (!"totalWarnings".equalsIgnoreCase(order.getProperty())) {
           continue;
         }
-        Subquery<Long> warningCountSubquery = query.subquery(Long.class);
-        Root<ValidationMessageLog> vml = warningCountSubquery.from(ValidationMessageLog.class);
-
-        warningCountSubquery
-            .select(cb.count(vml))
-            .where(
-                cb.equal(vml.get("claimId"), root.get(ID)),
-                cb.equal(vml.get("type"), ValidationMessageType.WARNING));
+        Path<Integer> warningCount = root.get(WARNING_COUNT);
 
         query.orderBy(
-            order.isAscending() ? cb.asc(warningCountSubquery) : cb.desc(warningCountSubquery),
+            order.isAscending() ? cb.asc(warningCount) : cb.desc(warningCount),
             // Deterministic secondary sort so rows never drift between pages.
             cb.asc(root.get(ID)));
 
@@ -370,11 +370,11 @@ public final class ClaimSpecification {
    * Constructs a JPA {@link Specification} for ordering {@link Claim} records by their derived
    * business status ({@link DerivedClaimStatus}).
    *
-   * <p>This is a computed sort: {@code derivedClaimStatus} is not a persisted column. Ordering is
-   * applied via a SQL {@code CASE} expression whose ordinal outputs are taken from {@link
-   * DerivedClaimStatus#ordinal()} (the enum declaration order is the canonical business ordering).
-   * The {@code CASE} precedence mirrors {@link DerivedClaimStatusResolver} — the single Java source
-   * of truth for the derivation — and the two are kept in lock-step by a parity test.
+   * <p>Ordering uses the persisted {@code claim.derived_status} column, which the database computes
+   * from the claim's status and flags with the precedence of {@link DerivedClaimStatusResolver} and
+   * stores as the {@link DerivedClaimStatus#ordinal()} (the enum declaration order is the canonical
+   * business ordering), so the sort can be served by the {@code (submission_id, derived_status,
+   * id)} index.
    *
    * <p>A deterministic secondary sort by {@code id} (ascending, UUIDv7) is always appended so that
    * claims sharing the same derived status keep a stable order across pages.
@@ -400,10 +400,10 @@ public final class ClaimSpecification {
           continue;
         }
 
-        Expression<Integer> derivedOrdinal = derivedClaimStatusOrdinal(root, cb);
+        Path<DerivedClaimStatus> derivedStatus = root.get(DERIVED_STATUS);
 
         query.orderBy(
-            order.isAscending() ? cb.asc(derivedOrdinal) : cb.desc(derivedOrdinal),
+            order.isAscending() ? cb.asc(derivedStatus) : cb.desc(derivedStatus),
             // Deterministic secondary sort so rows never drift between pages.
             cb.asc(root.get(ID)));
 
@@ -436,36 +436,14 @@ public final class ClaimSpecification {
         // Extract the actual field name (e.g., "totalAmount", "escapeCaseFlag")
         String feeFieldName = property.substring((CALCULATED_FEE_DETAILS + ".").length());
 
-        // ... [keep the rest of the subquery logic exactly as it is]
-
-        // 1. Subquery to fetch the specific field from the latest CalculatedFeeDetail
-        Subquery<Object> latestFeeValueSubquery = query.subquery(Object.class);
-        Root<CalculatedFeeDetail> feeRoot = latestFeeValueSubquery.from(CalculatedFeeDetail.class);
-
-        // 2. The "Not Exists Newer" correlation subquery (reused from your filter logic)
-        Subquery<Integer> newerRecordSubquery = query.subquery(Integer.class);
-        Root<CalculatedFeeDetail> newerFeeRoot =
-            newerRecordSubquery.from(CalculatedFeeDetail.class);
-
-        newerRecordSubquery
-            .select(cb.literal(1))
-            .where(
-                cb.equal(newerFeeRoot.get(CLAIM_ENTITY), feeRoot.get(CLAIM_ENTITY)),
-                cb.or(
-                    cb.greaterThan(newerFeeRoot.get(CREATED_ON), feeRoot.get(CREATED_ON)),
-                    cb.and(
-                        cb.equal(newerFeeRoot.get(CREATED_ON), feeRoot.get(CREATED_ON)),
-                        cb.greaterThan(newerFeeRoot.get(ID), feeRoot.get(ID)))));
-
-        // 3. Select the requested field where it is tied to this claim AND is the latest
-        latestFeeValueSubquery
-            .select(feeRoot.get(feeFieldName))
-            .where(
-                cb.equal(feeRoot.get(CLAIM_ENTITY), root), cb.not(cb.exists(newerRecordSubquery)));
-
-        // 4. Apply the order by clause using the subquery
+        // Left join the latest fee through the claim's pointer so that claims without a fee are
+        // kept, sorting with a null value as before.
+        Join<Claim, CalculatedFeeDetail> latestFeeJoin =
+            root.join(LATEST_CALCULATED_FEE_DETAIL_ENTITY, JoinType.LEFT);
+        Path<Object> latestFeeValue = latestFeeJoin.get(feeFieldName);
+
         query.orderBy(
-            order.isAscending() ? cb.asc(latestFeeValueSubquery) : cb.desc(latestFeeValueSubquery),
+            order.isAscending() ? cb.asc(latestFeeValue) : cb.desc(latestFeeValue),
             // Deterministic secondary sort so rows never drift between pages. Follow the same
             // direction as the primary sort so tie-break behaviour is intuitive to callers.
             (order.isAscending() ? cb.asc(root.get(ID)) : cb.desc(root.get(ID))));
@@ -478,20 +456,42 @@ public final class ClaimSpecification {
   }
 
   /**
-   * Builds the {@code CASE} expression that maps each claim to its {@link DerivedClaimStatus}
-   * ordinal. The precedence must mirror {@link DerivedClaimStatusResolver}; the ordinals are taken
-   * from the enum so the canonical ordering is defined in exactly one place.
+   * Constructs a JPA {@link Specification} that keeps only the claims sorting strictly after the
+   * position recorded in a cursor, for keyset pagination.
+   *
+   * <p>With a sort field the predicate is {@code key > :key OR (key = :key AND id > :id)} (or
+   * {@code <} on the key for a descending sort), matching an order of the sort field followed by
+   * the ascending {@code id} tie-break. Without one it is simply {@code id > :id}. The ordering
+   * itself must be applied by the caller.
+   *
+   * @param cursor the position of the last claim of the previous page
+   * @return a JPA {@code Specification} of {@code Claim} with the seek predicate
    */
-  private static Expression<Integer> derivedClaimStatusOrdinal(
-      Root<Claim> root, CriteriaBuilder cb) {
-    return cb.<Integer>selectCase()
-        .when(cb.equal(root.get(STATUS), ClaimStatus.VOID), DerivedClaimStatus.VOIDED.ordinal())
-        .when(cb.equal(root.get(STATUS), ClaimStatus.INVALID), DerivedClaimStatus.INVALID.ordinal())
-        .when(
-            cb.equal(root.get(STATUS), ClaimStatus.READY_TO_PROCESS),
-            DerivedClaimStatus.READY_TO_PROCESS.ordinal())
-        .when(cb.isTrue(root.<Boolean>get(HAS_ASSESSMENT)), DerivedClaimStatus.ASSESSED.ordinal())
-        .when(cb.isTrue(root.<Boolean>get(IS_AMENDED)), DerivedClaimStatus.AMENDED.ordinal())
-        .otherwise(DerivedClaimStatus.ACCEPTED.ordinal());
+  public static Specification<Claim> after(ClaimSearchCursor cursor) {
+    return (root, query, cb) -> {
+      Predicate idAfter = cb.greaterThan(root.get(ID), cursor.id());
+      if (cursor.sortField() == null) {
+        return idAfter;
+      }
+
+      Path<Comparable<Object>> keyPath = path(root, cursor.sortField().getEntityPath());
+      @SuppressWarnings("unchecked")
+      Comparable<Object> key = (Comparable<Object>) cursor.sortKey();
+      Predicate keyBeyond =
+          cursor.direction().isAscending()
+              ? cb.greaterThan(keyPath, key)
+              : cb.lessThan(keyPath, key);
+      return cb.or(keyBeyond, cb.and(cb.equal(keyPath, key), idAfter));
+    };
+  }
+
+  private static <T> Path<T> path(Root<Claim> root, String entityPath) {
+    Path<?> path = root;
+    for (String attribute : entityPath.split("\\.")) {
+      path = path.get(attribute);
+    }
+    @SuppressWarnings("unchecked")
+    Path<T> typedPath = (Path<T>) path;
+    return typedPath;
   }
 }
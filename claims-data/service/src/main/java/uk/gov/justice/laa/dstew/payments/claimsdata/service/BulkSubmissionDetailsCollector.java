@@ -0,0 +1,64 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import uk.gov.justice.laa.dstew.payments.claimsdata.converter.CsvSubmissionSink;
+import uk.gov.justice.laa.dstew.payments.claimsdata.mapper.BulkSubmissionMapper;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionMatterStart;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionOutcome;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.GetBulkSubmission200ResponseDetails;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvMatterStarts;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvOffice;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvOutcome;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvSchedule;
+
+/**
+ * {@link CsvSubmissionSink} that maps each chunk of a streamed TXT/CSV file straight to the API
+ * model, so the intermediate {@code Csv*} records of a chunk can be discarded as soon as it has been
+ * mapped.
+ */
+class BulkSubmissionDetailsCollector implements CsvSubmissionSink {
+
+  private final BulkSubmissionMapper bulkSubmissionMapper;
+  private final List<BulkSubmissionOutcome> outcomes = new ArrayList<>();
+  private final List<BulkSubmissionMatterStart> matterStarts = new ArrayList<>();
+  private final List<Map<String, String>> immigrationClr = new ArrayList<>();
+
+  @Getter private final GetBulkSubmission200ResponseDetails details =
+      new GetBulkSubmission200ResponseDetails();
+
+  BulkSubmissionDetailsCollector(BulkSubmissionMapper bulkSubmissionMapper) {
+    this.bulkSubmissionMapper = bulkSubmissionMapper;
+  }
+
+  @Override
+  public void onHeader(CsvOffice office, CsvSchedule schedule) {
+    details
+        .office(bulkSubmissionMapper.toBulkSubmissionOffice(office))
+        .schedule(bulkSubmissionMapper.toBulkSubmissionSchedule(schedule));
+  }
+
+  @Override
+  public void onOutcomes(List<CsvOutcome> chunk) {
+    chunk.forEach(outcome -> outcomes.add(bulkSubmissionMapper.toBulkSubmissionOutcome(outcome)));
+  }
+
+  @Override
+  public void onMatterStarts(List<CsvMatterStarts> chunk) {
+    chunk.forEach(
+        matterStart ->
+            matterStarts.add(bulkSubmissionMapper.toBulkSubmissionMatterStarts(matterStart)));
+  }
+
+  @Override
+  public void onImmigrationClr(List<Map<String, String>> chunk) {
+    immigrationClr.addAll(chunk);
+  }
+
+  @Override
+  public void onComplete() {
+    details.outcomes(outcomes).matterStarts(matterStarts).immigrationClr(immigrationClr);
+  }
+}
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
+import uk.gov.justice.laa.dstew.payments.claimsdata.converter.BulkSubmissionConverter;
 import uk.gov.justice.laa.dstew.payments.claimsdata.converter.BulkSubmissionConverterFactory;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionFileReadException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.FileExtension;
@@ -19,9 +20,13 @@ public class BulkSubmissionFileService {
   private final BulkSubmissionConverterFactory bulkSubmissionConverterFactory;
 
   FileSubmission convert(MultipartFile file) {
+    return converterFor(file).convert(file);
+  }
+
+  BulkSubmissionConverter converterFor(MultipartFile file) {
     FileExtension fileExtension = getFileExtension(file);
 
-    return bulkSubmissionConverterFactory.converterFor(fileExtension).convert(file);
+    return bulkSubmissionConverterFactory.converterFor(fileExtension);
   }
 
   private FileExtension getFileExtension(MultipartFile file) {
@@ -0,0 +1,231 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.BulkSubmissionIngestionConfig;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.ClaimsApiProperties;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.BulkSubmission;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionAreaOfLawException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionFieldConversionException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionFileReadException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionIngestionRejectedException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionOfficeAuthorisationException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionValidationException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionErrorCode;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionPatch;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionStatus;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.CreateBulkSubmissionAsync202Response;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.GetBulkSubmission200ResponseDetails;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.BulkSubmissionRepository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
+
+/**
+ * Service responsible for the asynchronous ingestion of bulk submission files.
+ *
+ * <p>The upload is spooled to local disk and recorded as {@link BulkSubmissionStatus#RECEIVED} on
+ * the request thread, which then returns immediately. A worker from the bounded ingestion pool (see
+ * {@link BulkSubmissionIngestionConfig}) moves the bulk submission to {@link
+ * BulkSubmissionStatus#INGESTING}, converts the spooled file in chunks, runs the same validation as
+ * the synchronous upload and, on success, saves it as {@link
+ * BulkSubmissionStatus#READY_FOR_PARSING} and publishes the parse event. Failures are recorded on
+ * the bulk submission instead of being returned to the client. An upload that cannot be accepted,
+ * because it could not be recorded or the ingestion backlog is full, leaves neither a spooled file
+ * nor a bulk submission behind.
+ */
+@Service
+@Slf4j
+public class BulkSubmissionIngestionService {
+
+  private final BulkSubmissionService bulkSubmissionService;
+  private final BulkSubmissionRepository bulkSubmissionRepository;
+  private final SubmissionEventPublisherService submissionEventPublisherService;
+  private final ClaimsApiProperties claimsApiProperties;
+  private final Executor ingestionExecutor;
+
+  /**
+   * Creates the service.
+   *
+   * @param bulkSubmissionService validates and saves converted bulk submissions
+   * @param bulkSubmissionRepository repository for recording received bulk submissions
+   * @param submissionEventPublisherService publishes the parse event once ingestion succeeds
+   * @param claimsApiProperties the Claims API configuration
+   * @param ingestionExecutor the bounded ingestion worker pool
+   */
+  public BulkSubmissionIngestionService(
+      BulkSubmissionService bulkSubmissionService,
+      BulkSubmissionRepository bulkSubmissionRepository,
+      SubmissionEventPublisherService submissionEventPublisherService,
+      ClaimsApiProperties claimsApiProperties,
+      @Qualifier(BulkSubmissionIngestionConfig.INGESTION_EXECUTOR) Executor ingestionExecutor) {
+    this.bulkSubmissionService = bulkSubmissionService;
+    this.bulkSubmissionRepository = bulkSubmissionRepository;
+    this.submissionEventPublisherService = submissionEventPublisherService;
+    this.claimsApiProperties = claimsApiProperties;
+    this.ingestionExecutor = ingestionExecutor;
+  }
+
+  /**
+   * Spools the uploaded file, records the bulk submission as {@link BulkSubmissionStatus#RECEIVED}
+   * and hands it to an ingestion worker.
+   *
+   * @param userId the user performing the bulk submission
+   * @param file the uploaded bulk submission file
+   * @param offices the offices the user is authorised for
+   * @return the id of the bulk submission and of the submission that will be created from it
+   * @throws BulkSubmissionIngestionRejectedException if the ingestion backlog is full
+   */
+  public CreateBulkSubmissionAsync202Response acceptBulkSubmissionFile(
+      String userId, MultipartFile file, List<String> offices) {
+    Path spooledFile = spool(file);
+    SpooledMultipartFile spooled =
+        new SpooledMultipartFile(
+            file.getName(), file.getOriginalFilename(), file.getContentType(), spooledFile);
+
+    UUID bulkSubmissionId = Uuid7.timeBasedUuid();
+    UUID newSubmissionId = Uuid7.timeBasedUuid();
+
+    try {
+      bulkSubmissionRepository.save(
+          BulkSubmission.builder()
+              .id(bulkSubmissionId)
+              .data(new GetBulkSubmission200ResponseDetails())
+              .status(BulkSubmissionStatus.RECEIVED)
+              .createdByUserId(userId)
+              .authorisedOffices(String.join(",", offices))
+              .build());
+    } catch (RuntimeException e) {
+      deleteSpooledFile(spooledFile);
+      throw e;
+    }
+
+    try {
+      ingestionExecutor.execute(() -> ingest(bulkSubmissionId, spooled, offices, newSubmissionId));
+    } catch (RejectedExecutionException e) {
+      // The upload was never accepted, so the client retries it rather than polling this one.
+      deleteSpooledFile(spooledFile);
+      deleteReceived(bulkSubmissionId);
+      throw new BulkSubmissionIngestionRejectedException(
+          "Bulk submission ingestion is at capacity. Please try again later", e);
+    }
+
+    return new CreateBulkSubmissionAsync202Response()
+        .bulkSubmissionId(bulkSubmissionId)
+        .submissionIds(List.of(newSubmissionId));
+  }
+
+  /**
+   * Converts, validates and saves a spooled upload. Runs on an ingestion worker; never throws.
+   *
+   * @param bulkSubmissionId the id of the received bulk submission
+   * @param file the spooled upload, deleted once ingestion has finished
+   * @param offices the offices the submitting user is authorised for
+   * @param submissionId the submission id returned to the client when the upload was accepted
+   */
+  void ingest(
+      UUID bulkSubmissionId, SpooledMultipartFile file, List<String> offices, UUID submissionId) {
+    try {
+      BulkSubmission received = bulkSubmissionService.requireEntity(bulkSubmissionId);
+      bulkSubmissionService.updateBulkSubmission(
+          bulkSubmissionId, new BulkSubmissionPatch().status(BulkSubmissionStatus.INGESTING));
+
+      GetBulkSubmission200ResponseDetails bulkSubmissionDetails =
+          bulkSubmissionService.getBulkSubmissionDetails(
+              file, claimsApiProperties.getBulkSubmissions().getChunkSize());
+
+      bulkSubmissionService.validateAndSave(
+          BulkSubmission.builder()
+              .id(bulkSubmissionId)
+              .createdByUserId(received.getCreatedByUserId())
+              .createdOn(received.getCreatedOn())
+              .authorisedOffices(received.getAuthorisedOffices()),
+          bulkSubmissionDetails,
+          offices);
+
+      submissionEventPublisherService.publishBulkSubmissionEvent(
+          bulkSubmissionId, List.of(submissionId));
+    } catch (BulkSubmissionValidationException | BulkSubmissionOfficeAuthorisationException e) {
+      // The failure status has already been saved by BulkSubmissionService.
+      log.info("Bulk submission {} failed validation: {}", bulkSubmissionId, e.getMessage());
+    } catch (BulkSubmissionAreaOfLawException e) {
+      recordFailure(
+          bulkSubmissionId,
+          BulkSubmissionStatus.VALIDATION_FAILED,
+          BulkSubmissionErrorCode.V100,
+          e.getMessage());
+    } catch (BulkSubmissionFileReadException | BulkSubmissionFieldConversionException e) {
+      recordFailure(
+          bulkSubmissionId,
+          BulkSubmissionStatus.PARSING_FAILED,
+          BulkSubmissionErrorCode.P100,
+          e.getMessage());
+    } catch (RuntimeException e) {
+      log.error("Failed to ingest bulk submission {}", bulkSubmissionId, e);
+      recordFailure(
+          bulkSubmissionId,
+          BulkSubmissionStatus.PARSING_FAILED,
+          BulkSubmissionErrorCode.E100,
+          "Failed to ingest bulk submission file");
+    } finally {
+      deleteSpooledFile(file.path());
+    }
+  }
+
+  private Path spool(MultipartFile file) {
+    Path spoolDirectory =
+        claimsApiProperties.getBulkSubmissions().getIngestion().getSpoolDirectory();
+    try {
+      Files.createDirectories(spoolDirectory);
+      Path spooledFile = Files.createTempFile(spoolDirectory, "bulk-submission-", ".upload");
+      try (InputStream inputStream = file.getInputStream()) {
+        Files.copy(inputStream, spooledFile, StandardCopyOption.REPLACE_EXISTING);
+      }
+      return spooledFile;
+    } catch (IOException e) {
+      throw new BulkSubmissionFileReadException("Failed to read bulk submission file", e);
+    }
+  }
+
+  private void recordFailure(
+      UUID bulkSubmissionId,
+      BulkSubmissionStatus status,
+      BulkSubmissionErrorCode errorCode,
+      String errorDescription) {
+    try {
+      bulkSubmissionService.updateBulkSubmission(
+          bulkSubmissionId,
+          new BulkSubmissionPatch()
+              .status(status)
+              .errorCode(errorCode)
+              .errorDescription(errorDescription));
+    } catch (RuntimeException e) {
+      log.error("Failed to record {} for bulk submission {}", status, bulkSubmissionId, e);
+    }
+  }
+
+  private void deleteReceived(UUID bulkSubmissionId) {
+    try {
+      bulkSubmissionRepository.deleteById(bulkSubmissionId);
+    } catch (RuntimeException e) {
+      log.error("Failed to delete rejected bulk submission {}", bulkSubmissionId, e);
+    }
+  }
+
+  private static void deleteSpooledFile(Path spooledFile) {
+    try {
+      Files.deleteIfExists(spooledFile);
+    } catch (IOException e) {
+      log.warn("Failed to delete spooled bulk submission file {}", spooledFile, e);
+    }
+  }
+}
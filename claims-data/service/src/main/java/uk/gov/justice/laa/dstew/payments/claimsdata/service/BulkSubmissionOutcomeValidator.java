@@ -0,0 +1,123 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import org.apache.commons.lang3.StringUtils;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionOutcome;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.LocalDateUtils;
+
+/**
+ * Row-level pre-checks for the outcomes of a bulk submission, run in a single traversal of the
+ * outcomes.
+ *
+ * <p>Each outcome must have a matter type (stage reached for crime lower) and every populated date
+ * field must be a valid date in the format DD/MM/YYYY. In fail-fast mode only one error is
+ * reported, and a missing matter type takes precedence over an invalid date anywhere in the file.
+ * In collect-all mode every error is reported against the 1-based position of its outcome, so that
+ * a provider can fix the whole file in one go.
+ */
+final class BulkSubmissionOutcomeValidator {
+
+  private static final String DATE_FORMAT_ERROR = " must be a valid date in the format DD/MM/YYYY";
+
+  private static final List<DateField> DATE_FIELDS =
+      List.of(
+          new DateField("Case Start Date", BulkSubmissionOutcome::getCaseStartDate),
+          new DateField("Client Date of Birth", BulkSubmissionOutcome::getClientDateOfBirth),
+          new DateField("Work Concluded Date", BulkSubmissionOutcome::getWorkConcludedDate),
+          new DateField("Transfer Date", BulkSubmissionOutcome::getTransferDate),
+          new DateField("Surgery Date", BulkSubmissionOutcome::getSurgeryDate),
+          new DateField("Rep Order Date", BulkSubmissionOutcome::getRepOrderDate),
+          new DateField("Client 2 Date of Birth", BulkSubmissionOutcome::getClient2DateOfBirth),
+          new DateField("Med Concluded Date", BulkSubmissionOutcome::getMedConcludedDate));
+
+  private BulkSubmissionOutcomeValidator() {}
+
+  /**
+   * Returns the first problem found in the outcomes, using the same precedence and messages as
+   * running the matter type check over every outcome before the date checks.
+   *
+   * @param outcomes the outcomes to check
+   * @param areaOfLaw the area of law of the submission, used to word the matter type error
+   * @return the error description, or empty if every outcome passed
+   */
+  static Optional<String> firstError(List<BulkSubmissionOutcome> outcomes, String areaOfLaw) {
+    String firstDateError = null;
+    for (BulkSubmissionOutcome outcome : outcomes) {
+      if (StringUtils.isBlank(outcome.getMatterType())) {
+        return Optional.of(missingMatterTypeLabel(areaOfLaw) + " for one or more of your claims");
+      }
+      if (firstDateError == null) {
+        firstDateError = firstInvalidDateField(outcome);
+      }
+    }
+    return Optional.ofNullable(firstDateError).map(field -> field + DATE_FORMAT_ERROR);
+  }
+
+  /**
+   * Returns every problem found in the outcomes as a single error description, with one line per
+   * error prefixed by the 1-based position of the outcome in the file.
+   *
+   * @param outcomes the outcomes to check
+   * @param areaOfLaw the area of law of the submission, used to word the matter type error
+   * @param maxReportedErrors the maximum number of errors listed individually; any further errors
+   *     are counted but not listed
+   * @return the error description, or empty if every outcome passed
+   */
+  static Optional<String> allErrors(
+      List<BulkSubmissionOutcome> outcomes, String areaOfLaw, int maxReportedErrors) {
+    List<String> errors = new ArrayList<>();
+    int errorCount = 0;
+    for (int i = 0; i < outcomes.size(); i++) {
+      BulkSubmissionOutcome outcome = outcomes.get(i);
+      int claimNumber = i + 1;
+      if (StringUtils.isBlank(outcome.getMatterType()) && errorCount++ < maxReportedErrors) {
+        errors.add("Claim %d: %s".formatted(claimNumber, missingMatterTypeLabel(areaOfLaw)));
+      }
+      for (DateField dateField : DATE_FIELDS) {
+        if (!dateField.isValid(outcome) && errorCount++ < maxReportedErrors) {
+          errors.add("Claim %d: %s%s".formatted(claimNumber, dateField.name(), DATE_FORMAT_ERROR));
+        }
+      }
+    }
+    if (errorCount == 0) {
+      return Optional.empty();
+    }
+
+    StringBuilder description =
+        new StringBuilder()
+            .append(errorCount)
+            .append(errorCount == 1 ? " error was" : " errors were")
+            .append(" found in your claims");
+    errors.forEach(error -> description.append('\n').append(error));
+    if (errorCount > errors.size()) {
+      description.append('\n').append("and ").append(errorCount - errors.size()).append(" more");
+    }
+    return Optional.of(description.toString());
+  }
+
+  private static String firstInvalidDateField(BulkSubmissionOutcome outcome) {
+    for (DateField dateField : DATE_FIELDS) {
+      if (!dateField.isValid(outcome)) {
+        return dateField.name();
+      }
+    }
+    return null;
+  }
+
+  private static String missingMatterTypeLabel(String areaOfLaw) {
+    String normalised = areaOfLaw == null ? "" : areaOfLaw.trim().toUpperCase(Locale.ROOT);
+    return "CRIME LOWER".equals(normalised) ? "Stage Reached is missing" : "Matter Type is missing";
+  }
+
+  private record DateField(String name, Function<BulkSubmissionOutcome, String> accessor) {
+
+    boolean isValid(BulkSubmissionOutcome outcome) {
+      String value = accessor.apply(outcome);
+      return StringUtils.isBlank(value) || LocalDateUtils.parseBulkSubmissionDate(value) != null;
+    }
+  }
+}
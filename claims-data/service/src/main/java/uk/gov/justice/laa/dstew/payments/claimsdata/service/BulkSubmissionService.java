@@ -1,10 +1,9 @@
 package uk.gov.justice.laa.dstew.payments.claimsdata.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -13,10 +12,12 @@ import java.util.UUID;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.ClaimsApiProperties;
+import uk.gov.justice.laa.dstew.payments.claimsdata.converter.BulkSubmissionCsvConverter;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.BulkSubmission;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionAreaOfLawException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionNotFoundException;
@@ -26,6 +27,7 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.mapper.BulkSubmissionMapper;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.AreaOfLaw;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionErrorCode;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionOutcome;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionOutcomeResultSet;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionPatch;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.CreateBulkSubmission201Response;
@@ -51,6 +53,8 @@ public class BulkSubmissionService
   private final BulkSubmissionRepository bulkSubmissionRepository;
   private final BulkSubmissionMapper bulkSubmissionMapper;
   private final SubmissionEventPublisherService submissionEventPublisherService;
+  private final ClaimsApiProperties claimsApiProperties;
+  private final ObjectMapper objectMapper;
 
   @Override
   public BulkSubmissionRepository lookup() {
@@ -75,35 +79,17 @@ public class BulkSubmissionService
       @NotNull String userId, @NotNull MultipartFile file, @NotNull final List<String> offices) {
 
     GetBulkSubmission200ResponseDetails bulkSubmissionDetails = getBulkSubmissionDetails(file);
-    String areaOfLaw =
-        Optional.ofNullable(bulkSubmissionDetails)
-            .map(GetBulkSubmission200ResponseDetails::getSchedule)
-            .map(GetBulkSubmission200ResponseDetailsSchedule::getAreaOfLaw)
-            .orElse(null);
-
-    validateAreaOfLaw(areaOfLaw);
 
     UUID bulkSubmissionId = Uuid7.timeBasedUuid();
 
     BulkSubmission.BulkSubmissionBuilder bulkSubmissionBuilder =
         BulkSubmission.builder()
             .id(bulkSubmissionId)
-            .data(bulkSubmissionDetails)
             .createdByUserId(userId)
             .authorisedOffices(String.join(",", offices));
 
-    validateOfficeCodeAndAccessPermissions(offices, bulkSubmissionDetails, bulkSubmissionBuilder);
-
-    validateSubmissionPeriod(bulkSubmissionDetails, bulkSubmissionBuilder);
-
-    validateMatterTypeCode(bulkSubmissionDetails, bulkSubmissionBuilder, areaOfLaw);
-
-    validateDateFormats(bulkSubmissionDetails, bulkSubmissionBuilder);
-
     BulkSubmission authorised =
-        bulkSubmissionBuilder.status(BulkSubmissionStatus.READY_FOR_PARSING).build();
-
-    bulkSubmissionRepository.save(authorised);
+        validateAndSave(bulkSubmissionBuilder, bulkSubmissionDetails, offices);
 
     UUID newSubmissionId = Uuid7.timeBasedUuid();
     submissionEventPublisherService.publishBulkSubmissionEvent(
@@ -114,31 +100,47 @@ public class BulkSubmissionService
         .submissionIds(Collections.singletonList(newSubmissionId));
   }
 
-  private void validateMatterTypeCode(
-      GetBulkSubmission200ResponseDetails bulkSubmissionDetails,
+  /**
+   * Validates the converted contents of a bulk submission file and saves the bulk submission as
+   * {@link BulkSubmissionStatus#READY_FOR_PARSING}.
+   *
+   * <p>Each failed check saves the bulk submission with the relevant failure status and error code
+   * before throwing, except for an unsupported area of law which is rejected without saving.
+   *
+   * @param bulkSubmissionBuilder builder pre-populated with the identifying and audit fields of the
+   *     bulk submission
+   * @param bulkSubmissionDetails the converted file contents
+   * @param offices the offices the submitting user is authorised for
+   * @return the saved bulk submission
+   * @throws BulkSubmissionAreaOfLawException if the schedule has no supported area of law
+   * @throws BulkSubmissionOfficeAuthorisationException if the user cannot submit for the office
+   * @throws BulkSubmissionValidationException if any other check fails
+   */
+  public BulkSubmission validateAndSave(
       BulkSubmission.BulkSubmissionBuilder bulkSubmissionBuilder,
-      String areaOfLaw) {
-    List<@Valid BulkSubmissionOutcome> bulkSubmissionOutcomes =
+      GetBulkSubmission200ResponseDetails bulkSubmissionDetails,
+      List<String> offices) {
+    String areaOfLaw =
         Optional.ofNullable(bulkSubmissionDetails)
-            .map(GetBulkSubmission200ResponseDetails::getOutcomes)
-            .orElse(Collections.emptyList());
+            .map(GetBulkSubmission200ResponseDetails::getSchedule)
+            .map(GetBulkSubmission200ResponseDetailsSchedule::getAreaOfLaw)
+            .orElse(null);
 
-    if (bulkSubmissionOutcomes.stream()
-        .anyMatch(outcome -> StringUtils.isBlank(outcome.getMatterType()))) {
-      handleInvalidMatterTypeCode(areaOfLaw, bulkSubmissionBuilder);
-    }
-  }
+    validateAreaOfLaw(areaOfLaw);
+
+    bulkSubmissionBuilder.data(bulkSubmissionDetails);
+
+    validateOfficeCodeAndAccessPermissions(offices, bulkSubmissionDetails, bulkSubmissionBuilder);
+
+    validateSubmissionPeriod(bulkSubmissionDetails, bulkSubmissionBuilder);
 
-  private void handleInvalidMatterTypeCode(
-      String areaOfLaw, BulkSubmission.BulkSubmissionBuilder bulkSubmissionBuilder) {
-    String errorMessage =
-        switch (areaOfLaw) {
-          case "CRIME LOWER" -> "Stage Reached is missing for one or more of your claims";
-          case "LEGAL HELP" -> "Matter Type is missing for one or more of your claims";
-          case "MEDIATION" -> "Matter Type is missing for one or more of your claims";
-          default -> null;
-        };
-    failSubmission(errorMessage, bulkSubmissionBuilder);
+    validateOutcomes(bulkSubmissionDetails, bulkSubmissionBuilder, areaOfLaw);
+
+    BulkSubmission authorised =
+        bulkSubmissionBuilder.status(BulkSubmissionStatus.READY_FOR_PARSING).build();
+
+    bulkSubmissionRepository.save(authorised);
+    return authorised;
   }
 
   private void validateSubmissionPeriod(
@@ -206,76 +208,36 @@ public class BulkSubmissionService
   }
 
   /**
-   * Validates the date formats for various date fields within the bulk submission details. This
-   * method checks multiple date fields from the bulk submission outcomes to ensure they conform to
-   * the required DD/MM/YYYY format and represent valid dates.
+   * Runs the row-level checks over the outcomes of the bulk submission in a single traversal. By
+   * default the first problem fails the submission; when {@code
+   * laa.claims.api.bulk-submissions.collect-all-validation-errors} is enabled, every problem is
+   * recorded against its claim number in one {@link BulkSubmissionStatus#VALIDATION_FAILED} record.
    *
    * @param bulkSubmissionDetails the details object containing the submission data to validate
    * @param bulkSubmissionBuilder builder object used to construct the bulk submission response in
    *     case of validation failures
-   * @throws BulkSubmissionValidationException if any date field fails validation
+   * @param areaOfLaw the area of law of the submission
+   * @throws BulkSubmissionValidationException if any outcome fails validation
+   * @see BulkSubmissionOutcomeValidator
    */
-  private void validateDateFormats(
+  private void validateOutcomes(
       GetBulkSubmission200ResponseDetails bulkSubmissionDetails,
-      BulkSubmission.BulkSubmissionBuilder bulkSubmissionBuilder) {
+      BulkSubmission.BulkSubmissionBuilder bulkSubmissionBuilder,
+      String areaOfLaw) {
 
     List<@Valid BulkSubmissionOutcome> bulkSubmissionOutcomes =
         Optional.ofNullable(bulkSubmissionDetails)
             .map(GetBulkSubmission200ResponseDetails::getOutcomes)
             .orElse(Collections.emptyList());
 
-    bulkSubmissionOutcomes.forEach(
-        outcome -> {
-          try {
-            validateDate(outcome.getCaseStartDate(), "Case Start Date");
-            validateDate(outcome.getClientDateOfBirth(), "Client Date of Birth");
-            validateDate(outcome.getWorkConcludedDate(), "Work Concluded Date");
-            validateDate(outcome.getTransferDate(), "Transfer Date");
-            validateDate(outcome.getSurgeryDate(), "Surgery Date");
-            validateDate(outcome.getRepOrderDate(), "Rep Order Date");
-            validateDate(outcome.getClient2DateOfBirth(), "Client 2 Date of Birth");
-            validateDate(outcome.getMedConcludedDate(), "Med Concluded Date");
-          } catch (Exception e) {
-            failSubmission(
-                e.getMessage() + " must be a valid date in the format DD/MM/YYYY",
-                bulkSubmissionBuilder);
-          }
-        });
-  }
+    ClaimsApiProperties.BulkSubmissions settings = claimsApiProperties.getBulkSubmissions();
+    Optional<String> error =
+        settings.isCollectAllValidationErrors()
+            ? BulkSubmissionOutcomeValidator.allErrors(
+                bulkSubmissionOutcomes, areaOfLaw, settings.getMaxReportedValidationErrors())
+            : BulkSubmissionOutcomeValidator.firstError(bulkSubmissionOutcomes, areaOfLaw);
 
-  /**
-   * Validates that a given date string matches the required format 'dd/MM/yyyy' and represents a
-   * valid date. The method performs both format validation and logical date validation (e.g.,
-   * checking for invalid dates like 29/02/2025).
-   *
-   * @param dateStr the date string to validate, can be null or blank
-   * @param fieldName the name of the field being validated, used in error messages
-   * @throws IllegalArgumentException if the date string is not in the correct format or represents
-   *     an invalid date
-   */
-  private void validateDate(String dateStr, String fieldName) {
-    if (dateStr != null && !dateStr.isBlank()) {
-      try {
-        // Support both single and double digit formats
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("[d/M/yyyy][dd/MM/yyyy]");
-        String normalizedDate = dateStr.trim();
-
-        // Parse will validate the date is actually valid (e.g. not 29/02/2025)
-        LocalDate date = LocalDate.parse(normalizedDate, formatter);
-
-        // Verify the parsed date matches the input to catch any automatic corrections
-        String formattedBackSingleDigitFormat =
-            date.format(DateTimeFormatter.ofPattern("d/M/yyyy"));
-        String formattedBackDoubleDigitFormat =
-            date.format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
-        if (!normalizedDate.equals(formattedBackSingleDigitFormat)
-            && !normalizedDate.equals(formattedBackDoubleDigitFormat)) {
-          throw new IllegalArgumentException(fieldName);
-        }
-      } catch (DateTimeParseException e) {
-        throw new IllegalArgumentException(fieldName);
-      }
-    }
+    error.ifPresent(errorMessage -> failSubmission(errorMessage, bulkSubmissionBuilder));
   }
 
   /**
@@ -291,6 +253,27 @@ public class BulkSubmissionService
     return bulkSubmissionMapper.toBulkSubmissionDetails(fileSubmission);
   }
 
+  /**
+   * Converts the provided file in the same way as {@link #getBulkSubmissionDetails(MultipartFile)},
+   * but streams TXT/CSV files so that rows are mapped to the API model in chunks of {@code
+   * chunkSize} rather than first being materialised as a complete {@code CsvSubmission}.
+   *
+   * @param file the file to convert.
+   * @param chunkSize the maximum number of rows parsed before they are mapped.
+   * @return a {@link GetBulkSubmission200ResponseDetails} representing the provided input file.
+   */
+  public GetBulkSubmission200ResponseDetails getBulkSubmissionDetails(
+      MultipartFile file, int chunkSize) {
+    if (bulkSubmissionFileService.converterFor(file)
+        instanceof BulkSubmissionCsvConverter csvConverter) {
+      BulkSubmissionDetailsCollector collector =
+          new BulkSubmissionDetailsCollector(bulkSubmissionMapper);
+      csvConverter.convert(file, chunkSize, collector);
+      return collector.getDetails();
+    }
+    return getBulkSubmissionDetails(file);
+  }
+
   /**
    * Retrieve a bulk submission by its identifier.
    *
@@ -312,20 +295,79 @@ public class BulkSubmissionService
   }
 
   /**
-   * Retrieve a minimal summary for a bulk submission by id - currently only status.
+   * Retrieve the header of a bulk submission by id: its status, error, office, schedule and the
+   * number of outcomes and matter starts in its file.
+   *
+   * <p>The header is read through a projection, so the stored document is never loaded.
    *
    * @param id the bulk submission id
-   * @return a response containing only the status of the bulk submission
+   * @return a response containing the header of the bulk submission
    */
   @Transactional(readOnly = true)
   public GetBulkSubmissionStatusById200Response getBulkSubmissionStatusById(UUID id) {
     return bulkSubmissionRepository
-        .findStatusById(id)
-        .map(status -> new GetBulkSubmissionStatusById200Response().status(status))
+        .findHeaderById(id)
+        .map(
+            header ->
+                new GetBulkSubmissionStatusById200Response()
+                    .status(BulkSubmissionStatus.valueOf(header.getStatus()))
+                    .errorCode(
+                        header.getErrorCode() == null
+                            ? null
+                            : BulkSubmissionErrorCode.valueOf(header.getErrorCode()))
+                    .errorDescription(header.getErrorDescription())
+                    .officeAccount(header.getOfficeAccount())
+                    .submissionPeriod(header.getSubmissionPeriod())
+                    .areaOfLaw(header.getAreaOfLaw())
+                    .scheduleNum(header.getScheduleNum())
+                    .outcomeCount(header.getOutcomeCount())
+                    .matterStartCount(header.getMatterStartCount()))
         .orElseThrow(
             () -> entityNotFoundSupplier(String.format("No entity found with id: %s", id)).get());
   }
 
+  /**
+   * Retrieve one page of the outcomes of a bulk submission, in file order.
+   *
+   * <p>The outcomes on the page are extracted from the stored document by the database and only
+   * they are deserialised, so the rest of the document is never materialised in memory.
+   *
+   * @param id the bulk submission id
+   * @param pageable the page to return; its sort is ignored
+   * @return the page of outcomes
+   */
+  @Transactional(readOnly = true)
+  public BulkSubmissionOutcomeResultSet getBulkSubmissionOutcomes(UUID id, Pageable pageable) {
+    int totalElements =
+        bulkSubmissionRepository
+            .countOutcomesById(id)
+            .orElseThrow(
+                () ->
+                    entityNotFoundSupplier(String.format("No entity found with id: %s", id)).get());
+
+    List<BulkSubmissionOutcome> content =
+        bulkSubmissionRepository
+            .findOutcomesById(id, pageable.getPageSize(), pageable.getOffset())
+            .stream()
+            .map(this::toBulkSubmissionOutcome)
+            .toList();
+
+    return new BulkSubmissionOutcomeResultSet()
+        .content(content)
+        .totalElements(totalElements)
+        .totalPages((totalElements + pageable.getPageSize() - 1) / pageable.getPageSize())
+        .number(pageable.getPageNumber())
+        .size(pageable.getPageSize());
+  }
+
+  private BulkSubmissionOutcome toBulkSubmissionOutcome(String outcomeJson) {
+    try {
+      return objectMapper.readValue(outcomeJson, BulkSubmissionOutcome.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to read a stored bulk submission outcome", e);
+    }
+  }
+
   /**
    * Update a {@link BulkSubmission} entity identified by the id with the details provided in the
    * {@link BulkSubmissionPatch} object.
@@ -8,10 +8,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.ClaimHistoryPage;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ClaimBadRequestException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ClaimNotFoundException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClaimHistoryRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClaimRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.projection.ClaimHistoryEventRow;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimHistoryCursor;
 
 /**
  * Read-only service that returns a claim's activity as a single chronological timeline.
@@ -32,36 +35,42 @@ public class ClaimHistoryService {
   private final ClaimRepository claimRepository;
 
   /**
-   * Returns the most recent page of a claim's history timeline, newest event first.
+   * Returns a page of a claim's history timeline, newest event first, together with the cursor for
+   * the next page.
    *
-   * @param claimId the claim to retrieve history for
-   * @return an ordered list of timeline events (may be empty, never {@code null})
-   * @throws ClaimNotFoundException if no claim exists for the given claim id
-   */
-  @Transactional(readOnly = true)
-  public List<ClaimHistoryEventRow> getTimeline(UUID claimId) {
-    return load(claimId, DEFAULT_PAGE_SIZE);
-  }
-
-  /**
-   * Returns the most recent page of a claim's history timeline, newest event first.
+   * <p>One more event than the page size is read to find out whether another page exists, so the
+   * last page is recognised without an extra query.
    *
    * @param claimId the claim to retrieve history for
-   * @param pageSize the maximum number of events to return
-   * @return an ordered list of timeline events (may be empty, never {@code null})
+   * @param pageSize the maximum number of events to return, or {@code null} for the default
+   * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+   * @return the page of timeline events and the cursor for the next page, if any
+   * @throws ClaimBadRequestException if the cursor is not valid
    * @throws ClaimNotFoundException if no claim exists for the given claim id
    */
   @Transactional(readOnly = true)
-  public List<ClaimHistoryEventRow> getTimeline(UUID claimId, int pageSize) {
-    return load(claimId, pageSize);
+  public ClaimHistoryPage getTimelinePage(UUID claimId, Integer pageSize, String cursor) {
+    int size = pageSize == null ? DEFAULT_PAGE_SIZE : pageSize;
+    ClaimHistoryCursor after = cursor == null ? null : ClaimHistoryCursor.decode(cursor);
+
+    List<ClaimHistoryEventRow> timeline = load(claimId, size + 1, after);
+    if (timeline.size() <= size) {
+      return new ClaimHistoryPage(timeline, null);
+    }
+    List<ClaimHistoryEventRow> events = timeline.subList(0, size);
+    return new ClaimHistoryPage(events, ClaimHistoryCursor.after(events.getLast()).encode());
   }
 
-  private List<ClaimHistoryEventRow> load(UUID claimId, int pageSize) {
+  private List<ClaimHistoryEventRow> load(UUID claimId, int limit, ClaimHistoryCursor after) {
     if (!claimRepository.existsById(claimId)) {
       throw new ClaimNotFoundException(String.format(NO_CLAIM_FOUND_WITH_ID_ERROR, claimId));
     }
 
-    List<ClaimHistoryEventRow> timeline = claimHistoryRepository.findHistory(claimId, pageSize);
+    List<ClaimHistoryEventRow> timeline =
+        after == null
+            ? claimHistoryRepository.findHistory(claimId, limit)
+            : claimHistoryRepository.findHistory(
+                claimId, limit, after.eventTimestamp(), after.sourceId());
     log.debug("Loaded {} history event(s) for claim {}", timeline.size(), claimId);
     return timeline;
   }
@@ -4,6 +4,10 @@ import static uk.gov.justice.laa.dstew.payments.claimsdata.repository.specificat
 
 import java.lang.reflect.Field;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -14,18 +18,23 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.ClaimSearchRequest;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentBatchResult;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentPayload;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentResult;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentValidationError;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Assessment;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.CalculatedFeeDetail;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Claim;
@@ -43,6 +52,12 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.exception.SubmissionNotFound
 import uk.gov.justice.laa.dstew.payments.claimsdata.mapper.ClaimMapper;
 import uk.gov.justice.laa.dstew.payments.claimsdata.mapper.ClaimResultSetMapper;
 import uk.gov.justice.laa.dstew.payments.claimsdata.mapper.ClientMapper;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimAmendmentError;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimAmendmentOutcome;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimAmendmentOutcomeType;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimAmendmentTarget;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimBatchAmendment;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimBatchAmendmentResult;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimPatch;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimPost;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimResponse;
@@ -52,8 +67,8 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimResultSetV2;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.SubmissionClaim;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.SubmissionStatus;
-import uk.gov.justice.laa.dstew.payments.claimsdata.model.ValidationMessageType;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.AssessmentRepository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.BatchInsertRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.CalculatedFeeDetailRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClaimCaseRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClaimRepository;
@@ -61,11 +76,12 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClaimSummaryFeeRe
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClientRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ValidationMessageLogRepository;
-import uk.gov.justice.laa.dstew.payments.claimsdata.repository.projection.ClaimWarningCountProjection;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.specification.ClaimSpecification;
+import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.ClaimAmendmentBatchService;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.ClaimAmendmentService;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.ClaimAmendmentStateService;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.lookup.AbstractEntityLookup;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimSearchCursor;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimSortField;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.DataNormaliser;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
@@ -93,7 +109,9 @@ public class ClaimService
   private final AssessmentService assessmentService;
   private final ClaimSearchRequestValidator claimSearchRequestValidator;
   private final ClaimAmendmentService claimAmendmentService;
+  private final ClaimAmendmentBatchService claimAmendmentBatchService;
   private final ClaimAmendmentStateService claimAmendmentStateService;
+  private final BatchInsertRepository batchInsertRepository;
 
   private static final Set<String> IGNORED_FIELDS =
       Set.of(
@@ -105,6 +123,8 @@ public class ClaimService
           "version",
           "createdByUserId");
 
+  private static final int DEFAULT_CURSOR_PAGE_SIZE = 20;
+
   private static final Set<String> COMPUTED_SORT_PATHS =
       Set.of(
           "totalWarnings",
@@ -159,33 +179,107 @@ public class ClaimService
               "A claim with line number %d already exists for the submission.", lineNumber));
     }
 
+    NewClaim newClaim = toNewClaim(submission, claimPost);
+    claimRepository.save(newClaim.claim());
+    claimSummaryFeeRepository.save(newClaim.claimSummaryFee());
+    claimCaseRepository.save(newClaim.claimCase());
+    if (newClaim.client() != null) {
+      clientRepository.save(newClaim.client());
+    }
+
+    return newClaim.claim().getId();
+  }
+
+  /**
+   * Create a batch of claims for a submission in a single transaction.
+   *
+   * <p>The submission is resolved once and the line numbers of the whole batch are checked against
+   * the submission with one query, using the same duplicate rules as {@link #createClaim(UUID,
+   * ClaimPost)}. The claim, claim summary fee, claim case and client rows are then inserted in JDBC
+   * batches. If any claim is rejected, none are created.
+   *
+   * @param submissionId submission identifier
+   * @param claimPosts request payloads
+   * @return identifiers of the created claims, in the same order as {@code claimPosts}
+   * @throws DuplicateClaimException if a line number is repeated within the batch or already
+   *     exists for the submission
+   */
+  @Transactional
+  public List<UUID> createClaims(UUID submissionId, List<ClaimPost> claimPosts) {
+    Submission submission = requireEntity(submissionId);
+
+    Set<Integer> lineNumbers = new HashSet<>();
+    for (ClaimPost claimPost : claimPosts) {
+      Integer lineNumber = claimPost.getLineNumber();
+      if (lineNumber != null && !lineNumbers.add(lineNumber)) {
+        throw new DuplicateClaimException(
+            String.format("Line number %d appears more than once in the batch.", lineNumber));
+      }
+    }
+    if (!lineNumbers.isEmpty()) {
+      claimRepository.findExistingLineNumbers(submissionId, lineNumbers).stream()
+          .min(Integer::compare)
+          .ifPresent(
+              lineNumber -> {
+                throw new DuplicateClaimException(
+                    String.format(
+                        "A claim with line number %d already exists for the submission.",
+                        lineNumber));
+              });
+    }
+
+    List<Claim> claims = new ArrayList<>(claimPosts.size());
+    List<ClaimSummaryFee> claimSummaryFees = new ArrayList<>(claimPosts.size());
+    List<ClaimCase> claimCases = new ArrayList<>(claimPosts.size());
+    List<Client> clients = new ArrayList<>(claimPosts.size());
+    for (ClaimPost claimPost : claimPosts) {
+      NewClaim newClaim = toNewClaim(submission, claimPost);
+      claims.add(newClaim.claim());
+      claimSummaryFees.add(newClaim.claimSummaryFee());
+      claimCases.add(newClaim.claimCase());
+      if (newClaim.client() != null) {
+        clients.add(newClaim.client());
+      }
+    }
+
+    batchInsertRepository.insertAll(claims);
+    batchInsertRepository.insertAll(claimSummaryFees);
+    batchInsertRepository.insertAll(claimCases);
+    batchInsertRepository.insertAll(clients);
+
+    return claims.stream().map(Claim::getId).toList();
+  }
+
+  /**
+   * Maps a claim payload onto the new rows that make up a claim, with ids and creating user
+   * assigned. The client is {@code null} when the payload carries no client details.
+   */
+  private NewClaim toNewClaim(Submission submission, ClaimPost claimPost) {
     Claim claim = claimMapper.toClaim(claimPost);
     claim.setId(Uuid7.timeBasedUuid());
     claim.setSubmission(submission);
     claim.setCreatedByUserId(claimPost.getCreatedByUserId());
-    claimRepository.save(claim);
 
     ClaimSummaryFee claimSummaryFee = claimMapper.toClaimSummaryFee(claimPost);
     claimSummaryFee.setId(Uuid7.timeBasedUuid());
     claimSummaryFee.setClaim(claim);
     claimSummaryFee.setCreatedByUserId(claimPost.getCreatedByUserId());
-    claimSummaryFeeRepository.save(claimSummaryFee);
 
     ClaimCase claimCase = claimMapper.toClaimCase(claimPost);
     claimCase.setId(Uuid7.timeBasedUuid());
     claimCase.setClaim(claim);
     claimCase.setCreatedByUserId(claimPost.getCreatedByUserId());
-    claimCaseRepository.save(claimCase);
 
     Client client = clientMapper.toClient(claimPost);
     if (hasClientData(client)) {
       client.setId(Uuid7.timeBasedUuid());
       client.setClaim(claim);
       client.setCreatedByUserId(claimPost.getCreatedByUserId());
-      clientRepository.save(client);
+    } else {
+      client = null;
     }
 
-    return claim.getId();
+    return new NewClaim(claim, claimSummaryFee, claimCase, client);
   }
 
   /**
@@ -359,6 +453,78 @@ public class ClaimService
     }
   }
 
+  /**
+   * Apply the same amendment to a batch of claims in a submission.
+   *
+   * <p>Each claim is validated and saved as if it had been amended on its own, against the version
+   * it was read at, so one claim's rejection does not affect the others. The status and validation
+   * messages of the amendment are not applied.
+   *
+   * @param submissionId submission identifier
+   * @param batchAmendment the claims to amend and the amendment to apply
+   * @return the outcome for each claim, in request order
+   */
+  public ClaimBatchAmendmentResult amendClaims(
+      UUID submissionId, ClaimBatchAmendment batchAmendment) {
+    requireEntity(submissionId);
+
+    Map<UUID, ClaimAmendmentPayload> payloads = new LinkedHashMap<>();
+    for (ClaimAmendmentTarget target : batchAmendment.getClaims()) {
+      ClaimAmendmentPayload payload = claimMapper.toAmendmentPayload(batchAmendment.getAmendment());
+      payload.setVersion(JsonNullable.of(target.getVersion()));
+      if (payloads.putIfAbsent(target.getClaimId(), payload) != null) {
+        throw new ClaimBadRequestException(
+            String.format("Claim %s is listed more than once", target.getClaimId()));
+      }
+    }
+
+    List<ClaimAmendmentOutcome> outcomes =
+        claimAmendmentBatchService.submitAmendments(submissionId, payloads).stream()
+            .map(ClaimService::toAmendmentOutcome)
+            .toList();
+    return new ClaimBatchAmendmentResult().results(outcomes);
+  }
+
+  /**
+   * Maps a claim's batch amendment result to the outcome and status it would have had as a single
+   * amendment: an amendment that changed nothing is a 204, and a rejection takes the status of its
+   * first fatal error, or 400.
+   */
+  private static ClaimAmendmentOutcome toAmendmentOutcome(ClaimAmendmentBatchResult batchResult) {
+    ClaimAmendmentResult result = batchResult.result();
+    ClaimAmendmentOutcome outcome = new ClaimAmendmentOutcome().claimId(batchResult.claimId());
+    if (result.isSuccess()) {
+      return outcome
+          .outcome(ClaimAmendmentOutcomeType.AMENDED)
+          .status(HttpStatus.NO_CONTENT.value())
+          .amendmentId(result.amendment().getId());
+    }
+
+    ClaimAmendmentValidationError primaryError =
+        result.errors().stream()
+            .sorted(
+                Comparator.comparing(
+                        ClaimAmendmentValidationError::isFatal, Comparator.reverseOrder())
+                    .thenComparing(
+                        error -> error.getHttpStatus().value(), Comparator.reverseOrder()))
+            .findFirst()
+            .orElseThrow();
+    HttpStatus status =
+        primaryError.isFatal() ? primaryError.getHttpStatus() : HttpStatus.BAD_REQUEST;
+    if (status == HttpStatus.NO_CONTENT) {
+      return outcome.outcome(ClaimAmendmentOutcomeType.UNCHANGED).status(status.value());
+    }
+    return outcome
+        .outcome(ClaimAmendmentOutcomeType.REJECTED)
+        .status(status.value())
+        .errors(
+            result.errors().stream()
+                .map(
+                    error ->
+                        new ClaimAmendmentError().code(error.getCode()).message(error.getMessage()))
+                .toList());
+  }
+
   protected ClaimSummaryFee requireClaimSummaryFee(Claim claim) {
     return claimSummaryFeeRepository
         .findByClaim(claim)
@@ -466,33 +632,68 @@ public class ClaimService
             pageable);
 
     ClaimResultSet response = claimResultSetMapper.toClaimResultSet(page);
-    for (ClaimResponse claimResponse : response.getContent()) {
-      if (claimResponse.getId() != null) {
-        clientRepository
-            .findByClaimId(UUID.fromString(claimResponse.getId()))
-            .ifPresent(client -> clientMapper.updateClaimResponseFromClient(client, claimResponse));
-        claimSummaryFeeRepository
-            .findByClaimId(UUID.fromString(claimResponse.getId()))
-            .ifPresent(
-                fee -> claimMapper.updateClaimResponseFromClaimSummaryFee(fee, claimResponse));
-        calculatedFeeDetailRepository
-            .findFirstByClaimIdOrderByCreatedOnDescIdDesc(UUID.fromString(claimResponse.getId()))
-            .ifPresent(
-                feeDetail ->
-                    claimMapper.updateClaimResponseFromCalculatedFeeDetail(
-                        feeDetail, claimResponse));
-        claimCaseRepository
-            .findByClaimId(UUID.fromString(claimResponse.getId()))
-            .ifPresent(
-                claimCase ->
-                    claimMapper.updateClaimResponseFromClaimCase(claimCase, claimResponse));
-        long totalWarningsForClaim =
-            validationMessageLogRepository.countAllByClaimIdAndType(
-                UUID.fromString(claimResponse.getId()), ValidationMessageType.WARNING);
-        claimMapper.updateTotalWarningMessages(totalWarningsForClaim, claimResponse);
+    enrichClaimResponses(page.getContent(), response.getContent());
+    return response;
+  }
+
+  /**
+   * Copies the client, summary fee, latest calculated fee and claim case of each claim onto its
+   * response. Each relation is loaded for the whole page at once (the client and claim case are
+   * fetched with the page itself), so the number of queries does not grow with the page size.
+   */
+  private void enrichClaimResponses(List<Claim> claims, List<ClaimResponse> claimResponses) {
+    if (claimResponses == null || claimResponses.isEmpty()) {
+      return;
+    }
+    Map<UUID, Claim> claimsById =
+        claims.stream()
+            .filter(claim -> claim.getId() != null)
+            .collect(Collectors.toMap(Claim::getId, claim -> claim, (first, second) -> first));
+    List<UUID> claimIds =
+        claimResponses.stream()
+            .map(ClaimResponse::getId)
+            .filter(Objects::nonNull)
+            .map(UUID::fromString)
+            .distinct()
+            .toList();
+    if (claimIds.isEmpty()) {
+      return;
+    }
+
+    Map<UUID, ClaimSummaryFee> summaryFeesByClaimId =
+        claimSummaryFeeRepository.findByClaimIdIn(claimIds).stream()
+            .collect(
+                Collectors.toMap(
+                    fee -> fee.getClaim().getId(), fee -> fee, (first, second) -> first));
+    Map<UUID, CalculatedFeeDetail> feeDetailsByClaimId =
+        calculatedFeeDetailRepository.findLatestByClaimIdIn(claimIds).stream()
+            .collect(
+                Collectors.toMap(
+                    feeDetail -> feeDetail.getClaim().getId(),
+                    feeDetail -> feeDetail,
+                    (first, second) -> first));
+
+    for (ClaimResponse claimResponse : claimResponses) {
+      if (claimResponse.getId() == null) {
+        continue;
+      }
+      UUID claimId = UUID.fromString(claimResponse.getId());
+      Claim claim = claimsById.get(claimId);
+      if (claim != null && claim.getClient() != null) {
+        clientMapper.updateClaimResponseFromClient(claim.getClient(), claimResponse);
+      }
+      ClaimSummaryFee fee = summaryFeesByClaimId.get(claimId);
+      if (fee != null) {
+        claimMapper.updateClaimResponseFromClaimSummaryFee(fee, claimResponse);
+      }
+      CalculatedFeeDetail feeDetail = feeDetailsByClaimId.get(claimId);
+      if (feeDetail != null) {
+        claimMapper.updateClaimResponseFromCalculatedFeeDetail(feeDetail, claimResponse);
+      }
+      if (claim != null && claim.getClaimCase() != null) {
+        claimMapper.updateClaimResponseFromClaimCase(claim.getClaimCase(), claimResponse);
       }
     }
-    return response;
   }
 
   /**
@@ -504,6 +705,24 @@ public class ClaimService
    * @return the paginated result set with all claims that satisfy the filtering criteria above.
    */
   public ClaimResultSetV2 getClaimResultSetV2(ClaimSearchRequest request, Pageable pageable) {
+    return getClaimResultSetV2(request, pageable, true);
+  }
+
+  /**
+   * Returns all the existing claims filtered by some parameters and paginated in a {@link
+   * ClaimResultSet}, optionally without counting every matching claim.
+   *
+   * <p>When {@code includeTotal} is {@code false} the count query over the filtered claims is
+   * skipped: one claim more than the page size is read instead to populate {@link
+   * ClaimResultSetV2#getHasNext()}, and the totals are left unset.
+   *
+   * @param request an object containing all the parameters to filter by
+   * @param pageable a pageable object to yield the paginated claims results
+   * @param includeTotal whether to count the matching claims to populate the totals
+   * @return the paginated result set with all claims that satisfy the filtering criteria above.
+   */
+  public ClaimResultSetV2 getClaimResultSetV2(
+      ClaimSearchRequest request, Pageable pageable, boolean includeTotal) {
 
     // Normalise before validation.
     DataNormaliser.normaliseClaimSearchRequest(request);
@@ -531,40 +750,101 @@ public class ClaimService
             .and(ClaimSpecification.orderByDerivedClaimStatus(mappedPageable))
             .and(feeSortSpec);
 
-    Page<Claim> page = claimRepository.findAll(combinedSpec, sanitizedPageable);
+    ClaimResultSetV2 response;
+    if (includeTotal) {
+      Page<Claim> page = claimRepository.findAll(combinedSpec, sanitizedPageable);
+      response = claimResultSetMapper.toClaimResultSetV2(page);
+    } else {
+      Pageable slicePageable = sanitizedPageable;
+      Slice<Claim> slice =
+          claimRepository.findBy(
+              combinedSpec,
+              query ->
+                  query
+                      .project(
+                          ClaimSpecification.CLIENT_ENTITY,
+                          ClaimSpecification.CLAIM_CASE_ENTITY,
+                          ClaimSpecification.SUBMISSION_ENTITY)
+                      .slice(slicePageable));
+      response = claimResultSetMapper.toClaimResultSetV2(slice);
+    }
+    return response;
+  }
 
-    ClaimResultSetV2 response = claimResultSetMapper.toClaimResultSetV2(page);
+  /**
+   * Returns one page of the claims matching the request using keyset (cursor) pagination.
+   *
+   * <p>Unlike {@link #getClaimResultSetV2(ClaimSearchRequest, Pageable)} no count query is run and
+   * the page is read with a seek predicate on the last sort key and id rather than an offset, so
+   * the cost of a page does not depend on how deep it is. Totals and the page number are therefore
+   * not populated; {@link ClaimResultSetV2#getNextCursor()} is set when there are further claims.
+   *
+   * @param request an object containing all the parameters to filter by
+   * @param pageable the page size and an optional single sort order; the page number is ignored
+   * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+   * @return the page of claims following the cursor
+   * @throws ClaimBadRequestException if the sort cannot be used with cursor pagination or the
+   *     cursor is invalid or was issued for a different sort
+   */
+  public ClaimResultSetV2 getClaimResultSetV2AfterCursor(
+      ClaimSearchRequest request, Pageable pageable, String cursor) {
 
-    List<UUID> claimIds =
-        response.getContent().stream()
-            .map(ClaimResponseV2::getId)
-            .filter(Objects::nonNull)
-            .map(UUID::fromString)
-            .distinct()
-            .toList();
+    DataNormaliser.normaliseClaimSearchRequest(request);
+    claimSearchRequestValidator.validate(request);
+
+    List<Sort.Order> orders = pageable.getSort().toList();
+    if (orders.size() > 1) {
+      throw new ClaimBadRequestException("Cursor pagination supports a single sort field");
+    }
+    Sort.Order order = orders.isEmpty() ? null : orders.getFirst();
+    ClaimSortField sortField = order == null ? null : mapOrderToSortField(order);
+    Sort.Direction direction = order == null ? Sort.Direction.ASC : order.getDirection();
+    if (!ClaimSearchCursor.supports(sortField)) {
+      throw new ClaimBadRequestException(
+          ClaimSearchCursor.UNSUPPORTED_CURSOR_SORT.formatted(sortField.getApiName()));
+    }
 
-    if (!claimIds.isEmpty()) {
-      // 2) Fetch all warning counts in a single query
-      Map<UUID, Long> warningsByClaimId =
-          validationMessageLogRepository
-              .countWarningsByClaimIdsAndType(claimIds, ValidationMessageType.WARNING)
-              .stream()
-              .collect(
-                  Collectors.toMap(
-                      ClaimWarningCountProjection::getClaimId,
-                      ClaimWarningCountProjection::getWarningCount));
-
-      // 3) Apply counts to each ClaimResponse (pure in-memory)
-      for (ClaimResponseV2 claimResponse : response.getContent()) {
-        if (claimResponse.getId() != null) {
-          UUID claimId = UUID.fromString(claimResponse.getId());
-          long totalWarningsForClaim = warningsByClaimId.getOrDefault(claimId, 0L);
-
-          claimMapper.updateTotalWarningMessagesV2(totalWarningsForClaim, claimResponse);
-        }
+    Specification<Claim> spec = ClaimSpecification.filterBy(request);
+    if (StringUtils.hasText(cursor)) {
+      ClaimSearchCursor after = ClaimSearchCursor.decode(cursor);
+      if (!after.matches(sortField, direction)) {
+        throw new ClaimBadRequestException("Cursor does not match the requested sort");
       }
+      spec = spec.and(ClaimSpecification.after(after));
     }
 
+    Sort sort = Sort.by(Sort.Direction.ASC, ClaimSpecification.ID);
+    if (sortField != null) {
+      sort = Sort.by(direction, sortField.getEntityPath()).and(sort);
+    }
+    int pageSize = pageable.isPaged() ? pageable.getPageSize() : DEFAULT_CURSOR_PAGE_SIZE;
+    Sort seekSort = sort;
+
+    // Read one claim more than the page size to find out whether there is a next page.
+    List<Claim> claims =
+        claimRepository.findBy(
+            spec,
+            query ->
+                query
+                    .sortBy(seekSort)
+                    .limit(pageSize + 1)
+                    .project(
+                        ClaimSpecification.CLIENT_ENTITY,
+                        ClaimSpecification.CLAIM_CASE_ENTITY,
+                        ClaimSpecification.SUBMISSION_ENTITY)
+                    .all());
+
+    boolean hasNext = claims.size() > pageSize;
+    List<Claim> content = hasNext ? claims.subList(0, pageSize) : claims;
+
+    ClaimResultSetV2 response =
+        new ClaimResultSetV2()
+            .content(claimResultSetMapper.toClaimResponsesV2(content))
+            .size(pageSize);
+    if (hasNext) {
+      response.setNextCursor(
+          ClaimSearchCursor.after(content.getLast(), sortField, direction).encode());
+    }
     return response;
   }
 
@@ -587,14 +867,14 @@ public class ClaimService
   }
 
   private Sort.Order mapOrder(Sort.Order order) {
-    String apiProperty = order.getProperty();
+    return new Sort.Order(order.getDirection(), mapOrderToSortField(order).getEntityPath());
+  }
 
-    ClaimSortField sortField =
-        ClaimSortField.fromApiName(apiProperty)
-            .orElseThrow(
-                () -> new ClaimBadRequestException("Unsupported sort field: " + apiProperty));
+  private ClaimSortField mapOrderToSortField(Sort.Order order) {
+    String apiProperty = order.getProperty();
 
-    return new Sort.Order(order.getDirection(), sortField.getEntityPath());
+    return ClaimSortField.fromApiName(apiProperty)
+        .orElseThrow(() -> new ClaimBadRequestException("Unsupported sort field: " + apiProperty));
   }
 
   @Transactional
@@ -669,4 +949,7 @@ public class ClaimService
         ? Pageable.unpaged(sortWithTieBreak)
         : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sortWithTieBreak);
   }
+
+  private record NewClaim(
+      Claim claim, ClaimSummaryFee claimSummaryFee, ClaimCase claimCase, Client client) {}
 }
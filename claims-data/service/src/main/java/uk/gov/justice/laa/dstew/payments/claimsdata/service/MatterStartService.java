@@ -15,6 +15,7 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.mapper.MatterStartMapper;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.MatterStartGet;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.MatterStartPost;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.MatterStartResultSet;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.BatchInsertRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.MatterStartRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.lookup.AbstractEntityLookup;
@@ -30,6 +31,7 @@ public class MatterStartService
   private final SubmissionRepository submissionRepository;
   private final MatterStartRepository matterStartRepository;
   private final MatterStartMapper matterStartMapper;
+  private final BatchInsertRepository batchInsertRepository;
 
   @Override
   public SubmissionRepository lookup() {
@@ -52,12 +54,36 @@ public class MatterStartService
   public UUID createMatterStart(UUID submissionId, MatterStartPost matterStartPost) {
     Submission submission = requireEntity(submissionId);
 
+    MatterStart matterStart = toNewMatterStart(submission, matterStartPost);
+    matterStartRepository.save(matterStart);
+    return matterStart.getId();
+  }
+
+  /**
+   * Create a batch of matter starts for a submission in a single transaction. The submission is
+   * resolved once and the matter starts are inserted in JDBC batches.
+   *
+   * @param submissionId submission identifier
+   * @param matterStartPosts request payloads
+   * @return identifiers of the created matter starts, in the same order as {@code
+   *     matterStartPosts}
+   */
+  @Transactional
+  public List<UUID> createMatterStarts(UUID submissionId, List<MatterStartPost> matterStartPosts) {
+    Submission submission = requireEntity(submissionId);
+
+    List<MatterStart> matterStarts =
+        matterStartPosts.stream().map(post -> toNewMatterStart(submission, post)).toList();
+    batchInsertRepository.insertAll(matterStarts);
+    return matterStarts.stream().map(MatterStart::getId).toList();
+  }
+
+  private MatterStart toNewMatterStart(Submission submission, MatterStartPost matterStartPost) {
     MatterStart matterStart = matterStartMapper.toMatterStart(matterStartPost);
     matterStart.setId(Uuid7.timeBasedUuid());
     matterStart.setSubmission(submission);
     matterStart.setCreatedByUserId(matterStartPost.getCreatedByUserId());
-    matterStartRepository.save(matterStart);
-    return matterStart.getId();
+    return matterStart;
   }
 
   /**
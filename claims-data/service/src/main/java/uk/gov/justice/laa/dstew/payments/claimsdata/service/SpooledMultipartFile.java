@@ -0,0 +1,67 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * {@link MultipartFile} view of an upload that has been spooled to local disk, so that the spooled
+ * copy can be handed to the existing converters after the originating request has completed.
+ *
+ * @param name the name of the multipart form parameter
+ * @param originalFilename the filename supplied by the client, used to select a converter
+ * @param contentType the content type supplied by the client
+ * @param path the location of the spooled file
+ */
+record SpooledMultipartFile(String name, String originalFilename, String contentType, Path path)
+    implements MultipartFile {
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String getOriginalFilename() {
+    return originalFilename;
+  }
+
+  @Override
+  public String getContentType() {
+    return contentType;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return getSize() == 0;
+  }
+
+  @Override
+  public long getSize() {
+    try {
+      return Files.size(path);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public byte[] getBytes() throws IOException {
+    return Files.readAllBytes(path);
+  }
+
+  @Override
+  public InputStream getInputStream() throws IOException {
+    return Files.newInputStream(path);
+  }
+
+  @Override
+  public void transferTo(File dest) throws IOException {
+    Files.copy(path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+  }
+}
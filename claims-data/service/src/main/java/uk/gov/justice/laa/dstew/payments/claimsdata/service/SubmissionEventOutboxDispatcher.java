@@ -0,0 +1,254 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.ClaimsApiProperties;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.SubmissionEventOutbox;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionEventOutboxRepository;
+
+/**
+ * Publishes the submission events waiting in the {@link SubmissionEventOutbox} to the Amazon SNS
+ * topic, on the schedule set up by {@code SubmissionEventOutboxConfig}.
+ *
+ * <p>Each poll claims the oldest due events in a short transaction ({@link
+ * SubmissionEventOutboxStore#claimDue}), which leases them so the other instances skip them. It
+ * then publishes them with {@code PublishBatch}, ten to a call, the calls running concurrently on
+ * the asynchronous SNS client, without holding a transaction or row locks. The outcome is recorded
+ * in a second short transaction: published events are deleted, and an event that failed is retried
+ * after a backoff that doubles with each attempt, up to the configured maximum, so a failing topic
+ * is not hammered and the other events are not held up. After {@code
+ * laa.claims.api.event-outbox.max-attempts} failed attempts the event is dead-lettered: it is kept
+ * with its last error but no longer published.
+ *
+ * <p>Published as metrics: the time from an event being written to it being published ({@value
+ * #LAG_METRIC}), failed publish attempts ({@value #FAILURE_METRIC}), and, as of the last poll, the
+ * number of events waiting, the age of the oldest and the number dead-lettered ({@value
+ * #PENDING_METRIC}, {@value #OLDEST_AGE_METRIC}, {@value #DEAD_LETTER_METRIC}).
+ */
+@Service
+@Slf4j
+public class SubmissionEventOutboxDispatcher {
+
+  /** The most entries SNS accepts in one {@code PublishBatch} call. */
+  static final int MAX_BATCH_ENTRIES = 10;
+
+  static final String LAG_METRIC = "claims.event.outbox.lag";
+  static final String FAILURE_METRIC = "claims.event.outbox.publish.failures";
+  static final String PENDING_METRIC = "claims.event.outbox.pending";
+  static final String OLDEST_AGE_METRIC = "claims.event.outbox.oldest.age";
+  static final String DEAD_LETTER_METRIC = "claims.event.outbox.dead.letters";
+
+  private static final String EVENT_TYPE_ATTRIBUTE = "SubmissionEventType";
+
+  private final SubmissionEventOutboxStore outboxStore;
+  private final SubmissionEventOutboxRepository outboxRepository;
+  private final SnsAsyncClient snsAsyncClient;
+  private final ClaimsApiProperties claimsApiProperties;
+  private final String topicArn;
+
+  private final Timer lag;
+  private final Counter failures;
+  private final AtomicLong pending = new AtomicLong();
+  private final AtomicLong oldestAgeSeconds = new AtomicLong();
+  private final AtomicLong deadLetters = new AtomicLong();
+
+  /**
+   * Creates the dispatcher and registers its metrics.
+   *
+   * @param outboxStore the transactions claiming the due events and recording their outcome
+   * @param outboxRepository the outbox repository, read for the backlog metrics
+   * @param snsAsyncClient the client used to publish the events
+   * @param claimsApiProperties the Claims API configuration providing the outbox settings
+   * @param meterRegistry the registry the outbox metrics are published to
+   * @param topicArn the topic the events are published to
+   */
+  public SubmissionEventOutboxDispatcher(
+      SubmissionEventOutboxStore outboxStore,
+      SubmissionEventOutboxRepository outboxRepository,
+      SnsAsyncClient snsAsyncClient,
+      ClaimsApiProperties claimsApiProperties,
+      MeterRegistry meterRegistry,
+      @Value("${aws.sns.topic-arn}") String topicArn) {
+    this.outboxStore = outboxStore;
+    this.outboxRepository = outboxRepository;
+    this.snsAsyncClient = snsAsyncClient;
+    this.claimsApiProperties = claimsApiProperties;
+    this.topicArn = topicArn;
+    this.lag =
+        Timer.builder(LAG_METRIC)
+            .description("Time from a submission event being written to it being published")
+            .register(meterRegistry);
+    this.failures =
+        Counter.builder(FAILURE_METRIC)
+            .description("Failed attempts to publish a submission event")
+            .register(meterRegistry);
+    Gauge.builder(PENDING_METRIC, pending, AtomicLong::get)
+        .description("Submission events waiting in the outbox")
+        .register(meterRegistry);
+    Gauge.builder(OLDEST_AGE_METRIC, oldestAgeSeconds, AtomicLong::get)
+        .description("Age of the oldest submission event waiting in the outbox")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+    Gauge.builder(DEAD_LETTER_METRIC, deadLetters, AtomicLong::get)
+        .description("Submission events given up on after failing to publish too many times")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Publishes the due events in the outbox: claims them, publishes them with no transaction held,
+   * then deletes the published events and reschedules or dead-letters the failed ones.
+   *
+   * @return the number of events published
+   */
+  public int dispatch() {
+    ClaimsApiProperties.EventOutbox settings = claimsApiProperties.getEventOutbox();
+    List<SubmissionEventOutbox> due =
+        outboxStore.claimDue(settings.getBatchSize(), settings.getLease());
+
+    List<CompletableFuture<Map<String, String>>> calls = new ArrayList<>();
+    for (int from = 0; from < due.size(); from += MAX_BATCH_ENTRIES) {
+      calls.add(publishBatch(due.subList(from, Math.min(from + MAX_BATCH_ENTRIES, due.size()))));
+    }
+
+    Instant now = Instant.now();
+    List<UUID> published = new ArrayList<>();
+    List<SubmissionEventOutbox> failed = new ArrayList<>();
+    for (int call = 0; call < calls.size(); call++) {
+      Map<String, String> errors = calls.get(call).join();
+      int from = call * MAX_BATCH_ENTRIES;
+      for (SubmissionEventOutbox event :
+          due.subList(from, Math.min(from + MAX_BATCH_ENTRIES, due.size()))) {
+        String error = errors.get(event.getId().toString());
+        if (error == null) {
+          lag.record(Duration.between(event.getCreatedOn(), now));
+          published.add(event.getId());
+        } else {
+          reschedule(event, error, now, settings);
+          failed.add(event);
+        }
+      }
+    }
+    if (!due.isEmpty()) {
+      outboxStore.recordOutcome(published, failed);
+    }
+
+    updateBacklogGauges(now);
+    return published.size();
+  }
+
+  /**
+   * Publishes up to ten events in one call, completing with the error of each event that failed,
+   * keyed by its batch entry id. A failed call fails every event in it.
+   */
+  private CompletableFuture<Map<String, String>> publishBatch(List<SubmissionEventOutbox> events) {
+    PublishBatchRequest request =
+        PublishBatchRequest.builder()
+            .topicArn(topicArn)
+            .publishBatchRequestEntries(events.stream().map(this::toEntry).toList())
+            .build();
+    CompletableFuture<PublishBatchResponse> call;
+    try {
+      call = snsAsyncClient.publishBatch(request);
+    } catch (RuntimeException ex) {
+      // A call that fails before it is made still counts as an attempt for each of its events.
+      call = CompletableFuture.failedFuture(ex);
+    }
+    return call.thenApply(SubmissionEventOutboxDispatcher::errorsOf)
+        .exceptionally(
+            ex -> {
+              Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+              Map<String, String> errors = new HashMap<>();
+              events.forEach(event -> errors.put(event.getId().toString(), cause.toString()));
+              return errors;
+            });
+  }
+
+  private PublishBatchRequestEntry toEntry(SubmissionEventOutbox event) {
+    return PublishBatchRequestEntry.builder()
+        .id(event.getId().toString())
+        .message(event.getMessageBody())
+        .messageAttributes(
+            Map.of(
+                EVENT_TYPE_ATTRIBUTE,
+                MessageAttributeValue.builder()
+                    .dataType("String")
+                    .stringValue(event.getEventType().toString())
+                    .build()))
+        .build();
+  }
+
+  private static Map<String, String> errorsOf(PublishBatchResponse response) {
+    Map<String, String> errors = new HashMap<>();
+    for (BatchResultErrorEntry failed : response.failed()) {
+      errors.put(failed.id(), failed.code() + ": " + failed.message());
+    }
+    return errors;
+  }
+
+  private void reschedule(
+      SubmissionEventOutbox event,
+      String error,
+      Instant now,
+      ClaimsApiProperties.EventOutbox settings) {
+    int attempts = event.getAttempts() + 1;
+    event.setAttempts(attempts);
+    event.setLastError(error);
+    failures.increment();
+    if (attempts >= settings.getMaxAttempts()) {
+      event.setDeadLetteredOn(now);
+      log.error(
+          "Failed to publish {} event {} after {} attempts, dead-lettering it: {}",
+          event.getEventType(),
+          event.getId(),
+          attempts,
+          error);
+      return;
+    }
+    event.setNextAttemptOn(now.plus(backoff(attempts, settings)));
+    log.warn(
+        "Failed to publish {} event {} (attempt {}), retrying from {}: {}",
+        event.getEventType(),
+        event.getId(),
+        attempts,
+        event.getNextAttemptOn(),
+        error);
+  }
+
+  /** The initial backoff doubled for each attempt after the first, capped at the maximum. */
+  static Duration backoff(int attempts, ClaimsApiProperties.EventOutbox settings) {
+    Duration max = settings.getMaxBackoff();
+    Duration backoff = settings.getInitialBackoff();
+    for (int attempt = 1; attempt < attempts && backoff.compareTo(max) < 0; attempt++) {
+      backoff = backoff.multipliedBy(2);
+    }
+    return backoff.compareTo(max) < 0 ? backoff : max;
+  }
+
+  private void updateBacklogGauges(Instant now) {
+    pending.set(outboxRepository.countByDeadLetteredOnIsNull());
+    deadLetters.set(outboxRepository.countByDeadLetteredOnIsNotNull());
+    Instant oldest = outboxRepository.findOldestCreatedOn();
+    oldestAgeSeconds.set(oldest == null ? 0 : Duration.between(oldest, now).toSeconds());
+  }
+}
@@ -0,0 +1,60 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.SubmissionEventOutbox;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionEventOutboxRepository;
+
+/**
+ * The short write transactions of {@link SubmissionEventOutboxDispatcher}: claiming the due events
+ * before they are published, and recording the outcome once they have been. No transaction, and
+ * so no row lock, is held while the events are being published.
+ */
+@Service
+@RequiredArgsConstructor
+public class SubmissionEventOutboxStore {
+
+  private final SubmissionEventOutboxRepository outboxRepository;
+
+  /**
+   * Claims the oldest due events for the calling instance: locks them, skipping any locked by
+   * another instance, and leases them by moving their next attempt to the end of the lease, so the
+   * other instances skip them once the locks are released.
+   *
+   * @param limit the maximum number of events to claim
+   * @param lease how long the claimed events are hidden from the other instances
+   * @return the claimed events, oldest first
+   */
+  @Transactional
+  public List<SubmissionEventOutbox> claimDue(int limit, Duration lease) {
+    List<SubmissionEventOutbox> due = outboxRepository.lockDue(limit);
+    if (!due.isEmpty()) {
+      outboxRepository.leaseUntil(
+          due.stream().map(SubmissionEventOutbox::getId).toList(), Instant.now().plus(lease));
+    }
+    return due;
+  }
+
+  /**
+   * Records the outcome of publishing claimed events: deletes the published ones and saves the
+   * rescheduled or dead-lettered state of the failed ones.
+   *
+   * @param publishedIds the ids of the events that were published
+   * @param failed the events that failed, with their updated retry state
+   */
+  @Transactional
+  public void recordOutcome(Collection<UUID> publishedIds, List<SubmissionEventOutbox> failed) {
+    if (!publishedIds.isEmpty()) {
+      outboxRepository.deleteAllByIdInBatch(publishedIds);
+    }
+    if (!failed.isEmpty()) {
+      outboxRepository.saveAll(failed);
+    }
+  }
+}
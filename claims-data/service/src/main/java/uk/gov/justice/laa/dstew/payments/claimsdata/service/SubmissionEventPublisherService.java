@@ -2,41 +2,46 @@ package uk.gov.justice.laa.dstew.payments.claimsdata.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.services.sns.SnsClient;
-import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
-import software.amazon.awssdk.services.sns.model.PublishRequest;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.SubmissionEventOutbox;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionQueuePublishException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.SubmissionValidationQueuePublishException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionEventOutboxRepository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
 import uk.gov.justice.laa.dstew.payments.claimsevent.model.BulkSubmissionMessage;
 import uk.gov.justice.laa.dstew.payments.claimsevent.model.SubmissionEventType;
 import uk.gov.justice.laa.dstew.payments.claimsevent.model.SubmissionValidationMessage;
 
-/** Service responsible for publishing submission events to the Amazon SNS topic. */
+/**
+ * Service responsible for publishing submission events to the Amazon SNS topic.
+ *
+ * <p>Events are written to the {@link SubmissionEventOutbox} in the caller's transaction, or in a
+ * transaction of their own when there is none, and published in the background by {@link
+ * SubmissionEventOutboxDispatcher}. An event is therefore published if and only if the change that
+ * raised it commits, and the SNS call is kept off the request thread.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SubmissionEventPublisherService {
 
-  private final SnsClient snsClient;
+  private final SubmissionEventOutboxRepository submissionEventOutboxRepository;
   private final ObjectMapper objectMapper;
 
-  @Value("${aws.sns.topic-arn}")
-  private String topicArn;
-
   /**
    * Publishes a bulk submission identifier and its associated submission identifiers to an Amazon
-   * SNS topic.
+   * SNS topic, once the current transaction commits.
    *
    * @param bulkSubmissionId the unique identifier for the bulk submission
    * @param submissionIds the list of unique identifiers for the individual submissions
    */
+  @Transactional
   public void publishBulkSubmissionEvent(UUID bulkSubmissionId, List<UUID> submissionIds) {
     BulkSubmissionMessage bulkSubmissionMessage =
         new BulkSubmissionMessage(bulkSubmissionId, submissionIds);
@@ -54,10 +59,12 @@ public class SubmissionEventPublisherService {
   }
 
   /**
-   * Publishes a submission id for validation to an Amazon SNS topic.
+   * Publishes a submission id for validation to an Amazon SNS topic, once the current transaction
+   * commits.
    *
    * @param submissionId the unique identifier for the submission
    */
+  @Transactional
   public void publishSubmissionValidationEvent(UUID submissionId) {
     SubmissionValidationMessage submissionValidationMessage =
         new SubmissionValidationMessage(submissionId);
@@ -75,10 +82,12 @@ public class SubmissionEventPublisherService {
   }
 
   /**
-   * Publishes a submission id for validation succeeded event to an Amazon SNS topic.
+   * Publishes a submission id for validation succeeded event to an Amazon SNS topic, once the
+   * current transaction commits. A message that cannot be created is logged rather than thrown.
    *
    * @param submissionId the unique identifier for the submission
    */
+  @Transactional
   public void publishSubmissionValidationSucceededEvent(UUID submissionId) {
     SubmissionValidationMessage submissionValidationSucceededMessage =
         new SubmissionValidationMessage(submissionId);
@@ -86,7 +95,7 @@ public class SubmissionEventPublisherService {
       publishEvent(
           submissionValidationSucceededMessage,
           SubmissionEventType.SUBMISSION_VALIDATION_SUCCEEDED);
-    } catch (Exception e) {
+    } catch (JsonProcessingException e) {
       log.error(
           "Failed to publish SUBMISSION_VALIDATION_SUCCEEDED event for submission id [{}]",
           submissionId,
@@ -95,7 +104,8 @@ public class SubmissionEventPublisherService {
   }
 
   /**
-   * Publish a submission event with a message attribute describing the type of submission event.
+   * Write a submission event to the outbox, to be published with a message attribute describing
+   * the type of submission event.
    *
    * @param message the representation of the message to send
    * @param submissionEventType the type of submission event
@@ -104,23 +114,15 @@ public class SubmissionEventPublisherService {
   private void publishEvent(Object message, SubmissionEventType submissionEventType)
       throws JsonProcessingException {
     String messageBody = objectMapper.writeValueAsString(message);
+    Instant now = Instant.now();
 
-    Map<String, MessageAttributeValue> messageAttributes =
-        Map.of("SubmissionEventType", getSubmissionEventTypeAttribute(submissionEventType));
-
-    snsClient.publish(
-        PublishRequest.builder()
-            .topicArn(topicArn)
-            .message(messageBody)
-            .messageAttributes(messageAttributes)
+    submissionEventOutboxRepository.save(
+        SubmissionEventOutbox.builder()
+            .id(Uuid7.timeBasedUuid())
+            .eventType(submissionEventType)
+            .messageBody(messageBody)
+            .createdOn(now)
+            .nextAttemptOn(now)
             .build());
   }
-
-  private MessageAttributeValue getSubmissionEventTypeAttribute(
-      SubmissionEventType submissionEventType) {
-    return MessageAttributeValue.builder()
-        .dataType("String")
-        .stringValue(submissionEventType.toString())
-        .build();
-  }
 }
@@ -8,18 +8,22 @@ import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 import uk.gov.justice.laa.dstew.payments.claims.validation.core.model.ValidationResult;
 import uk.gov.justice.laa.dstew.payments.claims.validation.core.service.ValidationService;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Submission;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.SubmissionTotals;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.ValidationMessageLog;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.DuplicateSubmissionException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.SubmissionBadRequestException;
@@ -36,13 +40,13 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.model.SubmissionResponse;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.SubmissionStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.SubmissionsResultSet;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionRepository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionTotalsRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ValidationMessageLogRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.specification.SubmissionSpecification;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.lookup.AbstractEntityLookup;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.BigDecimalUtils;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.PageableUtils;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.SubmissionSortField;
-import uk.gov.justice.laa.dstew.payments.claimsdata.util.TransactionalPublisher;
 
 /** Service containing business logic for handling submissions. */
 @Service
@@ -70,6 +74,7 @@ public class SubmissionService
   private final SubmissionsResultSetMapper submissionsResultSetMapper;
   private final SubmissionEventPublisherService submissionEventPublisherService;
   private final AssessmentService assessmentService;
+  private final SubmissionTotalsRepository submissionTotalsRepository;
 
   @Override
   public SubmissionRepository lookup() {
@@ -82,11 +87,13 @@ public class SubmissionService
   }
 
   /**
-   * Create and persist a new submission.
+   * Create and persist a new submission. The submission and its validation-succeeded event are
+   * written to the outbox in the same transaction.
    *
    * @param submissionPost request body
    * @return id of the created submission
    */
+  @Transactional
   public UUID createSubmission(SubmissionPost submissionPost) {
     Submission submission = submissionMapper.toSubmission(submissionPost);
     submission.setCreatedByUserId(submissionPost.getCreatedByUserId());
@@ -112,7 +119,7 @@ public class SubmissionService
     submissionRepository.save(submission);
 
     if (submission.getStatus() == SubmissionStatus.VALIDATION_SUCCEEDED) {
-      publishValidationSucceededAfterCommit(submission.getId());
+      submissionEventPublisherService.publishSubmissionValidationSucceededEvent(submission.getId());
     }
 
     return submission.getId();
@@ -168,8 +175,17 @@ public class SubmissionService
 
     List<UUID> matterStartIds = matterStartService.getMatterStartIdsForSubmission(id);
 
-    var calculatedTotalAmount = submissionRepository.getCalculatedTotalAmount(id);
-    var assessedTotalAmount = assessmentService.getAssessedTotalAmount(id);
+    // The totals are read from the maintained aggregates, and only counted here for a submission
+    // that does not have a totals row yet.
+    SubmissionTotals totals = submissionTotalsRepository.findById(id).orElse(null);
+    var calculatedTotalAmount =
+        totals != null
+            ? totals.getCalculatedTotalAmount()
+            : submissionRepository.getCalculatedTotalAmount(id);
+    var assessedTotalAmount =
+        totals != null
+            ? totals.getAssessedTotalAmount()
+            : assessmentService.getAssessedTotalAmount(id);
 
     return new SubmissionResponse()
         .submissionId(submission.getId())
@@ -208,11 +224,9 @@ public class SubmissionService
     submissionRepository.save(submission);
 
     if (submissionPatch.getStatus() == SubmissionStatus.READY_FOR_VALIDATION) {
-      TransactionalPublisher.runAfterCommit(
-          () ->
-              submissionEventPublisherService.publishSubmissionValidationEvent(submission.getId()));
+      submissionEventPublisherService.publishSubmissionValidationEvent(submission.getId());
     } else if (submissionPatch.getStatus() == SubmissionStatus.VALIDATION_SUCCEEDED) {
-      publishValidationSucceededAfterCommit(submission.getId());
+      submissionEventPublisherService.publishSubmissionValidationSucceededEvent(submission.getId());
     } else if (submissionPatch.getStatus() == SubmissionStatus.VALIDATION_FAILED) {
       int totalUpdatedClaims =
           claimService.updateAllClaimsStatusForSubmission(id, ClaimStatus.INVALID);
@@ -257,6 +271,49 @@ public class SubmissionService
       String submissionPeriod,
       List<SubmissionStatus> submissionStatuses,
       Pageable pageable) {
+    return getSubmissionsResultSet(
+        offices,
+        submissionId,
+        submittedDateFrom,
+        submittedDateTo,
+        areaOfLaw,
+        submissionPeriod,
+        submissionStatuses,
+        pageable,
+        true);
+  }
+
+  /**
+   * Returns all the existing submissions filtered by some parameters and paginated in a {@link
+   * SubmissionsResultSet}, optionally without counting every matching submission.
+   *
+   * <p>When {@code includeTotal} is {@code false} the count query over the filtered submissions is
+   * skipped: one submission more than the page size is read instead to populate {@link
+   * SubmissionsResultSet#getHasNext()}, and the totals are left unset.
+   *
+   * @param offices a mandatory list of office codes to filter submissions by
+   * @param submissionId an optional identifier to filter submissions by
+   * @param submittedDateFrom an optional end date to filter submissions created on or after this
+   *     date
+   * @param submittedDateTo an optional end date to filter submissions created on or before this
+   *     date
+   * @param submissionStatuses an optional list of submission statuses to filter submissions by
+   * @param pageable a pageable object to yield the paginated submission results
+   * @param includeTotal whether to count the matching submissions to populate the totals
+   * @return the paginated result set with all submissions that satisfy the filtering criteria
+   *     above.
+   */
+  @Transactional(readOnly = true)
+  public SubmissionsResultSet getSubmissionsResultSet(
+      List<String> offices,
+      String submissionId,
+      LocalDate submittedDateFrom,
+      LocalDate submittedDateTo,
+      AreaOfLaw areaOfLaw,
+      String submissionPeriod,
+      List<SubmissionStatus> submissionStatuses,
+      Pageable pageable,
+      boolean includeTotal) {
 
     if (offices == null || offices.isEmpty()) {
       throw new SubmissionBadRequestException("Missing offices list");
@@ -266,34 +323,54 @@ public class SubmissionService
         PageableUtils.validateAndRemap(
             pageable, SubmissionSortField.values(), SubmissionBadRequestException::new, true);
 
-    Page<Submission> page =
-        submissionRepository.findAll(
-            SubmissionSpecification.filterByOfficeAccountNumberIn(offices)
-                .and(SubmissionSpecification.submissionIdEqualTo(submissionId))
-                .and(SubmissionSpecification.createdOnOrAfter(submittedDateFrom))
-                .and(SubmissionSpecification.createdOnOrBefore(submittedDateTo))
-                .and(SubmissionSpecification.areaOfLawEqual(areaOfLaw))
-                .and(SubmissionSpecification.submissionPeriodEqual(submissionPeriod))
-                .and(SubmissionSpecification.submissionStatusIn(submissionStatuses)),
-            stablePageable);
-
-    SubmissionsResultSet resultSet = submissionsResultSetMapper.toSubmissionsResultSet(page);
+    Specification<Submission> spec =
+        SubmissionSpecification.filterByOfficeAccountNumberIn(offices)
+            .and(SubmissionSpecification.submissionIdEqualTo(submissionId))
+            .and(SubmissionSpecification.createdOnOrAfter(submittedDateFrom))
+            .and(SubmissionSpecification.createdOnOrBefore(submittedDateTo))
+            .and(SubmissionSpecification.areaOfLawEqual(areaOfLaw))
+            .and(SubmissionSpecification.submissionPeriodEqual(submissionPeriod))
+            .and(SubmissionSpecification.submissionStatusIn(submissionStatuses));
+
+    Slice<Submission> page;
+    SubmissionsResultSet resultSet;
+    if (includeTotal) {
+      Page<Submission> fullPage = submissionRepository.findAll(spec, stablePageable);
+      resultSet = submissionsResultSetMapper.toSubmissionsResultSet(fullPage);
+      page = fullPage;
+    } else {
+      page = submissionRepository.findBy(spec, query -> query.slice(stablePageable));
+      resultSet = submissionsResultSetMapper.toSubmissionsResultSet(page);
+    }
     List<UUID> submissionIds = page.getContent().stream().map(Submission::getId).toList();
 
     if (submissionIds.isEmpty()) {
       return resultSet;
     }
 
+    Map<UUID, SubmissionTotals> totals =
+        submissionTotalsRepository.findAllById(submissionIds).stream()
+            .collect(Collectors.toMap(SubmissionTotals::getSubmissionId, Function.identity()));
+    // Only submissions without a totals row yet are counted here.
+    List<UUID> uncountedSubmissionIds =
+        submissionIds.stream().filter(id -> !totals.containsKey(id)).toList();
     Map<UUID, BigDecimal> assessedTotalAmounts =
-        assessmentService.getAssessedTotalAmounts(submissionIds);
-    Map<UUID, BigDecimal> calculatedTotalAmounts = getCalculatedTotalAmounts(submissionIds);
+        assessmentService.getAssessedTotalAmounts(uncountedSubmissionIds);
+    Map<UUID, BigDecimal> calculatedTotalAmounts =
+        getCalculatedTotalAmounts(uncountedSubmissionIds);
     resultSet
         .getContent()
         .forEach(
             submissionBase -> {
-              BigDecimal assessedTotal = assessedTotalAmounts.get(submissionBase.getSubmissionId());
+              SubmissionTotals submissionTotals = totals.get(submissionBase.getSubmissionId());
+              BigDecimal assessedTotal =
+                  submissionTotals != null
+                      ? submissionTotals.getAssessedTotalAmount()
+                      : assessedTotalAmounts.get(submissionBase.getSubmissionId());
               BigDecimal calcTotalAmount =
-                  calculatedTotalAmounts.get(submissionBase.getSubmissionId());
+                  submissionTotals != null
+                      ? submissionTotals.getCalculatedTotalAmount()
+                      : calculatedTotalAmounts.get(submissionBase.getSubmissionId());
 
               submissionBase.setAssessedTotalAmount(
                   BigDecimalUtils.scaleNullable(assessedTotal, DECIMAL_PLACES));
@@ -304,13 +381,6 @@ public class SubmissionService
     return resultSet;
   }
 
-  private void publishValidationSucceededAfterCommit(UUID submissionId) {
-    TransactionalPublisher.runAfterCommit(
-        () ->
-            submissionEventPublisherService.publishSubmissionValidationSucceededEvent(
-                submissionId));
-  }
-
   /**
    * Returns Calculated total amounts for the given submissions.
    *
@@ -0,0 +1,53 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.service;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.ClaimsApiProperties;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionTotalsRepository;
+
+/**
+ * Repairs drift in the per-submission totals, which are otherwise maintained incrementally by
+ * database triggers.
+ *
+ * <p>Every submission is recounted in a transaction of its own, so the job never holds more than
+ * one submission's totals row locked and writers to other submissions are not held up.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SubmissionTotalsReconciliationService {
+
+  private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+  private final SubmissionTotalsRepository submissionTotalsRepository;
+  private final ClaimsApiProperties claimsApiProperties;
+
+  /**
+   * Recounts the totals of every submission, correcting those that had drifted.
+   *
+   * @return the number of submissions whose totals were corrected
+   */
+  public int reconcileAll() {
+    int batchSize = claimsApiProperties.getSubmissionTotals().getReconciliation().getBatchSize();
+    int checked = 0;
+    int corrected = 0;
+    List<UUID> submissionIds =
+        submissionTotalsRepository.findSubmissionIdsAfter(FIRST_ID, batchSize);
+    while (!submissionIds.isEmpty()) {
+      for (UUID submissionId : submissionIds) {
+        if (submissionTotalsRepository.reconcile(submissionId)) {
+          log.warn("Corrected drifted totals of submission {}", submissionId);
+          corrected++;
+        }
+      }
+      checked += submissionIds.size();
+      submissionIds =
+          submissionTotalsRepository.findSubmissionIdsAfter(submissionIds.getLast(), batchSize);
+    }
+    log.info("Reconciled totals of {} submissions, {} corrected", checked, corrected);
+    return corrected;
+  }
+}
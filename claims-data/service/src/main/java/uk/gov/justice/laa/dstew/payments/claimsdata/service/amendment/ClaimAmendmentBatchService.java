@@ -0,0 +1,240 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment;
+
+import jakarta.persistence.OptimisticLockException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.ClaimsApiProperties;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentBatchResult;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentPayload;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentResult;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentState;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentValidationCode;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentValidationError;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.PreparedAmendment;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.ClaimAmendment;
+
+/**
+ * Orchestrator for one amendment applied to a batch of claims in a submission. It runs the phases
+ * of {@link ClaimAmendmentService} once for the batch as a whole:
+ *
+ * <ol>
+ *   <li><b>Prepare</b> ({@link ClaimAmendmentPreparationService#prepareAll}): every claim is read
+ *       and its state built in a single read-only transaction.
+ *   <li><b>Validate</b> (<b>no held transaction</b>): the claims are validated concurrently on
+ *       virtual threads, at most {@code laa.claims.api.amendments.batch.max-concurrency} at a time.
+ *       They share the cached amendment reference data, and claims that need the same fee
+ *       calculation share a single Fee Scheme Platform call.
+ *   <li><b>Commit</b> ({@link ClaimAmendmentCommitService#commitAll}): the valid amendments are
+ *       saved in groups of {@code laa.claims.api.amendments.batch.commit-group-size}, each group in
+ *       one write transaction. If the group fails to commit, for example because a claim in it
+ *       was modified concurrently, the group is rolled back and its amendments are saved again one
+ *       at a time, so only the claims that fail on their own are rejected.
+ * </ol>
+ *
+ * <p>Each claim gets the outcome it would have had if amended on its own. A claim that is not in
+ * the submission is rejected with {@code INVALID_CLAIM_NOT_FOUND}. A claim modified between prepare
+ * and commit is rejected with {@code CLAIM_VERSION_CONFLICT} instead of failing the batch. A claim
+ * whose validation throws, for example because the Fee Scheme Platform refused the call, is
+ * rejected with {@code CLAIM_AMENDMENT_VALIDATION_FAILED}, and a claim that fails to commit for any
+ * other reason with {@code CLAIM_AMENDMENT_COMMIT_FAILED}.
+ *
+ * <p>Groups commit independently, so a batch can be partly applied. The batch carries on past a
+ * failed claim, so the caller still gets an outcome for every claim, including those already
+ * amended by earlier groups.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ClaimAmendmentBatchService {
+
+  private final ClaimAmendmentPreparationService preparationService;
+  private final ClaimAmendmentValidationService validationService;
+  private final ClaimAmendmentCommitService commitService;
+  private final ClaimsApiProperties claimsApiProperties;
+
+  /**
+   * Submits an amendment for each of the given claims: prepare, validate, then grouped commits.
+   *
+   * @param submissionId the submission the claims belong to
+   * @param payloads the amendment payload for each claim, keyed by claim id in request order
+   * @return the outcome for each claim, in the order of {@code payloads}
+   */
+  public List<ClaimAmendmentBatchResult> submitAmendments(
+      UUID submissionId, Map<UUID, ClaimAmendmentPayload> payloads) {
+    // Phase 1 - prepare: read every claim and build its state in one read-only transaction.
+    Map<UUID, PreparedAmendment> prepared = preparationService.prepareAll(submissionId, payloads);
+
+    // Phase 2 - validate: concurrently, with no held transaction.
+    Map<UUID, List<ClaimAmendmentValidationError>> errors = validateAll(prepared);
+
+    // Phase 3 - commit: the valid amendments, a group per write transaction.
+    List<PreparedAmendment> valid =
+        prepared.entrySet().stream()
+            .filter(entry -> errors.get(entry.getKey()).isEmpty())
+            .map(Map.Entry::getValue)
+            .toList();
+    Map<UUID, ClaimAmendmentResult> committed = commitInGroups(valid);
+
+    List<ClaimAmendmentBatchResult> results = new ArrayList<>(payloads.size());
+    for (UUID claimId : payloads.keySet()) {
+      ClaimAmendmentResult result;
+      if (!prepared.containsKey(claimId)) {
+        result =
+            ClaimAmendmentResult.rejected(
+                List.of(
+                    ClaimAmendmentValidationError.of(
+                        ClaimAmendmentValidationCode.INVALID_CLAIM_NOT_FOUND, claimId)));
+      } else if (!errors.get(claimId).isEmpty()) {
+        result = ClaimAmendmentResult.rejected(errors.get(claimId));
+      } else {
+        result = committed.get(claimId);
+      }
+      results.add(new ClaimAmendmentBatchResult(claimId, result));
+    }
+    log.debug(
+        "Batch amendment of {} claim(s) in submission {}: {} amended",
+        payloads.size(),
+        submissionId,
+        committed.values().stream().filter(ClaimAmendmentResult::isSuccess).count());
+    return results;
+  }
+
+  /**
+   * Validates every prepared amendment on its own virtual thread, with at most the configured
+   * number running at once, and waits for all of them.
+   *
+   * @param prepared the prepared amendments keyed by claim id
+   * @return each claim's validation errors keyed by claim id; an empty list means it passed
+   */
+  private Map<UUID, List<ClaimAmendmentValidationError>> validateAll(
+      Map<UUID, PreparedAmendment> prepared) {
+    Semaphore permits =
+        new Semaphore(claimsApiProperties.getAmendments().getBatch().getMaxConcurrency());
+    Map<UUID, Future<List<ClaimAmendmentValidationError>>> validations = new LinkedHashMap<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      prepared.forEach(
+          (claimId, amendment) ->
+              validations.put(
+                  claimId, executor.submit(() -> validate(amendment.state(), permits))));
+
+      Map<UUID, List<ClaimAmendmentValidationError>> errors = new HashMap<>();
+      for (Map.Entry<UUID, Future<List<ClaimAmendmentValidationError>>> validation :
+          validations.entrySet()) {
+        errors.put(validation.getKey(), resultOf(validation.getKey(), validation.getValue()));
+      }
+      return errors;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while validating batch amendments", e);
+    }
+  }
+
+  /**
+   * Waits for one claim's validation. A validation that threw rejects only that claim, so a
+   * downstream failure for one claim does not cost the rest of the batch their outcomes.
+   */
+  private static List<ClaimAmendmentValidationError> resultOf(
+      UUID claimId, Future<List<ClaimAmendmentValidationError>> validation)
+      throws InterruptedException {
+    try {
+      return validation.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      log.error("Failed to validate the amendment of claim {}", claimId, e.getCause());
+      return List.of(
+          ClaimAmendmentValidationError.of(
+              ClaimAmendmentValidationCode.CLAIM_AMENDMENT_VALIDATION_FAILED));
+    }
+  }
+
+  private List<ClaimAmendmentValidationError> validate(
+      ClaimAmendmentState state, Semaphore permits) throws InterruptedException {
+    permits.acquire();
+    try {
+      return List.copyOf(validationService.validateAmendmentRequest(state));
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Commits the valid amendments in groups, falling back to one transaction per amendment for a
+   * group that fails to commit, so that only the claims that fail on their own are rejected. A
+   * failed group does not affect the groups committed before or after it.
+   *
+   * @param valid the amendments that passed validation
+   * @return each amendment's commit outcome keyed by claim id
+   */
+  private Map<UUID, ClaimAmendmentResult> commitInGroups(List<PreparedAmendment> valid) {
+    int groupSize =
+        Math.max(1, claimsApiProperties.getAmendments().getBatch().getCommitGroupSize());
+    Map<UUID, ClaimAmendmentResult> results = new HashMap<>();
+    for (int from = 0; from < valid.size(); from += groupSize) {
+      List<PreparedAmendment> group =
+          valid.subList(from, Math.min(from + groupSize, valid.size()));
+      try {
+        List<ClaimAmendment> saved = commitService.commitAll(group);
+        for (int i = 0; i < group.size(); i++) {
+          results.put(group.get(i).claim().getId(), ClaimAmendmentResult.success(saved.get(i)));
+        }
+      } catch (OptimisticLockException | OptimisticLockingFailureException ex) {
+        log.warn(
+            "A claim in a group of {} amendments was modified concurrently; "
+                + "committing the group one amendment at a time",
+            group.size());
+        commitEach(group, results);
+      } catch (RuntimeException ex) {
+        log.warn(
+            "Failed to commit a group of {} amendments; "
+                + "committing the group one amendment at a time",
+            group.size(),
+            ex);
+        commitEach(group, results);
+      }
+    }
+    return results;
+  }
+
+  private void commitEach(List<PreparedAmendment> group, Map<UUID, ClaimAmendmentResult> results) {
+    for (PreparedAmendment amendment : group) {
+      results.put(amendment.claim().getId(), commitOne(amendment));
+    }
+  }
+
+  private ClaimAmendmentResult commitOne(PreparedAmendment amendment) {
+    try {
+      return ClaimAmendmentResult.success(
+          commitService.commit(amendment.claim(), amendment.state()));
+    } catch (OptimisticLockException | OptimisticLockingFailureException ex) {
+      return ClaimAmendmentResult.rejected(
+          List.of(
+              ClaimAmendmentValidationError.of(
+                  ClaimAmendmentValidationCode.CLAIM_VERSION_CONFLICT)));
+    } catch (RuntimeException ex) {
+      log.error("Failed to commit the amendment of claim {}", amendment.claim().getId(), ex);
+      return commitFailed();
+    }
+  }
+
+  private static ClaimAmendmentResult commitFailed() {
+    return ClaimAmendmentResult.rejected(
+        List.of(
+            ClaimAmendmentValidationError.of(
+                ClaimAmendmentValidationCode.CLAIM_AMENDMENT_COMMIT_FAILED)));
+  }
+}
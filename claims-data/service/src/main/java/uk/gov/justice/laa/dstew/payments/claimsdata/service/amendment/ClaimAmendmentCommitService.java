@@ -2,6 +2,8 @@ package uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.OptimisticLockException;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -9,6 +11,7 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentState;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentValidationCode;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.PreparedAmendment;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.CalculatedFeeDetail;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Claim;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.ClaimAmendment;
@@ -127,4 +130,26 @@ public class ClaimAmendmentCommitService {
 
     return amendment;
   }
+
+  /**
+   * Commits a group of validated amendments together in a single write transaction, running the
+   * same sequence as {@link #commit(Claim, ClaimAmendmentState)} for each in turn.
+   *
+   * <p>Either every amendment in the group is saved or none is: if any of them fails, for example
+   * on a concurrent modification, the whole group is rolled back.
+   *
+   * @param amendments the validated amendments, each with the claim read at preparation time
+   * @return the persisted {@link ClaimAmendment} audit records, in the order given
+   * @throws jakarta.persistence.OptimisticLockException if a concurrent update was committed to
+   *     any of the claims prior to this step
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public List<ClaimAmendment> commitAll(List<PreparedAmendment> amendments) {
+    List<ClaimAmendment> saved = new ArrayList<>(amendments.size());
+    for (PreparedAmendment amendment : amendments) {
+      // Called directly, so each commit joins this transaction rather than starting its own.
+      saved.add(commit(amendment.claim(), amendment.state()));
+    }
+    return saved;
+  }
 }
@@ -1,5 +1,9 @@
 package uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -7,6 +11,7 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendment
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.PreparedAmendment;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Claim;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ClaimNotFoundException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClaimRepository;
 
 /**
  * Prepare phase of an amendment submission (DSTEW-1771): retrieves the claim and builds the
@@ -27,6 +32,7 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ClaimNotFoundExcep
 public class ClaimAmendmentPreparationService {
 
   private final ClaimAmendmentStateService stateService;
+  private final ClaimRepository claimRepository;
 
   /**
    * Retrieves the claim and builds the amendment state.
@@ -40,4 +46,25 @@ public class ClaimAmendmentPreparationService {
   public PreparedAmendment prepare(Claim claim, ClaimAmendmentPayload payload) {
     return stateService.retrieveAmendmentState(claim, payload);
   }
+
+  /**
+   * Retrieves the claims of a batch amendment and builds the amendment state of each, all in one
+   * read-only transaction.
+   *
+   * @param submissionId the submission the claims must belong to
+   * @param payloads the amendment payload for each claim, keyed by claim id
+   * @return the prepared amendments keyed by claim id; a claim that is not in the submission is
+   *     left out
+   */
+  @Transactional(readOnly = true)
+  public Map<UUID, PreparedAmendment> prepareAll(
+      UUID submissionId, Map<UUID, ClaimAmendmentPayload> payloads) {
+    List<Claim> claims = claimRepository.findBySubmissionIdAndIdIn(submissionId, payloads.keySet());
+    Map<UUID, PreparedAmendment> prepared = new LinkedHashMap<>();
+    for (Claim claim : claims) {
+      prepared.put(
+          claim.getId(), stateService.retrieveAmendmentState(claim, payloads.get(claim.getId())));
+    }
+    return prepared;
+  }
 }
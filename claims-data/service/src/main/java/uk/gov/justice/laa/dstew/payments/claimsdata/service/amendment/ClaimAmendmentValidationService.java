@@ -2,9 +2,15 @@ package uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.ClaimsApiProperties;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentState;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentValidationError;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.validation.AmendmentExternalValidationStep;
@@ -52,6 +58,19 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.validation
  * <b>non-fatal</b> errors are collected so the caller can be shown every failure at once. Any
  * non-empty error set means the amendment is not applied and nothing is saved.
  *
+ * <p>Concurrency: adjacent steps that declare themselves {@link
+ * ClaimAmendmentValidationStep#isIndependent() independent} (the PDA and FSP steps) form a group
+ * that runs concurrently on virtual threads, so the amendment waits for the slower of the two
+ * external calls rather than for both in turn. The group's errors are still collected in {@link
+ * #STEP_ORDER}, and a fatal error still discards every later step's result. A step whose earlier
+ * group neighbour added errors is run again in sequence against them, so it sees the same errors it
+ * would have seen running alone (for the FSP step, its outcome-check gate then skips the call). A
+ * step that failed while running concurrently only fails the validation if its result is used; a
+ * discarded failure, like a discarded result, is replaced by the step's run in sequence. Any fee
+ * context a discarded FSP result left on the state belongs to an amendment that is rejected
+ * anyway. Concurrency can be switched off with {@code
+ * laa.claims.api.amendments.parallel-validation}.
+ *
  * <p>Claim retrieval (building the {@link ClaimAmendmentState}) and end-to-end orchestration are
  * the responsibility of {@link ClaimAmendmentService} (which sequences retrieve, validate and
  * persist); this class operates only on the already-built before/after state.
@@ -81,44 +100,144 @@ public class ClaimAmendmentValidationService {
 
   private final List<ClaimAmendmentValidationStep> validationSteps;
 
+  private final boolean parallelValidation;
+
   /**
    * Sorts the discovered validation step beans into {@link #STEP_ORDER}.
    *
    * @param discoveredSteps every validation step bean, in arbitrary (Spring-determined) order
+   * @param claimsApiProperties the Claims API configuration, which switches concurrency on or off
    */
   @Autowired
-  public ClaimAmendmentValidationService(List<ClaimAmendmentValidationStep> discoveredSteps) {
+  public ClaimAmendmentValidationService(
+      List<ClaimAmendmentValidationStep> discoveredSteps, ClaimsApiProperties claimsApiProperties) {
     this.validationSteps = ordered(discoveredSteps);
+    this.parallelValidation = claimsApiProperties.getAmendments().isParallelValidation();
   }
 
   /**
    * Holds an already-ordered sequence of steps directly, for tests that exercise the orchestration
-   * loop without going through {@link #STEP_ORDER}.
+   * loop without going through {@link #STEP_ORDER}. Independent steps run concurrently.
    *
    * @param orderedSteps the validation steps, in the order they should run
    */
   ClaimAmendmentValidationService(ClaimAmendmentValidationStep... orderedSteps) {
+    this(true, orderedSteps);
+  }
+
+  /**
+   * Holds an already-ordered sequence of steps directly, with concurrency switched on or off.
+   *
+   * @param parallelValidation whether adjacent independent steps run concurrently
+   * @param orderedSteps the validation steps, in the order they should run
+   */
+  ClaimAmendmentValidationService(
+      boolean parallelValidation, ClaimAmendmentValidationStep... orderedSteps) {
     this.validationSteps = List.of(orderedSteps);
+    this.parallelValidation = parallelValidation;
   }
 
   /**
    * Runs each validation step in order, collecting any validation errors found, stopping as soon as
-   * a fatal error is collected.
+   * a fatal error is collected. Adjacent independent steps run concurrently, with their errors
+   * collected as if they had run in order.
    *
    * @param state the in-memory amendment state produced by retrieval (DSTEW-1763)
    * @return every validation error found; an empty list means validation passed
    */
   public List<ClaimAmendmentValidationError> validateAmendmentRequest(ClaimAmendmentState state) {
-    for (ClaimAmendmentValidationStep step : validationSteps) {
-      state.addErrors(step.validate(state));
-      if (state.containsFatal()) {
-        return state.getErrors();
+    int groupStart = 0;
+    while (groupStart < validationSteps.size()) {
+      int groupEnd = groupEnd(groupStart);
+      List<ClaimAmendmentValidationStep> group = validationSteps.subList(groupStart, groupEnd);
+      int errorsBeforeGroup = state.getErrors().size();
+      List<Future<List<ClaimAmendmentValidationError>>> concurrentResults =
+          group.size() > 1 ? validateConcurrently(group, state) : null;
+
+      for (int i = 0; i < group.size(); i++) {
+        // A concurrent result only saw the errors collected before the group started, so it is
+        // used, or its failure rethrown, only while no earlier step of the group has added errors.
+        boolean useConcurrentResult =
+            concurrentResults != null && state.getErrors().size() == errorsBeforeGroup;
+        state.addErrors(
+            useConcurrentResult
+                ? resultOf(concurrentResults.get(i))
+                : group.get(i).validate(state));
+        if (state.containsFatal()) {
+          return state.getErrors();
+        }
       }
+      groupStart = groupEnd;
     }
 
     return state.getErrors();
   }
 
+  /**
+   * Finds the end of the group starting at the given step: the run of adjacent independent steps
+   * when concurrency is on, otherwise just the step itself.
+   *
+   * @param groupStart the index of the group's first step
+   * @return the index just past the group's last step
+   */
+  private int groupEnd(int groupStart) {
+    int groupEnd = groupStart + 1;
+    if (!parallelValidation || !validationSteps.get(groupStart).isIndependent()) {
+      return groupEnd;
+    }
+    while (groupEnd < validationSteps.size() && validationSteps.get(groupEnd).isIndependent()) {
+      groupEnd++;
+    }
+    return groupEnd;
+  }
+
+  /**
+   * Runs every step of the group on its own virtual thread and waits for all of them.
+   *
+   * @param group the independent steps to run
+   * @param state the in-memory amendment state; the errors found are not added to it here
+   * @return each step's completed outcome, its errors or its failure, in the group's order
+   */
+  private static List<Future<List<ClaimAmendmentValidationError>>> validateConcurrently(
+      List<ClaimAmendmentValidationStep> group, ClaimAmendmentState state) {
+    List<Callable<List<ClaimAmendmentValidationError>>> tasks = new ArrayList<>();
+    for (ClaimAmendmentValidationStep step : group) {
+      tasks.add(() -> step.validate(state));
+    }
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      return executor.invokeAll(tasks);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while running amendment validation steps", e);
+    }
+  }
+
+  /**
+   * Returns the errors of a step that ran concurrently, or rethrows its failure.
+   *
+   * @param result the step's completed outcome
+   * @return the errors the step found
+   */
+  private static List<ClaimAmendmentValidationError> resultOf(
+      Future<List<ClaimAmendmentValidationError>> result) {
+    try {
+      return result.get();
+    } catch (ExecutionException e) {
+      // Rethrow a step's own failure unchanged, as it would have been when run in sequence.
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException("Amendment validation step failed", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while running amendment validation steps", e);
+    }
+  }
+
   /**
    * Picks each step declared in {@link #STEP_ORDER}, in that order, from the discovered beans.
    * Every declared step must have a matching bean; any extra discovered steps are ignored.
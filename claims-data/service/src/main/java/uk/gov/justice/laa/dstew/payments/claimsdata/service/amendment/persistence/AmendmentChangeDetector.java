@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import org.springframework.stereotype.Component;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.AmendmentDiffCache;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.AmendmentFieldIdentifiers.ClaimCaseFields;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.AmendmentFieldIdentifiers.ClaimFields;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.AmendmentFieldIdentifiers.ClaimSummaryFeeFields;
@@ -59,7 +60,9 @@ public class AmendmentChangeDetector {
    *
    * <p>The {@link #detect(ClaimAmendmentState)} method compares each named field on the resolved
    * before/after objects and emits a {@link DiffEntry} for each value that is considered different
-   * (using {@link #valuesEqual(Object, Object)}).
+   * (using {@link #valuesEqual(Object, Object)}). The result is memoised in the state's {@link
+   * AmendmentDiffCache}, so the section is compared again only once it is given different
+   * before/after objects.
    *
    * @param source section change source (e.g. {@link ChangeSource#REQUESTED} or {@link
    *     ChangeSource#FSP})
@@ -79,6 +82,10 @@ public class AmendmentChangeDetector {
       if (before == null || after == null) {
         return List.of();
       }
+      return state.getDiffCache().changes(source, before, after, () -> compare(before, after));
+    }
+
+    private List<DiffEntry> compare(T before, T after) {
       List<DiffEntry> changes = new ArrayList<>();
       for (FieldAccessor<T> field : fields) {
         Object beforeValue = field.accessor().apply(before);
@@ -144,6 +151,17 @@ public class AmendmentChangeDetector {
     return changes;
   }
 
+  /**
+   * Detects the provider-requested changes only (the {@link ChangeSource#REQUESTED} section),
+   * without reading the FSP fee snapshots.
+   *
+   * @param state the in-memory amendment state
+   * @return the changed claim-state fields; never {@code null}, may be empty
+   */
+  public List<DiffEntry> detectRequestedChanges(ClaimAmendmentState state) {
+    return REQUESTED_CLAIM_STATE_SECTION.detect(state);
+  }
+
   /**
    * Convenience factory that builds a {@link FieldAccessor} for the named field.
    *
@@ -34,4 +34,17 @@ public class AmendmentDiffAssembler {
 
     return AmendmentDiff.of(changes);
   }
+
+  /**
+   * Builds the diff of the provider-requested changes only, leaving out the FSP-sourced entries.
+   *
+   * <p>Used by steps that run alongside the FSP step and so must not read the fee snapshots it
+   * writes.
+   *
+   * @param state the in-memory amendment state
+   * @return the requested-changes diff at the current schema version
+   */
+  public AmendmentDiff assembleRequested(ClaimAmendmentState state) {
+    return AmendmentDiff.of(changeDetector.detectRequestedChanges(state));
+  }
 }
@@ -4,6 +4,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import uk.gov.justice.laa.dstew.payments.claims.validation.core.model.Claim;
 import uk.gov.justice.laa.dstew.payments.claims.validation.core.model.ClaimValidationResult;
@@ -11,6 +12,7 @@ import uk.gov.justice.laa.dstew.payments.claims.validation.core.model.ResolvedCl
 import uk.gov.justice.laa.dstew.payments.claims.validation.core.model.ValidationSeverity;
 import uk.gov.justice.laa.dstew.payments.claims.validation.core.service.ValidationService;
 import uk.gov.justice.laa.dstew.payments.claims.validation.core.validator.claim.ClaimValidatorCode;
+import uk.gov.justice.laa.dstew.payments.claimsdata.client.ExternalCallGuard;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.AmendmentDiff;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.AmendmentFieldIdentifiers.ClaimFields;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentState;
@@ -18,6 +20,8 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendment
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentValidationError;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimStateSnapshot;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.DiffEntry;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ExternalDependencyTimeoutException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ExternalDependencyUnavailableException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.mapper.ValidationClaimMapper;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.AreaOfLaw;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.pda.PdaRequestField;
@@ -49,7 +53,10 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.persistenc
  * will cause the system to build and possibly send a PDA request. To avoid unnecessary PDA work for
  * amendments that do not change any fields that influence the PDA request, this step will remove
  * {@code CLAIM_CATEGORY_OF_LAW} from the requested validator set when {@link
- * #requiresPda(AmendmentDiff, ClaimStateSnapshot)} returns {@code false}.
+ * #requiresPda(AmendmentDiff, ClaimStateSnapshot)} returns {@code false}. When the PDA validator
+ * is in scope, the call goes through the {@link ExternalCallGuard#PROVIDER_DATA_API} bulkhead, time
+ * limiter and circuit breaker; if the PDA is refused or too slow, the amendment fails fast with
+ * {@link ClaimAmendmentValidationCode#TECHNICAL_ERROR_PDA_UNAVAILABLE}.
  *
  * <p>Execution ordering and transactionality: this step is part of the amendment validation
  * sequence and therefore executes at its configured position. The overall sequence is run without
@@ -59,6 +66,7 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.persistenc
  */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class AmendmentExternalValidationStep implements ClaimAmendmentValidationStep {
 
   private static final ClaimValidatorCode PDA_VALIDATION_STEP =
@@ -69,11 +77,12 @@ public class AmendmentExternalValidationStep implements ClaimAmendmentValidation
   private final ValidationService validationService;
   private final AmendmentDiffAssembler diffAssembler;
   private final ValidationClaimMapper validationClaimMapper;
+  private final ExternalCallGuard externalCallGuard;
 
   @Override
   public List<ClaimAmendmentValidationError> validate(ClaimAmendmentState state) {
 
-    AmendmentDiff differences = diffAssembler.assemble(state);
+    AmendmentDiff differences = diffAssembler.assembleRequested(state);
 
     Set<ClaimValidatorCode> validationCodes = new LinkedHashSet<>(List.of(CLAIM_VALIDATOR_CODES));
     if (!requiresPda(differences, state.getPostAmendmentState())) {
@@ -81,8 +90,22 @@ public class AmendmentExternalValidationStep implements ClaimAmendmentValidation
     }
 
     Claim claim = validationClaimMapper.toValidationClaim(state.getPostAmendmentState());
-    ClaimValidationResult validationResult =
-        validationService.validateClaim(claim, validationCodes);
+    ClaimValidationResult validationResult;
+    if (validationCodes.contains(PDA_VALIDATION_STEP)) {
+      try {
+        validationResult =
+            externalCallGuard.call(
+                ExternalCallGuard.PROVIDER_DATA_API,
+                () -> validationService.validateClaim(claim, validationCodes));
+      } catch (ExternalDependencyUnavailableException | ExternalDependencyTimeoutException ex) {
+        log.warn("PDA validation not completed: {}", ex.getMessage());
+        return List.of(
+            ClaimAmendmentValidationError.of(
+                ClaimAmendmentValidationCode.TECHNICAL_ERROR_PDA_UNAVAILABLE));
+      }
+    } else {
+      validationResult = validationService.validateClaim(claim, validationCodes);
+    }
 
     // Terminal gate: a fee code may only change to another fee code within the same Area of Law.
     // The Area of Law of the (new) fee code is resolved by the reusable validation package during
@@ -103,6 +126,17 @@ public class AmendmentExternalValidationStep implements ClaimAmendmentValidation
         .toList();
   }
 
+  /**
+   * Runs alongside the FSP step. Only the requested changes are diffed here, so this step never
+   * reads the fee snapshots that the FSP step writes.
+   *
+   * @return {@code true}
+   */
+  @Override
+  public boolean isIndependent() {
+    return true;
+  }
+
   /**
    * Determines whether the amendment changes the fee code to a code in a different Area of Law, and
    * if so builds the terminal {@link
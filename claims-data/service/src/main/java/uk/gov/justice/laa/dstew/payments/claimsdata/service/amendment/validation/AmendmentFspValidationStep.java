@@ -6,15 +6,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-import uk.gov.justice.laa.dstew.payments.claimsdata.client.FeeSchemePlatformRestClient;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.AmendmentDiff;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.CalculatedFeeDetailSnapshot;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentState;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentValidationCode;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentValidationError;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimStateSnapshot;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ExternalDependencyUnavailableException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.mapper.ClaimStateSnapshotMapper;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.AreaOfLaw;
+import uk.gov.justice.laa.dstew.payments.claimsdata.provider.FeeCalculationProvider;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.fee.FeeSchemeRequestBuilder;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.fee.FeeSchemeRequestField;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.persistence.AmendmentDiffAssembler;
@@ -45,9 +46,12 @@ import uk.gov.justice.laa.fee.scheme.model.FeeCalculationResponse;
  *       sparse-merged input payload uniting post-amendment updates with baseline values.
  *   <li><b>1595-D (Synchronous Mechanics):</b> Invokes the declarative REST interface via a single,
  *       synchronous blocking call configured with an independent, user-facing path timeout control.
+ *       The call goes through {@link FeeCalculationProvider}, which serves a request identical to
+ *       a recent one (e.g. a retried amendment) from a short-lived cache.
  *   <li><b>1595-E (Response & Failure Mapping):</b> Translates semantic FSP contract errors into
  *       structured validation rejections, and treats connectivity failures or execution timeouts as
- *       controlled technical exceptions.
+ *       controlled technical exceptions. While the FSP circuit breaker is open the call is not made
+ *       and the amendment fails fast with {@code TECHNICAL_ERROR_FSP_UNAVAILABLE}.
  *   <li><b>1595-F (Outcome Persistence Handoff):</b> Caches the resulting successful {@link
  *       FeeCalculationResponse} onto the transient state context, and pushes unwrapped historical
  *       diff snapshots into the state slots for audit generation.
@@ -56,7 +60,7 @@ import uk.gov.justice.laa.fee.scheme.model.FeeCalculationResponse;
  * @see
  *     uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.ClaimAmendmentValidationService
  * @see uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentState
- * @see uk.gov.justice.laa.dstew.payments.claimsdata.client.FeeSchemePlatformRestClient
+ * @see uk.gov.justice.laa.dstew.payments.claimsdata.provider.FeeCalculationProvider
  */
 @Component
 @RequiredArgsConstructor
@@ -64,7 +68,7 @@ import uk.gov.justice.laa.fee.scheme.model.FeeCalculationResponse;
 public class AmendmentFspValidationStep implements ClaimAmendmentValidationStep {
 
   private final FeeSchemeRequestBuilder requestBuilder;
-  private final FeeSchemePlatformRestClient fspClient;
+  private final FeeCalculationProvider feeCalculationProvider;
   private final AmendmentDiffAssembler diffAssembler;
   private final ClaimStateSnapshotMapper claimStateSnapshotMapper;
 
@@ -127,7 +131,7 @@ public class AmendmentFspValidationStep implements ClaimAmendmentValidationStep
       // 1595-D: Dispatch synchronous timeout-protected request
       FeeCalculationResponse fspResponse =
           Objects.requireNonNull(
-              fspClient.calculateFee(requestBuilder.buildRequest(state)).getBody(),
+              feeCalculationProvider.calculateFee(requestBuilder.buildRequest(state)),
               "FSP calculateFee returned a null response body");
       state.setFspResponseContext(fspResponse);
 
@@ -155,6 +159,12 @@ public class AmendmentFspValidationStep implements ClaimAmendmentValidationStep
           ClaimAmendmentValidationError.of(
               ClaimAmendmentValidationCode.INVALID_FSP_VALIDATION_FAILURE, ex.getMessage()));
 
+    } catch (ExternalDependencyUnavailableException ex) {
+      // The FSP circuit breaker is open (or its bulkhead full): fail fast without calling it.
+      log.warn("FSP call not made: {}", ex.getMessage());
+      return List.of(
+          ClaimAmendmentValidationError.of(
+              ClaimAmendmentValidationCode.TECHNICAL_ERROR_FSP_UNAVAILABLE));
     } catch (Exception ex) {
       // 1595-E: Catch technical timeouts or connection exceptions
       log.error("FSP call experienced a technical error or execution timeout", ex);
@@ -166,6 +176,18 @@ public class AmendmentFspValidationStep implements ClaimAmendmentValidationStep
     return List.of();
   }
 
+  /**
+   * Runs alongside the external (PDA) step. The outcome-check gate above sees only the errors
+   * collected before the two started; the orchestrator runs this step again if the external step
+   * adds errors.
+   *
+   * @return {@code true}
+   */
+  @Override
+  public boolean isIndependent() {
+    return true;
+  }
+
   private boolean hasPricingImpactingChanges(
       AmendmentDiff diff, ClaimStateSnapshot before, ClaimStateSnapshot post) {
 
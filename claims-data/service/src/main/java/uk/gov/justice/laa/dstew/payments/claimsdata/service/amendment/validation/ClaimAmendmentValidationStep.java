@@ -18,7 +18,8 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendment
  * runs the steps in sequence, stopping on the first fatal error. The sequence is defined centrally
  * in {@code ClaimAmendmentValidationService.STEP_ORDER}; adding a step means writing a new
  * {@code @Component} implementation of this interface and inserting it, at the right position, into
- * that order list.
+ * that order list. Adjacent steps that declare themselves {@link #isIndependent() independent} are
+ * run concurrently, but their errors are still collected in the declared order.
  *
  * <p>This is a functional interface ({@link #validate} is its single abstract method), so tests can
  * supply lightweight step stubs as lambdas, e.g. {@code state -> List.of()} for a step that passes
@@ -35,6 +36,21 @@ public interface ClaimAmendmentValidationStep {
    */
   List<ClaimAmendmentValidationError> validate(ClaimAmendmentState state);
 
+  /**
+   * Whether this step may run concurrently with its adjacent independent steps in {@code
+   * STEP_ORDER}.
+   *
+   * <p>An independent step must not read anything that another independent step writes to the
+   * state, other than the collected errors: the orchestrator runs each one against the errors
+   * collected before the group started, and runs it again in sequence if an earlier step of the
+   * group added errors. Off by default; intended for the steps that make an external call.
+   *
+   * @return {@code true} if the step may run concurrently with its independent neighbours
+   */
+  default boolean isIndependent() {
+    return false;
+  }
+
   /**
    * Reads the value from a {@link JsonNullable} payload field, treating both an absent (undefined)
    * and an explicitly-null field as {@code null}.
@@ -0,0 +1,68 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ClaimBadRequestException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.projection.ClaimHistoryEventRow;
+
+/**
+ * Position of the last event returned on a page of a claim's history timeline, exchanged with
+ * clients as an opaque token.
+ *
+ * <p>The timeline is ordered by {@code event_timestamp DESC, source_id DESC}, and the UUIDv7 source
+ * id is unique across the timeline, so the pair identifies exactly where the next page starts.
+ *
+ * @param eventTimestamp the timestamp of the last event of the page
+ * @param sourceId the source id of the last event of the page
+ */
+public record ClaimHistoryCursor(Instant eventTimestamp, UUID sourceId) {
+
+  public static final String INVALID_CURSOR = "Invalid cursor";
+
+  private static final String SEPARATOR = "|";
+
+  /**
+   * Creates the cursor that follows the given event.
+   *
+   * @param event the last event of the page
+   * @return the cursor for the next page
+   */
+  public static ClaimHistoryCursor after(ClaimHistoryEventRow event) {
+    return new ClaimHistoryCursor(event.eventTimestamp(), event.sourceId());
+  }
+
+  /**
+   * Decodes a token previously returned by {@link #encode()}.
+   *
+   * @param token the token supplied by the client
+   * @return the decoded cursor
+   * @throws ClaimBadRequestException if the token is not a valid cursor
+   */
+  public static ClaimHistoryCursor decode(String token) {
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = decoded.split("\\" + SEPARATOR, -1);
+      if (parts.length != 2) {
+        throw new ClaimBadRequestException(INVALID_CURSOR);
+      }
+      return new ClaimHistoryCursor(Instant.parse(parts[0]), UUID.fromString(parts[1]));
+    } catch (IllegalArgumentException | DateTimeException e) {
+      throw new ClaimBadRequestException(INVALID_CURSOR);
+    }
+  }
+
+  /**
+   * Encodes the cursor as an opaque, URL-safe token.
+   *
+   * @return the token to return to the client
+   */
+  public String encode() {
+    String value = eventTimestamp + SEPARATOR + sourceId;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,160 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.data.domain.Sort;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Claim;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ClaimBadRequestException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimStatus;
+
+/**
+ * Position of the last claim returned by a cursor-paginated claim search, exchanged with clients as
+ * an opaque token.
+ *
+ * <p>The cursor records the sort it was issued for, the sort key of the last claim and that claim's
+ * id, which is the final (ascending, UUIDv7) tie-break of every claim search. The next page is the
+ * set of claims that sort strictly after that position, so it can be read with a seek predicate
+ * instead of an offset.
+ *
+ * <p>Only sorts on non-null columns can be used, as a {@code NULL} sort key cannot be compared:
+ * the default order by id, {@link ClaimSortField#LINE_NUMBER}, {@link ClaimSortField#CLAIM_STATUS}
+ * and {@link ClaimSortField#DATE_SUBMITTED}.
+ *
+ * @param sortField the sort field, or {@code null} when the claims are ordered by id only
+ * @param direction the direction of the sort field; always ascending when ordered by id only
+ * @param sortKey the value of the sort field for the last claim, or {@code null} when ordered by id
+ *     only
+ * @param id the id of the last claim
+ */
+public record ClaimSearchCursor(
+    ClaimSortField sortField, Sort.Direction direction, Comparable<?> sortKey, UUID id) {
+
+  public static final String INVALID_CURSOR = "Invalid cursor";
+  public static final String UNSUPPORTED_CURSOR_SORT =
+      "Sorting by %s is not supported with cursor pagination";
+
+  private static final String ID_ONLY = "id";
+  private static final String SEPARATOR = "|";
+
+  private static final Map<ClaimSortField, SortKeyType> SORT_KEY_TYPES =
+      Map.of(
+          ClaimSortField.LINE_NUMBER,
+          new SortKeyType(Claim::getLineNumber, Integer::valueOf),
+          ClaimSortField.CLAIM_STATUS,
+          new SortKeyType(Claim::getStatus, ClaimStatus::valueOf),
+          ClaimSortField.DATE_SUBMITTED,
+          new SortKeyType(claim -> claim.getSubmission().getCreatedOn(), Instant::parse));
+
+  /**
+   * Returns whether claims can be cursor-paginated when sorted by the given field.
+   *
+   * @param sortField the sort field, or {@code null} for the default order by id
+   * @return {@code true} if the field has a non-null, comparable sort key
+   */
+  public static boolean supports(ClaimSortField sortField) {
+    return sortField == null || SORT_KEY_TYPES.containsKey(sortField);
+  }
+
+  /**
+   * Creates the cursor that follows the given claim.
+   *
+   * @param claim the last claim of the page
+   * @param sortField the sort field, or {@code null} when the claims are ordered by id only
+   * @param direction the direction of the sort field
+   * @return the cursor for the next page
+   */
+  public static ClaimSearchCursor after(
+      Claim claim, ClaimSortField sortField, Sort.Direction direction) {
+    if (sortField == null) {
+      return new ClaimSearchCursor(null, Sort.Direction.ASC, null, claim.getId());
+    }
+    return new ClaimSearchCursor(
+        sortField, direction, keyType(sortField).extractor().apply(claim), claim.getId());
+  }
+
+  /**
+   * Decodes a token previously returned by {@link #encode()}.
+   *
+   * @param token the token supplied by the client
+   * @return the decoded cursor
+   * @throws ClaimBadRequestException if the token is not a valid cursor
+   */
+  public static ClaimSearchCursor decode(String token) {
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = decoded.split("\\" + SEPARATOR, -1);
+      if (parts.length != 4) {
+        throw new ClaimBadRequestException(INVALID_CURSOR);
+      }
+      UUID id = UUID.fromString(parts[3]);
+      if (ID_ONLY.equals(parts[0])) {
+        return new ClaimSearchCursor(null, Sort.Direction.ASC, null, id);
+      }
+      ClaimSortField sortField =
+          ClaimSortField.fromApiName(parts[0])
+              .filter(SORT_KEY_TYPES::containsKey)
+              .orElseThrow(() -> new ClaimBadRequestException(INVALID_CURSOR));
+      return new ClaimSearchCursor(
+          sortField,
+          Sort.Direction.fromString(parts[1]),
+          keyType(sortField).parser().apply(parts[2]),
+          id);
+    } catch (IllegalArgumentException | DateTimeException e) {
+      throw new ClaimBadRequestException(INVALID_CURSOR);
+    }
+  }
+
+  /**
+   * Encodes the cursor as an opaque, URL-safe token.
+   *
+   * @return the token to return to the client
+   */
+  public String encode() {
+    String value =
+        String.join(
+            SEPARATOR,
+            sortField == null ? ID_ONLY : sortField.getApiName(),
+            direction.name(),
+            sortKeyAsString(),
+            id.toString());
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Returns whether the cursor was issued for the given sort, so that a client cannot resume a
+   * search with a different order.
+   *
+   * @param sortField the requested sort field, or {@code null} for the default order by id
+   * @param direction the requested direction
+   * @return {@code true} if the cursor can be used to continue the requested search
+   */
+  public boolean matches(ClaimSortField sortField, Sort.Direction direction) {
+    return this.sortField == sortField && (sortField == null || this.direction == direction);
+  }
+
+  private String sortKeyAsString() {
+    if (sortKey == null) {
+      return "";
+    }
+    return sortKey instanceof Enum<?> constant ? constant.name() : sortKey.toString();
+  }
+
+  private static SortKeyType keyType(ClaimSortField sortField) {
+    SortKeyType keyType = SORT_KEY_TYPES.get(sortField);
+    if (keyType == null) {
+      throw new ClaimBadRequestException(
+          UNSUPPORTED_CURSOR_SORT.formatted(sortField.getApiName()));
+    }
+    return keyType;
+  }
+
+  private record SortKeyType(
+      Function<Claim, Comparable<?>> extractor, Function<String, Comparable<?>> parser) {}
+}
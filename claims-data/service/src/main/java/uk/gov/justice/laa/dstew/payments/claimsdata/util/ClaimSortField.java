@@ -40,10 +40,10 @@ public enum ClaimSortField {
 
   TOTAL_WARNINGS("total_warnings", "totalWarnings"),
 
-  // Computed sort field: not a real entity property. Ordering is applied by
-  // ClaimSpecification.orderByDerivedClaimStatus using a SQL CASE expression whose ordinals come
-  // from the DerivedClaimStatus enum. Treated like the other computed markers (totalWarnings,
-  // submission.submissionPeriod) and stripped from the Pageable before the query executes.
+  // Custom sort field: ordering is applied by ClaimSpecification.orderByDerivedClaimStatus on the
+  // persisted derived_status column (the DerivedClaimStatus ordinal), with its own id tie-break.
+  // Treated like the other computed markers (totalWarnings, submission.submissionPeriod) and
+  // stripped from the Pageable before the query executes.
   DERIVED_CLAIM_STATUS("derived_claim_status", "derivedClaimStatus");
 
   private final String apiName;
@@ -24,7 +24,7 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.dto.ClaimSearchRequest;
  * <pre>
  *   ClaimSearchRequest req = ...;
  *   DataNormaliser.normaliseClaimSearchRequest(req);
- *   // now req.getCaseReferenceNumber() is trimmed or null
+ *   // now req.getCaseReferenceNumber() and the other partial search terms are trimmed or null
  * </pre>
  */
 public final class DataNormaliser {
@@ -49,6 +49,9 @@ public final class DataNormaliser {
       return;
     }
     request.setCaseReferenceNumber(trimToNull(request.getCaseReferenceNumber()));
+    request.setUniqueFileNumber(trimToNull(request.getUniqueFileNumber()));
+    request.setUniqueClientNumber(trimToNull(request.getUniqueClientNumber()));
+    request.setClientSurname(trimToNull(request.getClientSurname()));
   }
 
   /**
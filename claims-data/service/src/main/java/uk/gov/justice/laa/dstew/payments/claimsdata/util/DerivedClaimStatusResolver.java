@@ -21,11 +21,11 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.model.DerivedClaimStatus;
  *   <li>otherwise (i.e. {@code claim_status = VALID}) &rarr; {@link DerivedClaimStatus#ACCEPTED}
  * </ol>
  *
- * <p>This class is the authoritative Java implementation of the precedence rules. The SQL {@code
- * CASE} expression used for sorting (see {@code ClaimSpecification.orderByDerivedClaimStatus}) must
- * mirror this precedence and is guarded by a parity test so the two encodings cannot silently
- * diverge. The canonical ordering itself lives in the {@link DerivedClaimStatus} enum declaration
- * order and must not be duplicated elsewhere.
+ * <p>This class is the authoritative Java implementation of the precedence rules. The generated
+ * {@code claim.derived_status} column used for sorting (see {@code
+ * ClaimSpecification.orderByDerivedClaimStatus}) must mirror this precedence and is guarded by a
+ * parity test so the two encodings cannot silently diverge. The canonical ordering itself lives in
+ * the {@link DerivedClaimStatus} enum declaration order and must not be duplicated elsewhere.
  *
  * <p>See {@code docs/derived-claim-status.md} for the full specification and truth table.
  */
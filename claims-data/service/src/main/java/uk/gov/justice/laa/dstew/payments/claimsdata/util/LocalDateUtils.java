@@ -0,0 +1,116 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.util;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Allocation-free parsing of day/month/year dates as they appear in bulk submission files, for
+ * example {@code 5/12/2025} or {@code 05/12/2025}.
+ *
+ * <p>Dates are scanned character by character in a single pass, without regular expressions or
+ * {@link java.time.format.DateTimeFormatter} instances, and validated against the real calendar
+ * (so {@code 29/02/2025} and {@code 31/04/2025} are rejected rather than silently corrected). Both
+ * methods return {@code null} for anything that is not a valid date so that callers can decide how
+ * to report the failure.
+ *
+ * <p>Only ASCII digits are accepted, the day and month have one or two digits and the year has
+ * exactly four digits.
+ */
+public final class LocalDateUtils {
+
+  private LocalDateUtils() {}
+
+  /**
+   * Parses a bulk submission date written as either {@code d/M/yyyy} or {@code dd/MM/yyyy}.
+   * Surrounding whitespace is ignored. Mixed padding, such as {@code 01/1/2025}, is rejected
+   * because it matches neither form.
+   *
+   * @param value the date to parse; may be {@code null}
+   * @return the parsed date, or {@code null} if the value is {@code null}, blank or not a valid
+   *     date in either form
+   */
+  public static LocalDate parseBulkSubmissionDate(String value) {
+    if (value == null) {
+      return null;
+    }
+    int start = 0;
+    int end = value.length();
+    // Same definition of whitespace as String#trim.
+    while (start < end && value.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && value.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return parse(value, start, end, true);
+  }
+
+  /**
+   * Parses a date written as {@code d/M/yyyy}, where the day and month may each have one or two
+   * digits independently of each other. Surrounding whitespace is not permitted.
+   *
+   * @param value the date to parse; may be {@code null}
+   * @return the parsed date, or {@code null} if the value is {@code null} or not a valid date
+   */
+  public static LocalDate parseDayMonthYear(String value) {
+    return value == null ? null : parse(value, 0, value.length(), false);
+  }
+
+  private static LocalDate parse(CharSequence text, int start, int end, boolean uniformPadding) {
+    int pos = start;
+
+    int day = 0;
+    int dayStart = pos;
+    while (pos < end && pos - dayStart < 2 && isDigit(text.charAt(pos))) {
+      day = day * 10 + (text.charAt(pos++) - '0');
+    }
+    int dayDigits = pos - dayStart;
+    if (dayDigits == 0 || pos >= end || text.charAt(pos++) != '/') {
+      return null;
+    }
+
+    int month = 0;
+    int monthStart = pos;
+    while (pos < end && pos - monthStart < 2 && isDigit(text.charAt(pos))) {
+      month = month * 10 + (text.charAt(pos++) - '0');
+    }
+    int monthDigits = pos - monthStart;
+    if (monthDigits == 0 || pos >= end || text.charAt(pos++) != '/') {
+      return null;
+    }
+
+    if (end - pos != 4) {
+      return null;
+    }
+    int year = 0;
+    while (pos < end) {
+      char c = text.charAt(pos++);
+      if (!isDigit(c)) {
+        return null;
+      }
+      year = year * 10 + (c - '0');
+    }
+
+    if (uniformPadding
+        && !(dayDigits == 2 && monthDigits == 2)
+        && (hasLeadingZero(day, dayDigits) || hasLeadingZero(month, monthDigits))) {
+      return null;
+    }
+    if (year < 1 || month < 1 || month > 12 || day < 1) {
+      return null;
+    }
+    if (day > Month.of(month).length(Year.isLeap(year))) {
+      return null;
+    }
+    return LocalDate.of(year, month, day);
+  }
+
+  private static boolean hasLeadingZero(int value, int digits) {
+    return digits == 2 && value < 10;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+}
@@ -26,6 +26,9 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ClaimBadRequestExc
  *         <li>otherwise the trimmed value must be at least {@link #MIN_CASE_REFERENCE_LENGTH}
  *             characters long.
  *       </ul>
+ *   <li>If {@code uniqueFileNumber}, {@code uniqueClientNumber} or {@code clientSurname} is
+ *       supplied it must be at least {@link #MIN_PARTIAL_SEARCH_LENGTH} characters long, as these
+ *       are partial-match searches served by trigram indexes.
  * </ul>
  *
  * <p>When a validation rule is violated a {@link ClaimBadRequestException} is thrown with a
@@ -42,6 +45,12 @@ public class ClaimSearchRequestValidator {
   /** Maximum permitted length for a (trimmed) case reference number when one is supplied. */
   public static final int MAX_CASE_REFERENCE_LENGTH = 30;
 
+  /**
+   * Minimum permitted length for a partial-match search term when one is supplied. Shorter terms
+   * contain no trigram, so the trigram indexes could not narrow the search.
+   */
+  public static final int MIN_PARTIAL_SEARCH_LENGTH = 3;
+
   public static final String MISSING_SEARCH_REQUEST = "Missing search request";
   public static final String MISSING_OFFICE_CODE = "Missing office code";
   public static final String CASE_REFERENCE_TOO_SHORT =
@@ -51,6 +60,8 @@ public class ClaimSearchRequestValidator {
   public static final String CASE_REFERENCE_INVALID =
       "case_reference_number contains invalid characters; allowed: letters, digits, space, '/', '.', '-'";
 
+  public static final String PARTIAL_SEARCH_TOO_SHORT = "%s must be at least %d characters";
+
   private static final Pattern ALLOWED_CASE_REFERENCE_PATTERN =
       Pattern.compile("^[a-zA-Z0-9/.\\s-]+$");
 
@@ -58,9 +69,9 @@ public class ClaimSearchRequestValidator {
    * Validate the provided request.
    *
    * @param request the {@link ClaimSearchRequest} to validate. Must not be {@code null}.
-   * @throws ClaimBadRequestException if the request is null, the office code is missing, or a
-   *     supplied case reference number is shorter than {@link #MIN_CASE_REFERENCE_LENGTH} after
-   *     trimming.
+   * @throws ClaimBadRequestException if the request is null, the office code is missing, a supplied
+   *     case reference number is shorter than {@link #MIN_CASE_REFERENCE_LENGTH} after trimming, or
+   *     a supplied partial search term is shorter than {@link #MIN_PARTIAL_SEARCH_LENGTH}.
    */
   public void validate(ClaimSearchRequest request) {
     if (request == null) {
@@ -68,6 +79,9 @@ public class ClaimSearchRequestValidator {
     }
     validateOfficeCode(request.getOfficeCode());
     validateCaseReferenceNumber(request.getCaseReferenceNumber());
+    validatePartialSearchTerm("unique_file_number", request.getUniqueFileNumber());
+    validatePartialSearchTerm("unique_client_number", request.getUniqueClientNumber());
+    validatePartialSearchTerm("client_surname", request.getClientSurname());
   }
 
   /**
@@ -120,4 +134,20 @@ public class ClaimSearchRequestValidator {
       throw new ClaimBadRequestException(CASE_REFERENCE_INVALID);
     }
   }
+
+  /**
+   * Ensure a partial-match search term, when supplied, is long enough to be served by its trigram
+   * index.
+   *
+   * @param parameterName the API name of the search parameter, used in the error message
+   * @param term the search term supplied by the caller
+   * @throws ClaimBadRequestException when a non-empty term is shorter than {@link
+   *     #MIN_PARTIAL_SEARCH_LENGTH} characters
+   */
+  public void validatePartialSearchTerm(String parameterName, String term) {
+    if (StringUtils.hasText(term) && term.length() < MIN_PARTIAL_SEARCH_LENGTH) {
+      throw new ClaimBadRequestException(
+          String.format(PARTIAL_SEARCH_TOO_SHORT, parameterName, MIN_PARTIAL_SEARCH_LENGTH));
+    }
+  }
 }
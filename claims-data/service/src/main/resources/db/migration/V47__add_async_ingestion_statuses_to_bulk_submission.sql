@@ -0,0 +1,8 @@
+-- Asynchronous bulk submission ingestion creates the bulk_submission row as soon as the upload is
+-- spooled (RECEIVED) and moves it to INGESTING while a background worker parses and validates the
+-- file, before it reaches READY_FOR_PARSING or one of the existing failure statuses.
+ALTER TABLE bulk_submission
+    DROP CONSTRAINT chk_bulk_submission_status;
+
+ALTER TABLE bulk_submission
+    ADD CONSTRAINT chk_bulk_submission_status CHECK (status IN ('RECEIVED', 'INGESTING', 'READY_FOR_PARSING', 'PARSING_COMPLETED', 'PARSING_FAILED', 'VALIDATION_FAILED', 'REPLACED', 'UNAUTHORISED', 'VALIDATION_SUCCEEDED'));
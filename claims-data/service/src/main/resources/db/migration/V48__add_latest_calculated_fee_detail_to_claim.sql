@@ -0,0 +1,69 @@
+-- Keep a pointer on each claim to its latest calculated_fee_detail row, so that claim searches
+-- (escape case filter, fee sorts) and submission calculated totals can join to the latest fee
+-- directly instead of finding it per claim with a correlated "no newer row exists" subquery or a
+-- ROW_NUMBER() window over every fee row.
+--
+-- "Latest" keeps its existing definition: the row with the greatest (created_on, id), the UUIDv7
+-- id breaking ties. The pointer is maintained by a trigger in the same transaction as every write
+-- to calculated_fee_detail (claim patch, amendment commit, and any direct insert), so it can never
+-- disagree with the fee rows it points into. The trigger leaves the claim's optimistic lock version
+-- and updated_on untouched, and the application maps the column as read-only.
+--
+-- No foreign key is declared: the trigger also repoints the claim when its latest fee row is
+-- deleted, and a foreign key would need a further index on claim to check every fee row delete.
+ALTER TABLE claim
+    ADD COLUMN latest_calculated_fee_detail_id UUID;
+
+CREATE FUNCTION refresh_claim_latest_calculated_fee_detail(target_claim_id UUID)
+    RETURNS VOID
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+DECLARE
+    latest_id UUID;
+BEGIN
+    SELECT cfd.id
+    INTO latest_id
+    FROM calculated_fee_detail cfd
+    WHERE cfd.claim_id = target_claim_id
+    ORDER BY cfd.created_on DESC, cfd.id DESC
+    LIMIT 1;
+
+    UPDATE claim
+    SET latest_calculated_fee_detail_id = latest_id
+    WHERE id = target_claim_id
+      AND latest_calculated_fee_detail_id IS DISTINCT FROM latest_id;
+END;
+$$;
+
+CREATE FUNCTION calculated_fee_detail_refresh_claim_latest()
+    RETURNS TRIGGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        PERFORM refresh_claim_latest_calculated_fee_detail(OLD.claim_id);
+    END IF;
+    IF TG_OP = 'INSERT' OR (TG_OP = 'UPDATE' AND NEW.claim_id <> OLD.claim_id) THEN
+        PERFORM refresh_claim_latest_calculated_fee_detail(NEW.claim_id);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_calculated_fee_detail_refresh_claim_latest
+    AFTER INSERT OR DELETE OR UPDATE OF claim_id, created_on
+    ON calculated_fee_detail
+    FOR EACH ROW
+EXECUTE FUNCTION calculated_fee_detail_refresh_claim_latest();
+
+-- Backfill the pointer for the claims that already have fee rows.
+UPDATE claim c
+SET latest_calculated_fee_detail_id = latest.id
+FROM (SELECT DISTINCT ON (cfd.claim_id) cfd.claim_id, cfd.id
+      FROM calculated_fee_detail cfd
+      ORDER BY cfd.claim_id, cfd.created_on DESC, cfd.id DESC) latest
+WHERE latest.claim_id = c.id;
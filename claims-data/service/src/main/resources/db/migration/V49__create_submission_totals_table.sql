@@ -0,0 +1,367 @@
+-- Per-submission aggregates read by the submission endpoints instead of re-aggregating every claim,
+-- fee, assessment and validation message of a submission on each request.
+--
+-- The calculated total is the sum of the latest calculated_fee_detail total_amount of each claim,
+-- and the assessed total the sum of the latest assessment assessed_total_incl_vat of each claim,
+-- "latest" being the greatest (created_on, id). Each total is NULL while no claim contributes to it,
+-- which is why the number of contributing claims is kept alongside it.
+--
+-- The row is maintained incrementally by triggers on claim, calculated_fee_detail, assessment and
+-- validation_message_log, in the same transaction as the write: each trigger works out how the
+-- written row changed its claim's contribution and adds the difference to the row. Every writer,
+-- including direct inserts, is therefore covered. reconcile_submission_totals recounts a submission
+-- from scratch; it backfills the existing submissions below and is run periodically by the
+-- application to repair any drift.
+CREATE TABLE submission_totals (
+    submission_id                UUID        NOT NULL,
+    ready_to_process_claim_count INTEGER     NOT NULL DEFAULT 0,
+    valid_claim_count            INTEGER     NOT NULL DEFAULT 0,
+    invalid_claim_count          INTEGER     NOT NULL DEFAULT 0,
+    void_claim_count             INTEGER     NOT NULL DEFAULT 0,
+    calculated_total_amount      NUMERIC,
+    calculated_claim_count       INTEGER     NOT NULL DEFAULT 0,
+    assessed_total_amount        NUMERIC,
+    assessed_claim_count         INTEGER     NOT NULL DEFAULT 0,
+    warning_count                INTEGER     NOT NULL DEFAULT 0,
+    updated_on                   TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_submission_totals PRIMARY KEY (submission_id),
+    CONSTRAINT fk_submission_totals_submission_id FOREIGN KEY (submission_id)
+        REFERENCES submission (id) ON DELETE CASCADE
+);
+
+CREATE FUNCTION apply_submission_totals_delta(
+    target_submission_id UUID,
+    ready_to_process_delta INTEGER DEFAULT 0,
+    valid_delta INTEGER DEFAULT 0,
+    invalid_delta INTEGER DEFAULT 0,
+    void_delta INTEGER DEFAULT 0,
+    calculated_total_delta NUMERIC DEFAULT 0,
+    calculated_claim_delta INTEGER DEFAULT 0,
+    assessed_total_delta NUMERIC DEFAULT 0,
+    assessed_claim_delta INTEGER DEFAULT 0,
+    warning_delta INTEGER DEFAULT 0)
+    RETURNS VOID
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+BEGIN
+    IF target_submission_id IS NULL
+        OR (ready_to_process_delta = 0 AND valid_delta = 0 AND invalid_delta = 0 AND void_delta = 0
+            AND calculated_total_delta = 0 AND calculated_claim_delta = 0
+            AND assessed_total_delta = 0 AND assessed_claim_delta = 0 AND warning_delta = 0) THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO submission_totals AS st (submission_id, ready_to_process_claim_count,
+                                         valid_claim_count, invalid_claim_count, void_claim_count,
+                                         calculated_total_amount, calculated_claim_count,
+                                         assessed_total_amount, assessed_claim_count, warning_count)
+    VALUES (target_submission_id, ready_to_process_delta, valid_delta, invalid_delta, void_delta,
+            CASE WHEN calculated_claim_delta > 0 THEN calculated_total_delta END,
+            calculated_claim_delta,
+            CASE WHEN assessed_claim_delta > 0 THEN assessed_total_delta END,
+            assessed_claim_delta, warning_delta)
+    ON CONFLICT (submission_id) DO UPDATE
+        SET ready_to_process_claim_count = st.ready_to_process_claim_count + ready_to_process_delta,
+            valid_claim_count            = st.valid_claim_count + valid_delta,
+            invalid_claim_count          = st.invalid_claim_count + invalid_delta,
+            void_claim_count             = st.void_claim_count + void_delta,
+            calculated_total_amount      =
+                CASE
+                    WHEN st.calculated_claim_count + calculated_claim_delta > 0
+                        THEN COALESCE(st.calculated_total_amount, 0) + calculated_total_delta
+                END,
+            calculated_claim_count       = st.calculated_claim_count + calculated_claim_delta,
+            assessed_total_amount        =
+                CASE
+                    WHEN st.assessed_claim_count + assessed_claim_delta > 0
+                        THEN COALESCE(st.assessed_total_amount, 0) + assessed_total_delta
+                END,
+            assessed_claim_count         = st.assessed_claim_count + assessed_claim_delta,
+            warning_count                = st.warning_count + warning_delta,
+            updated_on                   = now();
+END;
+$$;
+
+-- Claim status counts: move the claim out of its old status and into its new one.
+CREATE FUNCTION claim_submission_totals()
+    RETURNS TRIGGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.status = NEW.status AND OLD.submission_id = NEW.submission_id THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP <> 'INSERT' THEN
+        PERFORM apply_submission_totals_delta(
+            OLD.submission_id,
+            ready_to_process_delta => -(OLD.status = 'READY_TO_PROCESS')::INTEGER,
+            valid_delta => -(OLD.status = 'VALID')::INTEGER,
+            invalid_delta => -(OLD.status = 'INVALID')::INTEGER,
+            void_delta => -(OLD.status = 'VOID')::INTEGER);
+    END IF;
+    IF TG_OP <> 'DELETE' THEN
+        PERFORM apply_submission_totals_delta(
+            NEW.submission_id,
+            ready_to_process_delta => (NEW.status = 'READY_TO_PROCESS')::INTEGER,
+            valid_delta => (NEW.status = 'VALID')::INTEGER,
+            invalid_delta => (NEW.status = 'INVALID')::INTEGER,
+            void_delta => (NEW.status = 'VOID')::INTEGER);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_claim_submission_totals
+    AFTER INSERT OR DELETE OR UPDATE OF status, submission_id
+    ON claim
+    FOR EACH ROW
+EXECUTE FUNCTION claim_submission_totals();
+
+-- Calculated total: compare the claim's latest fee row before and after the write. The "before"
+-- latest is the latest of the claim's other rows and the row as it was before the write.
+CREATE FUNCTION apply_calculated_fee_detail_change(
+    target_claim_id UUID,
+    old_row calculated_fee_detail,
+    new_row calculated_fee_detail)
+    RETURNS VOID
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+DECLARE
+    before_latest calculated_fee_detail;
+    after_latest  calculated_fee_detail;
+BEGIN
+    SELECT *
+    INTO after_latest
+    FROM calculated_fee_detail cfd
+    WHERE cfd.claim_id = target_claim_id
+    ORDER BY cfd.created_on DESC, cfd.id DESC
+    LIMIT 1;
+
+    SELECT *
+    INTO before_latest
+    FROM calculated_fee_detail cfd
+    WHERE cfd.claim_id = target_claim_id
+      AND cfd.id IS DISTINCT FROM new_row.id
+    ORDER BY cfd.created_on DESC, cfd.id DESC
+    LIMIT 1;
+
+    IF old_row.claim_id = target_claim_id
+        AND (before_latest.id IS NULL
+            OR (old_row.created_on, old_row.id) > (before_latest.created_on, before_latest.id)) THEN
+        before_latest := old_row;
+    END IF;
+
+    PERFORM apply_submission_totals_delta(
+        (SELECT c.submission_id FROM claim c WHERE c.id = target_claim_id),
+        calculated_total_delta =>
+            COALESCE(after_latest.total_amount, 0) - COALESCE(before_latest.total_amount, 0),
+        calculated_claim_delta =>
+            (after_latest.total_amount IS NOT NULL)::INTEGER
+                - (before_latest.total_amount IS NOT NULL)::INTEGER);
+END;
+$$;
+
+CREATE FUNCTION calculated_fee_detail_submission_totals()
+    RETURNS TRIGGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        PERFORM apply_calculated_fee_detail_change(OLD.claim_id, OLD, NEW);
+    END IF;
+    IF TG_OP = 'INSERT' OR (TG_OP = 'UPDATE' AND NEW.claim_id <> OLD.claim_id) THEN
+        PERFORM apply_calculated_fee_detail_change(NEW.claim_id, OLD, NEW);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_calculated_fee_detail_submission_totals
+    AFTER INSERT OR DELETE OR UPDATE OF claim_id, created_on, total_amount
+    ON calculated_fee_detail
+    FOR EACH ROW
+EXECUTE FUNCTION calculated_fee_detail_submission_totals();
+
+-- Assessed total: as for the calculated total, over the claim's assessments.
+CREATE FUNCTION apply_assessment_change(
+    target_claim_id UUID,
+    old_row assessment,
+    new_row assessment)
+    RETURNS VOID
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+DECLARE
+    before_latest assessment;
+    after_latest  assessment;
+BEGIN
+    SELECT *
+    INTO after_latest
+    FROM assessment a
+    WHERE a.claim_id = target_claim_id
+    ORDER BY a.created_on DESC, a.id DESC
+    LIMIT 1;
+
+    SELECT *
+    INTO before_latest
+    FROM assessment a
+    WHERE a.claim_id = target_claim_id
+      AND a.id IS DISTINCT FROM new_row.id
+    ORDER BY a.created_on DESC, a.id DESC
+    LIMIT 1;
+
+    IF old_row.claim_id = target_claim_id
+        AND (before_latest.id IS NULL
+            OR (old_row.created_on, old_row.id) > (before_latest.created_on, before_latest.id)) THEN
+        before_latest := old_row;
+    END IF;
+
+    PERFORM apply_submission_totals_delta(
+        (SELECT c.submission_id FROM claim c WHERE c.id = target_claim_id),
+        assessed_total_delta =>
+            COALESCE(after_latest.assessed_total_incl_vat, 0)
+                - COALESCE(before_latest.assessed_total_incl_vat, 0),
+        assessed_claim_delta =>
+            (after_latest.id IS NOT NULL)::INTEGER - (before_latest.id IS NOT NULL)::INTEGER);
+END;
+$$;
+
+CREATE FUNCTION assessment_submission_totals()
+    RETURNS TRIGGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        PERFORM apply_assessment_change(OLD.claim_id, OLD, NEW);
+    END IF;
+    IF TG_OP = 'INSERT' OR (TG_OP = 'UPDATE' AND NEW.claim_id <> OLD.claim_id) THEN
+        PERFORM apply_assessment_change(NEW.claim_id, OLD, NEW);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_assessment_submission_totals
+    AFTER INSERT OR DELETE OR UPDATE OF claim_id, created_on, assessed_total_incl_vat
+    ON assessment
+    FOR EACH ROW
+EXECUTE FUNCTION assessment_submission_totals();
+
+-- Warning count: every WARNING validation message of the submission, claim level or not.
+CREATE FUNCTION validation_message_log_submission_totals()
+    RETURNS TRIGGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.type = NEW.type AND OLD.submission_id = NEW.submission_id THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP <> 'INSERT' AND OLD.type = 'WARNING' THEN
+        PERFORM apply_submission_totals_delta(OLD.submission_id, warning_delta => -1);
+    END IF;
+    IF TG_OP <> 'DELETE' AND NEW.type = 'WARNING' THEN
+        PERFORM apply_submission_totals_delta(NEW.submission_id, warning_delta => 1);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_validation_message_log_submission_totals
+    AFTER INSERT OR DELETE OR UPDATE OF type, submission_id
+    ON validation_message_log
+    FOR EACH ROW
+EXECUTE FUNCTION validation_message_log_submission_totals();
+
+-- Recounts one submission from scratch, returning whether its row had drifted. The row is locked
+-- before recounting, so the recount sees every write committed before the lock was taken, and any
+-- later write waits for the lock and then applies its difference on top of the recount.
+CREATE FUNCTION reconcile_submission_totals(target_submission_id UUID)
+    RETURNS BOOLEAN
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+DECLARE
+    expected      submission_totals;
+    drifted_count INTEGER;
+BEGIN
+    INSERT INTO submission_totals (submission_id)
+    VALUES (target_submission_id)
+    ON CONFLICT (submission_id) DO NOTHING;
+
+    PERFORM 1 FROM submission_totals WHERE submission_id = target_submission_id FOR UPDATE;
+
+    SELECT count(*) FILTER (WHERE c.status = 'READY_TO_PROCESS'),
+           count(*) FILTER (WHERE c.status = 'VALID'),
+           count(*) FILTER (WHERE c.status = 'INVALID'),
+           count(*) FILTER (WHERE c.status = 'VOID'),
+           sum(latest_fee.total_amount),
+           count(latest_fee.total_amount),
+           sum(latest_assessment.assessed_total_incl_vat),
+           count(latest_assessment.assessed_total_incl_vat)
+    INTO expected.ready_to_process_claim_count, expected.valid_claim_count,
+        expected.invalid_claim_count, expected.void_claim_count,
+        expected.calculated_total_amount, expected.calculated_claim_count,
+        expected.assessed_total_amount, expected.assessed_claim_count
+    FROM claim c
+             LEFT JOIN LATERAL (SELECT cfd.total_amount
+                                FROM calculated_fee_detail cfd
+                                WHERE cfd.claim_id = c.id
+                                ORDER BY cfd.created_on DESC, cfd.id DESC
+                                LIMIT 1) latest_fee ON TRUE
+             LEFT JOIN LATERAL (SELECT a.assessed_total_incl_vat
+                                FROM assessment a
+                                WHERE a.claim_id = c.id
+                                ORDER BY a.created_on DESC, a.id DESC
+                                LIMIT 1) latest_assessment ON TRUE
+    WHERE c.submission_id = target_submission_id;
+
+    SELECT count(*)
+    INTO expected.warning_count
+    FROM validation_message_log vml
+    WHERE vml.submission_id = target_submission_id
+      AND vml.type = 'WARNING';
+
+    UPDATE submission_totals st
+    SET ready_to_process_claim_count = expected.ready_to_process_claim_count,
+        valid_claim_count            = expected.valid_claim_count,
+        invalid_claim_count          = expected.invalid_claim_count,
+        void_claim_count             = expected.void_claim_count,
+        calculated_total_amount      = expected.calculated_total_amount,
+        calculated_claim_count       = expected.calculated_claim_count,
+        assessed_total_amount        = expected.assessed_total_amount,
+        assessed_claim_count         = expected.assessed_claim_count,
+        warning_count                = expected.warning_count,
+        updated_on                   = now()
+    WHERE st.submission_id = target_submission_id
+      AND (st.ready_to_process_claim_count, st.valid_claim_count, st.invalid_claim_count,
+           st.void_claim_count, st.calculated_total_amount, st.calculated_claim_count,
+           st.assessed_total_amount, st.assessed_claim_count, st.warning_count)
+        IS DISTINCT FROM
+          (expected.ready_to_process_claim_count, expected.valid_claim_count,
+           expected.invalid_claim_count, expected.void_claim_count,
+           expected.calculated_total_amount, expected.calculated_claim_count,
+           expected.assessed_total_amount, expected.assessed_claim_count,
+           expected.warning_count);
+
+    GET DIAGNOSTICS drifted_count = ROW_COUNT;
+    RETURN drifted_count > 0;
+END;
+$$;
+
+SELECT reconcile_submission_totals(s.id)
+FROM submission s;
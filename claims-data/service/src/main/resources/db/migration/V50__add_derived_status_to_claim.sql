@@ -0,0 +1,27 @@
+-- Persist the claim's derived business status so that claim searches can sort by it through an
+-- index instead of evaluating a CASE expression for every candidate claim.
+--
+-- The value is the ordinal of the DerivedClaimStatus enum, whose declaration order is the canonical
+-- business ordering, so that ordering by the column gives the business order:
+--   0 ACCEPTED, 1 AMENDED, 2 ASSESSED, 3 VOIDED, 4 INVALID, 5 READY_TO_PROCESS.
+-- The precedence mirrors DerivedClaimStatusResolver (see docs/derived-claim-status.md).
+--
+-- As a generated column it is recomputed by the database whenever status, has_assessment or
+-- is_amended change, whichever code path writes them (assessments, voids, amendment commits, claim
+-- patches, bulk status updates and direct inserts alike), so it cannot fall out of step.
+ALTER TABLE claim
+    ADD COLUMN derived_status SMALLINT NOT NULL GENERATED ALWAYS AS (
+        CASE
+            WHEN status = 'VOID' THEN 3
+            WHEN status = 'INVALID' THEN 4
+            WHEN status = 'READY_TO_PROCESS' THEN 5
+            WHEN has_assessment THEN 2
+            WHEN is_amended THEN 1
+            ELSE 0
+        END) STORED;
+
+COMMENT ON COLUMN claim.derived_status IS
+    'DerivedClaimStatus ordinal: 0 ACCEPTED, 1 AMENDED, 2 ASSESSED, 3 VOIDED, 4 INVALID, 5 READY_TO_PROCESS';
+
+-- Serves a submission's claims filtered or sorted by derived status, with the id tie-break.
+CREATE INDEX ix_claim_submission_id_derived_status ON claim (submission_id, derived_status, id);
@@ -0,0 +1,47 @@
+-- Keep a count of each claim's WARNING validation messages on the claim, so that claim searches can
+-- sort by and return the number of warnings without counting validation_message_log rows for
+-- every candidate claim.
+--
+-- The count is maintained by a trigger in the same transaction as every write to
+-- validation_message_log (claim patch, submission patch, and any direct insert), in the same way
+-- as the submission warning total. The trigger leaves the claim's optimistic lock version and
+-- updated_on untouched, and the application maps the column as read-only.
+ALTER TABLE claim
+    ADD COLUMN warning_count INTEGER NOT NULL DEFAULT 0;
+
+CREATE FUNCTION validation_message_log_claim_warning_count()
+    RETURNS TRIGGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.type = NEW.type
+        AND OLD.claim_id IS NOT DISTINCT FROM NEW.claim_id THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP <> 'INSERT' AND OLD.type = 'WARNING' AND OLD.claim_id IS NOT NULL THEN
+        UPDATE claim SET warning_count = warning_count - 1 WHERE id = OLD.claim_id;
+    END IF;
+    IF TG_OP <> 'DELETE' AND NEW.type = 'WARNING' AND NEW.claim_id IS NOT NULL THEN
+        UPDATE claim SET warning_count = warning_count + 1 WHERE id = NEW.claim_id;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_validation_message_log_claim_warning_count
+    AFTER INSERT OR DELETE OR UPDATE OF type, claim_id
+    ON validation_message_log
+    FOR EACH ROW
+EXECUTE FUNCTION validation_message_log_claim_warning_count();
+
+-- Backfill the count for the claims that already have warnings.
+UPDATE claim c
+SET warning_count = warnings.warning_count
+FROM (SELECT vml.claim_id, COUNT(*) AS warning_count
+      FROM validation_message_log vml
+      WHERE vml.type = 'WARNING'
+        AND vml.claim_id IS NOT NULL
+      GROUP BY vml.claim_id) warnings
+WHERE warnings.claim_id = c.id;
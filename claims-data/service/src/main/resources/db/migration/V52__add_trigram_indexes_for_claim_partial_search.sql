@@ -0,0 +1,12 @@
+-- Trigram (GIN) indexes for the case-insensitive partial-match claim search filters, in the same
+-- way as V37 does for case_reference_number. Claim searches filter with
+-- LOWER(column) LIKE '%term%' on each of these columns, which can use these indexes instead of
+-- scanning every claim or client row.
+CREATE INDEX IF NOT EXISTS ix_claim_unique_file_number_trgm
+    ON claim USING gin (lower(unique_file_number) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS ix_client_unique_client_number_trgm
+    ON client USING gin (lower(unique_client_number) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS ix_client_client_surname_trgm
+    ON client USING gin (lower(client_surname) gin_trgm_ops);
@@ -0,0 +1,22 @@
+-- Transactional outbox for the submission events published to the SNS topic. An event is written
+-- here in the same transaction as the change that raises it, so it is published once that change
+-- commits even if the instance stops straight after, and SNS latency stays off the request thread.
+--
+-- The application drains the table in the background, publishing due rows in batches and deleting
+-- them once SNS has accepted them. A row that fails to publish is kept, with its attempt count and
+-- error, and retried from next_attempt_on with a growing backoff. Rows are claimed with FOR UPDATE
+-- SKIP LOCKED, so every instance can drain the table without publishing a row twice.
+CREATE TABLE submission_event_outbox (
+    id              UUID        NOT NULL,
+    event_type      VARCHAR(50) NOT NULL,
+    message_body    TEXT        NOT NULL,
+    created_on      TIMESTAMPTZ NOT NULL DEFAULT now(),
+    attempts        INTEGER     NOT NULL DEFAULT 0,
+    next_attempt_on TIMESTAMPTZ NOT NULL DEFAULT now(),
+    last_error      TEXT,
+
+    CONSTRAINT pk_submission_event_outbox PRIMARY KEY (id)
+);
+
+CREATE INDEX ix_submission_event_outbox_next_attempt_on
+    ON submission_event_outbox (next_attempt_on);
@@ -0,0 +1,258 @@
+-- The calculated and assessed totals of submission_totals were maintained by row-level triggers
+-- that rebuilt a claim's "before" latest row from the table as it stood after the whole statement.
+-- A single DELETE or UPDATE touching several fee or assessment rows of one claim therefore applied
+-- one difference per row against the same, already final, state and over-subtracted: deleting the
+-- latest row A and the older row B together applied -A and then -B instead of -A alone.
+--
+-- They are replaced by statement-level triggers over the transition tables. Each trigger works out,
+-- once per affected claim, the claim's latest row before the statement (its untouched rows plus the
+-- old versions of the touched ones) and after it (the table as it now stands), and applies the
+-- difference of the two contributions to the claim's submission. The claim status and warning
+-- count triggers are unchanged: they depend only on the row they fire for.
+DROP TRIGGER trg_calculated_fee_detail_submission_totals ON calculated_fee_detail;
+DROP TRIGGER trg_assessment_submission_totals ON assessment;
+DROP FUNCTION calculated_fee_detail_submission_totals();
+DROP FUNCTION assessment_submission_totals();
+DROP FUNCTION apply_calculated_fee_detail_change(UUID, calculated_fee_detail, calculated_fee_detail);
+DROP FUNCTION apply_assessment_change(UUID, assessment, assessment);
+
+-- The columns of a fee or assessment row that decide its claim's contribution.
+CREATE TYPE submission_totals_source_row AS (
+    id         UUID,
+    claim_id   UUID,
+    created_on TIMESTAMPTZ,
+    amount     NUMERIC
+);
+
+-- Calculated total: compare each affected claim's latest fee row before and after the statement.
+CREATE FUNCTION apply_calculated_fee_detail_changes(
+    old_rows submission_totals_source_row[],
+    new_rows submission_totals_source_row[])
+    RETURNS VOID
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+DECLARE
+    submission_change RECORD;
+BEGIN
+    FOR submission_change IN
+        WITH affected_claim AS (SELECT o.claim_id FROM unnest(old_rows) o
+                                UNION
+                                SELECT n.claim_id FROM unnest(new_rows) n),
+             claim_change AS (
+                 SELECT ac.claim_id,
+                        before_latest.amount AS before_amount,
+                        after_latest.amount  AS after_amount
+                 FROM affected_claim ac
+                          LEFT JOIN LATERAL (SELECT cfd.total_amount AS amount
+                                             FROM calculated_fee_detail cfd
+                                             WHERE cfd.claim_id = ac.claim_id
+                                             ORDER BY cfd.created_on DESC, cfd.id DESC
+                                             LIMIT 1) after_latest ON TRUE
+                          LEFT JOIN LATERAL (SELECT r.amount
+                                             FROM (SELECT cfd.id, cfd.created_on,
+                                                          cfd.total_amount AS amount
+                                                   FROM calculated_fee_detail cfd
+                                                   WHERE cfd.claim_id = ac.claim_id
+                                                     AND cfd.id <> ALL
+                                                         (SELECT n.id FROM unnest(new_rows) n)
+                                                   UNION ALL
+                                                   SELECT o.id, o.created_on, o.amount
+                                                   FROM unnest(old_rows) o
+                                                   WHERE o.claim_id = ac.claim_id) r
+                                             ORDER BY r.created_on DESC, r.id DESC
+                                             LIMIT 1) before_latest ON TRUE)
+        SELECT c.submission_id,
+               sum(COALESCE(cc.after_amount, 0) - COALESCE(cc.before_amount, 0)) AS total_delta,
+               sum((cc.after_amount IS NOT NULL)::INTEGER
+                       - (cc.before_amount IS NOT NULL)::INTEGER)::INTEGER      AS claim_delta
+        FROM claim_change cc
+                 JOIN claim c ON c.id = cc.claim_id
+        GROUP BY c.submission_id
+        ORDER BY c.submission_id
+        LOOP
+            PERFORM apply_submission_totals_delta(
+                submission_change.submission_id,
+                calculated_total_delta => submission_change.total_delta,
+                calculated_claim_delta => submission_change.claim_delta);
+        END LOOP;
+END;
+$$;
+
+CREATE FUNCTION calculated_fee_detail_submission_totals()
+    RETURNS TRIGGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM apply_calculated_fee_detail_changes(
+            ARRAY []::submission_totals_source_row[],
+            ARRAY(SELECT ROW (n.id, n.claim_id, n.created_on, n.total_amount)
+                             ::submission_totals_source_row
+                  FROM new_calculated_fee_detail n));
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM apply_calculated_fee_detail_changes(
+            ARRAY(SELECT ROW (o.id, o.claim_id, o.created_on, o.total_amount)
+                             ::submission_totals_source_row
+                  FROM old_calculated_fee_detail o),
+            ARRAY []::submission_totals_source_row[]);
+    ELSE
+        -- Only the rows whose contribution could have changed.
+        PERFORM apply_calculated_fee_detail_changes(
+            ARRAY(SELECT ROW (o.id, o.claim_id, o.created_on, o.total_amount)
+                             ::submission_totals_source_row
+                  FROM old_calculated_fee_detail o
+                           JOIN new_calculated_fee_detail n ON n.id = o.id
+                  WHERE (o.claim_id, o.created_on, o.total_amount)
+                            IS DISTINCT FROM (n.claim_id, n.created_on, n.total_amount)),
+            ARRAY(SELECT ROW (n.id, n.claim_id, n.created_on, n.total_amount)
+                             ::submission_totals_source_row
+                  FROM old_calculated_fee_detail o
+                           JOIN new_calculated_fee_detail n ON n.id = o.id
+                  WHERE (o.claim_id, o.created_on, o.total_amount)
+                            IS DISTINCT FROM (n.claim_id, n.created_on, n.total_amount)));
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+-- A trigger with transition tables can only fire on one event, hence one trigger per event.
+CREATE TRIGGER trg_calculated_fee_detail_submission_totals_insert
+    AFTER INSERT
+    ON calculated_fee_detail
+    REFERENCING NEW TABLE AS new_calculated_fee_detail
+    FOR EACH STATEMENT
+EXECUTE FUNCTION calculated_fee_detail_submission_totals();
+
+CREATE TRIGGER trg_calculated_fee_detail_submission_totals_update
+    AFTER UPDATE
+    ON calculated_fee_detail
+    REFERENCING OLD TABLE AS old_calculated_fee_detail NEW TABLE AS new_calculated_fee_detail
+    FOR EACH STATEMENT
+EXECUTE FUNCTION calculated_fee_detail_submission_totals();
+
+CREATE TRIGGER trg_calculated_fee_detail_submission_totals_delete
+    AFTER DELETE
+    ON calculated_fee_detail
+    REFERENCING OLD TABLE AS old_calculated_fee_detail
+    FOR EACH STATEMENT
+EXECUTE FUNCTION calculated_fee_detail_submission_totals();
+
+-- Assessed total: as for the calculated total, over the claim's assessments.
+CREATE FUNCTION apply_assessment_changes(
+    old_rows submission_totals_source_row[],
+    new_rows submission_totals_source_row[])
+    RETURNS VOID
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+DECLARE
+    submission_change RECORD;
+BEGIN
+    FOR submission_change IN
+        WITH affected_claim AS (SELECT o.claim_id FROM unnest(old_rows) o
+                                UNION
+                                SELECT n.claim_id FROM unnest(new_rows) n),
+             claim_change AS (
+                 SELECT ac.claim_id,
+                        before_latest.amount AS before_amount,
+                        after_latest.amount  AS after_amount
+                 FROM affected_claim ac
+                          LEFT JOIN LATERAL (SELECT a.assessed_total_incl_vat AS amount
+                                             FROM assessment a
+                                             WHERE a.claim_id = ac.claim_id
+                                             ORDER BY a.created_on DESC, a.id DESC
+                                             LIMIT 1) after_latest ON TRUE
+                          LEFT JOIN LATERAL (SELECT r.amount
+                                             FROM (SELECT a.id, a.created_on,
+                                                          a.assessed_total_incl_vat AS amount
+                                                   FROM assessment a
+                                                   WHERE a.claim_id = ac.claim_id
+                                                     AND a.id <> ALL
+                                                         (SELECT n.id FROM unnest(new_rows) n)
+                                                   UNION ALL
+                                                   SELECT o.id, o.created_on, o.amount
+                                                   FROM unnest(old_rows) o
+                                                   WHERE o.claim_id = ac.claim_id) r
+                                             ORDER BY r.created_on DESC, r.id DESC
+                                             LIMIT 1) before_latest ON TRUE)
+        SELECT c.submission_id,
+               sum(COALESCE(cc.after_amount, 0) - COALESCE(cc.before_amount, 0)) AS total_delta,
+               sum((cc.after_amount IS NOT NULL)::INTEGER
+                       - (cc.before_amount IS NOT NULL)::INTEGER)::INTEGER      AS claim_delta
+        FROM claim_change cc
+                 JOIN claim c ON c.id = cc.claim_id
+        GROUP BY c.submission_id
+        ORDER BY c.submission_id
+        LOOP
+            PERFORM apply_submission_totals_delta(
+                submission_change.submission_id,
+                assessed_total_delta => submission_change.total_delta,
+                assessed_claim_delta => submission_change.claim_delta);
+        END LOOP;
+END;
+$$;
+
+CREATE FUNCTION assessment_submission_totals()
+    RETURNS TRIGGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM apply_assessment_changes(
+            ARRAY []::submission_totals_source_row[],
+            ARRAY(SELECT ROW (n.id, n.claim_id, n.created_on, n.assessed_total_incl_vat)
+                             ::submission_totals_source_row
+                  FROM new_assessment n));
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM apply_assessment_changes(
+            ARRAY(SELECT ROW (o.id, o.claim_id, o.created_on, o.assessed_total_incl_vat)
+                             ::submission_totals_source_row
+                  FROM old_assessment o),
+            ARRAY []::submission_totals_source_row[]);
+    ELSE
+        -- Only the rows whose contribution could have changed.
+        PERFORM apply_assessment_changes(
+            ARRAY(SELECT ROW (o.id, o.claim_id, o.created_on, o.assessed_total_incl_vat)
+                             ::submission_totals_source_row
+                  FROM old_assessment o
+                           JOIN new_assessment n ON n.id = o.id
+                  WHERE (o.claim_id, o.created_on, o.assessed_total_incl_vat)
+                            IS DISTINCT FROM (n.claim_id, n.created_on, n.assessed_total_incl_vat)),
+            ARRAY(SELECT ROW (n.id, n.claim_id, n.created_on, n.assessed_total_incl_vat)
+                             ::submission_totals_source_row
+                  FROM old_assessment o
+                           JOIN new_assessment n ON n.id = o.id
+                  WHERE (o.claim_id, o.created_on, o.assessed_total_incl_vat)
+                            IS DISTINCT FROM (n.claim_id, n.created_on, n.assessed_total_incl_vat)));
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_assessment_submission_totals_insert
+    AFTER INSERT
+    ON assessment
+    REFERENCING NEW TABLE AS new_assessment
+    FOR EACH STATEMENT
+EXECUTE FUNCTION assessment_submission_totals();
+
+CREATE TRIGGER trg_assessment_submission_totals_update
+    AFTER UPDATE
+    ON assessment
+    REFERENCING OLD TABLE AS old_assessment NEW TABLE AS new_assessment
+    FOR EACH STATEMENT
+EXECUTE FUNCTION assessment_submission_totals();
+
+CREATE TRIGGER trg_assessment_submission_totals_delete
+    AFTER DELETE
+    ON assessment
+    REFERENCING OLD TABLE AS old_assessment
+    FOR EACH STATEMENT
+EXECUTE FUNCTION assessment_submission_totals();
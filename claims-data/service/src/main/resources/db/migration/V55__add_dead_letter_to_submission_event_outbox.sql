@@ -0,0 +1,13 @@
+-- An event that keeps failing to publish was retried forever. After
+-- laa.claims.api.event-outbox.max-attempts failed attempts it is now dead-lettered instead: the row
+-- is kept, with its last error, for investigation, and is no longer claimed. Clearing
+-- dead_lettered_on (and resetting attempts) puts it back in the queue.
+ALTER TABLE submission_event_outbox
+    ADD COLUMN dead_lettered_on TIMESTAMPTZ;
+
+-- Only the events still being retried are polled.
+DROP INDEX ix_submission_event_outbox_next_attempt_on;
+
+CREATE INDEX ix_submission_event_outbox_next_attempt_on
+    ON submission_event_outbox (next_attempt_on)
+    WHERE dead_lettered_on IS NULL;
@@ -0,0 +1,28 @@
+-- Durable queue of the Javers audits still to be written when laa.claims.api.audit.mode is
+-- DURABLE. A row is written in the same transaction as the save it audits, holding the state of
+-- the entity as it was saved, so the audit is written once that save commits even if the instance
+-- stops straight after, and the Javers commit stays off the request thread.
+--
+-- The application drains the table in the background: it locks the oldest rows with FOR UPDATE
+-- SKIP LOCKED, commits their audit to Javers and deletes them in one transaction, so every instance
+-- can drain the table without auditing a save twice. A row that fails to audit is kept, with its
+-- attempt count and error, and after laa.claims.api.audit.max-attempts failed attempts it is
+-- dead-lettered: it stays for investigation and is no longer claimed.
+CREATE TABLE audit_outbox (
+    id               UUID         NOT NULL,
+    entity_type      VARCHAR(255) NOT NULL,
+    entity_id        TEXT         NOT NULL,
+    author           TEXT         NOT NULL,
+    state            TEXT         NOT NULL,
+    created_on       TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    attempts         INTEGER      NOT NULL DEFAULT 0,
+    last_error       TEXT,
+    dead_lettered_on TIMESTAMPTZ,
+
+    CONSTRAINT pk_audit_outbox PRIMARY KEY (id)
+);
+
+-- Only the rows still to be audited are polled.
+CREATE INDEX ix_audit_outbox_pending
+    ON audit_outbox (id)
+    WHERE dead_lettered_on IS NULL;
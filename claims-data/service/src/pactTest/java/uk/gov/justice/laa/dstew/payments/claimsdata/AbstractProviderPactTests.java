@@ -13,9 +13,11 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import uk.gov.justice.laa.dstew.payments.claimsdata.aop.JaversAuditWriter;
 import uk.gov.justice.laa.dstew.payments.claimsdata.aop.JaversAuditingAspect;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.AmendmentReasonReferenceRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.AssessmentRepository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.AuditOutboxRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.BulkSubmissionRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.CalculatedFeeDetailRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClaimAmendmentRepository;
@@ -26,7 +28,9 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClaimSummaryFeeRe
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClientRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.MatterStartRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.RequestedByReferenceRepository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionEventOutboxRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionRepository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionTotalsRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ValidationMessageLogRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.BulkSubmissionService;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.SubmissionEventPublisherService;
@@ -56,6 +60,7 @@ public class AbstractProviderPactTests {
   @MockitoBean protected SecurityFilterChain securityFilterChain;
 
   @MockitoBean protected JaversAuditingAspect javersAuditingAspect;
+  @MockitoBean protected JaversAuditWriter javersAuditWriter;
 
   @MockitoBean protected BulkSubmissionRepository bulkSubmissionRepository;
 
@@ -78,6 +83,12 @@ public class AbstractProviderPactTests {
 
   @MockitoBean protected SubmissionRepository submissionRepository;
 
+  @MockitoBean protected SubmissionTotalsRepository submissionTotalsRepository;
+
+  @MockitoBean protected SubmissionEventOutboxRepository submissionEventOutboxRepository;
+
+  @MockitoBean protected AuditOutboxRepository auditOutboxRepository;
+
   @MockitoBean protected ValidationMessageLogRepository validationMessageLogRepository;
 
   @MockitoBean protected AssessmentRepository assessmentRepository;
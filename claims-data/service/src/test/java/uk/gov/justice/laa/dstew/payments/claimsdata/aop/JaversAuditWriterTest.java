@@ -0,0 +1,293 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.javers.core.Javers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.justice.laa.dstew.payments.claimsdata.aop.AuditStateMapper.AuditState;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.BasicTransactionManager;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.ClaimsApiProperties;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.AuditOutbox;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Claim;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.AuditOutboxRepository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JaversAuditWriter")
+class JaversAuditWriterTest {
+
+  private static final String AUTHOR = "test-user";
+
+  @Mock private Javers javers;
+  @Mock private AuditStateMapper stateMapper;
+  @Mock private AuditOutboxRepository outboxRepository;
+
+  private final BasicTransactionManager transactionManager = new BasicTransactionManager();
+  private final ClaimsApiProperties properties = new ClaimsApiProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private JaversAuditWriter writer;
+
+  @BeforeEach
+  void setUp() {
+    properties.getAudit().setFlushInterval(Duration.ofMillis(10));
+    properties.getAudit().setShutdownTimeout(Duration.ofSeconds(5));
+  }
+
+  @AfterEach
+  void tearDown() {
+    writer.stop();
+  }
+
+  private void startWriter(ClaimsApiProperties.AuditMode mode) {
+    properties.getAudit().setMode(mode);
+    writer =
+        new JaversAuditWriter(
+            javers, stateMapper, outboxRepository, transactionManager, properties, meterRegistry);
+    writer.start();
+  }
+
+  /** Stubs the capture of a saved claim's state, and the claim rebuilt from it. */
+  private void stubSave(Claim claim, Claim restored) {
+    AuditState state = new AuditState(Claim.class, claim.getId(), Map.of());
+    when(stateMapper.capture(claim)).thenReturn(state);
+    when(stateMapper.restore(state)).thenReturn(restored);
+  }
+
+  private static Claim claim() {
+    return Claim.builder().id(Uuid7.timeBasedUuid()).build();
+  }
+
+  private static AuditOutbox outboxRow(Claim claim) {
+    return AuditOutbox.builder()
+        .id(Uuid7.timeBasedUuid())
+        .entityType(Claim.class.getName())
+        .entityId(claim.getId().toString())
+        .author(AUTHOR)
+        .state("{}")
+        .createdOn(Instant.now())
+        .build();
+  }
+
+  @Test
+  @DisplayName("commits the saved entity straight away in SYNC mode")
+  void commitsImmediatelyInSyncMode() {
+    startWriter(ClaimsApiProperties.AuditMode.SYNC);
+    Claim claim = claim();
+
+    writer.audit(AUTHOR, claim);
+
+    verify(javers).commit(AUTHOR, claim);
+    assertThat(writer.isRunning()).isFalse();
+    verifyNoInteractions(stateMapper, outboxRepository);
+  }
+
+  @Test
+  @DisplayName("commits the state captured at save time in ASYNC mode, draining on stop")
+  void commitsSavedStateInAsyncMode() {
+    startWriter(ClaimsApiProperties.AuditMode.ASYNC);
+    Claim claim = claim();
+    Claim restored = claim();
+    stubSave(claim, restored);
+
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(
+            status -> {
+              writer.audit(AUTHOR, claim);
+              verify(stateMapper).capture(claim);
+            });
+    writer.stop();
+
+    verify(javers).commit(AUTHOR, restored);
+    assertThat(meterRegistry.get(JaversAuditWriter.LAG_METRIC).timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(JaversAuditWriter.QUEUED_METRIC).gauge().value()).isZero();
+  }
+
+  @Test
+  @DisplayName("does not audit a save whose transaction rolls back in ASYNC mode")
+  void skipsRolledBackSaveInAsyncMode() {
+    startWriter(ClaimsApiProperties.AuditMode.ASYNC);
+    Claim claim = claim();
+    when(stateMapper.capture(claim))
+        .thenReturn(new AuditState(Claim.class, claim.getId(), Map.of()));
+
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(
+            status -> {
+              writer.audit(AUTHOR, claim);
+              status.setRollbackOnly();
+            });
+    writer.stop();
+
+    verify(stateMapper, never()).restore(any());
+    verify(javers, never()).commit(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("audits on the saving thread when the queue is full")
+  void auditsOnCallerWhenQueueFull() throws InterruptedException {
+    properties.getAudit().setQueueCapacity(1);
+    startWriter(ClaimsApiProperties.AuditMode.ASYNC);
+    Claim blocking = claim();
+    AuditState blockingState = new AuditState(Claim.class, blocking.getId(), Map.of());
+    Claim queued = claim();
+    Claim queuedRestored = claim();
+    stubSave(queued, queuedRestored);
+    Claim overflow = claim();
+    Claim overflowRestored = claim();
+    stubSave(overflow, overflowRestored);
+    CountDownLatch writing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(stateMapper.capture(blocking)).thenReturn(blockingState);
+    when(stateMapper.restore(blockingState))
+        .thenAnswer(
+            invocation -> {
+              writing.countDown();
+              release.await(5, TimeUnit.SECONDS);
+              return blocking;
+            });
+
+    writer.audit(AUTHOR, blocking);
+    assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+    writer.audit(AUTHOR, queued);
+    writer.audit(AUTHOR, overflow);
+
+    verify(javers).commit(AUTHOR, overflowRestored);
+    verify(javers, never()).commit(AUTHOR, queuedRestored);
+    assertThat(meterRegistry.get(JaversAuditWriter.BACKPRESSURE_METRIC).counter().count())
+        .isEqualTo(1);
+
+    release.countDown();
+    writer.stop();
+    verify(javers).commit(AUTHOR, blocking);
+    verify(javers).commit(AUTHOR, queuedRestored);
+  }
+
+  @Test
+  @DisplayName("audits each save of an entity with its own state and author, in order")
+  void auditsEverySaveOfOneEntity() {
+    startWriter(ClaimsApiProperties.AuditMode.ASYNC);
+    Claim claim = claim();
+    AuditState first = new AuditState(Claim.class, claim.getId(), Map.of("feeCode", "FIRST"));
+    AuditState second = new AuditState(Claim.class, claim.getId(), Map.of("feeCode", "SECOND"));
+    Claim firstRestored = claim();
+    Claim secondRestored = claim();
+    when(stateMapper.capture(claim)).thenReturn(first, second);
+    when(stateMapper.restore(first)).thenReturn(firstRestored);
+    when(stateMapper.restore(second)).thenReturn(secondRestored);
+
+    writer.audit(AUTHOR, claim);
+    writer.audit("other-user", claim);
+    writer.stop();
+
+    InOrder commits = inOrder(javers);
+    commits.verify(javers).commit(AUTHOR, firstRestored);
+    commits.verify(javers).commit("other-user", secondRestored);
+  }
+
+  @Test
+  @DisplayName("counts an entity that fails to audit and carries on")
+  void countsFailedAudit() {
+    startWriter(ClaimsApiProperties.AuditMode.ASYNC);
+    Claim claim = claim();
+    AuditState state = new AuditState(Claim.class, claim.getId(), Map.of());
+    when(stateMapper.capture(claim)).thenReturn(state);
+    when(stateMapper.restore(state)).thenThrow(new IllegalStateException("boom"));
+
+    writer.audit(AUTHOR, claim);
+    writer.stop();
+
+    assertThat(meterRegistry.get(JaversAuditWriter.FAILURE_METRIC).counter().count())
+        .isEqualTo(1);
+    verify(javers, never()).commit(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("writes the state captured at save time to the outbox in DURABLE mode")
+  void writesOutboxRowInDurableMode() {
+    startWriter(ClaimsApiProperties.AuditMode.DURABLE);
+    Claim claim = claim();
+    AuditState state = new AuditState(Claim.class, claim.getId(), Map.of());
+    when(stateMapper.capture(claim)).thenReturn(state);
+    when(stateMapper.toJson(state)).thenReturn("{\"feeCode\":\"\\\"FEE\\\"\"}");
+
+    writer.audit(AUTHOR, claim);
+
+    ArgumentCaptor<AuditOutbox> row = ArgumentCaptor.forClass(AuditOutbox.class);
+    verify(outboxRepository).save(row.capture());
+    assertThat(row.getValue().getEntityType()).isEqualTo(Claim.class.getName());
+    assertThat(row.getValue().getEntityId()).isEqualTo(claim.getId().toString());
+    assertThat(row.getValue().getAuthor()).isEqualTo(AUTHOR);
+    assertThat(row.getValue().getState()).isEqualTo("{\"feeCode\":\"\\\"FEE\\\"\"}");
+    verify(javers, never()).commit(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("audits the saves in the outbox and deletes them in DURABLE mode")
+  void drainsOutboxInDurableMode() {
+    Claim claim = claim();
+    AuditOutbox row = outboxRow(claim);
+    AuditState state = new AuditState(Claim.class, claim.getId(), Map.of());
+    Claim restored = claim();
+    when(outboxRepository.lockPending(100)).thenReturn(List.of(row), List.of());
+    when(stateMapper.fromJson(row.getEntityType(), row.getEntityId(), row.getState()))
+        .thenReturn(state);
+    when(stateMapper.restore(state)).thenReturn(restored);
+
+    startWriter(ClaimsApiProperties.AuditMode.DURABLE);
+
+    verify(outboxRepository, timeout(5000)).deleteAllInBatch(List.of(row));
+    verify(javers).commit(AUTHOR, restored);
+  }
+
+  @Test
+  @DisplayName("dead-letters a save in the outbox that fails its last attempt in DURABLE mode")
+  void deadLettersFailingOutboxRow() {
+    properties.getAudit().setMaxAttempts(1);
+    Claim claim = claim();
+    AuditOutbox row = outboxRow(claim);
+    AuditState state = new AuditState(Claim.class, claim.getId(), Map.of());
+    when(outboxRepository.lockPending(100)).thenReturn(List.of(row), List.of());
+    when(outboxRepository.lockPendingById(row.getId())).thenReturn(Optional.of(row));
+    when(outboxRepository.findById(row.getId())).thenReturn(Optional.of(row));
+    when(stateMapper.fromJson(row.getEntityType(), row.getEntityId(), row.getState()))
+        .thenReturn(state);
+    when(stateMapper.restore(state)).thenThrow(new IllegalStateException("boom"));
+
+    startWriter(ClaimsApiProperties.AuditMode.DURABLE);
+
+    verify(outboxRepository, timeout(5000)).findById(row.getId());
+    writer.stop();
+    assertThat(row.getAttempts()).isEqualTo(1);
+    assertThat(row.getLastError()).contains("boom");
+    assertThat(row.getDeadLetteredOn()).isNotNull();
+    assertThat(meterRegistry.get(JaversAuditWriter.FAILURE_METRIC).counter().count())
+        .isEqualTo(1);
+    verify(outboxRepository, never()).delete(row);
+    verify(javers, never()).commit(anyString(), any());
+  }
+}
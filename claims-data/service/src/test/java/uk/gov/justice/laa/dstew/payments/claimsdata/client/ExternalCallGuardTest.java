@@ -0,0 +1,125 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ExternalDependencyTimeoutException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ExternalDependencyUnavailableException;
+
+@DisplayName("ExternalCallGuard")
+class ExternalCallGuardTest {
+
+  private static final String DEPENDENCY = ExternalCallGuard.FEE_SCHEME_PLATFORM;
+
+  private CircuitBreakerRegistry circuitBreakerRegistry;
+  private BulkheadRegistry bulkheadRegistry;
+  private ExternalCallGuard guard;
+
+  @BeforeEach
+  void setUp() {
+    circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    bulkheadRegistry =
+        BulkheadRegistry.of(
+            BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build());
+    TimeLimiterRegistry timeLimiterRegistry =
+        TimeLimiterRegistry.of(
+            TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(200)).build());
+    guard = new ExternalCallGuard(circuitBreakerRegistry, bulkheadRegistry, timeLimiterRegistry);
+  }
+
+  private CircuitBreaker.Metrics metrics() {
+    return circuitBreakerRegistry.circuitBreaker(DEPENDENCY).getMetrics();
+  }
+
+  @Test
+  @DisplayName("returns the result of a successful call and records it")
+  void returnsResultOfSuccessfulCall() {
+    assertThat(guard.call(DEPENDENCY, () -> "fee")).isEqualTo("fee");
+
+    assertThat(metrics().getNumberOfSuccessfulCalls()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("rethrows a failed call unchanged and records the failure")
+  void rethrowsFailedCallUnchanged() {
+    IllegalArgumentException failure = new IllegalArgumentException("rejected");
+
+    assertThatThrownBy(
+            () ->
+                guard.call(
+                    DEPENDENCY,
+                    () -> {
+                      throw failure;
+                    }))
+        .isSameAs(failure);
+    assertThat(metrics().getNumberOfFailedCalls()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("fails fast without calling the dependency while its circuit breaker is open")
+  void failsFastWhileCircuitOpen() {
+    circuitBreakerRegistry.circuitBreaker(DEPENDENCY).transitionToOpenState();
+    AtomicBoolean called = new AtomicBoolean();
+
+    assertThatThrownBy(() -> guard.call(DEPENDENCY, () -> called.getAndSet(true)))
+        .isInstanceOf(ExternalDependencyUnavailableException.class)
+        .hasMessageContaining(DEPENDENCY);
+    assertThat(called).isFalse();
+  }
+
+  @Test
+  @DisplayName("fails fast without calling the dependency while its bulkhead is full")
+  void failsFastWhileBulkheadFull() {
+    bulkheadRegistry.bulkhead(DEPENDENCY).acquirePermission();
+    AtomicBoolean called = new AtomicBoolean();
+
+    assertThatThrownBy(() -> guard.call(DEPENDENCY, () -> called.getAndSet(true)))
+        .isInstanceOf(ExternalDependencyUnavailableException.class);
+    assertThat(called).isFalse();
+  }
+
+  @Test
+  @DisplayName("fails a call that runs past its time limit and records the failure")
+  void failsSlowCall() {
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      assertThatThrownBy(
+              () ->
+                  guard.call(
+                      DEPENDENCY,
+                      () -> {
+                        try {
+                          release.await();
+                        } catch (InterruptedException ex) {
+                          Thread.currentThread().interrupt();
+                        }
+                        return "late";
+                      }))
+          .isInstanceOf(ExternalDependencyTimeoutException.class);
+    } finally {
+      release.countDown();
+    }
+    assertThat(metrics().getNumberOfFailedCalls()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("keeps a separate circuit breaker per dependency")
+  void keepsSeparateCircuitBreakerPerDependency() {
+    circuitBreakerRegistry.circuitBreaker(DEPENDENCY).transitionToOpenState();
+
+    assertThat(guard.call(ExternalCallGuard.PROVIDER_DATA_API, () -> "provider"))
+        .isEqualTo("provider");
+  }
+}
@@ -0,0 +1,26 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.config;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration
+public class TestResilienceConfig {
+
+  @Bean
+  public CircuitBreakerRegistry circuitBreakerRegistry() {
+    return CircuitBreakerRegistry.ofDefaults();
+  }
+
+  @Bean
+  public BulkheadRegistry bulkheadRegistry() {
+    return BulkheadRegistry.ofDefaults();
+  }
+
+  @Bean
+  public TimeLimiterRegistry timeLimiterRegistry() {
+    return TimeLimiterRegistry.ofDefaults();
+  }
+}
@@ -29,18 +29,26 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.assertj.MockMvcTester;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionIngestionRejectedException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionInvalidFileException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionNotFoundException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionValidationException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.DataClaimsExceptionHandler;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionOutcome;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionOutcomeResultSet;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.CreateBulkSubmission201Response;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.CreateBulkSubmissionAsync202Response;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.GetBulkSubmission200Response;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.GetBulkSubmissionStatusById200Response;
+import uk.gov.justice.laa.dstew.payments.claimsdata.service.BulkSubmissionIngestionService;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.BulkSubmissionService;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimsDataTestUtil;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
@@ -58,6 +66,8 @@ class BulkSubmissionControllerTest {
 
   @Mock private BulkSubmissionService bulkSubmissionService;
 
+  @Mock private BulkSubmissionIngestionService bulkSubmissionIngestionService;
+
   @Mock private BulkSubmissionFileValidator bulkSubmissionFileValidator;
 
   protected MockMvcTester mockMvc;
@@ -72,6 +82,7 @@ class BulkSubmissionControllerTest {
         MockMvcTester.create(
                 standaloneSetup(bulkSubmissionController)
                     .setControllerAdvice(new DataClaimsExceptionHandler())
+                    .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
                     .build())
             .withHttpMessageConverters(singletonList(mappingJackson2HttpMessageConverter));
     mockMultipartFile =
@@ -175,6 +186,69 @@ class BulkSubmissionControllerTest {
     }
   }
 
+  @Nested
+  @DisplayName("POST: " + BULK_SUBMISSIONS_URI + "/async")
+  class PostBulkSubmissionAsyncTests {
+
+    @Test
+    @DisplayName("Should return 202 response")
+    void shouldReturn202Response() throws IOException {
+      CreateBulkSubmissionAsync202Response expected = new CreateBulkSubmissionAsync202Response();
+      expected.setBulkSubmissionId(BULK_SUBMISSION_ID);
+      expected.setSubmissionIds(singletonList(SUBMISSION_ID));
+
+      when(bulkSubmissionIngestionService.acceptBulkSubmissionFile(any(), any(), any()))
+          .thenReturn(expected);
+
+      assertThat(
+              mockMvc.perform(
+                  multipart(BULK_SUBMISSIONS_URI + "/async")
+                      .file("file", mockMultipartFile.getBytes())
+                      .param("userId", USER_ID)
+                      .param("offices", "OFFICE1,OFFICE2")))
+          .hasStatus(202)
+          .hasHeader(
+              "Location",
+              String.format(
+                  "http://localhost%s/bulk-submissions/%s/summary",
+                  API_URI_PREFIX, BULK_SUBMISSION_ID))
+          .bodyJson()
+          .convertTo(CreateBulkSubmissionAsync202Response.class)
+          .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should return 400 response without accepting the file when it is invalid")
+    void shouldReturn400ResponseWhenFileIsInvalid() throws IOException {
+      doThrow(new BulkSubmissionValidationException("This error was found"))
+          .when(bulkSubmissionFileValidator)
+          .validate(any(MockMultipartFile.class));
+
+      assertThat(
+              mockMvc.perform(
+                  multipart(BULK_SUBMISSIONS_URI + "/async")
+                      .file("file", mockMultipartFile.getBytes())
+                      .param("userId", USER_ID)))
+          .hasStatus(400);
+
+      verify(bulkSubmissionIngestionService, never()).acceptBulkSubmissionFile(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return 503 response when ingestion is at capacity")
+    void shouldReturn503ResponseWhenIngestionIsAtCapacity() throws IOException {
+      when(bulkSubmissionIngestionService.acceptBulkSubmissionFile(any(), any(), any()))
+          .thenThrow(new BulkSubmissionIngestionRejectedException("At capacity", null));
+
+      assertThat(
+              mockMvc.perform(
+                  multipart(BULK_SUBMISSIONS_URI + "/async")
+                      .file("file", mockMultipartFile.getBytes())
+                      .param("userId", USER_ID)))
+          .hasStatus(503);
+    }
+  }
+
   @Nested
   @DisplayName("GET: " + BULK_SUBMISSIONS_ID_URI)
   class GetBulkSubmissionTests {
@@ -224,6 +298,34 @@ class BulkSubmissionControllerTest {
 
       assertThat(mockMvc.perform(get(BULK_SUBMISSIONS_URI + "/{id}/summary", id))).hasStatus(404);
     }
+
+    @Test
+    @DisplayName("Should return 200 response with the requested page of outcomes")
+    void shouldReturn200ResponseForOutcomes() {
+      UUID id = Uuid7.timeBasedUuid();
+
+      var expectedResponse =
+          new BulkSubmissionOutcomeResultSet()
+              .addContentItem(new BulkSubmissionOutcome().feeCode("FEE3"))
+              .totalElements(3)
+              .totalPages(2)
+              .number(1)
+              .size(2);
+
+      when(bulkSubmissionService.getBulkSubmissionOutcomes(eq(id), any(Pageable.class)))
+          .thenReturn(expectedResponse);
+
+      assertThat(
+              mockMvc.perform(
+                  get(BULK_SUBMISSIONS_URI + "/{id}/outcomes", id)
+                      .param("page", "1")
+                      .param("size", "2")))
+          .hasStatus(200)
+          .bodyJson()
+          .convertTo(BulkSubmissionOutcomeResultSet.class)
+          .isEqualTo(expectedResponse);
+      verify(bulkSubmissionService).getBulkSubmissionOutcomes(id, PageRequest.of(1, 2));
+    }
   }
 
   @Nested
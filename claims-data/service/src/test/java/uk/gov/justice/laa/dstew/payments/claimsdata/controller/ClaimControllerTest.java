@@ -2,8 +2,10 @@ package uk.gov.justice.laa.dstew.payments.claimsdata.controller;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -35,6 +37,10 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.testcontainers.shaded.com.fasterxml.jackson.databind.ObjectMapper;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.ClaimSearchRequest;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimAmendmentOutcome;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimAmendmentOutcomeType;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimBatchAmendment;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimBatchAmendmentResult;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimPatch;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimPost;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimResponse;
@@ -98,6 +104,48 @@ class ClaimControllerTest {
     verify(claimService).createClaim(eq(submissionId), any(ClaimPost.class));
   }
 
+  @Test
+  void createClaims_returnsCreatedStatusAndIdsInRequestOrder() throws Exception {
+    final UUID submissionId = Uuid7.timeBasedUuid();
+    final UUID firstClaimId = Uuid7.timeBasedUuid();
+    final UUID secondClaimId = Uuid7.timeBasedUuid();
+    when(claimService.createClaims(eq(submissionId), anyList()))
+        .thenReturn(List.of(firstClaimId, secondClaimId));
+
+    final String claim =
+        "{"
+            + "\"status\":\"READY_TO_PROCESS\","
+            + "\"line_number\":%d,"
+            + "\"matter_type_code\":\"MAT01\","
+            + "\"created_by_user_id\":\"test-user\""
+            + "}";
+    final String body =
+        "{\"claims\":[" + claim.formatted(1) + "," + claim.formatted(2) + "]}";
+
+    mockMvc
+        .perform(
+            post(SUBMISSIONS_CLAIMS_URI + "/{id}/claims:batch", submissionId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.ids[0]").value(firstClaimId.toString()))
+        .andExpect(jsonPath("$.ids[1]").value(secondClaimId.toString()));
+
+    verify(claimService).createClaims(eq(submissionId), anyList());
+  }
+
+  @Test
+  void createClaims_returnsBadRequestForEmptyBatch() throws Exception {
+    mockMvc
+        .perform(
+            post(SUBMISSIONS_CLAIMS_URI + "/{id}/claims:batch", Uuid7.timeBasedUuid())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"claims\":[]}"))
+        .andExpect(status().isBadRequest());
+
+    verify(claimService, never()).createClaims(any(), anyList());
+  }
+
   @Test
   void getClaim_returnsClaimDetails() throws Exception {
     final UUID submissionId = Uuid7.timeBasedUuid();
@@ -187,6 +235,39 @@ class ClaimControllerTest {
     verify(claimService).updateClaim(eq(submissionId), eq(claimId), any(ClaimPatch.class));
   }
 
+  @Test
+  void amendClaims_returnsOutcomePerClaim() throws Exception {
+    final UUID submissionId = Uuid7.timeBasedUuid();
+    final UUID claimId = Uuid7.timeBasedUuid();
+    when(claimService.amendClaims(eq(submissionId), any(ClaimBatchAmendment.class)))
+        .thenReturn(
+            new ClaimBatchAmendmentResult()
+                .addResultsItem(
+                    new ClaimAmendmentOutcome()
+                        .claimId(claimId)
+                        .outcome(ClaimAmendmentOutcomeType.UNCHANGED)
+                        .status(204)));
+    final String body =
+        "{"
+            + "\"claims\":[{\"claim_id\":\""
+            + claimId
+            + "\",\"version\":3}],"
+            + "\"amendment\":{\"outcome_code\":\"IY\",\"created_by_user_id\":\"test-user\"}"
+            + "}";
+
+    mockMvc
+        .perform(
+            post(SUBMISSIONS_CLAIMS_URI + "/{id}/claims:amend", submissionId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.results[0].claim_id").value(claimId.toString()))
+        .andExpect(jsonPath("$.results[0].outcome").value("UNCHANGED"))
+        .andExpect(jsonPath("$.results[0].status").value(204));
+
+    verify(claimService).amendClaims(eq(submissionId), any(ClaimBatchAmendment.class));
+  }
+
   @Test
   void getClaims_returnsClaimDetails() throws Exception {
     var claimResponse = new ClaimResponse();
@@ -237,7 +318,8 @@ class ClaimControllerTest {
     var claimResponse = new ClaimResponseV2();
     var expected = new ClaimResultSetV2().content(List.of(claimResponse));
 
-    when(claimService.getClaimResultSetV2(any(ClaimSearchRequest.class), any(Pageable.class)))
+    when(claimService.getClaimResultSetV2(
+            any(ClaimSearchRequest.class), any(Pageable.class), eq(true)))
         .thenReturn(expected);
 
     String jsonContent = OBJECT_MAPPER.writeValueAsString(expected);
@@ -254,6 +336,7 @@ class ClaimControllerTest {
                 .queryParam("fee_code", "fee_123")
                 .queryParam("unique_file_number", "UFN_123")
                 .queryParam("unique_client_number", "UCN_123")
+                .queryParam("client_surname", "Smith")
                 .queryParam("unique_case_id", "UC_ID_123")
                 .queryParam(
                     "claim_statuses",
@@ -264,6 +347,49 @@ class ClaimControllerTest {
                 .queryParam("pageable", String.valueOf(Pageable.unpaged())))
         .andExpect(status().isOk())
         .andExpect(content().json(jsonContent));
+
+    verify(claimService)
+        .getClaimResultSetV2(
+            argThat(request -> "Smith".equals(request.getClientSurname())),
+            any(Pageable.class),
+            eq(true));
+  }
+
+  @Test
+  void getClaims_v2_withCursor_usesCursorPagination() throws Exception {
+    var expected =
+        new ClaimResultSetV2().content(List.of(new ClaimResponseV2())).nextCursor("next-page");
+
+    when(claimService.getClaimResultSetV2AfterCursor(
+            any(ClaimSearchRequest.class), any(Pageable.class), eq("this-page")))
+        .thenReturn(expected);
+
+    mockMvc
+        .perform(
+            get("/api/v2/claims")
+                .queryParam("office_code", "office_123")
+                .queryParam("cursor", "this-page"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(OBJECT_MAPPER.writeValueAsString(expected)));
+
+    verify(claimService, never()).getClaimResultSetV2(any(), any(), anyBoolean());
+  }
+
+  @Test
+  void getClaims_v2_withoutTotal_skipsTheCount() throws Exception {
+    var expected = new ClaimResultSetV2().content(List.of(new ClaimResponseV2())).hasNext(true);
+
+    when(claimService.getClaimResultSetV2(
+            any(ClaimSearchRequest.class), any(Pageable.class), eq(false)))
+        .thenReturn(expected);
+
+    mockMvc
+        .perform(
+            get("/api/v2/claims")
+                .queryParam("office_code", "office_123")
+                .queryParam("include_total", "false"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(OBJECT_MAPPER.writeValueAsString(expected)));
   }
 
   @Test
@@ -1,6 +1,7 @@
 package uk.gov.justice.laa.dstew.payments.claimsdata.controller;
 
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -27,10 +28,13 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import uk.gov.justice.laa.dstew.payments.claimsdata.config.JacksonMappingConfig;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.ClaimHistoryPage;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ClaimBadRequestException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ClaimNotFoundException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimHistoryResultSet;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.projection.ClaimHistoryEventRow;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.ClaimHistoryService;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimHistoryCursor;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
 
 @WebMvcTest(ClaimHistoryController.class)
@@ -42,7 +46,6 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
 class ClaimHistoryControllerTest {
 
   private static final String HISTORY_URI = "/api/v1/claims/{claimId}/history";
-  private static final int DEFAULT_LIMIT = 50;
 
   @Autowired private MockMvc mockMvc;
   @Autowired private ObjectMapper objectMapper;
@@ -58,12 +61,16 @@ class ClaimHistoryControllerTest {
         "SUBMISSION", Instant.parse("2026-04-22T11:26:00Z"), actorId, sourceId, metadata);
   }
 
+  private static ClaimHistoryPage page(List<ClaimHistoryEventRow> events, String nextCursor) {
+    return new ClaimHistoryPage(events, nextCursor);
+  }
+
   @Test
   void returnsTimelineWithEnvelopeAndMetadata() throws Exception {
     UUID claimId = Uuid7.timeBasedUuid();
     UUID sourceId = Uuid7.timeBasedUuid();
-    when(claimHistoryService.getTimeline(eq(claimId), eq(DEFAULT_LIMIT)))
-        .thenReturn(List.of(submissionRow(sourceId, "provider-user-id")));
+    when(claimHistoryService.getTimelinePage(eq(claimId), isNull(), isNull()))
+        .thenReturn(page(List.of(submissionRow(sourceId, "provider-user-id")), null));
 
     mockMvc
         .perform(get(HISTORY_URI, claimId))
@@ -75,15 +82,17 @@ class ClaimHistoryControllerTest {
         .andExpect(jsonPath("$.events[0].event_timestamp").exists())
         .andExpect(jsonPath("$.events[0].metadata.submission_period").value("APR-2026"))
         .andExpect(jsonPath("$.events[0].metadata.office_account_number").value("0X123Y"))
-        .andExpect(jsonPath("$.events[0].metadata.area_of_law").value("CRIME LOWER"));
+        .andExpect(jsonPath("$.events[0].metadata.area_of_law").value("CRIME LOWER"))
+        .andExpect(jsonPath("$.next_cursor").doesNotExist());
 
-    verify(claimHistoryService).getTimeline(claimId, DEFAULT_LIMIT);
+    verify(claimHistoryService).getTimelinePage(claimId, null, null);
   }
 
   @Test
-  void usesLimitOverload_whenLimitProvided() throws Exception {
+  void passesLimit_whenLimitProvided() throws Exception {
     UUID claimId = Uuid7.timeBasedUuid();
-    when(claimHistoryService.getTimeline(eq(claimId), eq(10))).thenReturn(List.of());
+    when(claimHistoryService.getTimelinePage(eq(claimId), eq(10), isNull()))
+        .thenReturn(page(List.of(), null));
 
     mockMvc
         .perform(get(HISTORY_URI, claimId).param("limit", "10"))
@@ -91,14 +100,40 @@ class ClaimHistoryControllerTest {
         .andExpect(jsonPath("$.events").isArray())
         .andExpect(jsonPath("$.events").isEmpty());
 
-    verify(claimHistoryService).getTimeline(claimId, 10);
+    verify(claimHistoryService).getTimelinePage(claimId, 10, null);
+  }
+
+  @Test
+  void passesCursorAndReturnsNextCursor() throws Exception {
+    UUID claimId = Uuid7.timeBasedUuid();
+    when(claimHistoryService.getTimelinePage(eq(claimId), eq(1), eq("cursor-1")))
+        .thenReturn(page(List.of(submissionRow(Uuid7.timeBasedUuid(), "SYSTEM")), "cursor-2"));
+
+    mockMvc
+        .perform(get(HISTORY_URI, claimId).param("limit", "1").param("cursor", "cursor-1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.events.length()").value(1))
+        .andExpect(jsonPath("$.next_cursor").value("cursor-2"));
+
+    verify(claimHistoryService).getTimelinePage(claimId, 1, "cursor-1");
+  }
+
+  @Test
+  void returnsBadRequest_whenCursorIsInvalid() throws Exception {
+    UUID claimId = Uuid7.timeBasedUuid();
+    when(claimHistoryService.getTimelinePage(eq(claimId), isNull(), eq("not-a-cursor")))
+        .thenThrow(new ClaimBadRequestException(ClaimHistoryCursor.INVALID_CURSOR));
+
+    mockMvc
+        .perform(get(HISTORY_URI, claimId).param("cursor", "not-a-cursor"))
+        .andExpect(status().isBadRequest());
   }
 
   @Test
   void populatesActorFallback_fromServiceValue() throws Exception {
     UUID claimId = Uuid7.timeBasedUuid();
-    when(claimHistoryService.getTimeline(eq(claimId), eq(DEFAULT_LIMIT)))
-        .thenReturn(List.of(submissionRow(Uuid7.timeBasedUuid(), "SYSTEM")));
+    when(claimHistoryService.getTimelinePage(eq(claimId), isNull(), isNull()))
+        .thenReturn(page(List.of(submissionRow(Uuid7.timeBasedUuid(), "SYSTEM")), null));
 
     mockMvc
         .perform(get(HISTORY_URI, claimId))
@@ -109,7 +144,7 @@ class ClaimHistoryControllerTest {
   @Test
   void returnsNotFound_whenClaimDoesNotExist() throws Exception {
     UUID claimId = Uuid7.timeBasedUuid();
-    when(claimHistoryService.getTimeline(eq(claimId), eq(DEFAULT_LIMIT)))
+    when(claimHistoryService.getTimelinePage(eq(claimId), isNull(), isNull()))
         .thenThrow(new ClaimNotFoundException("No Claim found with id: " + claimId));
 
     mockMvc
@@ -126,16 +161,17 @@ class ClaimHistoryControllerTest {
   @Test
   void usesDefaultTimeline_whenLimitIsNull() {
     // The generated contract defaults limit to 50, but the controller stays null-safe when invoked
-    // directly; assert the no-arg overload is used in that case.
+    // directly; assert the service default is used in that case.
     UUID claimId = Uuid7.timeBasedUuid();
     ClaimHistoryController controller =
         new ClaimHistoryController(claimHistoryService, objectMapper);
-    when(claimHistoryService.getTimeline(claimId))
-        .thenReturn(List.of(submissionRow(Uuid7.timeBasedUuid(), "SYSTEM")));
+    when(claimHistoryService.getTimelinePage(claimId, null, null))
+        .thenReturn(page(List.of(submissionRow(Uuid7.timeBasedUuid(), "SYSTEM")), null));
 
-    ResponseEntity<ClaimHistoryResultSet> response = controller.getClaimHistory(claimId, null);
+    ResponseEntity<ClaimHistoryResultSet> response =
+        controller.getClaimHistory(claimId, null, null);
 
-    verify(claimHistoryService).getTimeline(claimId);
+    verify(claimHistoryService).getTimelinePage(claimId, null, null);
     Assertions.assertThat(response.getBody()).isNotNull();
     Assertions.assertThat(response.getBody().getEvents()).hasSize(1);
   }
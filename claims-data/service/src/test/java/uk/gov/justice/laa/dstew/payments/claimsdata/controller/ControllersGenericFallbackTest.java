@@ -34,7 +34,9 @@ class ControllersGenericFallbackTest {
   void bulkSubmissionController_genericFallback_returns429() throws Exception {
     BulkSubmissionController controller =
         new BulkSubmissionController(
-            mock(BulkSubmissionService.class), mock(BulkSubmissionFileValidator.class));
+            mock(BulkSubmissionService.class),
+            mock(BulkSubmissionIngestionService.class),
+            mock(BulkSubmissionFileValidator.class));
     invokeGenericFallbackAndAssert429(controller);
   }
 
@@ -3,6 +3,7 @@ package uk.gov.justice.laa.dstew.payments.claimsdata.controller;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -101,6 +102,40 @@ class MatterStartsControllerTest {
     }
   }
 
+  @Nested
+  @DisplayName("POST: /api/v1/submissions/{id}/matter-starts:batch tests")
+  class CreateMatterStartsTests {
+
+    @Test
+    void createMatterStarts_returnsCreatedStatusAndIdsInRequestOrder() throws Exception {
+      final UUID submissionId = Uuid7.timeBasedUuid();
+      final UUID firstId = Uuid7.timeBasedUuid();
+      final UUID secondId = Uuid7.timeBasedUuid();
+      when(matterStartService.createMatterStarts(eq(submissionId), anyList()))
+          .thenReturn(List.of(firstId, secondId));
+
+      final String body =
+          """
+          {
+            "matter_starts": [
+              {"schedule_reference": "SCH-123", "category_code": "HOU"},
+              {"schedule_reference": "SCH-123", "category_code": "DEB"}
+            ]
+          }""";
+
+      mockMvcTest
+          .perform(
+              post(GET_ALL_MATTERS_URI + ":batch", submissionId)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(body))
+          .andExpect(MockMvcResultMatchers.status().isCreated())
+          .andExpect(MockMvcResultMatchers.jsonPath("$.ids[0]").value(firstId.toString()))
+          .andExpect(MockMvcResultMatchers.jsonPath("$.ids[1]").value(secondId.toString()));
+
+      verify(matterStartService).createMatterStarts(eq(submissionId), anyList());
+    }
+  }
+
   @Nested
   @DisplayName("GET: /api/v1/submissions/{id}/matter-starts/{matter-start-id} tests")
   class GetMatterStarts {
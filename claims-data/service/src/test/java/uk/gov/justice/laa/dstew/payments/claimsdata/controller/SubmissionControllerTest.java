@@ -2,6 +2,7 @@ package uk.gov.justice.laa.dstew.payments.claimsdata.controller;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -154,7 +155,8 @@ class SubmissionControllerTest {
             any(AreaOfLaw.class),
             anyString(),
             anyList(),
-            any(Pageable.class)))
+            any(Pageable.class),
+            eq(true)))
         .thenReturn(expected);
 
     String jsonContent = objectMapper.writeValueAsString(expected);
@@ -192,7 +194,8 @@ class SubmissionControllerTest {
             any(AreaOfLaw.class),
             anyString(),
             anyList(),
-            any(Pageable.class)))
+            any(Pageable.class),
+            eq(true)))
         .thenReturn(expected);
     mockMvc
         .perform(
@@ -216,13 +219,34 @@ class SubmissionControllerTest {
             eq(AREA_OF_LAW),
             eq("2205-19"),
             eq(List.of(SubmissionStatus.CREATED, SubmissionStatus.READY_FOR_VALIDATION)),
-            eq(Pageable.ofSize(20).withPage(0)));
+            eq(Pageable.ofSize(20).withPage(0)),
+            eq(true));
+  }
+
+  @Test
+  void getSubmissions_withoutTotal_skipsTheCount() throws Exception {
+    var expected =
+        new SubmissionsResultSet()
+            .content(List.of(ClaimsDataTestUtil.getSubmissionBase()))
+            .hasNext(false);
+
+    when(submissionService.getSubmissionsResultSet(
+            anyList(), any(), any(), any(), any(), any(), any(), any(Pageable.class), eq(false)))
+        .thenReturn(expected);
+
+    mockMvc
+        .perform(
+            get(SUBMISSIONS_URI)
+                .queryParam("offices", "office1")
+                .queryParam("include_total", "false"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(objectMapper.writeValueAsString(expected)));
   }
 
   @Test
   void getSubmissions_withValidSortField_returnsOk() throws Exception {
     when(submissionService.getSubmissionsResultSet(
-            anyList(), any(), any(), any(), any(), any(), any(), any(Pageable.class)))
+            anyList(), any(), any(), any(), any(), any(), any(), any(Pageable.class), eq(true)))
         .thenReturn(new SubmissionsResultSet());
 
     mockMvc
@@ -238,7 +262,7 @@ class SubmissionControllerTest {
     doThrow(new SubmissionBadRequestException("Invalid sort field: 'unknownField'"))
         .when(submissionService)
         .getSubmissionsResultSet(
-            any(), any(), any(), any(), any(), any(), any(), any(Pageable.class));
+            any(), any(), any(), any(), any(), any(), any(), any(Pageable.class), anyBoolean());
 
     mockMvc
         .perform(
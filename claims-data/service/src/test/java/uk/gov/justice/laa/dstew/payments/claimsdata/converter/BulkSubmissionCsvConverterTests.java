@@ -17,6 +17,9 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -27,8 +30,12 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionFileReadException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.CategoryCode;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.FileExtension;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvMatterStarts;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvOffice;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvOutcome;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvSchedule;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvSubmission;
 
 class BulkSubmissionCsvConverterTests {
@@ -393,6 +400,150 @@ class BulkSubmissionCsvConverterTests {
     return bulkSubmissionCsvConverter.convert(file);
   }
 
+  @Nested
+  @DisplayName("convert (streaming)")
+  class ConvertStreaming {
+
+    @ParameterizedTest(name = "Streams the same rows as convert in chunks of {0}")
+    @ValueSource(ints = {1, 2, 500})
+    void streamsSameRowsAsConvert(int chunkSize) throws IOException {
+      CsvSubmission expected =
+          bulkSubmissionCsvConverter.convert(getMultipartFile(ALL_TYPES_INPUT_FILE));
+      RecordingSink sink = new RecordingSink();
+
+      bulkSubmissionCsvConverter.convert(getMultipartFile(ALL_TYPES_INPUT_FILE), chunkSize, sink);
+
+      assertThat(sink.office).isEqualTo(expected.office());
+      assertThat(sink.schedule).isEqualTo(expected.schedule());
+      assertThat(sink.outcomes).isEqualTo(expected.outcomes());
+      assertThat(sink.matterStarts).isEqualTo(expected.matterStarts());
+      assertThat(sink.completed).isTrue();
+      assertThat(sink.chunkSizes).allSatisfy(size -> assertThat(size).isBetween(1, chunkSize));
+    }
+
+    @Test
+    @DisplayName("Splits the matter starts of one row across chunks no larger than the chunk size")
+    void splitsExpandedMatterStartRowAcrossChunks() {
+      String content =
+          "OFFICE,account=2A300G\n"
+              + "SCHEDULE,submissionPeriod=APR-2024,areaOfLaw=LEGAL HELP,scheduleNum=2A300G/LEGAL_HELP\n"
+              + "MATTERSTARTS,SCHEDULE_REF=2A300G/2010/01,AAP=1,COM=2,CON=3,DELIVERY_LOCATION=LONDON\n";
+      MultipartFile file =
+          new MockMultipartFile(
+              "file", "matterstarts.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+      RecordingSink sink = new RecordingSink();
+
+      bulkSubmissionCsvConverter.convert(file, 2, sink);
+
+      assertThat(sink.matterStarts)
+          .extracting(CsvMatterStarts::categoryCode)
+          .containsExactly(CategoryCode.AAP, CategoryCode.COM, CategoryCode.CON);
+      assertThat(sink.chunkSizes).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("Emits header before the first chunk of outcomes")
+    void emitsHeaderBeforeFirstChunk() throws IOException {
+      RecordingSink sink = new RecordingSink();
+
+      bulkSubmissionCsvConverter.convert(getMultipartFile(OUTCOMES_INPUT_FILE_TXT), 1, sink);
+
+      assertThat(sink.events.getFirst()).isEqualTo("header");
+      assertThat(sink.events).contains("outcomes").endsWith("complete");
+      assertThat(sink.chunkSizes).containsOnly(1);
+    }
+
+    @Test
+    @DisplayName("Emits header for a nil submission with no body rows")
+    void emitsHeaderForNilSubmission() throws IOException {
+      RecordingSink sink = new RecordingSink();
+
+      bulkSubmissionCsvConverter.convert(getMultipartFile(NIL_SUBMISSION_INPUT_FILE), 10, sink);
+
+      assertThat(sink.events).containsExactly("header", "complete");
+      assertThat(sink.office).isNotNull();
+      assertThat(sink.schedule).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Throws exception when a body row precedes the office row")
+    void throwsExceptionWhenOfficeMissing() throws IOException {
+      MultipartFile file = getMultipartFile(MISSING_OFFICE_INPUT_FILE);
+      RecordingSink sink = new RecordingSink();
+
+      BulkSubmissionFileReadException ex =
+          assertThrows(
+              BulkSubmissionFileReadException.class,
+              () -> bulkSubmissionCsvConverter.convert(file, 10, sink));
+
+      assertThat(ex.getMessage()).isEqualTo("Enter the office account row in the file");
+      assertThat(sink.events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Throws exception when multiple offices found")
+    void throwsExceptionForMultipleOffices() throws IOException {
+      MultipartFile file = getMultipartFile(DUPLICATE_OFFICE_INPUT_FILE);
+      assertThrows(
+          BulkSubmissionFileReadException.class,
+          () -> bulkSubmissionCsvConverter.convert(file, 10, new RecordingSink()));
+    }
+
+    @ParameterizedTest(name = "Rejects chunk size {0}")
+    @ValueSource(ints = {0, -1})
+    void rejectsNonPositiveChunkSize(int chunkSize) throws IOException {
+      MultipartFile file = getMultipartFile(ALL_TYPES_INPUT_FILE);
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> bulkSubmissionCsvConverter.convert(file, chunkSize, new RecordingSink()));
+    }
+  }
+
+  private static class RecordingSink implements CsvSubmissionSink {
+    private final List<String> events = new ArrayList<>();
+    private final List<Integer> chunkSizes = new ArrayList<>();
+    private final List<CsvOutcome> outcomes = new ArrayList<>();
+    private final List<CsvMatterStarts> matterStarts = new ArrayList<>();
+    private final List<Map<String, String>> immigrationClr = new ArrayList<>();
+    private CsvOffice office;
+    private CsvSchedule schedule;
+    private boolean completed;
+
+    @Override
+    public void onHeader(CsvOffice office, CsvSchedule schedule) {
+      events.add("header");
+      this.office = office;
+      this.schedule = schedule;
+    }
+
+    @Override
+    public void onOutcomes(List<CsvOutcome> outcomes) {
+      events.add("outcomes");
+      chunkSizes.add(outcomes.size());
+      this.outcomes.addAll(outcomes);
+    }
+
+    @Override
+    public void onMatterStarts(List<CsvMatterStarts> matterStarts) {
+      events.add("matterStarts");
+      chunkSizes.add(matterStarts.size());
+      this.matterStarts.addAll(matterStarts);
+    }
+
+    @Override
+    public void onImmigrationClr(List<Map<String, String>> immigrationClr) {
+      events.add("immigrationClr");
+      chunkSizes.add(immigrationClr.size());
+      this.immigrationClr.addAll(immigrationClr);
+    }
+
+    @Override
+    public void onComplete() {
+      events.add("complete");
+      completed = true;
+    }
+  }
+
   private void runTest(String inputFileName, String outputFileName) throws IOException {
     MultipartFile file = getMultipartFile(inputFileName);
     CsvSubmission bulkSubmission = bulkSubmissionCsvConverter.convert(file);
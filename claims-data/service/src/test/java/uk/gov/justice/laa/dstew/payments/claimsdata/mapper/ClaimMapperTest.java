@@ -148,6 +148,7 @@ class ClaimMapperTest {
             .referralSource("REFSRC")
             .hasAssessment(true)
             .isAmended(false)
+            .warningCount(2)
             .submission(Submission.builder().id(submissionId).submissionPeriod("APR-2025").build())
             .build();
 
@@ -188,6 +189,7 @@ class ClaimMapperTest {
     assertEquals(entity.getReferralSource(), fields.getReferralSource());
     assertEquals(entity.isHasAssessment(), fields.getHasAssessment());
     assertEquals(entity.isAmended(), fields.getIsAmended());
+    assertThat(fields.getTotalWarnings()).isEqualTo(2);
     assertEquals(entity.getSubmission().getId().toString(), fields.getSubmissionId());
     assertEquals(entity.getSubmission().getSubmissionPeriod(), fields.getSubmissionPeriod());
   }
@@ -227,6 +229,7 @@ class ClaimMapperTest {
             .referralSource("REFSRC")
             .hasAssessment(false)
             .isAmended(true)
+            .warningCount(3)
             .claimSummaryFee(new ArrayList<>())
             .submission(
                 Submission.builder()
@@ -278,6 +281,7 @@ class ClaimMapperTest {
     assertEquals(entity.getReferralSource(), fields.getReferralSource());
     assertEquals(entity.isHasAssessment(), fields.getHasAssessment());
     assertEquals(entity.isAmended(), fields.getIsAmended());
+    assertThat(fields.getTotalWarnings()).isEqualTo(3);
     assertEquals(entity.getSubmission().getId().toString(), fields.getSubmissionId());
     assertEquals(entity.getSubmission().getSubmissionPeriod(), fields.getSubmissionPeriod());
     assertEquals(entity.getSubmission().getCreatedOn(), fields.getDateSubmitted().toInstant());
@@ -920,14 +924,4 @@ class ClaimMapperTest {
     feeCalculationPatch.travelAndWaitingCostsAmount(new BigDecimal("398.12"));
     return feeCalculationPatch;
   }
-
-  @Test
-  void shouldAddTotalWarningMessages() {
-    // Given
-    ClaimResponse claimResponse = ClaimResponse.builder().build();
-    // When
-    mapper.updateTotalWarningMessages(123L, claimResponse);
-    // Then
-    assertThat(claimResponse.getTotalWarnings()).isEqualTo(123L);
-  }
 }
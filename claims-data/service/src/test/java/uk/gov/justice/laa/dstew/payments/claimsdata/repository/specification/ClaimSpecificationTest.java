@@ -8,6 +8,7 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
@@ -27,7 +28,6 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.dto.ClaimSearchRequest;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.*;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.SubmissionStatus;
-import uk.gov.justice.laa.dstew.payments.claimsdata.model.ValidationMessageType;
 
 class ClaimSpecificationTest {
 
@@ -372,70 +372,26 @@ class ClaimSpecificationTest {
     }
 
     @Test
-    @DisplayName(
-        "request based: with escapedCaseFlag builds latest fee subquery and exists predicate")
-    void filterByRequestWithEscapedCaseFlagUsesLatestFeeSubquery() {
+    @DisplayName("request based: with escapedCaseFlag joins latest fee and filters on its flag")
+    void filterByRequestWithEscapedCaseFlagJoinsLatestFee() {
       // arrange
       String officeCode = "OFF-B";
       stubSubmissionJoinAndOffice(officeCode, mock(Predicate.class));
 
-      // Prepare subqueries similar to production logic
-      Subquery<UUID> latestFeeSubquery = mock(Subquery.class);
-      Root<CalculatedFeeDetail> feeRoot = mock(Root.class);
-      when(query.subquery(UUID.class)).thenReturn(latestFeeSubquery);
-      when(latestFeeSubquery.from(CalculatedFeeDetail.class)).thenReturn(feeRoot);
-
-      Subquery<Integer> newerRecordSubquery = mock(Subquery.class);
-      Root<CalculatedFeeDetail> newerFeeRoot = mock(Root.class);
-      when(query.subquery(Integer.class)).thenReturn(newerRecordSubquery);
-      when(newerRecordSubquery.from(CalculatedFeeDetail.class)).thenReturn(newerFeeRoot);
-
-      Expression<Integer> literalExpr = mock(Expression.class);
-      when(cb.literal(1)).thenReturn(literalExpr);
-      when(newerRecordSubquery.select(literalExpr)).thenReturn(newerRecordSubquery);
-
-      Predicate newerEqualPredicate = mock(Predicate.class);
-      Predicate gtCreated = mock(Predicate.class);
-      Predicate eqCreated = mock(Predicate.class);
-      Predicate gtId = mock(Predicate.class);
-      when(cb.equal(
-              newerFeeRoot.get(ClaimSpecification.CLAIM_ENTITY),
-              feeRoot.get(ClaimSpecification.CLAIM_ENTITY)))
-          .thenReturn(newerEqualPredicate);
-      when(cb.greaterThan(
-              newerFeeRoot.get(ClaimSpecification.CREATED_ON),
-              feeRoot.get(ClaimSpecification.CREATED_ON)))
-          .thenReturn(gtCreated);
-      when(cb.equal(
-              newerFeeRoot.get(ClaimSpecification.CREATED_ON),
-              feeRoot.get(ClaimSpecification.CREATED_ON)))
-          .thenReturn(eqCreated);
-      when(cb.greaterThan(
-              newerFeeRoot.get(ClaimSpecification.ID), feeRoot.get(ClaimSpecification.ID)))
-          .thenReturn(gtId);
-
-      Predicate andPredicate = mock(Predicate.class);
-      Predicate orPredicate = mock(Predicate.class);
-      when(cb.and(eqCreated, gtId)).thenReturn(andPredicate);
-      when(cb.or(gtCreated, andPredicate)).thenReturn(orPredicate);
-      when(newerRecordSubquery.where(newerEqualPredicate, orPredicate))
-          .thenReturn(newerRecordSubquery);
-
-      when(latestFeeSubquery.select(feeRoot.get(ClaimSpecification.ID)))
-          .thenReturn(latestFeeSubquery);
-
-      Predicate existsPredicate = mock(Predicate.class);
-      Predicate notExists = mock(Predicate.class);
-      when(cb.exists(newerRecordSubquery)).thenReturn(existsPredicate);
-      when(cb.not(existsPredicate)).thenReturn(notExists);
-      when(latestFeeSubquery.where(
-              cb.equal(feeRoot.get(ClaimSpecification.CLAIM_ENTITY), root), notExists))
-          .thenReturn(latestFeeSubquery);
+      Join<Object, Object> latestFeeJoin = mock(Join.class);
+      Path<Object> escapeFlagPath = mock(Path.class);
+      Predicate escapeFlagPredicate = mock(Predicate.class);
+      when(root.join(ClaimSpecification.LATEST_CALCULATED_FEE_DETAIL_ENTITY))
+          .thenReturn(latestFeeJoin);
+      when(latestFeeJoin.get(ClaimSpecification.ESCAPE_CASE_FLAG)).thenReturn(escapeFlagPath);
+      when(cb.equal(escapeFlagPath, true)).thenReturn(escapeFlagPredicate);
 
       ClaimSearchRequest req = buildRequestWithOffice(officeCode, b -> b.escapedCaseFlag(true));
       Specification<Claim> spec = ClaimSpecification.filterBy(req);
       Predicate result = spec.toPredicate(root, query, cb);
       assertThat(result).isNotNull();
+      verify(cb).equal(escapeFlagPath, true);
+      verify(query, never()).subquery(any(Class.class));
     }
 
     @Test
@@ -520,7 +476,7 @@ class ClaimSpecificationTest {
     }
 
     @Test
-    @DisplayName("request based: with feeCode and uniqueFileNumber adds equality predicates")
+    @DisplayName("request based: with feeCode and uniqueFileNumber adds equality and like")
     void filterByRequestWithFeeCodeAndUniqueFileNumberAddsPredicates() {
       String officeCode = "OFF-R5";
       String feeCode = "F-R-1";
@@ -535,15 +491,35 @@ class ClaimSpecificationTest {
       when(cb.equal(feePath, feeCode)).thenReturn(feePredicate);
 
       Path ufnPath = mock(Path.class);
-      Predicate ufnPredicate = mock(Predicate.class);
+      Expression<String> lowerUfn = mock(Expression.class);
       when(root.get(ClaimSpecification.UNIQUE_FILE_NUMBER)).thenReturn(ufnPath);
-      when(cb.equal(ufnPath, ufn)).thenReturn(ufnPredicate);
+      when(cb.lower(ufnPath)).thenReturn(lowerUfn);
 
       ClaimSearchRequest req =
           buildRequestWithOffice(officeCode, b -> b.feeCode(feeCode).uniqueFileNumber(ufn));
       Specification<Claim> spec = ClaimSpecification.filterBy(req);
       Predicate result = spec.toPredicate(root, query, cb);
       assertThat(result).isNotNull();
+      verify(cb).equal(feePath, feeCode);
+      verify(cb).like(lowerUfn, "%ufn-r-1%", '\\');
+    }
+
+    @Test
+    @DisplayName("request based: partial search escapes LIKE wildcards in the search term")
+    void filterByRequestEscapesLikeWildcards() {
+      String officeCode = "OFF-R5";
+      stubSubmissionJoinAndOffice(officeCode, predicate1);
+
+      Path ufnPath = mock(Path.class);
+      Expression<String> lowerUfn = mock(Expression.class);
+      when(root.get(ClaimSpecification.UNIQUE_FILE_NUMBER)).thenReturn(ufnPath);
+      when(cb.lower(ufnPath)).thenReturn(lowerUfn);
+
+      ClaimSearchRequest req =
+          buildRequestWithOffice(officeCode, b -> b.uniqueFileNumber("10%_\\A"));
+      ClaimSpecification.filterBy(req).toPredicate(root, query, cb);
+
+      verify(cb).like(lowerUfn, "%10\\%\\_\\\\a%", '\\');
     }
 
     @Test
@@ -559,9 +535,11 @@ class ClaimSpecificationTest {
 
       // Client join branch in request-based filter
       Join<Claim, Client> clientJoin = mock(Join.class);
+      Path<String> ucnPath = mock(Path.class);
+      Expression<String> lowerUcn = mock(Expression.class);
       when(root.join(ClaimSpecification.CLIENT_ENTITY)).thenReturn((Join) clientJoin);
-      when(cb.equal(clientJoin.get(ClaimSpecification.UNIQUE_CLIENT_NUMBER), uniqueClientNumber))
-          .thenReturn(mock(Predicate.class));
+      doReturn(ucnPath).when(clientJoin).get(ClaimSpecification.UNIQUE_CLIENT_NUMBER);
+      when(cb.lower(ucnPath)).thenReturn(lowerUcn);
 
       // ClaimCase join branch in request-based filter
       Join<Claim, ClaimCase> claimCaseJoin = mock(Join.class);
@@ -575,6 +553,34 @@ class ClaimSpecificationTest {
       Specification<Claim> spec = ClaimSpecification.filterBy(req);
       Predicate result = spec.toPredicate(root, query, cb);
       assertThat(result).isNotNull();
+      verify(cb).like(lowerUcn, "%cl-r-1%", '\\');
+    }
+
+    @Test
+    @DisplayName("request based: with uniqueClientNumber and clientSurname joins client once")
+    void filterByRequestWithUniqueClientNumberAndSurnameJoinsClientOnce() {
+      String officeCode = "OFF-R7";
+      stubSubmissionJoinAndOffice(officeCode, predicate1);
+
+      Join<Claim, Client> clientJoin = mock(Join.class);
+      Path<String> ucnPath = mock(Path.class);
+      Path<String> surnamePath = mock(Path.class);
+      Expression<String> lowerUcn = mock(Expression.class);
+      Expression<String> lowerSurname = mock(Expression.class);
+      when(root.join(ClaimSpecification.CLIENT_ENTITY)).thenReturn((Join) clientJoin);
+      doReturn(ucnPath).when(clientJoin).get(ClaimSpecification.UNIQUE_CLIENT_NUMBER);
+      doReturn(surnamePath).when(clientJoin).get(ClaimSpecification.CLIENT_SURNAME);
+      when(cb.lower(ucnPath)).thenReturn(lowerUcn);
+      when(cb.lower(surnamePath)).thenReturn(lowerSurname);
+
+      ClaimSearchRequest req =
+          buildRequestWithOffice(
+              officeCode, b -> b.uniqueClientNumber("1990/A").clientSurname("SmI"));
+      ClaimSpecification.filterBy(req).toPredicate(root, query, cb);
+
+      verify(root).join(ClaimSpecification.CLIENT_ENTITY);
+      verify(cb).like(lowerUcn, "%1990/a%", '\\');
+      verify(cb).like(lowerSurname, "%smi%", '\\');
     }
 
     @Test
@@ -911,29 +917,12 @@ class ClaimSpecificationTest {
     }
 
     @Test
-    @DisplayName("with totalWarnings sort adds subquery order by")
-    void orderByTotalWarningMessagesWithTotalWarningsSortAddsSubqueryOrderBy() {
+    @DisplayName("with totalWarnings sort orders by the persisted warning count")
+    void orderByTotalWarningMessagesWithTotalWarningsSortOrdersByWarningCount() {
       // given
       Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.asc("totalWarnings")));
-
-      Subquery<Long> warningSubquery = mock(Subquery.class);
-      Root<ValidationMessageLog> vmlRoot = mock(Root.class);
-
-      when(query.subquery(Long.class)).thenReturn(warningSubquery);
-      when(warningSubquery.from(ValidationMessageLog.class)).thenReturn(vmlRoot);
-
-      Expression<Long> countExpression = mock(Expression.class);
-      when(cb.count(vmlRoot)).thenReturn(countExpression);
-
-      Predicate claimIdPredicate = mock(Predicate.class);
-      Predicate typePredicate = mock(Predicate.class);
-
-      when(cb.equal(vmlRoot.get("claimId"), root.get(ClaimSpecification.ID)))
-          .thenReturn(claimIdPredicate);
-      when(cb.equal(vmlRoot.get("type"), ValidationMessageType.WARNING)).thenReturn(typePredicate);
-
-      when(warningSubquery.select(countExpression)).thenReturn(warningSubquery);
-      when(warningSubquery.where(claimIdPredicate, typePredicate)).thenReturn(warningSubquery);
+      Path<Object> warningCountPath = mock(Path.class);
+      doReturn(warningCountPath).when(root).get(ClaimSpecification.WARNING_COUNT);
 
       // when
       Specification<Claim> spec = ClaimSpecification.orderByTotalWarningMessages(pageable);
@@ -941,42 +930,28 @@ class ClaimSpecificationTest {
 
       // then
       assertThat(result).isEqualTo(predicate1); // conjunction
-      verify(query).subquery(Long.class);
+      verify(query, never()).subquery(any(Class.class));
+      verify(cb).asc(warningCountPath);
+      verify(cb).asc(root.get(ClaimSpecification.ID));
     }
 
     @Test
-    @DisplayName("with totalWarnings descending sort adds DESC subquery order by")
-    void orderByTotalWarningMessagesWithTotalWarningsDescAddsSubqueryOrderBy() {
+    @DisplayName("with totalWarnings descending sort orders by the warning count DESC")
+    void orderByTotalWarningMessagesWithTotalWarningsDescOrdersByWarningCountDesc() {
       // given
       Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("totalWarnings")));
-
-      Subquery<Long> warningSubquery = mock(Subquery.class);
-      Root<ValidationMessageLog> vmlRoot = mock(Root.class);
-
-      when(query.subquery(Long.class)).thenReturn(warningSubquery);
-      when(warningSubquery.from(ValidationMessageLog.class)).thenReturn(vmlRoot);
-
-      Expression<Long> countExpression = mock(Expression.class);
-      when(cb.count(vmlRoot)).thenReturn(countExpression);
-
-      Predicate claimIdPredicate = mock(Predicate.class);
-      Predicate typePredicate = mock(Predicate.class);
-
-      when(cb.equal(vmlRoot.get("claimId"), root.get(ClaimSpecification.ID)))
-          .thenReturn(claimIdPredicate);
-      when(cb.equal(vmlRoot.get("type"), ValidationMessageType.WARNING)).thenReturn(typePredicate);
-
-      when(warningSubquery.select(countExpression)).thenReturn(warningSubquery);
-      when(warningSubquery.where(claimIdPredicate, typePredicate)).thenReturn(warningSubquery);
+      Path<Object> warningCountPath = mock(Path.class);
+      doReturn(warningCountPath).when(root).get(ClaimSpecification.WARNING_COUNT);
 
       // when
       Specification<Claim> spec = ClaimSpecification.orderByTotalWarningMessages(pageable);
       Predicate result = spec.toPredicate(root, query, cb);
 
       // then
-      assertThat(result).isEqualTo(predicate1);
-      verify(query).subquery(Long.class);
-      verify(cb).desc(warningSubquery);
+      assertThat(result).isEqualTo(predicate1); // conjunction
+      verify(query, never()).subquery(any(Class.class));
+      verify(cb).desc(warningCountPath);
+      verify(cb).asc(root.get(ClaimSpecification.ID));
     }
 
     @Test
@@ -986,66 +961,39 @@ class ClaimSpecificationTest {
       Pageable pageable =
           PageRequest.of(
               0, 10, Sort.by(Sort.Order.asc("otherField"), Sort.Order.asc("totalWarnings")));
-
-      Subquery<Long> warningSubquery = mock(Subquery.class);
-      Root<ValidationMessageLog> vmlRoot = mock(Root.class);
-
-      when(query.subquery(Long.class)).thenReturn(warningSubquery);
-      when(warningSubquery.from(ValidationMessageLog.class)).thenReturn(vmlRoot);
-
-      Expression<Long> countExpression = mock(Expression.class);
-      when(cb.count(vmlRoot)).thenReturn(countExpression);
-
-      Predicate claimIdPredicate = mock(Predicate.class);
-      Predicate typePredicate = mock(Predicate.class);
-
-      when(cb.equal(vmlRoot.get("claimId"), root.get(ClaimSpecification.ID)))
-          .thenReturn(claimIdPredicate);
-      when(cb.equal(vmlRoot.get("type"), ValidationMessageType.WARNING)).thenReturn(typePredicate);
-
-      when(warningSubquery.select(countExpression)).thenReturn(warningSubquery);
-      when(warningSubquery.where(claimIdPredicate, typePredicate)).thenReturn(warningSubquery);
+      Path<Object> warningCountPath = mock(Path.class);
+      doReturn(warningCountPath).when(root).get(ClaimSpecification.WARNING_COUNT);
 
       // when
       Specification<Claim> spec = ClaimSpecification.orderByTotalWarningMessages(pageable);
       Predicate result = spec.toPredicate(root, query, cb);
 
       // then
-      assertThat(result).isEqualTo(predicate1);
-      verify(cb).asc(warningSubquery);
+      assertThat(result).isEqualTo(predicate1); // conjunction
+      verify(query, never()).subquery(any(Class.class));
+      verify(cb).asc(warningCountPath);
+      verify(cb).asc(root.get(ClaimSpecification.ID));
     }
 
     @Test
     @DisplayName("with mixed sort entries where totalWarnings later uses DESC ordering")
     void orderByTotalWarningMessagesWithMixedSortUsesDescWhenLater() {
+      // given: first order doesn't match, second does
       Pageable pageable =
           PageRequest.of(
               0, 10, Sort.by(Sort.Order.asc("otherField"), Sort.Order.desc("totalWarnings")));
+      Path<Object> warningCountPath = mock(Path.class);
+      doReturn(warningCountPath).when(root).get(ClaimSpecification.WARNING_COUNT);
 
-      Subquery<Long> warningSubquery = mock(Subquery.class);
-      Root<ValidationMessageLog> vmlRoot = mock(Root.class);
-
-      when(query.subquery(Long.class)).thenReturn(warningSubquery);
-      when(warningSubquery.from(ValidationMessageLog.class)).thenReturn(vmlRoot);
-
-      Expression<Long> countExpression = mock(Expression.class);
-      when(cb.count(vmlRoot)).thenReturn(countExpression);
-
-      Predicate claimIdPredicate = mock(Predicate.class);
-      Predicate typePredicate = mock(Predicate.class);
-
-      when(cb.equal(vmlRoot.get("claimId"), root.get(ClaimSpecification.ID)))
-          .thenReturn(claimIdPredicate);
-      when(cb.equal(vmlRoot.get("type"), ValidationMessageType.WARNING)).thenReturn(typePredicate);
-
-      when(warningSubquery.select(countExpression)).thenReturn(warningSubquery);
-      when(warningSubquery.where(claimIdPredicate, typePredicate)).thenReturn(warningSubquery);
-
+      // when
       Specification<Claim> spec = ClaimSpecification.orderByTotalWarningMessages(pageable);
       Predicate result = spec.toPredicate(root, query, cb);
 
-      assertThat(result).isEqualTo(predicate1);
-      verify(cb).desc(warningSubquery);
+      // then
+      assertThat(result).isEqualTo(predicate1); // conjunction
+      verify(query, never()).subquery(any(Class.class));
+      verify(cb).desc(warningCountPath);
+      verify(cb).asc(root.get(ClaimSpecification.ID));
     }
   }
 
@@ -1235,64 +1183,34 @@ class ClaimSpecificationTest {
     }
 
     @Test
-    @DisplayName("with matching sort builds case expression")
-    void orderByDerivedClaimStatusWithMatchingSortBuildsCaseExpression() {
+    @DisplayName("with matching sort orders by the persisted derived status")
+    void orderByDerivedClaimStatusWithMatchingSortOrdersByDerivedStatus() {
       Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.asc("derivedClaimStatus")));
-
-      // Mock the selectCase() chain to return an Expression<Integer>
-      CriteriaBuilder.Case<Integer> caseBuilder =
-          mock(CriteriaBuilder.Case.class, org.mockito.Answers.RETURNS_SELF);
-      Expression<Integer> derivedExpr = mock(Expression.class);
-
-      // Ensure cb.equal(...) and cb.isTrue(...) return non-null predicates so the chained
-      // caseBuilder.when(...) calls receive non-null arguments (Mockito matchers do not match
-      // null by default).
-      Predicate anyPredicate = mock(Predicate.class);
-      when(cb.equal(any(), any())).thenReturn(anyPredicate);
-      when(cb.isTrue(any())).thenReturn(anyPredicate);
-
-      when(cb.<Integer>selectCase()).thenReturn(caseBuilder);
-      // The chained when(...) calls can return the same caseBuilder instance. Use doReturn to avoid
-      // calling the real method on the mock during stubbing (which would return null).
-      // Note: the when(...) method takes an Expression (Predicate extends Expression<Boolean>), so
-      // match against Expression to ensure the stub is applied.
-      // The RETURNS_SELF mock will cause chained when(...) calls to return the same mock instance.
-      // Ensure the mock is returned for selectCase()
-      // No explicit doReturn for when() is required because of RETURNS_SELF.
-      // finally, the otherwise(...) call should return an Expression
-      doReturn(derivedExpr).when(caseBuilder).otherwise(anyInt());
+      Path<Object> derivedStatusPath = mock(Path.class);
+      doReturn(derivedStatusPath).when(root).get(ClaimSpecification.DERIVED_STATUS);
 
       Specification<Claim> spec = ClaimSpecification.orderByDerivedClaimStatus(pageable);
       Predicate result = spec.toPredicate(root, query, cb);
 
       assertThat(result).isEqualTo(predicate1);
-      verify(cb).selectCase();
-      verify(caseBuilder).otherwise(anyInt());
+      verify(cb, never()).selectCase();
+      verify(cb).asc(derivedStatusPath);
       verify(cb).asc(root.get(ClaimSpecification.ID));
     }
 
     @Test
-    @DisplayName("with matching sort descending builds case expression and uses DESC")
+    @DisplayName("with matching sort descending orders by the persisted derived status DESC")
     void orderByDerivedClaimStatusWithMatchingSortDescendingUsesDesc() {
       Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("derivedClaimStatus")));
-
-      CriteriaBuilder.Case<Integer> caseBuilder =
-          mock(CriteriaBuilder.Case.class, org.mockito.Answers.RETURNS_SELF);
-      Expression<Integer> derivedExpr = mock(Expression.class);
-      Predicate anyPredicate = mock(Predicate.class);
-      when(cb.equal(any(), any())).thenReturn(anyPredicate);
-      when(cb.isTrue(any())).thenReturn(anyPredicate);
-
-      when(cb.<Integer>selectCase()).thenReturn(caseBuilder);
-      doReturn(derivedExpr).when(caseBuilder).otherwise(anyInt());
+      Path<Object> derivedStatusPath = mock(Path.class);
+      doReturn(derivedStatusPath).when(root).get(ClaimSpecification.DERIVED_STATUS);
 
       Specification<Claim> spec = ClaimSpecification.orderByDerivedClaimStatus(pageable);
       Predicate result = spec.toPredicate(root, query, cb);
 
       assertThat(result).isEqualTo(predicate1);
-      verify(cb).selectCase();
-      verify(caseBuilder).otherwise(anyInt());
-      verify(cb).desc(any(Expression.class));
+      verify(cb).desc(derivedStatusPath);
+      verify(cb).asc(root.get(ClaimSpecification.ID));
     }
   }
 
@@ -1349,73 +1267,12 @@ class ClaimSpecificationTest {
     }
 
     @Test
-    @DisplayName("with matching property builds subqueries and orders")
-    void orderByLatestCalculatedFeeWithMatchingPropertyBuildsSubqueriesAndOrders() {
+    @DisplayName("with matching property left joins latest fee and orders by its value")
+    void orderByLatestCalculatedFeeWithMatchingPropertyJoinsLatestFeeAndOrders() {
       // given
       String sortProp = ClaimSpecification.CALCULATED_FEE_DETAILS + ".totalAmount";
       Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.asc(sortProp)));
-
-      // Prepare latestFeeValueSubquery
-      Subquery<Object> latestFeeSubquery = mock(Subquery.class);
-      Root<CalculatedFeeDetail> feeRoot = mock(Root.class);
-
-      when(query.subquery(Object.class)).thenReturn(latestFeeSubquery);
-      when(latestFeeSubquery.from(CalculatedFeeDetail.class)).thenReturn(feeRoot);
-
-      // Prepare newerRecordSubquery
-      Subquery<Integer> newerRecordSubquery = mock(Subquery.class);
-      Root<CalculatedFeeDetail> newerFeeRoot = mock(Root.class);
-
-      when(query.subquery(Integer.class)).thenReturn(newerRecordSubquery);
-      when(newerRecordSubquery.from(CalculatedFeeDetail.class)).thenReturn(newerFeeRoot);
-
-      // Mock literal select
-      Expression<Integer> literalExpr = mock(Expression.class);
-      when(cb.literal(1)).thenReturn(literalExpr);
-      when(newerRecordSubquery.select(literalExpr)).thenReturn(newerRecordSubquery);
-
-      // Predicates for newerRecordSubquery.where(...)
-      Predicate newerEqualPredicate = mock(Predicate.class);
-      Predicate greaterThanPredicate = mock(Predicate.class);
-      Predicate equalCreatedOnPredicate = mock(Predicate.class);
-      Predicate greaterIdPredicate = mock(Predicate.class);
-      Predicate andPredicate = mock(Predicate.class);
-      Predicate orPredicate = mock(Predicate.class);
-
-      when(cb.equal(
-              newerFeeRoot.get(ClaimSpecification.CLAIM_ENTITY),
-              feeRoot.get(ClaimSpecification.CLAIM_ENTITY)))
-          .thenReturn(newerEqualPredicate);
-      when(cb.greaterThan(
-              newerFeeRoot.get(ClaimSpecification.CREATED_ON),
-              feeRoot.get(ClaimSpecification.CREATED_ON)))
-          .thenReturn(greaterThanPredicate);
-      when(cb.equal(
-              newerFeeRoot.get(ClaimSpecification.CREATED_ON),
-              feeRoot.get(ClaimSpecification.CREATED_ON)))
-          .thenReturn(equalCreatedOnPredicate);
-      when(cb.greaterThan(
-              newerFeeRoot.get(ClaimSpecification.ID), feeRoot.get(ClaimSpecification.ID)))
-          .thenReturn(greaterIdPredicate);
-
-      when(cb.and(equalCreatedOnPredicate, greaterIdPredicate)).thenReturn(andPredicate);
-      when(cb.or(greaterThanPredicate, andPredicate)).thenReturn(orPredicate);
-
-      when(newerRecordSubquery.where(newerEqualPredicate, orPredicate))
-          .thenReturn(newerRecordSubquery);
-
-      // latestFeeSubquery.select(feeRoot.get(feeFieldName))
-      when(latestFeeSubquery.select(feeRoot.get("totalAmount"))).thenReturn(latestFeeSubquery);
-
-      // cb.exists(newerRecordSubquery) and cb.not(...)
-      Predicate existsPredicate = mock(Predicate.class);
-      Predicate notExistsPredicate = mock(Predicate.class);
-      when(cb.exists(newerRecordSubquery)).thenReturn(existsPredicate);
-      when(cb.not(existsPredicate)).thenReturn(notExistsPredicate);
-
-      when(latestFeeSubquery.where(
-              cb.equal(feeRoot.get(ClaimSpecification.CLAIM_ENTITY), root), notExistsPredicate))
-          .thenReturn(latestFeeSubquery);
+      Path<Object> totalAmountPath = stubLatestFeeJoin("totalAmount");
 
       // when
       Specification<Claim> spec = ClaimSpecification.orderByLatestCalculatedFee(pageable);
@@ -1423,80 +1280,19 @@ class ClaimSpecificationTest {
 
       // then
       assertThat(result).isEqualTo(predicate1);
-      verify(query).subquery(Object.class);
-      verify(query).subquery(Integer.class);
-      // The ordering should use the latestFeeSubquery as an expression
+      verify(root).join(ClaimSpecification.LATEST_CALCULATED_FEE_DETAIL_ENTITY, JoinType.LEFT);
+      verify(query, never()).subquery(any(Class.class));
+      verify(cb).asc(totalAmountPath);
       verify(cb).asc(root.get(ClaimSpecification.ID));
     }
 
     @Test
-    @DisplayName("with descending primary sort preserves id asc tie-break")
-    void orderByLatestCalculatedFeeWithDescendingPrimaryPreservesIdAscTieBreak() {
+    @DisplayName("with descending primary sort uses id desc tie-break")
+    void orderByLatestCalculatedFeeWithDescendingPrimaryUsesIdDescTieBreak() {
       // given
       String sortProp = ClaimSpecification.CALCULATED_FEE_DETAILS + ".totalAmount";
       Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.desc(sortProp)));
-
-      // Prepare latestFeeValueSubquery
-      Subquery<Object> latestFeeSubquery = mock(Subquery.class);
-      Root<CalculatedFeeDetail> feeRoot = mock(Root.class);
-
-      when(query.subquery(Object.class)).thenReturn(latestFeeSubquery);
-      when(latestFeeSubquery.from(CalculatedFeeDetail.class)).thenReturn(feeRoot);
-
-      // Prepare newerRecordSubquery
-      Subquery<Integer> newerRecordSubquery = mock(Subquery.class);
-      Root<CalculatedFeeDetail> newerFeeRoot = mock(Root.class);
-
-      when(query.subquery(Integer.class)).thenReturn(newerRecordSubquery);
-      when(newerRecordSubquery.from(CalculatedFeeDetail.class)).thenReturn(newerFeeRoot);
-
-      // Mock literal select
-      Expression<Integer> literalExpr = mock(Expression.class);
-      when(cb.literal(1)).thenReturn(literalExpr);
-      when(newerRecordSubquery.select(literalExpr)).thenReturn(newerRecordSubquery);
-
-      // Predicates for newerRecordSubquery.where(...)
-      Predicate newerEqualPredicate = mock(Predicate.class);
-      Predicate greaterThanPredicate = mock(Predicate.class);
-      Predicate equalCreatedOnPredicate = mock(Predicate.class);
-      Predicate greaterIdPredicate = mock(Predicate.class);
-      Predicate andPredicate = mock(Predicate.class);
-      Predicate orPredicate = mock(Predicate.class);
-
-      when(cb.equal(
-              newerFeeRoot.get(ClaimSpecification.CLAIM_ENTITY),
-              feeRoot.get(ClaimSpecification.CLAIM_ENTITY)))
-          .thenReturn(newerEqualPredicate);
-      when(cb.greaterThan(
-              newerFeeRoot.get(ClaimSpecification.CREATED_ON),
-              feeRoot.get(ClaimSpecification.CREATED_ON)))
-          .thenReturn(greaterThanPredicate);
-      when(cb.equal(
-              newerFeeRoot.get(ClaimSpecification.CREATED_ON),
-              feeRoot.get(ClaimSpecification.CREATED_ON)))
-          .thenReturn(equalCreatedOnPredicate);
-      when(cb.greaterThan(
-              newerFeeRoot.get(ClaimSpecification.ID), feeRoot.get(ClaimSpecification.ID)))
-          .thenReturn(greaterIdPredicate);
-
-      when(cb.and(equalCreatedOnPredicate, greaterIdPredicate)).thenReturn(andPredicate);
-      when(cb.or(greaterThanPredicate, andPredicate)).thenReturn(orPredicate);
-
-      when(newerRecordSubquery.where(newerEqualPredicate, orPredicate))
-          .thenReturn(newerRecordSubquery);
-
-      // latestFeeSubquery.select(feeRoot.get(feeFieldName))
-      when(latestFeeSubquery.select(feeRoot.get("totalAmount"))).thenReturn(latestFeeSubquery);
-
-      // cb.exists(newerRecordSubquery) and cb.not(...)
-      Predicate existsPredicate = mock(Predicate.class);
-      Predicate notExistsPredicate = mock(Predicate.class);
-      when(cb.exists(newerRecordSubquery)).thenReturn(existsPredicate);
-      when(cb.not(existsPredicate)).thenReturn(notExistsPredicate);
-
-      when(latestFeeSubquery.where(
-              cb.equal(feeRoot.get(ClaimSpecification.CLAIM_ENTITY), root), notExistsPredicate))
-          .thenReturn(latestFeeSubquery);
+      Path<Object> totalAmountPath = stubLatestFeeJoin("totalAmount");
 
       // when
       Specification<Claim> spec = ClaimSpecification.orderByLatestCalculatedFee(pageable);
@@ -1504,11 +1300,17 @@ class ClaimSpecificationTest {
 
       // then
       assertThat(result).isEqualTo(predicate1);
-      verify(query).subquery(Object.class);
-      verify(query).subquery(Integer.class);
-      // The ordering should use DESC for the primary expression and use ID DESC as the tie-break
-      verify(cb).desc(any(Expression.class));
+      verify(cb).desc(totalAmountPath);
       verify(cb).desc(root.get(ClaimSpecification.ID));
     }
+
+    private Path<Object> stubLatestFeeJoin(String feeFieldName) {
+      Join<Object, Object> latestFeeJoin = mock(Join.class);
+      Path<Object> feeFieldPath = mock(Path.class);
+      when(root.join(ClaimSpecification.LATEST_CALCULATED_FEE_DETAIL_ENTITY, JoinType.LEFT))
+          .thenReturn(latestFeeJoin);
+      when(latestFeeJoin.get(feeFieldName)).thenReturn(feeFieldPath);
+      return feeFieldPath;
+    }
   }
 }
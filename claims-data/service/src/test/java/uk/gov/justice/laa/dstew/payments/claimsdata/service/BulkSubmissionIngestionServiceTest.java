@@ -0,0 +1,181 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimsDataTestUtil.USER_ID;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.ClaimsApiProperties;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.BulkSubmission;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionFileReadException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionIngestionRejectedException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionValidationException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionErrorCode;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionPatch;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionStatus;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.CreateBulkSubmissionAsync202Response;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.GetBulkSubmission200ResponseDetails;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.BulkSubmissionRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BulkSubmissionIngestionServiceTest {
+
+  @Mock BulkSubmissionService bulkSubmissionService;
+
+  @Mock BulkSubmissionRepository bulkSubmissionRepository;
+
+  @Mock SubmissionEventPublisherService submissionEventPublisherService;
+
+  @TempDir Path spoolDirectory;
+
+  private final ClaimsApiProperties claimsApiProperties = new ClaimsApiProperties();
+
+  private final MockMultipartFile file =
+      new MockMultipartFile("file", "outcomes.csv", "text/csv", "one,two".getBytes());
+
+  @BeforeEach
+  void setUp() {
+    claimsApiProperties.getBulkSubmissions().getIngestion().setSpoolDirectory(spoolDirectory);
+  }
+
+  private BulkSubmissionIngestionService serviceWith(Executor executor) {
+    return new BulkSubmissionIngestionService(
+        bulkSubmissionService,
+        bulkSubmissionRepository,
+        submissionEventPublisherService,
+        claimsApiProperties,
+        executor);
+  }
+
+  @Test
+  @DisplayName("Records the upload as RECEIVED, ingests it and publishes the parse event")
+  void acceptsAndIngestsBulkSubmission() throws IOException {
+    GetBulkSubmission200ResponseDetails details = new GetBulkSubmission200ResponseDetails();
+    when(bulkSubmissionService.requireEntity(any()))
+        .thenAnswer(
+            invocation ->
+                BulkSubmission.builder()
+                    .id(invocation.getArgument(0))
+                    .createdByUserId(USER_ID)
+                    .authorisedOffices("OFFICE1")
+                    .build());
+    when(bulkSubmissionService.getBulkSubmissionDetails(any(), anyInt())).thenReturn(details);
+
+    CreateBulkSubmissionAsync202Response response =
+        serviceWith(Runnable::run).acceptBulkSubmissionFile(USER_ID, file, List.of("OFFICE1"));
+
+    ArgumentCaptor<BulkSubmission> received = ArgumentCaptor.forClass(BulkSubmission.class);
+    verify(bulkSubmissionRepository).save(received.capture());
+    assertThat(received.getValue().getId()).isEqualTo(response.getBulkSubmissionId());
+    assertThat(received.getValue().getStatus()).isEqualTo(BulkSubmissionStatus.RECEIVED);
+    assertThat(received.getValue().getAuthorisedOffices()).isEqualTo("OFFICE1");
+
+    verify(bulkSubmissionService)
+        .updateBulkSubmission(
+            response.getBulkSubmissionId(),
+            new BulkSubmissionPatch().status(BulkSubmissionStatus.INGESTING));
+    verify(bulkSubmissionService)
+        .validateAndSave(any(BulkSubmission.BulkSubmissionBuilder.class), eq(details), any());
+    verify(submissionEventPublisherService)
+        .publishBulkSubmissionEvent(
+            response.getBulkSubmissionId(), response.getSubmissionIds());
+    assertSpoolDirectoryIsEmpty();
+  }
+
+  @Test
+  @DisplayName("Records a parsing failure when the spooled file cannot be converted")
+  void recordsParsingFailure() throws IOException {
+    when(bulkSubmissionService.requireEntity(any())).thenReturn(BulkSubmission.builder().build());
+    when(bulkSubmissionService.getBulkSubmissionDetails(any(), anyInt()))
+        .thenThrow(new BulkSubmissionFileReadException("Unreadable file"));
+
+    CreateBulkSubmissionAsync202Response response =
+        serviceWith(Runnable::run).acceptBulkSubmissionFile(USER_ID, file, List.of());
+
+    verify(bulkSubmissionService)
+        .updateBulkSubmission(
+            response.getBulkSubmissionId(),
+            new BulkSubmissionPatch()
+                .status(BulkSubmissionStatus.PARSING_FAILED)
+                .errorCode(BulkSubmissionErrorCode.P100)
+                .errorDescription("Unreadable file"));
+    verify(submissionEventPublisherService, never()).publishBulkSubmissionEvent(any(), any());
+    assertSpoolDirectoryIsEmpty();
+  }
+
+  @Test
+  @DisplayName("Leaves the validation failure saved by the bulk submission service in place")
+  void keepsValidationFailure() throws IOException {
+    when(bulkSubmissionService.requireEntity(any())).thenReturn(BulkSubmission.builder().build());
+    when(bulkSubmissionService.getBulkSubmissionDetails(any(), anyInt()))
+        .thenReturn(new GetBulkSubmission200ResponseDetails());
+    when(bulkSubmissionService.validateAndSave(any(), any(), any()))
+        .thenThrow(new BulkSubmissionValidationException("Invalid"));
+
+    serviceWith(Runnable::run).acceptBulkSubmissionFile(USER_ID, file, List.of());
+
+    verify(bulkSubmissionService).updateBulkSubmission(any(), any(BulkSubmissionPatch.class));
+    verify(submissionEventPublisherService, never()).publishBulkSubmissionEvent(any(), any());
+    assertSpoolDirectoryIsEmpty();
+  }
+
+  @Test
+  @DisplayName("Rejects the upload and removes its file and row when the backlog is full")
+  void rejectsWhenBacklogIsFull() throws IOException {
+    BulkSubmissionIngestionService service =
+        serviceWith(
+            task -> {
+              throw new RejectedExecutionException("full");
+            });
+
+    assertThrows(
+        BulkSubmissionIngestionRejectedException.class,
+        () -> service.acceptBulkSubmissionFile(USER_ID, file, List.of()));
+
+    ArgumentCaptor<BulkSubmission> received = ArgumentCaptor.forClass(BulkSubmission.class);
+    verify(bulkSubmissionRepository).save(received.capture());
+    verify(bulkSubmissionRepository).deleteById(received.getValue().getId());
+    verify(bulkSubmissionService, never()).updateBulkSubmission(any(), any());
+    assertSpoolDirectoryIsEmpty();
+  }
+
+  @Test
+  @DisplayName("Removes the spooled file when the received bulk submission cannot be saved")
+  void deletesSpooledFileWhenSaveFails() throws IOException {
+    BulkSubmissionIngestionService service = serviceWith(Runnable::run);
+    when(bulkSubmissionRepository.save(any())).thenThrow(new IllegalStateException("db down"));
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> service.acceptBulkSubmissionFile(USER_ID, file, List.of()));
+
+    assertSpoolDirectoryIsEmpty();
+  }
+
+  private void assertSpoolDirectoryIsEmpty() throws IOException {
+    try (Stream<Path> files = Files.list(spoolDirectory)) {
+      assertThat(files).isEmpty();
+    }
+  }
+}
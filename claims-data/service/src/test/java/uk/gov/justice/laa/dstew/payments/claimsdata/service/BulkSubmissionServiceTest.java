@@ -12,6 +12,7 @@ import static org.mockito.Mockito.when;
 import static uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimsDataTestUtil.API_USER_ID;
 import static uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimsDataTestUtil.BULK_SUBMISSION_ID;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.Optional;
@@ -25,8 +26,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.ClaimsApiProperties;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.JacksonMappingConfig;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.BulkSubmission;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionAreaOfLawException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionNotFoundException;
@@ -35,6 +39,7 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.exception.BulkSubmissionVali
 import uk.gov.justice.laa.dstew.payments.claimsdata.mapper.BulkSubmissionMapper;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionErrorCode;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionOutcome;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionOutcomeResultSet;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionPatch;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.BulkSubmissionStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.CreateBulkSubmission201Response;
@@ -46,6 +51,7 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.model.GetBulkSubmission200Re
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.GetBulkSubmissionStatusById200Response;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.csv.CsvSubmission;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.BulkSubmissionRepository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.projection.BulkSubmissionHeaderProjection;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimsDataTestUtil;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
 
@@ -62,6 +68,10 @@ class BulkSubmissionServiceTest {
 
   @Mock BulkSubmissionMapper bulkSubmissionMapper;
 
+  @Spy ClaimsApiProperties claimsApiProperties = new ClaimsApiProperties();
+
+  @Spy ObjectMapper objectMapper = new JacksonMappingConfig().objectMapper();
+
   @Spy @InjectMocks BulkSubmissionService bulkSubmissionService;
 
   @Test
@@ -292,6 +302,90 @@ class BulkSubmissionServiceTest {
         .containsExactly(BulkSubmissionStatus.VALIDATION_FAILED, BulkSubmissionErrorCode.V100);
   }
 
+  @Test
+  @DisplayName("Reports a missing matter type ahead of an earlier invalid date")
+  void reportsMissingMatterTypeAheadOfEarlierInvalidDate() {
+    MultipartFile file = new MockMultipartFile("filePath.csv", new byte[0]);
+    GetBulkSubmission200ResponseDetails details =
+        detailsWithOutcomes(
+            new BulkSubmissionOutcome().matterType("ABCD").caseStartDate("32/01/2025"),
+            new BulkSubmissionOutcome().matterType(" "));
+    doReturn(details).when(bulkSubmissionService).getBulkSubmissionDetails(file);
+
+    BulkSubmissionValidationException exception =
+        assertThrows(
+            BulkSubmissionValidationException.class,
+            () -> bulkSubmissionService.submitBulkSubmissionFile("user", file, List.of("TEST")));
+
+    assertEquals("Matter Type is missing for one or more of your claims", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Records every outcome error in one VALIDATION_FAILED record in collect-all mode")
+  void collectsAllOutcomeErrors() {
+    claimsApiProperties.getBulkSubmissions().setCollectAllValidationErrors(true);
+    MultipartFile file = new MockMultipartFile("filePath.csv", new byte[0]);
+    GetBulkSubmission200ResponseDetails details =
+        detailsWithOutcomes(
+            new BulkSubmissionOutcome().matterType("ABCD").caseStartDate("32/01/2025"),
+            new BulkSubmissionOutcome().matterType("ABCD").caseStartDate("01/01/2025"),
+            new BulkSubmissionOutcome().matterType("").surgeryDate("29/02/2025"));
+    doReturn(details).when(bulkSubmissionService).getBulkSubmissionDetails(file);
+
+    BulkSubmissionValidationException exception =
+        assertThrows(
+            BulkSubmissionValidationException.class,
+            () -> bulkSubmissionService.submitBulkSubmissionFile("user", file, List.of("TEST")));
+
+    String expectedMessage =
+        """
+        3 errors were found in your claims
+        Claim 1: Case Start Date must be a valid date in the format DD/MM/YYYY
+        Claim 3: Matter Type is missing
+        Claim 3: Surgery Date must be a valid date in the format DD/MM/YYYY""";
+    assertEquals(expectedMessage, exception.getMessage());
+
+    ArgumentCaptor<BulkSubmission> captor = ArgumentCaptor.forClass(BulkSubmission.class);
+    verify(bulkSubmissionRepository).save(captor.capture());
+    assertThat(captor.getValue())
+        .extracting(BulkSubmission::getStatus, BulkSubmission::getErrorDescription)
+        .containsExactly(BulkSubmissionStatus.VALIDATION_FAILED, expectedMessage);
+  }
+
+  @Test
+  @DisplayName("Counts but does not list errors beyond the reporting limit in collect-all mode")
+  void limitsReportedOutcomeErrors() {
+    claimsApiProperties.getBulkSubmissions().setCollectAllValidationErrors(true);
+    claimsApiProperties.getBulkSubmissions().setMaxReportedValidationErrors(1);
+    MultipartFile file = new MockMultipartFile("filePath.csv", new byte[0]);
+    GetBulkSubmission200ResponseDetails details =
+        detailsWithOutcomes(
+            new BulkSubmissionOutcome().matterType(null),
+            new BulkSubmissionOutcome().matterType(null),
+            new BulkSubmissionOutcome().matterType(null));
+    doReturn(details).when(bulkSubmissionService).getBulkSubmissionDetails(file);
+
+    BulkSubmissionValidationException exception =
+        assertThrows(
+            BulkSubmissionValidationException.class,
+            () -> bulkSubmissionService.submitBulkSubmissionFile("user", file, List.of("TEST")));
+
+    assertEquals(
+        "3 errors were found in your claims\nClaim 1: Matter Type is missing\nand 2 more",
+        exception.getMessage());
+  }
+
+  private static GetBulkSubmission200ResponseDetails detailsWithOutcomes(
+      BulkSubmissionOutcome... outcomes) {
+    return new GetBulkSubmission200ResponseDetails()
+        .office(new GetBulkSubmission200ResponseDetailsOffice().account("TEST"))
+        .schedule(
+            new GetBulkSubmission200ResponseDetailsSchedule()
+                .submissionPeriod("APR-2025")
+                .areaOfLaw("LEGAL HELP"))
+        .outcomes(List.of(outcomes));
+  }
+
   @Test
   @DisplayName("Returns the bulk submission details from the multipart file")
   void returnsBulkSubmissionDetailsFromFile() {
@@ -330,34 +424,80 @@ class BulkSubmissionServiceTest {
   }
 
   @Test
-  @DisplayName("Returns bulk submission status summary")
+  @DisplayName("Returns bulk submission header summary from the projection")
   void returnsBulkSubmissionStatusSummary() {
     var id = Uuid7.timeBasedUuid();
-    var expectedBulkSubmission = new BulkSubmission();
-    expectedBulkSubmission.setId(id);
-    expectedBulkSubmission.setStatus(BulkSubmissionStatus.PARSING_COMPLETED);
-
-    when(bulkSubmissionRepository.findStatusById(id))
-        .thenReturn(Optional.of(expectedBulkSubmission.getStatus()));
+    BulkSubmissionHeaderProjection header = mock(BulkSubmissionHeaderProjection.class);
+    when(header.getStatus()).thenReturn("VALIDATION_FAILED");
+    when(header.getErrorCode()).thenReturn("V100");
+    when(header.getErrorDescription()).thenReturn("This is the error message");
+    when(header.getOfficeAccount()).thenReturn("0U099L");
+    when(header.getSubmissionPeriod()).thenReturn("APR-2025");
+    when(header.getAreaOfLaw()).thenReturn("LEGAL HELP");
+    when(header.getScheduleNum()).thenReturn("0U099L/2025/01");
+    when(header.getOutcomeCount()).thenReturn(3);
+    when(header.getMatterStartCount()).thenReturn(1);
+    when(bulkSubmissionRepository.findHeaderById(id)).thenReturn(Optional.of(header));
 
     GetBulkSubmissionStatusById200Response response =
         bulkSubmissionService.getBulkSubmissionStatusById(id);
 
-    assertThat(response).isNotNull();
-    assertEquals(BulkSubmissionStatus.PARSING_COMPLETED, response.getStatus());
+    assertThat(response)
+        .isEqualTo(
+            new GetBulkSubmissionStatusById200Response()
+                .status(BulkSubmissionStatus.VALIDATION_FAILED)
+                .errorCode(BulkSubmissionErrorCode.V100)
+                .errorDescription("This is the error message")
+                .officeAccount("0U099L")
+                .submissionPeriod("APR-2025")
+                .areaOfLaw("LEGAL HELP")
+                .scheduleNum("0U099L/2025/01")
+                .outcomeCount(3)
+                .matterStartCount(1));
   }
 
   @Test
   @DisplayName("Throws BulkSubmissionNotFoundException when summary not found")
   void shouldThrowWhenBulkSubmissionStatusNotFound() {
     var id = Uuid7.timeBasedUuid();
-    when(bulkSubmissionRepository.findStatusById(id)).thenReturn(Optional.empty());
+    when(bulkSubmissionRepository.findHeaderById(id)).thenReturn(Optional.empty());
 
     assertThrows(
         BulkSubmissionNotFoundException.class,
         () -> bulkSubmissionService.getBulkSubmissionStatusById(id));
   }
 
+  @Test
+  @DisplayName("Returns a page of bulk submission outcomes read from the stored JSON")
+  void shouldGetBulkSubmissionOutcomesPage() {
+    var id = Uuid7.timeBasedUuid();
+    when(bulkSubmissionRepository.countOutcomesById(id)).thenReturn(Optional.of(5));
+    when(bulkSubmissionRepository.findOutcomesById(id, 2, 2))
+        .thenReturn(List.of("{\"fee_code\":\"FEE3\"}", "{\"fee_code\":\"FEE4\"}"));
+
+    BulkSubmissionOutcomeResultSet response =
+        bulkSubmissionService.getBulkSubmissionOutcomes(id, PageRequest.of(1, 2));
+
+    assertThat(response.getContent())
+        .extracting(BulkSubmissionOutcome::getFeeCode)
+        .containsExactly("FEE3", "FEE4");
+    assertThat(response.getTotalElements()).isEqualTo(5);
+    assertThat(response.getTotalPages()).isEqualTo(3);
+    assertThat(response.getNumber()).isEqualTo(1);
+    assertThat(response.getSize()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Throws BulkSubmissionNotFoundException when outcomes requested for unknown id")
+  void shouldThrowWhenBulkSubmissionOutcomesNotFound() {
+    var id = Uuid7.timeBasedUuid();
+    when(bulkSubmissionRepository.countOutcomesById(id)).thenReturn(Optional.empty());
+
+    assertThrows(
+        BulkSubmissionNotFoundException.class,
+        () -> bulkSubmissionService.getBulkSubmissionOutcomes(id, PageRequest.of(0, 20)));
+  }
+
   @Test
   @DisplayName("Throws BulkSubmissionNotFoundException when bulk submission not found")
   void shouldThrowWhenBulkSubmissionNotFound() {
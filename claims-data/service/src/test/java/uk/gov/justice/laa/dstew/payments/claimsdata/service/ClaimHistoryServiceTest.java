@@ -2,9 +2,6 @@ package uk.gov.justice.laa.dstew.payments.claimsdata.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -17,10 +14,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.ClaimHistoryPage;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ClaimBadRequestException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ClaimNotFoundException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClaimHistoryRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClaimRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.projection.ClaimHistoryEventRow;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimHistoryCursor;
 
 @ExtendWith(MockitoExtension.class)
 class ClaimHistoryServiceTest {
@@ -42,50 +42,58 @@ class ClaimHistoryServiceTest {
   }
 
   @Test
-  void getTimeline_usesDefaultPageSize_whenNoPageSizeProvided() {
+  void getTimelinePage_throwsNotFound_whenClaimDoesNotExist() {
     UUID claimId = UUID.randomUUID();
-    ClaimHistoryEventRow row = submissionRow(claimId);
-    when(claimRepository.existsById(claimId)).thenReturn(true);
-    when(claimHistoryRepository.findHistory(claimId, DEFAULT_PAGE_SIZE)).thenReturn(List.of(row));
+    when(claimRepository.existsById(claimId)).thenReturn(false);
 
-    List<ClaimHistoryEventRow> result = claimHistoryService.getTimeline(claimId);
+    assertThatThrownBy(() -> claimHistoryService.getTimelinePage(claimId, null, null))
+        .isInstanceOf(ClaimNotFoundException.class)
+        .hasMessageContaining(claimId.toString());
 
-    assertThat(result).containsExactly(row);
-    verify(claimHistoryRepository).findHistory(claimId, DEFAULT_PAGE_SIZE);
+    verifyNoInteractions(claimHistoryRepository);
   }
 
   @Test
-  void getTimeline_passesThroughRequestedPageSize() {
+  void getTimelinePage_returnsNextCursor_whenMoreEventsExist() {
     UUID claimId = UUID.randomUUID();
+    ClaimHistoryEventRow newest = submissionRow(UUID.randomUUID());
+    ClaimHistoryEventRow last = submissionRow(UUID.randomUUID());
+    ClaimHistoryEventRow extra = submissionRow(UUID.randomUUID());
     when(claimRepository.existsById(claimId)).thenReturn(true);
-    when(claimHistoryRepository.findHistory(eq(claimId), eq(10))).thenReturn(List.of());
+    when(claimHistoryRepository.findHistory(claimId, 3)).thenReturn(List.of(newest, last, extra));
 
-    List<ClaimHistoryEventRow> result = claimHistoryService.getTimeline(claimId, 10);
+    ClaimHistoryPage page = claimHistoryService.getTimelinePage(claimId, 2, null);
 
-    assertThat(result).isEmpty();
-    verify(claimHistoryRepository).findHistory(claimId, 10);
+    assertThat(page.events()).containsExactly(newest, last);
+    assertThat(ClaimHistoryCursor.decode(page.nextCursor()))
+        .isEqualTo(new ClaimHistoryCursor(last.eventTimestamp(), last.sourceId()));
   }
 
   @Test
-  void getTimeline_throwsNotFound_whenClaimDoesNotExist() {
+  void getTimelinePage_readsAfterCursor_andOmitsNextCursorOnLastPage() {
     UUID claimId = UUID.randomUUID();
-    when(claimRepository.existsById(claimId)).thenReturn(false);
+    ClaimHistoryCursor cursor =
+        new ClaimHistoryCursor(Instant.parse("2026-04-22T11:26:00.123456Z"), UUID.randomUUID());
+    ClaimHistoryEventRow row = submissionRow(UUID.randomUUID());
+    when(claimRepository.existsById(claimId)).thenReturn(true);
+    when(claimHistoryRepository.findHistory(
+            claimId, DEFAULT_PAGE_SIZE + 1, cursor.eventTimestamp(), cursor.sourceId()))
+        .thenReturn(List.of(row));
 
-    assertThatThrownBy(() -> claimHistoryService.getTimeline(claimId))
-        .isInstanceOf(ClaimNotFoundException.class)
-        .hasMessageContaining(claimId.toString());
+    ClaimHistoryPage page = claimHistoryService.getTimelinePage(claimId, null, cursor.encode());
 
-    verifyNoInteractions(claimHistoryRepository);
+    assertThat(page.events()).containsExactly(row);
+    assertThat(page.nextCursor()).isNull();
   }
 
   @Test
-  void getTimeline_withPageSize_throwsNotFound_whenClaimDoesNotExist() {
+  void getTimelinePage_throwsBadRequest_whenCursorIsInvalid() {
     UUID claimId = UUID.randomUUID();
-    when(claimRepository.existsById(claimId)).thenReturn(false);
 
-    assertThatThrownBy(() -> claimHistoryService.getTimeline(claimId, 25))
-        .isInstanceOf(ClaimNotFoundException.class);
+    assertThatThrownBy(() -> claimHistoryService.getTimelinePage(claimId, 10, "not-a-cursor"))
+        .isInstanceOf(ClaimBadRequestException.class)
+        .hasMessage(ClaimHistoryCursor.INVALID_CURSOR);
 
-    verify(claimHistoryRepository, never()).findHistory(claimId, 25);
+    verifyNoInteractions(claimHistoryRepository, claimRepository);
   }
 }
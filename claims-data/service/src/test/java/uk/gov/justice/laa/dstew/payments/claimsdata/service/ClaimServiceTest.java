@@ -2,8 +2,10 @@ package uk.gov.justice.laa.dstew.payments.claimsdata.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
@@ -34,7 +36,9 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
@@ -57,12 +61,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.ClaimSearchRequest;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentBatchResult;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentPayload;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentResult;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentValidationCode;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentValidationError;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Assessment;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.CalculatedFeeDetail;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Claim;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.ClaimAmendment;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.ClaimCase;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.ClaimSummaryFee;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Client;
@@ -77,6 +89,11 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.mapper.ClaimMapper;
 import uk.gov.justice.laa.dstew.payments.claimsdata.mapper.ClaimResultSetMapper;
 import uk.gov.justice.laa.dstew.payments.claimsdata.mapper.ClientMapper;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.AssessmentType;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimAmendmentOutcome;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimAmendmentOutcomeType;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimAmendmentTarget;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimBatchAmendment;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimBatchAmendmentResult;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimPatch;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimPost;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimResponse;
@@ -89,6 +106,7 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.model.SubmissionClaim;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.SubmissionStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ValidationMessagePatch;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.AssessmentRepository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.BatchInsertRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.CalculatedFeeDetailRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClaimCaseRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClaimRepository;
@@ -96,8 +114,11 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClaimSummaryFeeRe
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ClientRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ValidationMessageLogRepository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.ClaimAmendmentBatchService;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.ClaimAmendmentService;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.ClaimAmendmentStateService;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimSearchCursor;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimSortField;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimsDataTestUtil;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
 import uk.gov.justice.laa.dstew.payments.claimsdata.validator.ClaimSearchRequestValidator;
@@ -118,13 +139,16 @@ class ClaimServiceTest {
   @Mock private ClaimValidationService claimValidationService;
   @Mock private AssessmentService assessmentService;
   @Mock private ClaimAmendmentService claimAmendmentService;
+  @Mock private ClaimAmendmentBatchService claimAmendmentBatchService;
   @Mock private ClaimAmendmentStateService claimAmendmentStateService;
+  @Mock private BatchInsertRepository batchInsertRepository;
 
   @Spy
   private final ClaimSearchRequestValidator claimSearchRequestValidator =
       new ClaimSearchRequestValidator();
 
   @Captor ArgumentCaptor<Assessment> assessmentCaptor;
+  @Captor ArgumentCaptor<Map<UUID, ClaimAmendmentPayload>> amendmentPayloadsCaptor;
 
   @InjectMocks private ClaimService claimService;
 
@@ -226,6 +250,80 @@ class ClaimServiceTest {
     verify(claimRepository, never()).save(any());
   }
 
+  @Test
+  void shouldCreateClaimsInBatches() {
+    final UUID submissionId = Uuid7.timeBasedUuid();
+    final Submission submission = Submission.builder().id(submissionId).build();
+    final ClaimPost first = new ClaimPost().lineNumber(1).createdByUserId(API_USER_ID);
+    final ClaimPost second = new ClaimPost().lineNumber(2).createdByUserId(API_USER_ID);
+    final Claim firstClaim = Claim.builder().build();
+    final Claim secondClaim = Claim.builder().build();
+    final Client client = Client.builder().clientSurname("Smith").build();
+
+    when(submissionRepository.findById(submissionId)).thenReturn(Optional.of(submission));
+    when(claimRepository.findExistingLineNumbers(submissionId, Set.of(1, 2))).thenReturn(List.of());
+    when(claimMapper.toClaim(first)).thenReturn(firstClaim);
+    when(claimMapper.toClaim(second)).thenReturn(secondClaim);
+    when(claimMapper.toClaimSummaryFee(any(ClaimPost.class)))
+        .thenAnswer(invocation -> ClaimSummaryFee.builder().build());
+    when(claimMapper.toClaimCase(any(ClaimPost.class)))
+        .thenAnswer(invocation -> ClaimCase.builder().build());
+    when(clientMapper.toClient(first)).thenReturn(client);
+    when(clientMapper.toClient(second)).thenReturn(Client.builder().build());
+
+    final List<UUID> ids = claimService.createClaims(submissionId, List.of(first, second));
+
+    assertThat(ids).containsExactly(firstClaim.getId(), secondClaim.getId());
+    assertThat(firstClaim.getSubmission()).isSameAs(submission);
+    assertThat(secondClaim.getCreatedByUserId()).isEqualTo(API_USER_ID);
+    assertThat(client.getClaim()).isSameAs(firstClaim);
+    verify(batchInsertRepository).insertAll(List.of(firstClaim, secondClaim));
+    verify(batchInsertRepository).insertAll(List.of(client));
+    verify(submissionRepository).findById(submissionId);
+    verify(claimRepository, never()).save(any());
+  }
+
+  @Test
+  void shouldThrowConflictWhenClaimLineNumberIsRepeatedInBatch() {
+    final UUID submissionId = Uuid7.timeBasedUuid();
+    final Submission submission = Submission.builder().id(submissionId).build();
+
+    when(submissionRepository.findById(submissionId)).thenReturn(Optional.of(submission));
+
+    assertThatThrownBy(
+            () ->
+                claimService.createClaims(
+                    submissionId,
+                    List.of(new ClaimPost().lineNumber(3), new ClaimPost().lineNumber(3))))
+        .isInstanceOf(DuplicateClaimException.class)
+        .hasMessageContaining("Line number 3 appears more than once");
+
+    verify(batchInsertRepository, never()).insertAll(any());
+  }
+
+  @Test
+  void shouldThrowConflictWhenBatchLineNumberAlreadyExistsInSubmission() {
+    final UUID submissionId = Uuid7.timeBasedUuid();
+    final Submission submission = Submission.builder().id(submissionId).build();
+
+    when(submissionRepository.findById(submissionId)).thenReturn(Optional.of(submission));
+    when(claimRepository.findExistingLineNumbers(submissionId, Set.of(4, 5, 6)))
+        .thenReturn(List.of(6, 5));
+
+    assertThatThrownBy(
+            () ->
+                claimService.createClaims(
+                    submissionId,
+                    List.of(
+                        new ClaimPost().lineNumber(4),
+                        new ClaimPost().lineNumber(5),
+                        new ClaimPost().lineNumber(6))))
+        .isInstanceOf(DuplicateClaimException.class)
+        .hasMessageContaining("line number 5");
+
+    verify(batchInsertRepository, never()).insertAll(any());
+  }
+
   @Test
   void shouldGetClaim() {
     final UUID submissionId = Uuid7.timeBasedUuid();
@@ -646,6 +744,52 @@ class ClaimServiceTest {
     assertThat(actualResultSet.getContent()).isEmpty();
   }
 
+  @Test
+  void getClaimResultSet_shouldEnrichTheWholePageWithOneQueryPerRelation() {
+    UUID claim1Id = Uuid7.timeBasedUuid();
+    UUID claim2Id = Uuid7.timeBasedUuid();
+    Client client = Client.builder().clientForename("John").build();
+    ClaimCase claimCase = ClaimCase.builder().id(claim1Id).build();
+    Claim claim1 = Claim.builder().id(claim1Id).client(client).claimCase(claimCase).build();
+    Claim claim2 = Claim.builder().id(claim2Id).build();
+    ClaimSummaryFee claimSummaryFee = ClaimSummaryFee.builder().claim(claim2).build();
+    CalculatedFeeDetail calculatedFeeDetail = CalculatedFeeDetail.builder().claim(claim1).build();
+    ClaimResponse response1 = new ClaimResponse().id(claim1Id.toString());
+    ClaimResponse response2 = new ClaimResponse().id(claim2Id.toString());
+
+    Page<Claim> resultPage = new PageImpl<>(List.of(claim1, claim2));
+    when(claimRepository.findAll(any(Specification.class), any(Pageable.class)))
+        .thenReturn(resultPage);
+    when(claimResultSetMapper.toClaimResultSet(resultPage))
+        .thenReturn(new ClaimResultSet().content(List.of(response1, response2)));
+    when(claimSummaryFeeRepository.findByClaimIdIn(List.of(claim1Id, claim2Id)))
+        .thenReturn(List.of(claimSummaryFee));
+    when(calculatedFeeDetailRepository.findLatestByClaimIdIn(List.of(claim1Id, claim2Id)))
+        .thenReturn(List.of(calculatedFeeDetail));
+
+    claimService.getClaimResultSet(
+        OFFICE_ACCOUNT_NUMBER,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        Pageable.ofSize(10).withPage(0));
+
+    verify(clientMapper).updateClaimResponseFromClient(client, response1);
+    verify(claimMapper).updateClaimResponseFromClaimCase(claimCase, response1);
+    verify(claimMapper).updateClaimResponseFromCalculatedFeeDetail(calculatedFeeDetail, response1);
+    verify(claimMapper).updateClaimResponseFromClaimSummaryFee(claimSummaryFee, response2);
+    verify(clientMapper, never()).updateClaimResponseFromClient(any(), eq(response2));
+    verify(clientRepository, never()).findByClaimId(any());
+    verify(claimCaseRepository, never()).findByClaimId(any());
+    verifyNoInteractions(validationMessageLogRepository);
+  }
+
   @Test
   void getClaimResultSet_v2_whenOfficeCodeIsMissing_shouldThrowClaimBadRequestException() {
     assertThrows(
@@ -898,6 +1042,194 @@ class ClaimServiceTest {
     assertThat(actualResultSet.getContent()).isEmpty();
   }
 
+  @Test
+  void getClaimResultSetV2_withoutTotal_readsASliceWithoutCounting() {
+    Claim claim = Claim.builder().id(Uuid7.timeBasedUuid()).build();
+    Slice<Claim> slice = new SliceImpl<>(List.of(claim), PageRequest.of(0, 1), true);
+    ClaimResultSetV2 expected =
+        new ClaimResultSetV2()
+            .content(List.of(ClaimResponseV2.builder().id(claim.getId().toString()).build()))
+            .hasNext(true);
+    when(claimRepository.findBy(any(Specification.class), any())).thenReturn(slice);
+    when(claimResultSetMapper.toClaimResultSetV2(slice)).thenReturn(expected);
+
+    ClaimResultSetV2 result =
+        claimService.getClaimResultSetV2(validV2SearchRequest(), PageRequest.of(0, 1), false);
+
+    assertThat(result).isSameAs(expected);
+    assertThat(result.getTotalElements()).isNull();
+    verify(claimRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    verifyNoInteractions(validationMessageLogRepository);
+  }
+
+  @Nested
+  @DisplayName("Cursor-paginated claim search")
+  class CursorPaginationTests {
+
+    private final ClaimSearchRequest request =
+        ClaimSearchRequest.builder().officeCode(OFFICE_ACCOUNT_NUMBER).build();
+
+    @Test
+    void returnsPageAndCursorForTheLastClaimWhenMoreClaimsFollow() {
+      Claim claim1 = Claim.builder().id(Uuid7.timeBasedUuid()).lineNumber(1).build();
+      Claim claim2 = Claim.builder().id(Uuid7.timeBasedUuid()).lineNumber(2).build();
+      Claim claim3 = Claim.builder().id(Uuid7.timeBasedUuid()).lineNumber(3).build();
+      List<ClaimResponseV2> responses =
+          List.of(
+              ClaimResponseV2.builder().id(claim1.getId().toString()).build(),
+              ClaimResponseV2.builder().id(claim2.getId().toString()).build());
+      when(claimRepository.findBy(any(Specification.class), any()))
+          .thenReturn(List.of(claim1, claim2, claim3));
+      when(claimResultSetMapper.toClaimResponsesV2(List.of(claim1, claim2))).thenReturn(responses);
+
+      ClaimResultSetV2 result =
+          claimService.getClaimResultSetV2AfterCursor(
+              request, PageRequest.of(5, 2, Sort.by(Sort.Direction.DESC, "line_number")), null);
+
+      assertThat(result.getContent()).isEqualTo(responses);
+      assertThat(result.getSize()).isEqualTo(2);
+      assertThat(result.getTotalElements()).isNull();
+      assertThat(ClaimSearchCursor.decode(result.getNextCursor()))
+          .isEqualTo(
+              new ClaimSearchCursor(
+                  ClaimSortField.LINE_NUMBER, Sort.Direction.DESC, 2, claim2.getId()));
+      verify(claimRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+      verifyNoInteractions(validationMessageLogRepository);
+    }
+
+    @Test
+    void returnsNoCursorOnTheLastPage() {
+      Claim claim = Claim.builder().id(Uuid7.timeBasedUuid()).build();
+      String cursor =
+          new ClaimSearchCursor(null, Sort.Direction.ASC, null, Uuid7.timeBasedUuid()).encode();
+      when(claimRepository.findBy(any(Specification.class), any())).thenReturn(List.of(claim));
+      when(claimResultSetMapper.toClaimResponsesV2(List.of(claim))).thenReturn(List.of());
+
+      ClaimResultSetV2 result =
+          claimService.getClaimResultSetV2AfterCursor(request, PageRequest.of(0, 2), cursor);
+
+      assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void rejectsSortFieldsWithoutANonNullKey() {
+      Pageable pageable = PageRequest.of(0, 2, Sort.by("client_surname"));
+
+      assertThatThrownBy(
+              () -> claimService.getClaimResultSetV2AfterCursor(request, pageable, null))
+          .isInstanceOf(ClaimBadRequestException.class)
+          .hasMessage("Sorting by client_surname is not supported with cursor pagination");
+    }
+
+    @Test
+    void rejectsCursorIssuedForADifferentSort() {
+      String cursor =
+          new ClaimSearchCursor(null, Sort.Direction.ASC, null, Uuid7.timeBasedUuid()).encode();
+      Pageable pageable = PageRequest.of(0, 2, Sort.by("line_number"));
+
+      assertThatThrownBy(
+              () -> claimService.getClaimResultSetV2AfterCursor(request, pageable, cursor))
+          .isInstanceOf(ClaimBadRequestException.class)
+          .hasMessage("Cursor does not match the requested sort");
+      verify(claimRepository, never()).findBy(any(Specification.class), any());
+    }
+  }
+
+  @Nested
+  @DisplayName("Batch Amendment Service Tests")
+  class BatchAmendmentTests {
+
+    private final UUID amendedId = Uuid7.timeBasedUuid();
+    private final UUID unchangedId = Uuid7.timeBasedUuid();
+    private final UUID rejectedId = Uuid7.timeBasedUuid();
+
+    private ClaimBatchAmendment batchAmendment(UUID... claimIds) {
+      ClaimBatchAmendment batchAmendment =
+          new ClaimBatchAmendment().amendment(new ClaimPatch().createdByUserId(API_USER_ID));
+      for (UUID claimId : claimIds) {
+        batchAmendment.addClaimsItem(new ClaimAmendmentTarget().claimId(claimId).version(3L));
+      }
+      return batchAmendment;
+    }
+
+    @Test
+    void shouldAmendEachClaimAtItsVersionAndMapOutcomes() {
+      ClaimBatchAmendment batchAmendment = batchAmendment(amendedId, unchangedId, rejectedId);
+      ClaimAmendment saved = ClaimAmendment.builder().id(Uuid7.timeBasedUuid()).build();
+      when(submissionRepository.findById(SUBMISSION_ID))
+          .thenReturn(Optional.of(Submission.builder().id(SUBMISSION_ID).build()));
+      when(claimMapper.toAmendmentPayload(batchAmendment.getAmendment()))
+          .thenAnswer(invocation -> ClaimAmendmentPayload.builder().build());
+      when(claimAmendmentBatchService.submitAmendments(eq(SUBMISSION_ID), anyMap()))
+          .thenReturn(
+              List.of(
+                  new ClaimAmendmentBatchResult(amendedId, ClaimAmendmentResult.success(saved)),
+                  new ClaimAmendmentBatchResult(
+                      unchangedId,
+                      ClaimAmendmentResult.rejected(
+                          List.of(
+                              ClaimAmendmentValidationError.of(
+                                  ClaimAmendmentValidationCode
+                                      .NO_AMENDMENT_CHANGES_SUBMITTED)))),
+                  new ClaimAmendmentBatchResult(
+                      rejectedId,
+                      ClaimAmendmentResult.rejected(
+                          List.of(
+                              ClaimAmendmentValidationError.of(
+                                  ClaimAmendmentValidationCode.CLAIM_VERSION_CONFLICT))))));
+
+      ClaimBatchAmendmentResult result = claimService.amendClaims(SUBMISSION_ID, batchAmendment);
+
+      verify(claimAmendmentBatchService)
+          .submitAmendments(eq(SUBMISSION_ID), amendmentPayloadsCaptor.capture());
+      assertThat(amendmentPayloadsCaptor.getValue())
+          .containsOnlyKeys(amendedId, unchangedId, rejectedId);
+      assertThat(amendmentPayloadsCaptor.getValue().values())
+          .allSatisfy(payload -> assertThat(payload.getVersion().get()).isEqualTo(3L));
+
+      assertThat(result.getResults())
+          .extracting(ClaimAmendmentOutcome::getClaimId)
+          .containsExactly(amendedId, unchangedId, rejectedId);
+      assertThat(result.getResults())
+          .extracting(ClaimAmendmentOutcome::getOutcome, ClaimAmendmentOutcome::getStatus)
+          .containsExactly(
+              tuple(ClaimAmendmentOutcomeType.AMENDED, 204),
+              tuple(ClaimAmendmentOutcomeType.UNCHANGED, 204),
+              tuple(ClaimAmendmentOutcomeType.REJECTED, 409));
+      assertThat(result.getResults().getFirst().getAmendmentId()).isEqualTo(saved.getId());
+      assertThat(result.getResults().getLast().getErrors())
+          .singleElement()
+          .satisfies(
+              error ->
+                  assertThat(error.getCode())
+                      .isEqualTo(ClaimAmendmentValidationCode.CLAIM_VERSION_CONFLICT.toString()));
+    }
+
+    @Test
+    void shouldRejectClaimListedMoreThanOnce() {
+      ClaimBatchAmendment batchAmendment = batchAmendment(amendedId, amendedId);
+      when(submissionRepository.findById(SUBMISSION_ID))
+          .thenReturn(Optional.of(Submission.builder().id(SUBMISSION_ID).build()));
+      when(claimMapper.toAmendmentPayload(batchAmendment.getAmendment()))
+          .thenAnswer(invocation -> ClaimAmendmentPayload.builder().build());
+
+      assertThatThrownBy(() -> claimService.amendClaims(SUBMISSION_ID, batchAmendment))
+          .isInstanceOf(ClaimBadRequestException.class)
+          .hasMessageContaining(amendedId.toString());
+      verifyNoInteractions(claimAmendmentBatchService);
+    }
+
+    @Test
+    void shouldThrowWhenSubmissionNotFound() {
+      when(submissionRepository.findById(SUBMISSION_ID)).thenReturn(Optional.empty());
+
+      assertThatThrownBy(
+              () -> claimService.amendClaims(SUBMISSION_ID, batchAmendment(amendedId)))
+          .isInstanceOf(SubmissionNotFoundException.class);
+      verifyNoInteractions(claimAmendmentBatchService);
+    }
+  }
+
   @Nested
   @DisplayName("Void Claim Service Tests")
   class VoidClaimTests {
@@ -0,0 +1,134 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import uk.gov.justice.laa.dstew.payments.claimsdata.client.ExternalCallGuard;
+import uk.gov.justice.laa.dstew.payments.claimsdata.client.FeeSchemePlatformRestClient;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.CacheConfig;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.JacksonMappingConfig;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.TestResilienceConfig;
+import uk.gov.justice.laa.dstew.payments.claimsdata.provider.FeeCalculationProvider;
+import uk.gov.justice.laa.dstew.payments.claimsdata.provider.FeeCalculationRequestKeyGenerator;
+import uk.gov.justice.laa.fee.scheme.model.FeeCalculationRequest;
+import uk.gov.justice.laa.fee.scheme.model.FeeCalculationResponse;
+
+@SpringJUnitConfig(
+    classes = {
+      CacheConfig.class,
+      JacksonMappingConfig.class,
+      TestResilienceConfig.class,
+      ExternalCallGuard.class,
+      FeeCalculationProvider.class,
+      FeeCalculationRequestKeyGenerator.class
+    })
+@TestPropertySource(
+    properties = {
+      "laa.claims.api.amendments.fee-calculation-cache.ttl=5m",
+      "laa.claims.api.amendments.fee-calculation-cache.max-size=10"
+    })
+@DisplayName("FeeCalculationProvider caching")
+class FeeCalculationProviderCachingTest {
+
+  @MockitoBean private FeeSchemePlatformRestClient feeSchemePlatformRestClient;
+
+  @Autowired private FeeCalculationProvider provider;
+  @Autowired private FeeCalculationRequestKeyGenerator keyGenerator;
+  @Autowired private CacheManager cacheManager;
+
+  @BeforeEach
+  void clearCache() {
+    Objects.requireNonNull(cacheManager.getCache(FeeCalculationProvider.CACHE_NAME)).clear();
+  }
+
+  private static FeeCalculationRequest request(String feeCode, double netProfitCosts) {
+    return new FeeCalculationRequest().feeCode(feeCode).netProfitCosts(netProfitCosts);
+  }
+
+  @Test
+  @DisplayName("serves a repeated request with the same values from cache")
+  void servesRepeatedRequestFromCache() {
+    FeeCalculationResponse response = new FeeCalculationResponse().feeCode("FEE01");
+    when(feeSchemePlatformRestClient.calculateFee(any())).thenReturn(ResponseEntity.ok(response));
+
+    provider.calculateFee(request("FEE01", 100.5));
+    FeeCalculationResponse second = provider.calculateFee(request("FEE01", 100.5));
+
+    assertThat(second).isSameAs(response);
+    verify(feeSchemePlatformRestClient, times(1)).calculateFee(any());
+  }
+
+  @Test
+  @DisplayName("prices a request again when any of its values differ")
+  void pricesDifferentRequestAgain() {
+    when(feeSchemePlatformRestClient.calculateFee(any()))
+        .thenReturn(ResponseEntity.ok(new FeeCalculationResponse().feeCode("FEE01")));
+
+    provider.calculateFee(request("FEE01", 100.5));
+    provider.calculateFee(request("FEE01", 200.5));
+
+    verify(feeSchemePlatformRestClient, times(2)).calculateFee(any());
+  }
+
+  @Test
+  @DisplayName("does not cache an empty response, so the next request retries")
+  void doesNotCacheEmptyResponse() {
+    when(feeSchemePlatformRestClient.calculateFee(any())).thenReturn(ResponseEntity.ok().build());
+
+    provider.calculateFee(request("FEE01", 100.5));
+    provider.calculateFee(request("FEE01", 100.5));
+
+    verify(feeSchemePlatformRestClient, times(2)).calculateFee(any());
+  }
+
+  @Test
+  @DisplayName("shares one call between identical requests made at the same time")
+  void sharesOneCallBetweenConcurrentIdenticalRequests() throws Exception {
+    FeeCalculationResponse response = new FeeCalculationResponse().feeCode("FEE01");
+    CountDownLatch callStarted = new CountDownLatch(1);
+    CountDownLatch releaseCall = new CountDownLatch(1);
+    when(feeSchemePlatformRestClient.calculateFee(any()))
+        .thenAnswer(
+            invocation -> {
+              callStarted.countDown();
+              releaseCall.await(5, TimeUnit.SECONDS);
+              return ResponseEntity.ok(response);
+            });
+
+    CompletableFuture<FeeCalculationResponse> first =
+        CompletableFuture.supplyAsync(() -> provider.calculateFee(request("FEE01", 100.5)));
+    assertThat(callStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<FeeCalculationResponse> second =
+        CompletableFuture.supplyAsync(() -> provider.calculateFee(request("FEE01", 100.5)));
+    releaseCall.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(response);
+    assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(response);
+    verify(feeSchemePlatformRestClient, times(1)).calculateFee(any());
+  }
+
+  @Test
+  @DisplayName("keys requests by a stable hash of their values")
+  void keysRequestsByStableHash() {
+    String key = keyGenerator.keyOf(request("FEE01", 100.5));
+
+    assertThat(key).hasSize(64).isEqualTo(keyGenerator.keyOf(request("FEE01", 100.5)));
+    assertThat(keyGenerator.keyOf(request("FEE02", 100.5))).isNotEqualTo(key);
+  }
+}
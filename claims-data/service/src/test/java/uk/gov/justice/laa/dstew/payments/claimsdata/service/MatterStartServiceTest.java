@@ -22,6 +22,7 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.mapper.MatterStartMapper;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.CategoryCode;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.MatterStartGet;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.MatterStartPost;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.BatchInsertRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.MatterStartRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
@@ -32,6 +33,7 @@ class MatterStartServiceTest {
   @Mock private SubmissionRepository submissionRepository;
   @Mock private MatterStartRepository matterStartRepository;
   @Mock private MatterStartMapper matterStartMapper;
+  @Mock private BatchInsertRepository batchInsertRepository;
 
   @InjectMocks private MatterStartService matterStartService;
 
@@ -73,6 +75,49 @@ class MatterStartServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("createMatterStarts tests")
+  class CreateMatterStartsTests {
+
+    @Test
+    void shouldCreateMatterStartsWithOneSubmissionLookupAndOneBatchInsert() {
+      final UUID submissionId = Uuid7.timeBasedUuid();
+      final Submission submission = Submission.builder().id(submissionId).build();
+      final MatterStartPost first = new MatterStartPost().createdByUserId(API_USER_ID);
+      final MatterStartPost second = new MatterStartPost().createdByUserId(API_USER_ID);
+      final MatterStart firstMatterStart = MatterStart.builder().build();
+      final MatterStart secondMatterStart = MatterStart.builder().build();
+
+      when(submissionRepository.findById(submissionId)).thenReturn(Optional.of(submission));
+      when(matterStartMapper.toMatterStart(first)).thenReturn(firstMatterStart);
+      when(matterStartMapper.toMatterStart(second)).thenReturn(secondMatterStart);
+
+      final List<UUID> ids =
+          matterStartService.createMatterStarts(submissionId, List.of(first, second));
+
+      assertThat(ids).containsExactly(firstMatterStart.getId(), secondMatterStart.getId());
+      assertThat(secondMatterStart.getSubmission()).isSameAs(submission);
+      assertThat(secondMatterStart.getCreatedByUserId()).isEqualTo(API_USER_ID);
+      verify(submissionRepository).findById(submissionId);
+      verify(batchInsertRepository).insertAll(List.of(firstMatterStart, secondMatterStart));
+      verify(matterStartRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldThrowWhenSubmissionNotFound() {
+      final UUID missingSubmissionId = Uuid7.timeBasedUuid();
+
+      when(submissionRepository.findById(missingSubmissionId)).thenReturn(Optional.empty());
+
+      assertThatThrownBy(
+              () ->
+                  matterStartService.createMatterStarts(
+                      missingSubmissionId, List.of(new MatterStartPost())))
+          .isInstanceOf(SubmissionNotFoundException.class);
+      verifyNoInteractions(batchInsertRepository);
+    }
+  }
+
   @Nested
   @DisplayName("Get matter start IDs for submission tests")
   class GetMatterStartIdsForSubmissionTests {
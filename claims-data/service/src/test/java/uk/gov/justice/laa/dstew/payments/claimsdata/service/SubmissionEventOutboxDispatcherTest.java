@@ -0,0 +1,240 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.ClaimsApiProperties;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.SubmissionEventOutbox;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionEventOutboxRepository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
+import uk.gov.justice.laa.dstew.payments.claimsevent.model.SubmissionEventType;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubmissionEventOutboxDispatcher")
+class SubmissionEventOutboxDispatcherTest {
+
+  private static final String TOPIC_ARN = "arn:aws:sns:us-east-1:000000000000:claims-events";
+
+  @Mock private SubmissionEventOutboxStore outboxStore;
+  @Mock private SubmissionEventOutboxRepository outboxRepository;
+  @Mock private SnsAsyncClient snsAsyncClient;
+
+  private final ClaimsApiProperties properties = new ClaimsApiProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private SubmissionEventOutboxDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() {
+    dispatcher =
+        new SubmissionEventOutboxDispatcher(
+            outboxStore, outboxRepository, snsAsyncClient, properties, meterRegistry, TOPIC_ARN);
+  }
+
+  private static List<SubmissionEventOutbox> events(int count) {
+    Instant createdOn = Instant.now().minusSeconds(2);
+    return IntStream.range(0, count)
+        .mapToObj(
+            i ->
+                SubmissionEventOutbox.builder()
+                    .id(Uuid7.timeBasedUuid())
+                    .eventType(SubmissionEventType.VALIDATE_SUBMISSION)
+                    .messageBody("{\"submission_id\":\"" + i + "\"}")
+                    .createdOn(createdOn)
+                    .nextAttemptOn(createdOn)
+                    .build())
+        .toList();
+  }
+
+  private List<PublishBatchRequest> publishedRequests(int calls) {
+    ArgumentCaptor<PublishBatchRequest> captor = ArgumentCaptor.forClass(PublishBatchRequest.class);
+    verify(snsAsyncClient, times(calls)).publishBatch(captor.capture());
+    return captor.getAllValues();
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<UUID> deletedIds() {
+    ArgumentCaptor<Collection<UUID>> captor = ArgumentCaptor.forClass(Collection.class);
+    verify(outboxStore).recordOutcome(captor.capture(), any());
+    return List.copyOf(captor.getValue());
+  }
+
+  private static List<UUID> idsOf(List<SubmissionEventOutbox> events) {
+    return events.stream().map(SubmissionEventOutbox::getId).toList();
+  }
+
+  @Test
+  @DisplayName("publishes due events ten to a call and deletes them")
+  void publishesDueEventsInBatchesOfTen() {
+    List<SubmissionEventOutbox> due = events(25);
+    when(outboxStore.claimDue(100, Duration.ofMinutes(1))).thenReturn(due);
+    when(snsAsyncClient.publishBatch(any(PublishBatchRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(PublishBatchResponse.builder().build()));
+
+    assertThat(dispatcher.dispatch()).isEqualTo(25);
+
+    List<PublishBatchRequest> requests = publishedRequests(3);
+    assertThat(requests)
+        .extracting(request -> request.publishBatchRequestEntries().size())
+        .containsExactly(10, 10, 5);
+    PublishBatchRequestEntry first = requests.getFirst().publishBatchRequestEntries().getFirst();
+    assertThat(requests.getFirst().topicArn()).isEqualTo(TOPIC_ARN);
+    assertThat(first.id()).isEqualTo(due.getFirst().getId().toString());
+    assertThat(first.message()).isEqualTo(due.getFirst().getMessageBody());
+    assertThat(first.messageAttributes().get("SubmissionEventType").stringValue())
+        .isEqualTo(SubmissionEventType.VALIDATE_SUBMISSION.toString());
+    assertThat(deletedIds()).containsExactlyElementsOf(idsOf(due));
+    assertThat(meterRegistry.get(SubmissionEventOutboxDispatcher.LAG_METRIC).timer().count())
+        .isEqualTo(25);
+  }
+
+  @Test
+  @DisplayName("keeps an event SNS rejected and retries it after the initial backoff")
+  void reschedulesRejectedEvent() {
+    List<SubmissionEventOutbox> due = events(2);
+    SubmissionEventOutbox rejected = due.get(1);
+    when(outboxStore.claimDue(anyInt(), any())).thenReturn(due);
+    when(snsAsyncClient.publishBatch(any(PublishBatchRequest.class)))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                PublishBatchResponse.builder()
+                    .failed(
+                        BatchResultErrorEntry.builder()
+                            .id(rejected.getId().toString())
+                            .code("InternalError")
+                            .message("try again")
+                            .build())
+                    .build()));
+
+    Instant before = Instant.now();
+    assertThat(dispatcher.dispatch()).isEqualTo(1);
+
+    assertThat(deletedIds()).containsExactly(due.getFirst().getId());
+    verify(outboxStore).recordOutcome(any(), eq(List.of(rejected)));
+    assertThat(rejected.getAttempts()).isEqualTo(1);
+    assertThat(rejected.getLastError()).isEqualTo("InternalError: try again");
+    assertThat(rejected.getNextAttemptOn()).isAfterOrEqualTo(before.plusSeconds(5));
+    assertThat(
+            meterRegistry.get(SubmissionEventOutboxDispatcher.FAILURE_METRIC).counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("keeps every event of a call that failed")
+  void reschedulesEveryEventOfFailedCall() {
+    List<SubmissionEventOutbox> due = events(3);
+    when(outboxStore.claimDue(anyInt(), any())).thenReturn(due);
+    when(snsAsyncClient.publishBatch(any(PublishBatchRequest.class)))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("SNS unavailable")));
+
+    assertThat(dispatcher.dispatch()).isZero();
+
+    assertThat(deletedIds()).isEmpty();
+    assertThat(due)
+        .allSatisfy(
+            event -> {
+              assertThat(event.getAttempts()).isEqualTo(1);
+              assertThat(event.getLastError()).contains("SNS unavailable");
+              assertThat(event.getDeadLetteredOn()).isNull();
+            });
+  }
+
+  @Test
+  @DisplayName("counts an attempt for every event of a call that throws before it is made")
+  void reschedulesEveryEventOfCallThatThrows() {
+    List<SubmissionEventOutbox> due = events(2);
+    when(outboxStore.claimDue(anyInt(), any())).thenReturn(due);
+    when(snsAsyncClient.publishBatch(any(PublishBatchRequest.class)))
+        .thenThrow(new IllegalStateException("client closed"));
+
+    assertThat(dispatcher.dispatch()).isZero();
+
+    verify(outboxStore).recordOutcome(List.of(), due);
+    assertThat(due)
+        .allSatisfy(
+            event -> {
+              assertThat(event.getAttempts()).isEqualTo(1);
+              assertThat(event.getLastError()).contains("client closed");
+            });
+  }
+
+  @Test
+  @DisplayName("dead-letters an event once it has failed the maximum number of attempts")
+  void deadLettersEventAtMaxAttempts() {
+    properties.getEventOutbox().setMaxAttempts(3);
+    List<SubmissionEventOutbox> due = events(1);
+    SubmissionEventOutbox event = due.getFirst();
+    event.setAttempts(2);
+    when(outboxStore.claimDue(anyInt(), any())).thenReturn(due);
+    when(snsAsyncClient.publishBatch(any(PublishBatchRequest.class)))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("poison")));
+    when(outboxRepository.countByDeadLetteredOnIsNotNull()).thenReturn(1L);
+
+    assertThat(dispatcher.dispatch()).isZero();
+
+    assertThat(event.getAttempts()).isEqualTo(3);
+    assertThat(event.getDeadLetteredOn()).isNotNull();
+    verify(outboxStore).recordOutcome(List.of(), List.of(event));
+    assertThat(
+            meterRegistry.get(SubmissionEventOutboxDispatcher.DEAD_LETTER_METRIC).gauge().value())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("makes no SNS call when no event is due, and reports the backlog")
+  void makesNoCallWhenNothingDue() {
+    when(outboxStore.claimDue(anyInt(), any())).thenReturn(List.of());
+    when(outboxRepository.countByDeadLetteredOnIsNull()).thenReturn(4L);
+    when(outboxRepository.findOldestCreatedOn()).thenReturn(Instant.now().minusSeconds(60));
+
+    assertThat(dispatcher.dispatch()).isZero();
+
+    verifyNoInteractions(snsAsyncClient);
+    verify(outboxStore, never()).recordOutcome(any(), any());
+    assertThat(meterRegistry.get(SubmissionEventOutboxDispatcher.PENDING_METRIC).gauge().value())
+        .isEqualTo(4);
+    assertThat(
+            meterRegistry.get(SubmissionEventOutboxDispatcher.OLDEST_AGE_METRIC).gauge().value())
+        .isGreaterThanOrEqualTo(60);
+  }
+
+  @Test
+  @DisplayName("doubles the backoff with each attempt, up to the maximum")
+  void doublesBackoffUpToMaximum() {
+    ClaimsApiProperties.EventOutbox settings = properties.getEventOutbox();
+    settings.setInitialBackoff(Duration.ofSeconds(5));
+    settings.setMaxBackoff(Duration.ofSeconds(30));
+
+    assertThat(SubmissionEventOutboxDispatcher.backoff(1, settings)).hasSeconds(5);
+    assertThat(SubmissionEventOutboxDispatcher.backoff(2, settings)).hasSeconds(10);
+    assertThat(SubmissionEventOutboxDispatcher.backoff(3, settings)).hasSeconds(20);
+    assertThat(SubmissionEventOutboxDispatcher.backoff(4, settings)).hasSeconds(30);
+    assertThat(SubmissionEventOutboxDispatcher.backoff(50, settings)).hasSeconds(30);
+  }
+}
@@ -0,0 +1,78 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.SubmissionEventOutbox;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionEventOutboxRepository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubmissionEventOutboxStore")
+class SubmissionEventOutboxStoreTest {
+
+  @Mock private SubmissionEventOutboxRepository outboxRepository;
+
+  @InjectMocks private SubmissionEventOutboxStore outboxStore;
+
+  @Test
+  @DisplayName("leases the claimed events until the end of the lease")
+  void leasesClaimedEvents() {
+    SubmissionEventOutbox event = SubmissionEventOutbox.builder().id(Uuid7.timeBasedUuid()).build();
+    when(outboxRepository.lockDue(50)).thenReturn(List.of(event));
+
+    Instant before = Instant.now();
+    assertThat(outboxStore.claimDue(50, Duration.ofMinutes(1))).containsExactly(event);
+
+    ArgumentCaptor<Instant> until = ArgumentCaptor.forClass(Instant.class);
+    verify(outboxRepository).leaseUntil(eq(List.of(event.getId())), until.capture());
+    assertThat(until.getValue()).isAfterOrEqualTo(before.plusSeconds(60));
+  }
+
+  @Test
+  @DisplayName("leases nothing when no event is due")
+  void leasesNothingWhenNothingDue() {
+    when(outboxRepository.lockDue(50)).thenReturn(List.of());
+
+    assertThat(outboxStore.claimDue(50, Duration.ofMinutes(1))).isEmpty();
+
+    verify(outboxRepository, never()).leaseUntil(any(), any());
+  }
+
+  @Test
+  @DisplayName("deletes the published events and saves the failed ones")
+  void recordsOutcome() {
+    UUID publishedId = Uuid7.timeBasedUuid();
+    SubmissionEventOutbox failed =
+        SubmissionEventOutbox.builder().id(Uuid7.timeBasedUuid()).build();
+
+    outboxStore.recordOutcome(List.of(publishedId), List.of(failed));
+
+    verify(outboxRepository).deleteAllByIdInBatch(List.of(publishedId));
+    verify(outboxRepository).saveAll(List.of(failed));
+  }
+
+  @Test
+  @DisplayName("saves nothing when every event was published")
+  void savesNothingWhenNoneFailed() {
+    outboxStore.recordOutcome(List.of(Uuid7.timeBasedUuid()), List.of());
+
+    verify(outboxRepository, never()).saveAll(anyList());
+  }
+}
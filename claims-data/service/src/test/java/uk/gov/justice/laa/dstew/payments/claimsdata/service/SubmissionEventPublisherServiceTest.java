@@ -5,153 +5,100 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
-import software.amazon.awssdk.services.sns.SnsClient;
-import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
-import software.amazon.awssdk.services.sns.model.PublishRequest;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.SubmissionEventOutbox;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionEventOutboxRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
 import uk.gov.justice.laa.dstew.payments.claimsevent.model.SubmissionEventType;
 
 @ExtendWith(MockitoExtension.class)
 class SubmissionEventPublisherServiceTest {
 
-  @Mock private SnsClient snsClient;
+  @Mock private SubmissionEventOutboxRepository submissionEventOutboxRepository;
 
-  @InjectMocks
-  private SubmissionEventPublisherService
-      submissionEventPublisherService; // replace with your actual class name
+  private SubmissionEventPublisherService submissionEventPublisherService;
 
   @BeforeEach
   void setUp() {
     submissionEventPublisherService =
-        new SubmissionEventPublisherService(snsClient, new ObjectMapper());
+        new SubmissionEventPublisherService(submissionEventOutboxRepository, new ObjectMapper());
+  }
 
-    ReflectionTestUtils.setField(
-        submissionEventPublisherService,
-        "topicArn",
-        "arn:aws:sns:us-east-1:000000000000:claims-events");
+  private SubmissionEventOutbox savedEvent() {
+    var captor = forClass(SubmissionEventOutbox.class);
+    verify(submissionEventOutboxRepository).save(captor.capture());
+    verifyNoMoreInteractions(submissionEventOutboxRepository);
+    return captor.getValue();
   }
 
   @Test
-  void publish_BulkSubmissionEvent_sendsMessageWithCorrectPayload() {
-    // given an Sns topic
+  void publish_BulkSubmissionEvent_writesMessageWithCorrectPayloadToOutbox() {
+    // given some IDs
     UUID bulkSubmissionId = Uuid7.timeBasedUuid();
     UUID submissionId1 = Uuid7.timeBasedUuid();
     UUID submissionId2 = Uuid7.timeBasedUuid();
 
-    String topicArn = "arn:aws:sns:us-east-1:000000000000:claims-events";
-    // when publish is called with some IDs
+    // when publish is called with them
     submissionEventPublisherService.publishBulkSubmissionEvent(
         bulkSubmissionId, List.of(submissionId1, submissionId2));
 
-    // then the correct message is published to the topic
-    // Capture the actual Publish Request
-    var captor = forClass(PublishRequest.class);
-    verify(snsClient).publish(captor.capture());
-
-    PublishRequest publishRequest = captor.getValue();
+    // then the correct message is written to the outbox, due straight away
+    SubmissionEventOutbox event = savedEvent();
 
-    assertThat(publishRequest.topicArn()).isEqualTo(topicArn);
-    assertThat(publishRequest.message())
+    assertThat(event.getId()).isNotNull();
+    assertThat(event.getEventType()).isEqualTo(SubmissionEventType.PARSE_BULK_SUBMISSION);
+    assertThat(event.getMessageBody())
         .contains(bulkSubmissionId.toString())
         .contains(submissionId1.toString())
         .contains(submissionId2.toString());
-
-    MessageAttributeValue expectedAttributeValue =
-        MessageAttributeValue.builder()
-            .dataType("String")
-            .stringValue(SubmissionEventType.PARSE_BULK_SUBMISSION.toString())
-            .build();
-    assertThat(publishRequest.messageAttributes())
-        .containsEntry("SubmissionEventType", expectedAttributeValue);
-
-    verifyNoMoreInteractions(snsClient);
+    assertThat(event.getAttempts()).isZero();
+    assertThat(event.getNextAttemptOn()).isEqualTo(event.getCreatedOn()).isNotNull();
   }
 
   @Test
-  void publish_ValidateSubmissionEvent_sendsMessageWithCorrectPayload() {
-    // given an Sns queue
+  void publish_ValidateSubmissionEvent_writesMessageWithCorrectPayloadToOutbox() {
     UUID submissionId = Uuid7.timeBasedUuid();
 
-    String topicArn = "arn:aws:sns:us-east-1:000000000000:claims-events";
-
-    // when publish is called with some IDs
     submissionEventPublisherService.publishSubmissionValidationEvent(submissionId);
 
-    // then the correct message is published to the topic
-    // Capture the actual Publish Request
-    var captor = forClass(PublishRequest.class);
-    verify(snsClient).publish(captor.capture());
-
-    PublishRequest publishRequest = captor.getValue();
-
-    assertThat(publishRequest.topicArn()).isEqualTo(topicArn);
-    assertThat(publishRequest.message()).contains(submissionId.toString());
-
-    MessageAttributeValue expectedAttributeValue =
-        MessageAttributeValue.builder()
-            .dataType("String")
-            .stringValue(SubmissionEventType.VALIDATE_SUBMISSION.toString())
-            .build();
-    assertThat(publishRequest.messageAttributes())
-        .containsEntry("SubmissionEventType", expectedAttributeValue);
-
-    verifyNoMoreInteractions(snsClient);
+    SubmissionEventOutbox event = savedEvent();
+    assertThat(event.getEventType()).isEqualTo(SubmissionEventType.VALIDATE_SUBMISSION);
+    assertThat(event.getMessageBody()).contains(submissionId.toString());
   }
 
   @Test
-  void publish_ValidationSucceededEvent_sendsMessageWithCorrectPayload() {
-    // given an Sns queue
+  void publish_ValidationSucceededEvent_writesMessageWithCorrectPayloadToOutbox() {
     UUID submissionId = Uuid7.timeBasedUuid();
 
-    String topicArn = "arn:aws:sns:us-east-1:000000000000:claims-events";
-
-    // when publish is called with some IDs
     submissionEventPublisherService.publishSubmissionValidationSucceededEvent(submissionId);
 
-    // then the correct message is published to the topic
-    // Capture the actual Publish Request
-    var captor = forClass(PublishRequest.class);
-    verify(snsClient).publish(captor.capture());
-
-    PublishRequest publishRequest = captor.getValue();
-
-    assertThat(publishRequest.topicArn()).isEqualTo(topicArn);
-    assertThat(publishRequest.message()).contains(submissionId.toString());
-
-    MessageAttributeValue expectedAttributeValue =
-        MessageAttributeValue.builder()
-            .dataType("String")
-            .stringValue(SubmissionEventType.SUBMISSION_VALIDATION_SUCCEEDED.toString())
-            .build();
-    assertThat(publishRequest.messageAttributes())
-        .containsEntry("SubmissionEventType", expectedAttributeValue);
-
-    verifyNoMoreInteractions(snsClient);
+    SubmissionEventOutbox event = savedEvent();
+    assertThat(event.getEventType())
+        .isEqualTo(SubmissionEventType.SUBMISSION_VALIDATION_SUCCEEDED);
+    assertThat(event.getMessageBody()).contains(submissionId.toString());
   }
 
   @Test
-  void publish_ValidationSucceededEvent_doesNotThrowWhenPublishFails() {
-    // given an Sns queue
-    UUID submissionId = Uuid7.timeBasedUuid();
+  void publish_ValidationSucceededEvent_doesNotThrowWhenMessageCannotBeCreated() throws Exception {
+    // given a message that cannot be serialized
+    ObjectMapper objectMapper = mock(ObjectMapper.class);
+    when(objectMapper.writeValueAsString(any()))
+        .thenThrow(new JsonProcessingException("cannot serialize") {});
+    submissionEventPublisherService =
+        new SubmissionEventPublisherService(submissionEventOutboxRepository, objectMapper);
 
-    // simulate an error
-    doThrow(new RuntimeException("SNS unavailable"))
-        .when(snsClient)
-        .publish(any(PublishRequest.class));
     assertDoesNotThrow(
         () ->
             submissionEventPublisherService.publishSubmissionValidationSucceededEvent(
-                submissionId));
-    verify(snsClient).publish(any(PublishRequest.class));
+                Uuid7.timeBasedUuid()));
+    verifyNoInteractions(submissionEventOutboxRepository);
   }
 }
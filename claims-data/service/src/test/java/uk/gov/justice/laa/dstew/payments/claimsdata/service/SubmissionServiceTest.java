@@ -1,6 +1,7 @@
 package uk.gov.justice.laa.dstew.payments.claimsdata.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,6 +38,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import uk.gov.justice.laa.dstew.payments.claims.validation.core.model.ValidationIssue;
@@ -44,6 +47,7 @@ import uk.gov.justice.laa.dstew.payments.claims.validation.core.model.Validation
 import uk.gov.justice.laa.dstew.payments.claims.validation.core.model.ValidationSeverity;
 import uk.gov.justice.laa.dstew.payments.claims.validation.core.service.ValidationService;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Submission;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.SubmissionTotals;
 import uk.gov.justice.laa.dstew.payments.claimsdata.entity.ValidationMessageLog;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.DuplicateSubmissionException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.exception.SubmissionBadRequestException;
@@ -62,6 +66,7 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.model.SubmissionsResultSet;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ValidationMessagePatch;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ValidationMessageType;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionRepository;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionTotalsRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.repository.ValidationMessageLogRepository;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.ClaimsDataTestUtil;
 import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
@@ -78,6 +83,7 @@ class SubmissionServiceTest {
   @Mock private SubmissionsResultSetMapper submissionsResultSetMapper;
   @Mock private SubmissionEventPublisherService submissionEventPublisherService;
   @Mock private AssessmentService assessmentService;
+  @Mock private SubmissionTotalsRepository submissionTotalsRepository;
 
   @InjectMocks private SubmissionService submissionService;
 
@@ -314,6 +320,30 @@ class SubmissionServiceTest {
     assertThat(result.getCalculatedTotalAmount()).isNull();
   }
 
+  @Test
+  @DisplayName("Should retrieve submission totals from the maintained submission totals")
+  void shouldGetSubmissionTotalsFromSubmissionTotals() {
+    Submission entity = ClaimsDataTestUtil.getSubmission();
+    when(submissionRepository.findById(SUBMISSION_ID)).thenReturn(Optional.of(entity));
+    when(claimService.getClaimsForSubmission(SUBMISSION_ID)).thenReturn(List.of());
+    when(matterStartService.getMatterStartIdsForSubmission(SUBMISSION_ID)).thenReturn(List.of());
+    when(submissionTotalsRepository.findById(SUBMISSION_ID))
+        .thenReturn(
+            Optional.of(
+                SubmissionTotals.builder()
+                    .submissionId(SUBMISSION_ID)
+                    .calculatedTotalAmount(new BigDecimal("12.345"))
+                    .calculatedClaimCount(1)
+                    .build()));
+
+    SubmissionResponse result = submissionService.getSubmission(SUBMISSION_ID);
+
+    assertThat(result.getCalculatedTotalAmount()).isEqualTo(new BigDecimal("12.35"));
+    assertThat(result.getAssessedTotalAmount()).isNull();
+    verify(submissionRepository, never()).getCalculatedTotalAmount(any());
+    verify(assessmentService, never()).getAssessedTotalAmount(any());
+  }
+
   @Test
   @DisplayName(
       "Should retrieve submission with a null assessed total amount when no assessment records exist")
@@ -579,6 +609,59 @@ class SubmissionServiceTest {
         .getCalculatedTotalAmounts(Collections.singletonList(submissionBase.getSubmissionId()));
   }
 
+  @Test
+  @DisplayName("Should take page totals from submission totals and count only the rest")
+  void getSubmissionsResultSet_whenSubmissionTotalsExist_shouldOnlyCountTheRest() {
+    UUID countedId = UUID.randomUUID();
+    UUID uncountedId = UUID.randomUUID();
+    var counted = new Submission();
+    counted.setId(countedId);
+    var uncounted = new Submission();
+    uncounted.setId(uncountedId);
+    Page<Submission> resultPage = new PageImpl<>(List.of(counted, uncounted));
+    when(submissionRepository.findAll(any(Specification.class), any(Pageable.class)))
+        .thenReturn(resultPage);
+    when(submissionsResultSetMapper.toSubmissionsResultSet(resultPage))
+        .thenReturn(
+            new SubmissionsResultSet()
+                .content(
+                    List.of(
+                        SubmissionBase.builder().submissionId(countedId).build(),
+                        SubmissionBase.builder().submissionId(uncountedId).build())));
+    when(submissionTotalsRepository.findAllById(List.of(countedId, uncountedId)))
+        .thenReturn(
+            List.of(
+                SubmissionTotals.builder()
+                    .submissionId(countedId)
+                    .calculatedTotalAmount(new BigDecimal("10"))
+                    .calculatedClaimCount(1)
+                    .assessedTotalAmount(new BigDecimal("5"))
+                    .assessedClaimCount(1)
+                    .build()));
+    when(assessmentService.getAssessedTotalAmounts(List.of(uncountedId)))
+        .thenReturn(Map.of(uncountedId, new BigDecimal("1")));
+    when(submissionRepository.getCalculatedTotalAmounts(List.of(uncountedId)))
+        .thenReturn(getCalcTotalsProjection(uncountedId, new BigDecimal("2")));
+
+    var actualResultSet =
+        submissionService.getSubmissionsResultSet(
+            OFFICE_CODES,
+            SUBMISSION_ID.toString(),
+            SUBMITTED_DATE_FROM,
+            SUBMITTED_DATE_TO,
+            AREA_OF_LAW,
+            SUBMISSION_PERIOD,
+            SUBMISSION_STATUSES,
+            Pageable.ofSize(10).withPage(0));
+
+    assertThat(actualResultSet.getContent())
+        .extracting(
+            SubmissionBase::getCalculatedTotalAmount, SubmissionBase::getAssessedTotalAmount)
+        .containsExactly(
+            tuple(new BigDecimal("10.00"), new BigDecimal("5.00")),
+            tuple(new BigDecimal("2.00"), new BigDecimal("1.00")));
+  }
+
   @Test
   @DisplayName(
       "Should bypass fetching totals downstream and return empty set structure when query yields no results")
@@ -639,6 +722,39 @@ class SubmissionServiceTest {
     assertThat(submissionSpecificationArgumentCaptor.getValue()).isNotNull();
   }
 
+  @Test
+  @DisplayName("Should read a slice without counting the submissions when no total is requested")
+  void getSubmissionsResultSet_withoutTotal_shouldReadASliceWithoutCounting() {
+    var submission = new Submission();
+    submission.setId(UUID.randomUUID());
+    Slice<Submission> resultSlice =
+        new SliceImpl<>(List.of(submission), PageRequest.of(0, 1), false);
+    when(submissionRepository.findBy(any(Specification.class), any())).thenReturn(resultSlice);
+
+    var expectedResultSet =
+        new SubmissionsResultSet()
+            .content(List.of(SubmissionBase.builder().submissionId(submission.getId()).build()))
+            .hasNext(false);
+    when(submissionsResultSetMapper.toSubmissionsResultSet(resultSlice))
+        .thenReturn(expectedResultSet);
+
+    var actualResultSet =
+        submissionService.getSubmissionsResultSet(
+            OFFICE_CODES,
+            SUBMISSION_ID.toString(),
+            SUBMITTED_DATE_FROM,
+            SUBMITTED_DATE_TO,
+            AREA_OF_LAW,
+            SUBMISSION_PERIOD,
+            SUBMISSION_STATUSES,
+            Pageable.ofSize(1).withPage(0),
+            false);
+
+    assertThat(actualResultSet).isSameAs(expectedResultSet);
+    verify(submissionRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    verify(assessmentService).getAssessedTotalAmounts(List.of(submission.getId()));
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {"createdOn", "areaOfLaw", "status"})
   @DisplayName(
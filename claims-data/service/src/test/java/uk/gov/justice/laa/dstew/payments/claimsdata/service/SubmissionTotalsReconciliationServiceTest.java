@@ -0,0 +1,68 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.ClaimsApiProperties;
+import uk.gov.justice.laa.dstew.payments.claimsdata.repository.SubmissionTotalsRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionTotalsReconciliationServiceTest {
+
+  private static final UUID FIRST_ID = new UUID(0L, 0L);
+  private static final int BATCH_SIZE = 2;
+
+  @Mock private SubmissionTotalsRepository submissionTotalsRepository;
+
+  private SubmissionTotalsReconciliationService reconciliationService;
+
+  @BeforeEach
+  void setUp() {
+    ClaimsApiProperties properties = new ClaimsApiProperties();
+    properties.getSubmissionTotals().getReconciliation().setBatchSize(BATCH_SIZE);
+    reconciliationService =
+        new SubmissionTotalsReconciliationService(submissionTotalsRepository, properties);
+  }
+
+  @Test
+  void reconcileAll_walksEverySubmissionInBatches_andCountsCorrections() {
+    UUID first = new UUID(0L, 1L);
+    UUID second = new UUID(0L, 2L);
+    UUID third = new UUID(0L, 3L);
+    when(submissionTotalsRepository.findSubmissionIdsAfter(FIRST_ID, BATCH_SIZE))
+        .thenReturn(List.of(first, second));
+    when(submissionTotalsRepository.findSubmissionIdsAfter(second, BATCH_SIZE))
+        .thenReturn(List.of(third));
+    when(submissionTotalsRepository.findSubmissionIdsAfter(third, BATCH_SIZE))
+        .thenReturn(List.of());
+    when(submissionTotalsRepository.reconcile(first)).thenReturn(false);
+    when(submissionTotalsRepository.reconcile(second)).thenReturn(true);
+    when(submissionTotalsRepository.reconcile(third)).thenReturn(false);
+
+    int corrected = reconciliationService.reconcileAll();
+
+    assertThat(corrected).isEqualTo(1);
+    verify(submissionTotalsRepository).reconcile(first);
+    verify(submissionTotalsRepository).reconcile(second);
+    verify(submissionTotalsRepository).reconcile(third);
+  }
+
+  @Test
+  void reconcileAll_withoutSubmissions_correctsNothing() {
+    when(submissionTotalsRepository.findSubmissionIdsAfter(FIRST_ID, BATCH_SIZE))
+        .thenReturn(List.of());
+
+    assertThat(reconciliationService.reconcileAll()).isZero();
+    verify(submissionTotalsRepository, never()).reconcile(any());
+  }
+}
@@ -0,0 +1,230 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.OptimisticLockException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.justice.laa.dstew.payments.claimsdata.config.ClaimsApiProperties;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentBatchResult;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentPayload;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentState;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentValidationCode;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentValidationError;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimStateSnapshot;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.PreparedAmendment;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Claim;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.ClaimAmendment;
+import uk.gov.justice.laa.dstew.payments.claimsdata.util.Uuid7;
+
+/**
+ * Tests for {@link ClaimAmendmentBatchService#submitAmendments}: the per-claim outcomes of a batch
+ * amendment, and the grouped commits with their per-claim fallback when a group fails.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClaimAmendmentBatchService Tests")
+class ClaimAmendmentBatchServiceTest {
+
+  private static final UUID SUBMISSION_ID = Uuid7.timeBasedUuid();
+
+  @Mock private ClaimAmendmentPreparationService preparationService;
+  @Mock private ClaimAmendmentValidationService validationService;
+  @Mock private ClaimAmendmentCommitService commitService;
+
+  private ClaimAmendmentBatchService service;
+
+  @BeforeEach
+  void setUp() {
+    ClaimsApiProperties claimsApiProperties = new ClaimsApiProperties();
+    claimsApiProperties.getAmendments().getBatch().setMaxConcurrency(2);
+    claimsApiProperties.getAmendments().getBatch().setCommitGroupSize(2);
+    service =
+        new ClaimAmendmentBatchService(
+            preparationService, validationService, commitService, claimsApiProperties);
+  }
+
+  private static PreparedAmendment prepared(UUID claimId) {
+    return new PreparedAmendment(
+        Claim.builder().id(claimId).build(),
+        ClaimAmendmentState.builder()
+            .beforeState(ClaimStateSnapshot.builder().claimId(claimId).build())
+            .build());
+  }
+
+  private static ClaimAmendment amendment() {
+    return ClaimAmendment.builder().id(Uuid7.timeBasedUuid()).build();
+  }
+
+  private static Map<UUID, ClaimAmendmentPayload> payloads(UUID... claimIds) {
+    Map<UUID, ClaimAmendmentPayload> payloads = new LinkedHashMap<>();
+    for (UUID claimId : claimIds) {
+      payloads.put(claimId, ClaimAmendmentPayload.builder().build());
+    }
+    return payloads;
+  }
+
+  @Test
+  @DisplayName("commits valid claims and rejects invalid and unknown ones, in request order")
+  void returnsOutcomePerClaimInRequestOrder() {
+    UUID validId = Uuid7.timeBasedUuid();
+    UUID invalidId = Uuid7.timeBasedUuid();
+    UUID unknownId = Uuid7.timeBasedUuid();
+    Map<UUID, ClaimAmendmentPayload> payloads = payloads(unknownId, invalidId, validId);
+    PreparedAmendment valid = prepared(validId);
+    PreparedAmendment invalid = prepared(invalidId);
+    Map<UUID, PreparedAmendment> prepared = new LinkedHashMap<>();
+    prepared.put(validId, valid);
+    prepared.put(invalidId, invalid);
+    ClaimAmendmentValidationError error =
+        ClaimAmendmentValidationError.of(
+            ClaimAmendmentValidationCode.INVALID_USER_IDENTIFIER_MISSING);
+    ClaimAmendment saved = amendment();
+    when(preparationService.prepareAll(SUBMISSION_ID, payloads)).thenReturn(prepared);
+    when(validationService.validateAmendmentRequest(valid.state())).thenReturn(List.of());
+    when(validationService.validateAmendmentRequest(invalid.state())).thenReturn(List.of(error));
+    when(commitService.commitAll(List.of(valid))).thenReturn(List.of(saved));
+
+    List<ClaimAmendmentBatchResult> results = service.submitAmendments(SUBMISSION_ID, payloads);
+
+    assertThat(results)
+        .extracting(ClaimAmendmentBatchResult::claimId)
+        .containsExactly(unknownId, invalidId, validId);
+    assertThat(results.get(0).result().errors())
+        .extracting(ClaimAmendmentValidationError::getCode)
+        .containsExactly(ClaimAmendmentValidationCode.INVALID_CLAIM_NOT_FOUND.toString());
+    assertThat(results.get(1).result().errors()).containsExactly(error);
+    assertThat(results.get(2).result().amendment()).isSameAs(saved);
+  }
+
+  @Test
+  @DisplayName("commits a group with a version conflict one claim at a time")
+  void fallsBackToSingleCommitsOnVersionConflict() {
+    UUID firstId = Uuid7.timeBasedUuid();
+    UUID conflictingId = Uuid7.timeBasedUuid();
+    UUID lastId = Uuid7.timeBasedUuid();
+    Map<UUID, ClaimAmendmentPayload> payloads = payloads(firstId, conflictingId, lastId);
+    PreparedAmendment first = prepared(firstId);
+    PreparedAmendment conflicting = prepared(conflictingId);
+    PreparedAmendment last = prepared(lastId);
+    Map<UUID, PreparedAmendment> prepared = new LinkedHashMap<>();
+    prepared.put(firstId, first);
+    prepared.put(conflictingId, conflicting);
+    prepared.put(lastId, last);
+    ClaimAmendment firstSaved = amendment();
+    ClaimAmendment lastSaved = amendment();
+    when(preparationService.prepareAll(SUBMISSION_ID, payloads)).thenReturn(prepared);
+    when(validationService.validateAmendmentRequest(first.state())).thenReturn(List.of());
+    when(validationService.validateAmendmentRequest(conflicting.state())).thenReturn(List.of());
+    when(validationService.validateAmendmentRequest(last.state())).thenReturn(List.of());
+    when(commitService.commitAll(List.of(first, conflicting)))
+        .thenThrow(new OptimisticLockException("conflict"));
+    when(commitService.commit(first.claim(), first.state())).thenReturn(firstSaved);
+    when(commitService.commit(conflicting.claim(), conflicting.state()))
+        .thenThrow(new OptimisticLockException("conflict"));
+    when(commitService.commitAll(List.of(last))).thenReturn(List.of(lastSaved));
+
+    List<ClaimAmendmentBatchResult> results = service.submitAmendments(SUBMISSION_ID, payloads);
+
+    assertThat(results.get(0).result().amendment()).isSameAs(firstSaved);
+    assertThat(results.get(1).result().errors())
+        .extracting(ClaimAmendmentValidationError::getCode)
+        .containsExactly(ClaimAmendmentValidationCode.CLAIM_VERSION_CONFLICT.toString());
+    assertThat(results.get(2).result().amendment()).isSameAs(lastSaved);
+    verify(commitService, never()).commit(last.claim(), last.state());
+  }
+
+  @Test
+  @DisplayName("commits a group that fails one claim at a time and still commits the later groups")
+  void fallsBackToSingleCommitsOnGroupFailureAndCarriesOn() {
+    UUID firstId = Uuid7.timeBasedUuid();
+    UUID failingId = Uuid7.timeBasedUuid();
+    UUID lastId = Uuid7.timeBasedUuid();
+    Map<UUID, ClaimAmendmentPayload> payloads = payloads(firstId, failingId, lastId);
+    PreparedAmendment first = prepared(firstId);
+    PreparedAmendment failing = prepared(failingId);
+    PreparedAmendment last = prepared(lastId);
+    Map<UUID, PreparedAmendment> prepared = new LinkedHashMap<>();
+    prepared.put(firstId, first);
+    prepared.put(failingId, failing);
+    prepared.put(lastId, last);
+    ClaimAmendment firstSaved = amendment();
+    ClaimAmendment lastSaved = amendment();
+    when(preparationService.prepareAll(SUBMISSION_ID, payloads)).thenReturn(prepared);
+    when(validationService.validateAmendmentRequest(first.state())).thenReturn(List.of());
+    when(validationService.validateAmendmentRequest(failing.state())).thenReturn(List.of());
+    when(validationService.validateAmendmentRequest(last.state())).thenReturn(List.of());
+    when(commitService.commitAll(List.of(first, failing)))
+        .thenThrow(new IllegalStateException("constraint violated"));
+    when(commitService.commit(first.claim(), first.state())).thenReturn(firstSaved);
+    when(commitService.commit(failing.claim(), failing.state()))
+        .thenThrow(new IllegalStateException("constraint violated"));
+    when(commitService.commitAll(List.of(last))).thenReturn(List.of(lastSaved));
+
+    List<ClaimAmendmentBatchResult> results = service.submitAmendments(SUBMISSION_ID, payloads);
+
+    assertThat(results.get(0).result().amendment()).isSameAs(firstSaved);
+    assertThat(results.get(1).result().errors())
+        .extracting(ClaimAmendmentValidationError::getCode)
+        .containsExactly(ClaimAmendmentValidationCode.CLAIM_AMENDMENT_COMMIT_FAILED.toString());
+    assertThat(results.get(2).result().amendment()).isSameAs(lastSaved);
+  }
+
+  @Test
+  @DisplayName("rejects a claim whose validation throws and still commits the others")
+  void rejectsClaimWhoseValidationThrows() {
+    UUID failingId = Uuid7.timeBasedUuid();
+    UUID validId = Uuid7.timeBasedUuid();
+    Map<UUID, ClaimAmendmentPayload> payloads = payloads(failingId, validId);
+    PreparedAmendment failing = prepared(failingId);
+    PreparedAmendment valid = prepared(validId);
+    Map<UUID, PreparedAmendment> prepared = new LinkedHashMap<>();
+    prepared.put(failingId, failing);
+    prepared.put(validId, valid);
+    ClaimAmendment saved = amendment();
+    when(preparationService.prepareAll(SUBMISSION_ID, payloads)).thenReturn(prepared);
+    when(validationService.validateAmendmentRequest(failing.state()))
+        .thenThrow(new IllegalStateException("circuit breaker open"));
+    when(validationService.validateAmendmentRequest(valid.state())).thenReturn(List.of());
+    when(commitService.commitAll(List.of(valid))).thenReturn(List.of(saved));
+
+    List<ClaimAmendmentBatchResult> results = service.submitAmendments(SUBMISSION_ID, payloads);
+
+    assertThat(results.get(0).result().errors())
+        .extracting(ClaimAmendmentValidationError::getCode)
+        .containsExactly(
+            ClaimAmendmentValidationCode.CLAIM_AMENDMENT_VALIDATION_FAILED.toString());
+    assertThat(results.get(1).result().amendment()).isSameAs(saved);
+  }
+
+  @Test
+  @DisplayName("commits nothing when no claim passes validation")
+  void commitsNothingWhenAllRejected() {
+    UUID claimId = Uuid7.timeBasedUuid();
+    Map<UUID, ClaimAmendmentPayload> payloads = payloads(claimId);
+    PreparedAmendment amendment = prepared(claimId);
+    when(preparationService.prepareAll(SUBMISSION_ID, payloads))
+        .thenReturn(Map.of(claimId, amendment));
+    when(validationService.validateAmendmentRequest(amendment.state()))
+        .thenReturn(
+            List.of(
+                ClaimAmendmentValidationError.of(
+                    ClaimAmendmentValidationCode.INVALID_USER_IDENTIFIER_MISSING)));
+
+    List<ClaimAmendmentBatchResult> results = service.submitAmendments(SUBMISSION_ID, payloads);
+
+    assertThat(results.getFirst().result().isSuccess()).isFalse();
+    verify(commitService, never()).commitAll(anyList());
+  }
+}
@@ -11,6 +11,10 @@ import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,7 +22,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.justice.laa.dstew.payments.claims.validation.core.service.ValidationService;
-import uk.gov.justice.laa.dstew.payments.claimsdata.client.FeeSchemePlatformRestClient;
+import uk.gov.justice.laa.dstew.payments.claimsdata.client.ExternalCallGuard;
 import uk.gov.justice.laa.dstew.payments.claimsdata.config.ClaimsApiProperties;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentState;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentValidationCode;
@@ -29,6 +33,7 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.mapper.ValidationClaimMapper
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.AreaOfLaw;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimStatus;
 import uk.gov.justice.laa.dstew.payments.claimsdata.provider.AmendmentReferenceDataProvider;
+import uk.gov.justice.laa.dstew.payments.claimsdata.provider.FeeCalculationProvider;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.fee.FeeSchemeRequestBuilder;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.persistence.AmendmentChangeDetector;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.persistence.AmendmentDiffAssembler;
@@ -64,9 +69,10 @@ class ClaimAmendmentValidationServiceTest {
   @Mock private ValidationService validationService;
   @Mock private AmendmentDiffAssembler diffAssembler;
   @Mock private ValidationClaimMapper validationClaimMapper;
+  @Mock private ExternalCallGuard externalCallGuard;
 
   @Mock private FeeSchemeRequestBuilder requestBuilder;
-  @Mock private FeeSchemePlatformRestClient fspClient;
+  @Mock private FeeCalculationProvider feeCalculationProvider;
   @Mock private ClaimStateSnapshotMapper claimStateSnapshotMapper;
   @InjectMocks private AmendmentFspValidationStep amendmentFspValidationStep;
 
@@ -75,6 +81,33 @@ class ClaimAmendmentValidationServiceTest {
     return new ClaimAmendmentValidationService(steps);
   }
 
+  private static ClaimAmendmentValidationStep independent(ClaimAmendmentValidationStep step) {
+    return new ClaimAmendmentValidationStep() {
+      @Override
+      public List<ClaimAmendmentValidationError> validate(ClaimAmendmentState state) {
+        return step.validate(state);
+      }
+
+      @Override
+      public boolean isIndependent() {
+        return true;
+      }
+    };
+  }
+
+  private static void await(CyclicBarrier barrier) {
+    try {
+      barrier.await(5, TimeUnit.SECONDS);
+    } catch (Exception e) {
+      throw new IllegalStateException("Steps did not run concurrently", e);
+    }
+  }
+
+  private static ClaimAmendmentValidationError nonFatal() {
+    return ClaimAmendmentValidationError.of(
+        ClaimAmendmentValidationCode.INVALID_FSP_VALIDATION_FAILURE, "rejected");
+  }
+
   private static ClaimAmendmentState anyState() {
     return ClaimAmendmentState.builder().beforeState(ClaimStateSnapshot.builder().build()).build();
   }
@@ -146,8 +179,9 @@ class ClaimAmendmentValidationServiceTest {
                 new AmendmentUserIdValidationStep(),
                 new AmendmentReferenceValidationStep(amendmentReferenceDataProvider),
                 new AmendmentExternalValidationStep(
-                    validationService, diffAssembler, validationClaimMapper),
-                amendmentFspValidationStep));
+                    validationService, diffAssembler, validationClaimMapper, externalCallGuard),
+                amendmentFspValidationStep),
+            claimsApiProperties);
 
     assertThatCode(() -> service.validateAmendmentRequest(anyState())).doesNotThrowAnyException();
   }
@@ -155,7 +189,8 @@ class ClaimAmendmentValidationServiceTest {
   @Test
   @DisplayName("fails fast when a declared step has no matching bean")
   void failsFastWhenDeclaredStepHasNoBean() {
-    assertThatThrownBy(() -> new ClaimAmendmentValidationService(List.of()))
+    assertThatThrownBy(
+            () -> new ClaimAmendmentValidationService(List.of(), new ClaimsApiProperties()))
         .isInstanceOf(IllegalStateException.class)
         .hasMessageContaining("No bean found for declared amendment validation step");
   }
@@ -207,4 +242,168 @@ class ClaimAmendmentValidationServiceTest {
     // Ensure the FSP step (later in the sequence) was never invoked.
     verify(fspMock, never()).validate(any());
   }
+
+  @Test
+  @DisplayName("the external PDA and FSP steps are independent")
+  void externalStepsAreIndependent() {
+    assertThat(
+            new AmendmentExternalValidationStep(
+                    validationService, diffAssembler, validationClaimMapper, externalCallGuard)
+                .isIndependent())
+        .isTrue();
+    assertThat(amendmentFspValidationStep.isIndependent()).isTrue();
+    assertThat(new ClaimStatusValidationStep().isIndependent()).isFalse();
+  }
+
+  @Test
+  @DisplayName("runs adjacent independent steps concurrently")
+  void runsIndependentStepsConcurrently() {
+    // Each step waits for the other at the barrier, which only both running at once can pass.
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    ClaimAmendmentValidationStep first =
+        independent(
+            state -> {
+              await(barrier);
+              return List.of();
+            });
+    ClaimAmendmentValidationStep second =
+        independent(
+            state -> {
+              await(barrier);
+              return List.of();
+            });
+
+    assertThat(orchestratorWith(first, second).validateAmendmentRequest(anyState())).isEmpty();
+  }
+
+  @Test
+  @DisplayName("collects concurrent errors in declared order, whichever step finishes first")
+  void collectsConcurrentErrorsInDeclaredOrder() {
+    ClaimAmendmentValidationError firstError =
+        ClaimAmendmentValidationError.of(
+            ClaimAmendmentValidationCode.INVALID_FSP_VALIDATION_FAILURE, "first");
+    ClaimAmendmentValidationError secondError =
+        ClaimAmendmentValidationError.of(
+            ClaimAmendmentValidationCode.INVALID_FSP_VALIDATION_FAILURE, "second");
+    CountDownLatch secondFinished = new CountDownLatch(1);
+    ClaimAmendmentValidationStep first =
+        independent(
+            state -> {
+              try {
+                secondFinished.await(5, TimeUnit.SECONDS);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              return List.of(firstError);
+            });
+    ClaimAmendmentValidationStep second =
+        independent(
+            state -> {
+              secondFinished.countDown();
+              return List.of(secondError);
+            });
+
+    // The second step is run again once the first step's error is collected; it returns the same
+    // error either way.
+    assertThat(orchestratorWith(first, second).validateAmendmentRequest(anyState()))
+        .containsExactly(firstError, secondError);
+  }
+
+  @Test
+  @DisplayName("discards later concurrent results after a fatal error")
+  void discardsLaterConcurrentResultsAfterFatal() {
+    ClaimAmendmentValidationError fatal =
+        ClaimAmendmentValidationError.of(
+            ClaimAmendmentValidationCode.INVALID_VOIDED_CLAIM_NOT_AMENDABLE);
+    AtomicInteger secondRuns = new AtomicInteger();
+    ClaimAmendmentValidationStep first = independent(state -> List.of(fatal));
+    ClaimAmendmentValidationStep second =
+        independent(
+            state -> {
+              secondRuns.incrementAndGet();
+              return List.of(nonFatal());
+            });
+
+    assertThat(orchestratorWith(first, second, laterStep).validateAmendmentRequest(anyState()))
+        .containsExactly(fatal);
+    assertThat(secondRuns).hasValue(1);
+    verify(laterStep, never()).validate(any());
+  }
+
+  @Test
+  @DisplayName("reruns a concurrent step against the errors its earlier neighbour added")
+  void rerunsConcurrentStepAfterNeighbourErrors() {
+    ClaimAmendmentValidationError firstError = nonFatal();
+    ClaimAmendmentValidationError speculativeError =
+        ClaimAmendmentValidationError.of(
+            ClaimAmendmentValidationCode.TECHNICAL_ERROR_FSP_REPRICING_FAILURE);
+    AtomicInteger secondRuns = new AtomicInteger();
+    ClaimAmendmentValidationStep first = independent(state -> List.of(firstError));
+    // Like the FSP outcome-check gate: adds nothing once any error has been collected.
+    ClaimAmendmentValidationStep second =
+        independent(
+            state -> {
+              secondRuns.incrementAndGet();
+              return state.getErrors().isEmpty() ? List.of(speculativeError) : List.of();
+            });
+
+    assertThat(orchestratorWith(first, second).validateAmendmentRequest(anyState()))
+        .containsExactly(firstError);
+    assertThat(secondRuns).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("rejects rather than fails when a concurrent step fails after a neighbour's error")
+  void discardsConcurrentFailureAfterNeighbourErrors() {
+    ClaimAmendmentValidationError pdaError = nonFatal();
+    ClaimAmendmentValidationStep pda = independent(state -> List.of(pdaError));
+    // Like the FSP step: its outcome-check gate skips the call once any error has been collected,
+    // and the call itself fails.
+    ClaimAmendmentValidationStep fsp =
+        independent(
+            state -> {
+              if (state.getErrors().isEmpty()) {
+                throw new IllegalStateException("FSP unavailable");
+              }
+              return List.of();
+            });
+
+    assertThat(orchestratorWith(pda, fsp).validateAmendmentRequest(anyState()))
+        .containsExactly(pdaError);
+  }
+
+  @Test
+  @DisplayName("rethrows a concurrent step's failure when its result is used")
+  void rethrowsConcurrentFailureWhenUsed() {
+    ClaimAmendmentValidationStep pda = independent(state -> List.of());
+    ClaimAmendmentValidationStep fsp =
+        independent(
+            state -> {
+              throw new IllegalStateException("FSP unavailable");
+            });
+
+    assertThatThrownBy(() -> orchestratorWith(pda, fsp).validateAmendmentRequest(anyState()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("FSP unavailable");
+  }
+
+  @Test
+  @DisplayName("runs independent steps in sequence when parallel validation is off")
+  void runsIndependentStepsInSequenceWhenParallelValidationOff() {
+    AtomicInteger errorsSeenBySecond = new AtomicInteger(-1);
+    AtomicInteger secondRuns = new AtomicInteger();
+    ClaimAmendmentValidationStep first = independent(state -> List.of(nonFatal()));
+    ClaimAmendmentValidationStep second =
+        independent(
+            state -> {
+              secondRuns.incrementAndGet();
+              errorsSeenBySecond.set(state.getErrors().size());
+              return List.of();
+            });
+
+    new ClaimAmendmentValidationService(false, first, second).validateAmendmentRequest(anyState());
+
+    assertThat(secondRuns).hasValue(1);
+    assertThat(errorsSeenBySecond).hasValue(1);
+  }
 }
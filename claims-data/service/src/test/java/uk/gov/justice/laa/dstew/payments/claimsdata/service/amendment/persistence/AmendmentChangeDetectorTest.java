@@ -101,6 +101,25 @@ class AmendmentChangeDetectorTest {
     assertThat(change.after()).isEqualTo(new BigDecimal("150.00"));
   }
 
+  @Test
+  @DisplayName("requested changes leave out the FSP fee deltas")
+  void requestedChangesLeaveOutFeeDeltas() {
+    ClaimAmendmentState state =
+        ClaimAmendmentState.builder()
+            .beforeState(ClaimStateSnapshot.builder().feeCode("OLD").build())
+            .postAmendmentState(ClaimStateSnapshot.builder().feeCode("NEW").build())
+            .beforeFee(
+                CalculatedFeeDetailSnapshot.builder().totalAmount(new BigDecimal("100.00")).build())
+            .afterFee(
+                CalculatedFeeDetailSnapshot.builder().totalAmount(new BigDecimal("150.00")).build())
+            .build();
+
+    List<DiffEntry> changes = detector.detectRequestedChanges(state);
+
+    assertThat(changes).extracting(DiffEntry::fieldIdentifier).containsExactly("claim.feeCode");
+    assertThat(changes).extracting(DiffEntry::changeSource).containsOnly(ChangeSource.REQUESTED);
+  }
+
   @Test
   @DisplayName("fee section is a no-op when a fee snapshot side is absent")
   void feeSectionNoOpWhenFeeSnapshotMissing() {
@@ -157,4 +176,52 @@ class AmendmentChangeDetectorTest {
     assertThat(changes.getFirst().fieldIdentifier())
         .isEqualTo("claimSummaryFee.netProfitCostsAmount");
   }
+
+  @Test
+  @DisplayName("compares each section once and reuses the result while its snapshots are unchanged")
+  void reusesSectionChangesWhileSnapshotsUnchanged() {
+    ClaimAmendmentState state =
+        state(
+            ClaimStateSnapshot.builder().feeCode("OLD").build(),
+            ClaimStateSnapshot.builder().feeCode("NEW").build());
+
+    List<DiffEntry> first = detector.detectRequestedChanges(state);
+
+    assertThat(detector.detectRequestedChanges(state)).isSameAs(first);
+    assertThat(detector.detectChanges(state)).containsExactlyElementsOf(first);
+  }
+
+  @Test
+  @DisplayName("compares the claim state again once it is given a new post-amendment state")
+  void comparesAgainForNewPostAmendmentState() {
+    ClaimAmendmentState state =
+        state(
+            ClaimStateSnapshot.builder().feeCode("OLD").build(),
+            ClaimStateSnapshot.builder().feeCode("NEW").build());
+    detector.detectChanges(state);
+
+    state.setPostAmendmentState(ClaimStateSnapshot.builder().feeCode("OLD").build());
+
+    assertThat(detector.detectChanges(state)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("adds the fee deltas once set, without comparing the claim state again")
+  void addsFeeDeltasWithoutComparingClaimStateAgain() {
+    ClaimAmendmentState state =
+        state(
+            ClaimStateSnapshot.builder().feeCode("OLD").build(),
+            ClaimStateSnapshot.builder().feeCode("NEW").build());
+    List<DiffEntry> requested = detector.detectRequestedChanges(state);
+
+    state.setBeforeFee(
+        CalculatedFeeDetailSnapshot.builder().totalAmount(new BigDecimal("100.00")).build());
+    state.setAfterFee(
+        CalculatedFeeDetailSnapshot.builder().totalAmount(new BigDecimal("150.00")).build());
+
+    assertThat(detector.detectChanges(state))
+        .extracting(DiffEntry::fieldIdentifier)
+        .containsExactly("claim.feeCode", "fee.totalAmount");
+    assertThat(detector.detectRequestedChanges(state)).isSameAs(requested);
+  }
 }
@@ -50,4 +50,18 @@ class AmendmentDiffAssemblerTest {
     assertThat(diff.schemaVersion()).isEqualTo(AmendmentDiff.CURRENT_SCHEMA_VERSION);
     assertThat(diff.changes()).isEmpty();
   }
+
+  @Test
+  @DisplayName("builds the requested-only diff from the requested changes")
+  void buildsRequestedOnlyDiff() {
+    when(changeDetector.detectRequestedChanges(state))
+        .thenReturn(List.of(new DiffEntry("claim.feeCode", ChangeSource.REQUESTED, "OLD", "NEW")));
+
+    AmendmentDiff diff = assembler.assembleRequested(state);
+
+    assertThat(diff.schemaVersion()).isEqualTo(AmendmentDiff.CURRENT_SCHEMA_VERSION);
+    assertThat(diff.changes())
+        .extracting(DiffEntry::fieldIdentifier)
+        .containsExactly("claim.feeCode");
+  }
 }
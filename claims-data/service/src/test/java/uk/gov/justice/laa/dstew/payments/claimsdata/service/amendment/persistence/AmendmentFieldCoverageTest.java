@@ -77,10 +77,13 @@ class AmendmentFieldCoverageTest {
               "client",
               "claimSummaryFee",
               "calculatedFeeDetails",
+              "latestCalculatedFeeDetail",
               // Lifecycle / status - governed by the amendment flow, not copied from the payload.
               "status",
               "isAmended",
               "hasAssessment",
+              "derivedStatus",
+              "warningCount",
               // Optimistic-lock guard.
               "version",
               // System dedup/matching field - explicitly not provider-amendable.
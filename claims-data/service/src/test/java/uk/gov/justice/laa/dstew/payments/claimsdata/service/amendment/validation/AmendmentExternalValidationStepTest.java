@@ -3,10 +3,16 @@ package uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.validatio
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
 import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.justice.laa.dstew.payments.claims.validation.core.model.Claim;
 import uk.gov.justice.laa.dstew.payments.claims.validation.core.model.ClaimValidationResult;
@@ -24,12 +31,16 @@ import uk.gov.justice.laa.dstew.payments.claims.validation.core.model.Validation
 import uk.gov.justice.laa.dstew.payments.claims.validation.core.model.ValidationSeverity;
 import uk.gov.justice.laa.dstew.payments.claims.validation.core.service.ValidationService;
 import uk.gov.justice.laa.dstew.payments.claims.validation.core.validator.claim.ClaimValidatorCode;
+import uk.gov.justice.laa.dstew.payments.claimsdata.client.ExternalCallGuard;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.AmendmentDiff;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ChangeSource;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentState;
+import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentValidationCode;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentValidationError;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimStateSnapshot;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.DiffEntry;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ExternalDependencyTimeoutException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ExternalDependencyUnavailableException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.mapper.ValidationClaimMapper;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.AreaOfLaw;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.persistence.AmendmentDiffAssembler;
@@ -56,6 +67,13 @@ class AmendmentExternalValidationStepTest {
   @Mock private AmendmentDiffAssembler diffAssembler;
   @Mock private ValidationClaimMapper validationClaimMapper;
 
+  @Spy
+  private ExternalCallGuard externalCallGuard =
+      new ExternalCallGuard(
+          CircuitBreakerRegistry.ofDefaults(),
+          BulkheadRegistry.ofDefaults(),
+          TimeLimiterRegistry.ofDefaults());
+
   @InjectMocks private AmendmentExternalValidationStep step;
 
   // ---------------------------------------------------------------------------
@@ -101,7 +119,7 @@ class AmendmentExternalValidationStepTest {
     @Test
     @DisplayName("null validation result yields no errors")
     void nullResult() {
-      when(diffAssembler.assemble(any())).thenReturn(AmendmentDiff.of(List.of()));
+      when(diffAssembler.assembleRequested(any())).thenReturn(AmendmentDiff.of(List.of()));
       stubValidation(null);
 
       assertThat(step.validate(stateWith(ClaimStateSnapshot.builder().build()))).isEmpty();
@@ -110,7 +128,7 @@ class AmendmentExternalValidationStepTest {
     @Test
     @DisplayName("result with null issues yields no errors")
     void nullIssues() {
-      when(diffAssembler.assemble(any())).thenReturn(AmendmentDiff.of(List.of()));
+      when(diffAssembler.assembleRequested(any())).thenReturn(AmendmentDiff.of(List.of()));
       stubValidation(ClaimValidationResult.builder().isValid(false).issues(null).build());
 
       assertThat(step.validate(stateWith(ClaimStateSnapshot.builder().build()))).isEmpty();
@@ -119,7 +137,7 @@ class AmendmentExternalValidationStepTest {
     @Test
     @DisplayName("result with empty issues yields no errors")
     void emptyIssues() {
-      when(diffAssembler.assemble(any())).thenReturn(AmendmentDiff.of(List.of()));
+      when(diffAssembler.assembleRequested(any())).thenReturn(AmendmentDiff.of(List.of()));
       stubValidation(ClaimValidationResult.builder().isValid(true).issues(List.of()).build());
 
       assertThat(step.validate(stateWith(ClaimStateSnapshot.builder().build()))).isEmpty();
@@ -128,7 +146,7 @@ class AmendmentExternalValidationStepTest {
     @Test
     @DisplayName("ERROR-severity issues are mapped to amendment errors preserving code and message")
     void mapsErrorIssues() {
-      when(diffAssembler.assemble(any())).thenReturn(AmendmentDiff.of(List.of()));
+      when(diffAssembler.assembleRequested(any())).thenReturn(AmendmentDiff.of(List.of()));
       stubValidation(
           ClaimValidationResult.builder()
               .isValid(false)
@@ -148,7 +166,7 @@ class AmendmentExternalValidationStepTest {
     @Test
     @DisplayName("non-ERROR issues (WARNING/INFO) are filtered out")
     void filtersNonErrorIssues() {
-      when(diffAssembler.assemble(any())).thenReturn(AmendmentDiff.of(List.of()));
+      when(diffAssembler.assembleRequested(any())).thenReturn(AmendmentDiff.of(List.of()));
       stubValidation(
           ClaimValidationResult.builder()
               .isValid(false)
@@ -173,7 +191,7 @@ class AmendmentExternalValidationStepTest {
     @DisplayName("PDA-impacting change includes the CLAIM_CATEGORY_OF_LAW code")
     void includesPdaCodeWhenImpacted() {
       // claim.feeCode always impacts the PDA request.
-      when(diffAssembler.assemble(any()))
+      when(diffAssembler.assembleRequested(any()))
           .thenReturn(AmendmentDiff.of(List.of(change("claim.feeCode"))));
       stubValidation(ClaimValidationResult.builder().isValid(true).build());
 
@@ -185,7 +203,7 @@ class AmendmentExternalValidationStepTest {
     @Test
     @DisplayName("non-impacting change omits the CLAIM_CATEGORY_OF_LAW code")
     void omitsPdaCodeWhenNotImpacted() {
-      when(diffAssembler.assemble(any()))
+      when(diffAssembler.assembleRequested(any()))
           .thenReturn(AmendmentDiff.of(List.of(change("client.clientSurname"))));
       stubValidation(ClaimValidationResult.builder().isValid(true).build());
 
@@ -197,7 +215,7 @@ class AmendmentExternalValidationStepTest {
     @Test
     @DisplayName("null diff omits the CLAIM_CATEGORY_OF_LAW code")
     void omitsPdaCodeWhenDiffNull() {
-      when(diffAssembler.assemble(any())).thenReturn(null);
+      when(diffAssembler.assembleRequested(any())).thenReturn(null);
       stubValidation(ClaimValidationResult.builder().isValid(true).build());
 
       step.validate(stateWith(ClaimStateSnapshot.builder().build()));
@@ -208,7 +226,7 @@ class AmendmentExternalValidationStepTest {
     @Test
     @DisplayName("diff with null changes omits the CLAIM_CATEGORY_OF_LAW code")
     void omitsPdaCodeWhenChangesNull() {
-      when(diffAssembler.assemble(any())).thenReturn(new AmendmentDiff(1, null));
+      when(diffAssembler.assembleRequested(any())).thenReturn(new AmendmentDiff(1, null));
       stubValidation(ClaimValidationResult.builder().isValid(true).build());
 
       step.validate(stateWith(ClaimStateSnapshot.builder().build()));
@@ -219,7 +237,7 @@ class AmendmentExternalValidationStepTest {
     @Test
     @DisplayName("empty changes omit the CLAIM_CATEGORY_OF_LAW code")
     void omitsPdaCodeWhenChangesEmpty() {
-      when(diffAssembler.assemble(any())).thenReturn(AmendmentDiff.of(List.of()));
+      when(diffAssembler.assembleRequested(any())).thenReturn(AmendmentDiff.of(List.of()));
       stubValidation(ClaimValidationResult.builder().isValid(true).build());
 
       step.validate(stateWith(ClaimStateSnapshot.builder().build()));
@@ -230,7 +248,7 @@ class AmendmentExternalValidationStepTest {
     @Test
     @DisplayName("null post-amendment state omits the CLAIM_CATEGORY_OF_LAW code")
     void omitsPdaCodeWhenMergedStateNull() {
-      when(diffAssembler.assemble(any()))
+      when(diffAssembler.assembleRequested(any()))
           .thenReturn(AmendmentDiff.of(List.of(change("claim.feeCode"))));
       stubValidation(ClaimValidationResult.builder().isValid(true).build());
 
@@ -242,7 +260,7 @@ class AmendmentExternalValidationStepTest {
     @Test
     @DisplayName("the full non-PDA validator set is always included")
     void includesAllNonPdaCodes() {
-      when(diffAssembler.assemble(any())).thenReturn(AmendmentDiff.of(List.of()));
+      when(diffAssembler.assembleRequested(any())).thenReturn(AmendmentDiff.of(List.of()));
       stubValidation(ClaimValidationResult.builder().isValid(true).build());
 
       step.validate(stateWith(ClaimStateSnapshot.builder().build()));
@@ -264,6 +282,73 @@ class AmendmentExternalValidationStepTest {
     }
   }
 
+  @Nested
+  @DisplayName("PDA call protection")
+  class PdaCallProtection {
+
+    @Test
+    @DisplayName("PDA-scoped validation goes through the PDA guard")
+    void pdaScopedValidationIsGuarded() {
+      when(diffAssembler.assembleRequested(any()))
+          .thenReturn(AmendmentDiff.of(List.of(change("claim.feeCode"))));
+      stubValidation(ClaimValidationResult.builder().isValid(true).build());
+
+      assertThat(step.validate(stateWith(ClaimStateSnapshot.builder().build()))).isEmpty();
+
+      verify(externalCallGuard).call(eq(ExternalCallGuard.PROVIDER_DATA_API), any());
+    }
+
+    @Test
+    @DisplayName("validation without the PDA code is not guarded")
+    void nonPdaValidationIsNotGuarded() {
+      when(diffAssembler.assembleRequested(any()))
+          .thenReturn(AmendmentDiff.of(List.of(change("client.clientSurname"))));
+      stubValidation(ClaimValidationResult.builder().isValid(true).build());
+
+      step.validate(stateWith(ClaimStateSnapshot.builder().build()));
+
+      verify(externalCallGuard, never()).call(any(), any());
+    }
+
+    @Test
+    @DisplayName("an unavailable PDA fails fast with a fatal technical error")
+    void unavailablePdaFailsFast() {
+      when(diffAssembler.assembleRequested(any()))
+          .thenReturn(AmendmentDiff.of(List.of(change("claim.feeCode"))));
+      when(validationClaimMapper.toValidationClaim(any())).thenReturn(mock(Claim.class));
+      doThrow(
+              new ExternalDependencyUnavailableException(
+                  ExternalCallGuard.PROVIDER_DATA_API, new RuntimeException("open")))
+          .when(externalCallGuard)
+          .call(any(), any());
+
+      List<ClaimAmendmentValidationError> errors =
+          step.validate(stateWith(ClaimStateSnapshot.builder().build()));
+
+      assertThat(errors)
+          .extracting(ClaimAmendmentValidationError::getCode)
+          .containsExactly(ClaimAmendmentValidationCode.TECHNICAL_ERROR_PDA_UNAVAILABLE.name());
+      verify(validationService, never()).validateClaim(any(), anySet());
+    }
+
+    @Test
+    @DisplayName("a PDA timeout fails with a fatal technical error")
+    void pdaTimeoutFails() {
+      when(diffAssembler.assembleRequested(any()))
+          .thenReturn(AmendmentDiff.of(List.of(change("claim.feeCode"))));
+      when(validationClaimMapper.toValidationClaim(any())).thenReturn(mock(Claim.class));
+      doThrow(
+              new ExternalDependencyTimeoutException(
+                  ExternalCallGuard.PROVIDER_DATA_API, new RuntimeException("slow")))
+          .when(externalCallGuard)
+          .call(any(), any());
+
+      assertThat(step.validate(stateWith(ClaimStateSnapshot.builder().build())))
+          .extracting(ClaimAmendmentValidationError::getCode)
+          .containsExactly(ClaimAmendmentValidationCode.TECHNICAL_ERROR_PDA_UNAVAILABLE.name());
+    }
+  }
+
   @Nested
   @DisplayName("fee code Area of Law gate")
   class FeeCodeAreaOfLaw {
@@ -285,7 +370,7 @@ class AmendmentExternalValidationStepTest {
     @Test
     @DisplayName("different Area of Law fee code change is a fatal terminal rejection")
     void differentAreaOfLawRejected() {
-      when(diffAssembler.assemble(any()))
+      when(diffAssembler.assembleRequested(any()))
           .thenReturn(AmendmentDiff.of(List.of(change(FEE_CODE_FIELD))));
       // Genuine Fee Scheme format: the enum name form "LEGAL_HELP" against a CRIME_LOWER claim.
       stubValidationWithResolvedAreaOfLaw("LEGAL_HELP");
@@ -302,7 +387,7 @@ class AmendmentExternalValidationStepTest {
     @Test
     @DisplayName("same Area of Law (exact name form) does not raise the gate")
     void sameAreaOfLawExactMatchAllowed() {
-      when(diffAssembler.assemble(any()))
+      when(diffAssembler.assembleRequested(any()))
           .thenReturn(AmendmentDiff.of(List.of(change(FEE_CODE_FIELD))));
       stubValidationWithResolvedAreaOfLaw("CRIME_LOWER");
 
@@ -313,7 +398,7 @@ class AmendmentExternalValidationStepTest {
     @DisplayName(
         "a differently-formatted (spaced) Area of Law is not an exact match and is rejected")
     void differentlyFormattedAreaOfLawIsRejected() {
-      when(diffAssembler.assemble(any()))
+      when(diffAssembler.assembleRequested(any()))
           .thenReturn(AmendmentDiff.of(List.of(change(FEE_CODE_FIELD))));
       // "LEGAL HELP" (space) is not the exact name form "LEGAL_HELP", so it is not a match.
       stubValidationWithResolvedAreaOfLaw("LEGAL HELP");
@@ -326,7 +411,7 @@ class AmendmentExternalValidationStepTest {
     @Test
     @DisplayName("an unknown (non-empty) Area of Law is not an exact match and is rejected")
     void unknownAreaOfLawIsRejected() {
-      when(diffAssembler.assemble(any()))
+      when(diffAssembler.assembleRequested(any()))
           .thenReturn(AmendmentDiff.of(List.of(change(FEE_CODE_FIELD))));
       // A value the Fee Scheme returned that is not any known area of law: still not an exact
       // match,
@@ -342,7 +427,7 @@ class AmendmentExternalValidationStepTest {
     @DisplayName(
         "absent Area of Law fails via the reusable technical error, not the area-of-law gate")
     void absentAreaOfLawFailsViaTechnicalErrorNotGate() {
-      when(diffAssembler.assemble(any()))
+      when(diffAssembler.assembleRequested(any()))
           .thenReturn(AmendmentDiff.of(List.of(change(FEE_CODE_FIELD))));
       // When the Fee Scheme cannot resolve an area of law it returns a null value AND a technical
       // error (a blank areaOfLaw / 404 / lookup failure always yields
@@ -372,7 +457,7 @@ class AmendmentExternalValidationStepTest {
     @Test
     @DisplayName("gate does not fire when the fee code did not change")
     void feeCodeUnchangedSkipsGate() {
-      when(diffAssembler.assemble(any()))
+      when(diffAssembler.assembleRequested(any()))
           .thenReturn(AmendmentDiff.of(List.of(change("client.clientSurname"))));
       stubValidationWithResolvedAreaOfLaw("LEGAL HELP");
 
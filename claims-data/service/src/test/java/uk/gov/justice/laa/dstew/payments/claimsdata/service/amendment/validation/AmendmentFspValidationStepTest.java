@@ -17,9 +17,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-import uk.gov.justice.laa.dstew.payments.claimsdata.client.FeeSchemePlatformRestClient;
+import uk.gov.justice.laa.dstew.payments.claimsdata.client.ExternalCallGuard;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.AmendmentDiff;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.CalculatedFeeDetailSnapshot;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentState;
@@ -27,8 +26,10 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendment
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimAmendmentValidationError;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.ClaimStateSnapshot;
 import uk.gov.justice.laa.dstew.payments.claimsdata.dto.amendment.DiffEntry;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ExternalDependencyUnavailableException;
 import uk.gov.justice.laa.dstew.payments.claimsdata.mapper.ClaimStateSnapshotMapper;
 import uk.gov.justice.laa.dstew.payments.claimsdata.model.AreaOfLaw;
+import uk.gov.justice.laa.dstew.payments.claimsdata.provider.FeeCalculationProvider;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.fee.FeeSchemeRequestBuilder;
 import uk.gov.justice.laa.dstew.payments.claimsdata.service.amendment.persistence.AmendmentDiffAssembler;
 import uk.gov.justice.laa.fee.scheme.model.FeeCalculationRequest;
@@ -38,7 +39,7 @@ import uk.gov.justice.laa.fee.scheme.model.FeeCalculationResponse;
 class AmendmentFspValidationStepTest {
 
   @Mock private FeeSchemeRequestBuilder requestBuilder;
-  @Mock private FeeSchemePlatformRestClient fspClient;
+  @Mock private FeeCalculationProvider feeCalculationProvider;
   @Mock private ClaimStateSnapshotMapper claimStateSnapshotMapper;
   @Mock private AmendmentDiffAssembler diffAssembler;
   @InjectMocks private AmendmentFspValidationStep validationStep;
@@ -94,7 +95,7 @@ class AmendmentFspValidationStepTest {
 
     // Assert
     assertThat(errors).isEmpty();
-    verifyNoInteractions(fspClient);
+    verifyNoInteractions(feeCalculationProvider);
   }
 
   @Test
@@ -115,7 +116,7 @@ class AmendmentFspValidationStepTest {
     assertThat(errors).hasSize(1);
     assertThat(errors.getFirst().getCode())
         .isEqualTo(ClaimAmendmentValidationCode.INVALID_CLAIM_BEFORE_STATE_CFD_MISSING.toString());
-    verifyNoInteractions(fspClient);
+    verifyNoInteractions(feeCalculationProvider);
   }
 
   @Test
@@ -135,7 +136,7 @@ class AmendmentFspValidationStepTest {
     CalculatedFeeDetailSnapshot mockAfterSnapshot =
         CalculatedFeeDetailSnapshot.builder().totalAmount(BigDecimal.valueOf(150.00)).build();
 
-    when(fspClient.calculateFee(any())).thenReturn(ResponseEntity.ok(mockFspResponse));
+    when(feeCalculationProvider.calculateFee(any())).thenReturn(mockFspResponse);
     when(claimStateSnapshotMapper.toSnapshot(mockFspResponse)).thenReturn(mockAfterSnapshot);
     AmendmentDiff pricingImpactingDiff =
         AmendmentDiff.of(List.of(new DiffEntry("claim.feeCode", null, "FEE01", "FEE02")));
@@ -170,7 +171,7 @@ class AmendmentFspValidationStepTest {
             "FSP Rejected: Invalid combinations".getBytes(StandardCharsets.UTF_8),
             StandardCharsets.UTF_8);
 
-    when(fspClient.calculateFee(any())).thenThrow(badRequestException);
+    when(feeCalculationProvider.calculateFee(any())).thenThrow(badRequestException);
 
     // Act
     List<ClaimAmendmentValidationError> errors = validationStep.validate(state);
@@ -196,7 +197,8 @@ class AmendmentFspValidationStepTest {
                 postStateBuilder.areaOfLaw(AreaOfLaw.CRIME_LOWER).feeCode("FEE02").build())
             .build();
 
-    when(fspClient.calculateFee(any())).thenThrow(new RuntimeException("SocketTimeoutException"));
+    when(feeCalculationProvider.calculateFee(any()))
+        .thenThrow(new RuntimeException("SocketTimeoutException"));
 
     // Act
     List<ClaimAmendmentValidationError> errors = validationStep.validate(state);
@@ -225,7 +227,7 @@ class AmendmentFspValidationStepTest {
 
     // Assert
     assertThat(errors).isEmpty();
-    verifyNoInteractions(fspClient);
+    verifyNoInteractions(feeCalculationProvider);
   }
 
   @Test
@@ -247,7 +249,7 @@ class AmendmentFspValidationStepTest {
 
     // Assert
     assertThat(errors).isEmpty();
-    verifyNoInteractions(fspClient);
+    verifyNoInteractions(feeCalculationProvider);
   }
 
   @Test
@@ -278,7 +280,7 @@ class AmendmentFspValidationStepTest {
     assertThat(errors.getFirst().getCode())
         .isEqualTo(ClaimAmendmentValidationCode.INVALID_FSP_VALIDATION_FAILURE.toString());
     assertThat(errors.getFirst().getMessage()).contains("Unable to build FeeCalculationRequest");
-    verifyNoInteractions(fspClient);
+    verifyNoInteractions(feeCalculationProvider);
   }
 
   @Test
@@ -292,8 +294,8 @@ class AmendmentFspValidationStepTest {
                 postStateBuilder.areaOfLaw(AreaOfLaw.CRIME_LOWER).feeCode("FEE02").build())
             .build();
 
-    // Mock the HTTP client returning a 200 OK, but with a null body
-    when(fspClient.calculateFee(any())).thenReturn(ResponseEntity.ok(null));
+    // Mock the FSP returning a 200 OK, but with a null body
+    when(feeCalculationProvider.calculateFee(any())).thenReturn(null);
 
     // Act
     List<ClaimAmendmentValidationError> errors = validationStep.validate(state);
@@ -305,6 +307,29 @@ class AmendmentFspValidationStepTest {
         .isEqualTo(ClaimAmendmentValidationCode.TECHNICAL_ERROR_FSP_REPRICING_FAILURE.toString());
   }
 
+  @Test
+  @DisplayName("Should fail fast with FSP unavailable when the FSP circuit breaker is open")
+  void validate_whenFspCircuitOpen_returnsUnavailableError() {
+    ClaimAmendmentState state =
+        stateBuilder
+            .beforeState(beforeStateBuilder.areaOfLaw(AreaOfLaw.CRIME_LOWER).build())
+            .postAmendmentState(
+                postStateBuilder.areaOfLaw(AreaOfLaw.CRIME_LOWER).feeCode("FEE02").build())
+            .build();
+
+    when(feeCalculationProvider.calculateFee(any()))
+        .thenThrow(
+            new ExternalDependencyUnavailableException(
+                ExternalCallGuard.FEE_SCHEME_PLATFORM, new RuntimeException("open")));
+
+    List<ClaimAmendmentValidationError> errors = validationStep.validate(state);
+
+    assertThat(errors)
+        .extracting(ClaimAmendmentValidationError::getCode)
+        .containsExactly(ClaimAmendmentValidationCode.TECHNICAL_ERROR_FSP_UNAVAILABLE.toString());
+    assertThat(state.getAfterFee()).isNull();
+  }
+
   @Test
   @DisplayName("1595-B: Should skip execution safely if before state lacks Area of Law")
   void validate_whenBeforeStateLacksAreaOfLaw_skipsFspCall() {
@@ -319,7 +344,7 @@ class AmendmentFspValidationStepTest {
 
     // Assert
     assertThat(errors).isEmpty();
-    verifyNoInteractions(fspClient);
+    verifyNoInteractions(feeCalculationProvider);
   }
 
   @Test
@@ -348,6 +373,6 @@ class AmendmentFspValidationStepTest {
     // Assert: the step adds nothing of its own and makes no outbound FSP call.
     assertThat(errors).isEmpty();
     assertThat(state.getFspResponseContext()).isNull();
-    verifyNoInteractions(fspClient);
+    verifyNoInteractions(feeCalculationProvider);
   }
 }
@@ -0,0 +1,102 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.Sort;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Claim;
+import uk.gov.justice.laa.dstew.payments.claimsdata.entity.Submission;
+import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ClaimBadRequestException;
+import uk.gov.justice.laa.dstew.payments.claimsdata.model.ClaimStatus;
+
+@DisplayName("ClaimSearchCursor")
+class ClaimSearchCursorTest {
+
+  private static final UUID CLAIM_ID = Uuid7.timeBasedUuid();
+  private static final Instant SUBMITTED_ON = Instant.parse("2026-04-01T10:15:30.123456Z");
+
+  private final Claim claim =
+      Claim.builder()
+          .id(CLAIM_ID)
+          .lineNumber(42)
+          .status(ClaimStatus.VALID)
+          .submission(Submission.builder().createdOn(SUBMITTED_ON).build())
+          .build();
+
+  @Test
+  @DisplayName("round-trips a cursor for the default order by id")
+  void roundTripsIdOnlyCursor() {
+    ClaimSearchCursor cursor = ClaimSearchCursor.after(claim, null, Sort.Direction.DESC);
+
+    ClaimSearchCursor decoded = ClaimSearchCursor.decode(cursor.encode());
+
+    assertThat(decoded).isEqualTo(new ClaimSearchCursor(null, Sort.Direction.ASC, null, CLAIM_ID));
+    assertThat(decoded.matches(null, Sort.Direction.ASC)).isTrue();
+    assertThat(decoded.matches(ClaimSortField.LINE_NUMBER, Sort.Direction.ASC)).isFalse();
+  }
+
+  @Test
+  @DisplayName("round-trips the sort key of each supported sort field")
+  void roundTripsSortKeys() {
+    assertThat(roundTrip(ClaimSortField.LINE_NUMBER).sortKey()).isEqualTo(42);
+    assertThat(roundTrip(ClaimSortField.CLAIM_STATUS).sortKey()).isEqualTo(ClaimStatus.VALID);
+    assertThat(roundTrip(ClaimSortField.DATE_SUBMITTED).sortKey()).isEqualTo(SUBMITTED_ON);
+  }
+
+  @Test
+  @DisplayName("only matches the sort field and direction it was issued for")
+  void matchesSortItWasIssuedFor() {
+    ClaimSearchCursor cursor = roundTrip(ClaimSortField.LINE_NUMBER);
+
+    assertThat(cursor.matches(ClaimSortField.LINE_NUMBER, Sort.Direction.DESC)).isTrue();
+    assertThat(cursor.matches(ClaimSortField.LINE_NUMBER, Sort.Direction.ASC)).isFalse();
+    assertThat(cursor.matches(ClaimSortField.CLAIM_STATUS, Sort.Direction.DESC)).isFalse();
+    assertThat(cursor.matches(null, Sort.Direction.ASC)).isFalse();
+  }
+
+  @Test
+  @DisplayName("only supports sort fields with a non-null key")
+  void supportsNonNullSortFields() {
+    assertThat(ClaimSearchCursor.supports(null)).isTrue();
+    assertThat(ClaimSearchCursor.supports(ClaimSortField.DATE_SUBMITTED)).isTrue();
+    assertThat(ClaimSearchCursor.supports(ClaimSortField.CLIENT_SURNAME)).isFalse();
+    assertThat(ClaimSearchCursor.supports(ClaimSortField.TOTAL_WARNINGS)).isFalse();
+  }
+
+  @ParameterizedTest
+  @DisplayName("rejects tokens that are not valid cursors")
+  @ValueSource(
+      strings = {
+        "not base64!",
+        "id|ASC||not-a-uuid",
+        "line_number|ASC|forty-two|0196a2b4-5f8e-7c3d-9a1b-2c3d4e5f6a7b",
+        "client_surname|ASC|Smith|0196a2b4-5f8e-7c3d-9a1b-2c3d4e5f6a7b",
+        "line_number|SIDEWAYS|42|0196a2b4-5f8e-7c3d-9a1b-2c3d4e5f6a7b",
+        "line_number|ASC|42"
+      })
+  void rejectsInvalidTokens(String value) {
+    String token =
+        value.contains("|")
+            ? Base64.getUrlEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8))
+            : value;
+
+    assertThatThrownBy(() -> ClaimSearchCursor.decode(token))
+        .isInstanceOf(ClaimBadRequestException.class)
+        .hasMessage(ClaimSearchCursor.INVALID_CURSOR);
+  }
+
+  private ClaimSearchCursor roundTrip(ClaimSortField sortField) {
+    ClaimSearchCursor cursor = ClaimSearchCursor.after(claim, sortField, Sort.Direction.DESC);
+    ClaimSearchCursor decoded = ClaimSearchCursor.decode(cursor.encode());
+    assertThat(decoded).isEqualTo(cursor);
+    return decoded;
+  }
+}
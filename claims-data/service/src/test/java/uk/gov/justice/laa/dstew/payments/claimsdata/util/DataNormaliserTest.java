@@ -36,6 +36,23 @@ class DataNormaliserTest {
     assertThat(req.getOfficeCode()).isEqualTo("OFF1");
   }
 
+  @Test
+  @DisplayName("normaliseClaimSearchRequest should trim the partial search terms")
+  void normalise_trimsPartialSearchTerms() {
+    ClaimSearchRequest req =
+        ClaimSearchRequest.builder()
+            .uniqueFileNumber(" 010125/ ")
+            .uniqueClientNumber("  ")
+            .clientSurname(" Smith\t")
+            .build();
+
+    DataNormaliser.normaliseClaimSearchRequest(req);
+
+    assertThat(req.getUniqueFileNumber()).isEqualTo("010125/");
+    assertThat(req.getUniqueClientNumber()).isNull();
+    assertThat(req.getClientSurname()).isEqualTo("Smith");
+  }
+
   @ParameterizedTest
   @NullAndEmptySource
   @ValueSource(strings = {"   ", "\t\n"})
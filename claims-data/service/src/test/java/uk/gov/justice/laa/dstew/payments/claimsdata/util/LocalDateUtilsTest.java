@@ -0,0 +1,99 @@
+package uk.gov.justice.laa.dstew.payments.claimsdata.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("Local Date Utils Test")
+class LocalDateUtilsTest {
+
+  @Nested
+  @DisplayName("parseBulkSubmissionDate")
+  class ParseBulkSubmissionDateTests {
+
+    @ParameterizedTest(name = "[{index}] {0} → {1}")
+    @CsvSource({
+      "01/01/2025,2025-01-01",
+      "1/1/2025,2025-01-01",
+      "' 1/1/2025 ',2025-01-01",
+      "10/1/2025,2025-01-10",
+      "1/10/2025,2025-10-01",
+      "10/01/2025,2025-01-10",
+      "31/12/1980,1980-12-31",
+      "29/02/2024,2024-02-29",
+    })
+    @DisplayName("Parses dates written as d/M/yyyy or dd/MM/yyyy")
+    void parsesValidDates(String value, LocalDate expected) {
+      assertThat(LocalDateUtils.parseBulkSubmissionDate(value)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @NullAndEmptySource
+    @ValueSource(
+        strings = {
+          " ",
+          "32/01/2025",
+          "abc",
+          "29/02/2025",
+          "31/04/2025",
+          "00/11/2025",
+          "01/13/2025",
+          "01/00/2025",
+          "2025/09/30",
+          "01-01-1990",
+          "2025-12-31",
+          "01/1/2025",
+          "1/01/2025",
+          "001/01/2025",
+          "01/01/25",
+          "01/01/20255",
+          "01/01/0000",
+          "1/1/2025x",
+          "1//2025",
+          "/1/2025",
+          "1/1/",
+          "٠١/٠١/٢٠٢٥"
+        })
+    @DisplayName("Rejects values that are not valid dates in either form")
+    void rejectsInvalidDates(String value) {
+      assertThat(LocalDateUtils.parseBulkSubmissionDate(value)).isNull();
+    }
+  }
+
+  @Nested
+  @DisplayName("parseDayMonthYear")
+  class ParseDayMonthYearTests {
+
+    @ParameterizedTest(name = "[{index}] {0} → {1}")
+    @CsvSource({
+      "5/12/2025,2025-12-05",
+      "05/01/2020,2020-01-05",
+      "01/1/2025,2025-01-01",
+      "1/01/2025,2025-01-01",
+    })
+    @DisplayName("Parses dates with one or two digit days and months")
+    void parsesValidDates(String value, LocalDate expected) {
+      assertThat(LocalDateUtils.parseDayMonthYear(value)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @ValueSource(strings = {"", "2020-01-01", "31/2/2020", "29/2/2019", " 5/12/2025 "})
+    @DisplayName("Rejects invalid dates and surrounding whitespace")
+    void rejectsInvalidDates(String value) {
+      assertThat(LocalDateUtils.parseDayMonthYear(value)).isNull();
+    }
+
+    @Test
+    @DisplayName("Returns null for null input")
+    void returnsNullForNull() {
+      assertThat(LocalDateUtils.parseDayMonthYear(null)).isNull();
+    }
+  }
+}
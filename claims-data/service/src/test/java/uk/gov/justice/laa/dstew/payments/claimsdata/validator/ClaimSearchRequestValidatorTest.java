@@ -16,7 +16,8 @@ import uk.gov.justice.laa.dstew.payments.claimsdata.exception.ClaimBadRequestExc
  * Unit tests for {@link ClaimSearchRequestValidator}.
  *
  * <p>These tests exercise all validation branches: null request, missing office code, whitespace
- * handling and case reference number trimming/minimum-length enforcement.
+ * handling, case reference number trimming/minimum-length enforcement and the minimum length of
+ * the partial search terms.
  */
 class ClaimSearchRequestValidatorTest {
 
@@ -124,6 +125,42 @@ class ClaimSearchRequestValidatorTest {
     Assertions.assertEquals(ClaimSearchRequestValidator.CASE_REFERENCE_INVALID, ex.getMessage());
   }
 
+  @ParameterizedTest
+  @ValueSource(strings = {"a", "ab"})
+  @DisplayName("validate(request) should reject partial search terms shorter than the minimum")
+  void validate_shortPartialSearchTerms_throw(String value) {
+    ClaimSearchRequest ufnRequest =
+        ClaimSearchRequest.builder().officeCode("OFF1").uniqueFileNumber(value).build();
+    ClaimSearchRequest ucnRequest =
+        ClaimSearchRequest.builder().officeCode("OFF1").uniqueClientNumber(value).build();
+    ClaimSearchRequest surnameRequest =
+        ClaimSearchRequest.builder().officeCode("OFF1").clientSurname(value).build();
+
+    ClaimBadRequestException ex =
+        Assertions.assertThrows(
+            ClaimBadRequestException.class, () -> validator.validate(ufnRequest));
+    Assertions.assertEquals("unique_file_number must be at least 3 characters", ex.getMessage());
+    Assertions.assertThrows(ClaimBadRequestException.class, () -> validator.validate(ucnRequest));
+    ex =
+        Assertions.assertThrows(
+            ClaimBadRequestException.class, () -> validator.validate(surnameRequest));
+    Assertions.assertEquals("client_surname must be at least 3 characters", ex.getMessage());
+  }
+
+  @Test
+  @DisplayName("validate(request) should accept partial search terms of the minimum length")
+  void validate_partialSearchTermsOfMinimumLength_ok() {
+    ClaimSearchRequest request =
+        ClaimSearchRequest.builder()
+            .officeCode("OFF1")
+            .uniqueFileNumber("/00")
+            .uniqueClientNumber("199")
+            .clientSurname("smi")
+            .build();
+
+    Assertions.assertDoesNotThrow(() -> validator.validate(request));
+  }
+
   @ParameterizedTest
   @MethodSource("provideRequestsForValidation")
   @DisplayName("validate(request) should behave correctly for various request combinations")